@@ -0,0 +1,19 @@
+-- Optimistic locking column of BaseEntity on the tables that predate it (products, suppliers, stock_movements).
+-- Tables added later (locations) create the column in their own script.
+--
+-- The prod profile validates the schema instead of updating it, so run this once before deploying:
+--   psql "$DATABASE_URL" -f scripts/sql/add-entity-version.sql
+--
+-- Safe to re-run, and also repairs databases where ddl-auto=update added the column as nullable:
+-- rows without a version never get an ETag, and native version = version + 1 updates keep them NULL.
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version BIGINT;
+ALTER TABLE suppliers ADD COLUMN IF NOT EXISTS version BIGINT;
+ALTER TABLE stock_movements ADD COLUMN IF NOT EXISTS version BIGINT;
+
+UPDATE products SET version = 0 WHERE version IS NULL;
+UPDATE suppliers SET version = 0 WHERE version IS NULL;
+UPDATE stock_movements SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE products ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
+ALTER TABLE suppliers ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
+ALTER TABLE stock_movements ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
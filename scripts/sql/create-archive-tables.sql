@@ -0,0 +1,57 @@
+-- Archive of soft-deleted products, their supplier links and their stock movements.
+--
+-- The prod profile validates the schema instead of updating it, so run this once before deploying,
+-- after add-entity-version.sql and create-locations.sql:
+--   psql "$DATABASE_URL" -f scripts/sql/create-archive-tables.sql
+--
+-- Safe to re-run. Columns mirror products and stock_movements, including the non-null version
+-- that a restored row is copied back with.
+CREATE TABLE IF NOT EXISTS archived_products (
+    id UUID NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    sku VARCHAR(100) NOT NULL,
+    original_sku VARCHAR(50),
+    price NUMERIC(10, 2) NOT NULL,
+    stock_quantity INTEGER NOT NULL,
+    min_stock_level INTEGER NOT NULL,
+    category VARCHAR(50),
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    active BOOLEAN NOT NULL,
+    deleted_at TIMESTAMP(6),
+    version BIGINT DEFAULT 0 NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_archived_products_sku ON archived_products (sku);
+
+CREATE TABLE IF NOT EXISTS archived_product_suppliers (
+    product_id UUID NOT NULL REFERENCES archived_products (id),
+    supplier_id UUID NOT NULL,
+    PRIMARY KEY (product_id, supplier_id)
+);
+
+CREATE TABLE IF NOT EXISTS archived_stock_movements (
+    id UUID NOT NULL,
+    product_id UUID NOT NULL,
+    location_id UUID,
+    movement_type VARCHAR(255) NOT NULL CHECK (movement_type IN ('IN', 'OUT')),
+    quantity INTEGER NOT NULL,
+    previous_stock INTEGER NOT NULL,
+    new_stock INTEGER NOT NULL,
+    reason VARCHAR(255) NOT NULL CHECK (reason IN ('PURCHASE', 'SALE', 'ADJUSTMENT', 'RETURN', 'INITIAL_STOCK')),
+    reference VARCHAR(100),
+    notes TEXT,
+    created_by VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    active BOOLEAN NOT NULL,
+    deleted_at TIMESTAMP(6),
+    version BIGINT DEFAULT 0 NOT NULL,
+    archived_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_archived_stock_movements_product ON archived_stock_movements (product_id);
@@ -0,0 +1,13 @@
+-- Exponentially weighted sales velocity, one row per product that has sold.
+--
+-- The prod profile validates the schema instead of updating it, so run this once before deploying:
+--   psql "$DATABASE_URL" -f scripts/sql/create-demand-velocities.sql
+--
+-- Safe to re-run. The table starts empty and fills as sales are recorded.
+CREATE TABLE IF NOT EXISTS demand_velocities (
+    product_id UUID NOT NULL,
+    log_weight DOUBLE PRECISION NOT NULL,
+    tracked_since DOUBLE PRECISION NOT NULL,
+    last_sale_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (product_id)
+);
@@ -0,0 +1,44 @@
+-- Stock locations, per-location stock rows and the location of each stock movement.
+--
+-- The prod profile validates the schema instead of updating it, so run this once before deploying,
+-- after add-entity-version.sql:
+--   psql "$DATABASE_URL" -f scripts/sql/create-locations.sql
+--
+-- Safe to re-run. Existing stock and movements are moved to the default location by the
+-- application on its first start (LocationBootstrap), so no data is copied here.
+CREATE TABLE IF NOT EXISTS locations (
+    id UUID NOT NULL,
+    code VARCHAR(20) NOT NULL UNIQUE,
+    name VARCHAR(100) NOT NULL,
+    active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    deleted_at TIMESTAMP(6),
+    version BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- Keyed by product first: the aggregate sums and locks every row of one product
+CREATE TABLE IF NOT EXISTS product_stocks (
+    product_id UUID NOT NULL,
+    location_id UUID NOT NULL,
+    quantity INTEGER NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (product_id, location_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_stocks_location_product ON product_stocks (location_id, product_id);
+
+ALTER TABLE stock_movements ADD COLUMN IF NOT EXISTS location_id UUID REFERENCES locations (id);
+
+CREATE INDEX IF NOT EXISTS idx_stock_movements_location_created ON stock_movements (location_id, created_at);
+
+-- Movements whose product total and sales velocity are not updated yet; applied and deleted after commit
+CREATE TABLE IF NOT EXISTS stock_outbox (
+    movement_id UUID NOT NULL,
+    product_id UUID NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (movement_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_outbox_product ON stock_outbox (product_id);
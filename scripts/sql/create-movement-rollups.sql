@@ -0,0 +1,19 @@
+-- Daily movement rollups per product, location, movement type and reason.
+--
+-- The prod profile validates the schema instead of updating it, so run this once before deploying:
+--   psql "$DATABASE_URL" -f scripts/sql/create-movement-rollups.sql
+--
+-- Safe to re-run. The table starts empty; fill it from the movement history once the application
+-- is up with POST /actuator/movementrollups.
+CREATE TABLE IF NOT EXISTS movement_rollups (
+    product_id UUID NOT NULL,
+    location_id UUID NOT NULL,
+    movement_date DATE NOT NULL,
+    movement_type VARCHAR(255) NOT NULL CHECK (movement_type IN ('IN', 'OUT')),
+    reason VARCHAR(255) NOT NULL CHECK (reason IN ('PURCHASE', 'SALE', 'ADJUSTMENT', 'RETURN', 'INITIAL_STOCK')),
+    movements BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    PRIMARY KEY (product_id, location_id, movement_date, movement_type, reason)
+);
+
+CREATE INDEX IF NOT EXISTS idx_movement_rollups_product_date ON movement_rollups (product_id, movement_date);
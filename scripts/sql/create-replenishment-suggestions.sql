@@ -0,0 +1,21 @@
+-- Reorder suggestions written by the daily replenishment job, one row per run date and product.
+--
+-- The prod profile validates the schema instead of updating it, so run this once before deploying:
+--   psql "$DATABASE_URL" -f scripts/sql/create-replenishment-suggestions.sql
+--
+-- Safe to re-run. The table starts empty; the next scheduled run, or POST /actuator/replenishment, fills it.
+CREATE TABLE IF NOT EXISTS replenishment_suggestions (
+    run_date DATE NOT NULL,
+    product_id UUID NOT NULL,
+    supplier_id UUID NOT NULL,
+    sku VARCHAR(50) NOT NULL,
+    stock_quantity INTEGER NOT NULL,
+    min_stock_level INTEGER NOT NULL,
+    daily_velocity DOUBLE PRECISION NOT NULL,
+    lead_time_days INTEGER NOT NULL,
+    reorder_point INTEGER NOT NULL,
+    suggested_quantity INTEGER NOT NULL,
+    PRIMARY KEY (run_date, product_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_replenishment_suggestions_supplier_date ON replenishment_suggestions (supplier_id, run_date);
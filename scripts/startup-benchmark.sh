@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+#
+# Startup benchmark: time to first successful request and resident memory after it, for the
+# default fat jar and for the AOT-processed, CDS-backed build.
+#
+#   ./mvnw -Pfast-startup package -DskipTests     # needs the database for the CDS training run
+#   scripts/startup-benchmark.sh [runs]
+#
+# The application is configured as usual, e.g. SPRING_PROFILES_ACTIVE and SPRING_DATASOURCE_*.
+# Environment: PORT (default 18080), PROBE_PATH (default /api/v1/products?size=1),
+# JAVA_OPTS (passed to both modes), TIMEOUT_SECONDS (default 120).
+#
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+PROBE_PATH=${PROBE_PATH:-/api/v1/products?size=1}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+TARGET=$(cd "$(dirname "$0")/../target" && pwd)
+JAR=$(find "$TARGET" -maxdepth 1 -name 'inventory-api-*.jar' ! -name '*.original' | head -n 1)
+FAST_DIR=$TARGET/fast-startup
+
+if [[ -z "$JAR" || ! -f "$FAST_DIR/$(basename "$JAR")" ]]; then
+    echo "Build first: ./mvnw -Pfast-startup package -DskipTests" >&2
+    exit 1
+fi
+if [[ ! -f "$FAST_DIR/application.jsa" ]]; then
+    echo "warning: $FAST_DIR/application.jsa missing, fast-startup runs without a CDS archive" >&2
+fi
+
+# Prints "<milliseconds to first 2xx> <RSS in MB>" for one start of the given command in a directory
+measure() {
+    local dir=$1 start pid elapsed rss status
+    shift
+    start=$(date +%s%N)
+    (cd "$dir" && exec "$@" --server.port="$PORT" >/dev/null 2>&1) &
+    pid=$!
+    while true; do
+        status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$PROBE_PATH" || true)
+        if [[ "$status" == 2* ]]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited during startup" >&2
+            exit 1
+        fi
+        if (( $(date +%s%N) - start > TIMEOUT_SECONDS * 1000000000 )); then
+            echo "no successful response within ${TIMEOUT_SECONDS}s" >&2
+            kill "$pid"
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+    rss=$(( $(ps -o rss= -p "$pid") / 1024 ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    local mode=$1 results
+    shift
+    results=$(for ((i = 1; i <= RUNS; i++)); do measure "$@"; done)
+    printf '%-14s %10s ms %8s MB\n' "$mode" \
+        "$(cut -d' ' -f1 <<<"$results" | median)" "$(cut -d' ' -f2 <<<"$results" | median)"
+}
+
+read -r -a JAVA_ARGS <<<"${JAVA_OPTS:-}"
+CDS_ARGS=()
+if [[ -f "$FAST_DIR/application.jsa" ]]; then
+    # The class path must match the training run's, relative jar name included
+    CDS_ARGS=(-XX:SharedArchiveFile=application.jsa)
+fi
+
+echo "Median of $RUNS starts, first request to $PROBE_PATH"
+printf '%-14s %13s %11s\n' mode time-to-first rss
+run_mode default "$TARGET" java "${JAVA_ARGS[@]}" -jar "$(basename "$JAR")"
+run_mode fast-startup "$FAST_DIR" java "${CDS_ARGS[@]}" -Dspring.aot.enabled=true "${JAVA_ARGS[@]}" \
+    -jar "$(basename "$JAR")"
@@ -1,9 +1,12 @@
 package com.inventory;
 
+import com.inventory.config.InventoryRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(InventoryRuntimeHints.class)
 public class InventoryManagementApiApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,22 @@
+package com.inventory.archive;
+
+import com.inventory.archive.ArchivalJob.ArchivalReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "archival")
+public class ArchivalEndpoint {
+
+    private final ArchivalJob job;
+
+    public ArchivalEndpoint(ArchivalJob job) {
+        this.job = job;
+    }
+
+    @WriteOperation
+    public ArchivalReport run() {
+        return job.run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.inventory.archive;
+
+import com.inventory.bulkhead.WorkloadContext;
+import com.inventory.enums.Workload;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.StockMovementRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Moves products soft-deleted more than {@code after-days} ago, with their movements, out of the
+ * hot tables.
+ * <p>
+ * Work is done in small batches, each its own short transaction in the bulk workload: first the
+ * movements of those products, then the products whose movements are all gone. After every batch
+ * the job pauses for at least as long as the batch took, so archival never writes for more than
+ * half of the time and replicas get the same time to apply each batch before the next one.
+ */
+@Component
+public class ArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivalJob.class);
+
+    private final ProductRepository productRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final ProductArchive productArchive;
+    private final int afterDays;
+    private final int batchSize;
+    private final Duration pause;
+
+    public ArchivalJob(ProductRepository productRepository,
+                       StockMovementRepository stockMovementRepository,
+                       ProductArchive productArchive,
+                       @Value("${inventory.archival.after-days:90}") int afterDays,
+                       @Value("${inventory.archival.batch-size:500}") int batchSize,
+                       @Value("${inventory.archival.pause:PT0.2S}") Duration pause) {
+        this.productRepository = productRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.productArchive = productArchive;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    @Scheduled(cron = "${inventory.archival.cron:-}")
+    void runNightly() {
+        run();
+    }
+
+    public synchronized ArchivalReport run() {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(afterDays);
+        PageRequest batch = PageRequest.ofSize(batchSize);
+
+        Totals movements = drain(ids -> productArchive.archiveMovements(ids, now),
+                () -> stockMovementRepository.findIdsOfProductsDeletedBefore(cutoff, batch));
+        Totals products = drain(ids -> productArchive.archiveProducts(ids, now),
+                () -> productRepository.findArchivableIds(cutoff, batch));
+
+        ArchivalReport report = new ArchivalReport(cutoff, movements.rows(), products.rows(),
+                movements.batches() + products.batches(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Archived {} products and {} stock movements deleted before {} in {} batches in {} ms",
+                report.products(), report.movements(), report.cutoff(), report.batches(), report.elapsedMs());
+        return report;
+    }
+
+    private Totals drain(Function<List<UUID>, Integer> archive, Supplier<List<UUID>> nextBatch) {
+        long rows = 0;
+        int batches = 0;
+        while (true) {
+            long batchStarted = System.nanoTime();
+            int archived = WorkloadContext.callIn(Workload.BULK, () -> {
+                List<UUID> ids = nextBatch.get();
+                return ids.isEmpty() ? -1 : archive.apply(ids);
+            });
+            if (archived < 0) {
+                return new Totals(rows, batches);
+            }
+            rows += archived;
+            batches++;
+            throttle(System.nanoTime() - batchStarted);
+        }
+    }
+
+    private void throttle(long batchNanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(Math.max(pause.toNanos(), batchNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Archival interrupted", e);
+        }
+    }
+
+    private record Totals(long rows, int batches) {
+    }
+
+    public record ArchivalReport(LocalDateTime cutoff, long movements, long products, int batches, long elapsedMs) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.inventory.archive;
+
+import com.inventory.bulkhead.Bulkhead;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.entity.ArchivedProduct;
+import com.inventory.entity.Product;
+import com.inventory.enums.Workload;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.exception.DuplicateSkuException;
+import com.inventory.exception.ProductNotFoundException;
+import com.inventory.location.LocationResolver;
+import com.inventory.mapper.ProductMapper;
+import com.inventory.repository.ArchivedProductRepository;
+import com.inventory.repository.ArchivedStockMovementRepository;
+import com.inventory.repository.DemandVelocityRepository;
+import com.inventory.repository.MovementRollupRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
+import com.inventory.repository.ReplenishmentSuggestionRepository;
+import com.inventory.repository.StockMovementRepository;
+import com.inventory.search.ProductFilterIndex;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves soft-deleted products and their movements between the hot tables and the archive tables.
+ * <p>
+ * Every step copies rows with one {@code INSERT ... SELECT} and then deletes them, inside one
+ * transaction, so a row is always in exactly one of the two places. Movements are archived before
+ * their product, and a product is restored before its movements, so no committed state has a
+ * movement whose product is missing from {@code products}. Rows derived from the movements
+ * (location stock, which is zero for a deleted product, daily rollups, sales velocity and
+ * reorder suggestions) are dropped on archival; rollups and location stock are rebuilt on restore.
+ */
+@Component
+public class ProductArchive {
+
+    private final ProductRepository productRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final ArchivedProductRepository archivedProductRepository;
+    private final ArchivedStockMovementRepository archivedStockMovementRepository;
+    private final ProductStockRepository productStockRepository;
+    private final MovementRollupRepository movementRollupRepository;
+    private final DemandVelocityRepository demandVelocityRepository;
+    private final ReplenishmentSuggestionRepository replenishmentSuggestionRepository;
+    private final LocationResolver locationResolver;
+    private final ProductFilterIndex productFilterIndex;
+    private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductArchive(ProductRepository productRepository,
+                          StockMovementRepository stockMovementRepository,
+                          ArchivedProductRepository archivedProductRepository,
+                          ArchivedStockMovementRepository archivedStockMovementRepository,
+                          ProductStockRepository productStockRepository,
+                          MovementRollupRepository movementRollupRepository,
+                          DemandVelocityRepository demandVelocityRepository,
+                          ReplenishmentSuggestionRepository replenishmentSuggestionRepository,
+                          LocationResolver locationResolver,
+                          ProductFilterIndex productFilterIndex,
+                          ProductMapper productMapper,
+                          ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.archivedProductRepository = archivedProductRepository;
+        this.archivedStockMovementRepository = archivedStockMovementRepository;
+        this.productStockRepository = productStockRepository;
+        this.movementRollupRepository = movementRollupRepository;
+        this.demandVelocityRepository = demandVelocityRepository;
+        this.replenishmentSuggestionRepository = replenishmentSuggestionRepository;
+        this.locationResolver = locationResolver;
+        this.productFilterIndex = productFilterIndex;
+        this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public int archiveMovements(List<UUID> movementIds, LocalDateTime archivedAt) {
+        int archived = archivedStockMovementRepository.copyMovements(movementIds, archivedAt);
+        stockMovementRepository.deleteAllByIdInBatch(movementIds);
+        return archived;
+    }
+
+    /**
+     * Archives products whose movements are already archived.
+     */
+    @Transactional
+    public int archiveProducts(List<UUID> productIds, LocalDateTime archivedAt) {
+        int archived = archivedProductRepository.copyProducts(productIds, archivedAt);
+        archivedProductRepository.copySupplierLinks(productIds);
+
+        productRepository.deleteAllSupplierLinks(productIds);
+        productStockRepository.deleteByProductIds(productIds);
+        movementRollupRepository.deleteByProductIds(productIds);
+        demandVelocityRepository.deleteAllByIdInBatch(productIds);
+        replenishmentSuggestionRepository.deleteByProductIds(productIds);
+        productRepository.deleteAllByIdInBatch(productIds);
+        return archived;
+    }
+
+    /**
+     * Brings an archived product back with its supplier links and movements, active again under
+     * its original SKU.
+     */
+    @Bulkhead(Workload.WRITE)
+    @Transactional
+    public ProductResponse restore(UUID id) {
+        ArchivedProduct archived = archivedProductRepository.lockById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        String sku = archived.getOriginalSku() != null ? archived.getOriginalSku() : archived.getSku();
+        if (productRepository.existsBySkuAndActiveTrue(sku)) {
+            throw new DuplicateSkuException(sku);
+        }
+
+        archivedProductRepository.restoreProduct(id, sku);
+        archivedProductRepository.restoreSupplierLinks(id);
+        archivedStockMovementRepository.restoreMovements(id);
+        archivedStockMovementRepository.deleteByProductId(id);
+        archivedProductRepository.delete(archived);
+
+        movementRollupRepository.insertFromMovements(List.of(id));
+        productStockRepository.seedIfUnstocked(id, locationResolver.getDefaultCode());
+
+        // Written with SQL, so the filter index is told directly rather than by the entity listener
+        Product product = productRepository.findById(id).orElseThrow(() -> new ProductNotFoundException(id));
+        Hibernate.initialize(product.getSuppliers());
+        productFilterIndex.productWritten(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
+        return productMapper.toResponse(product);
+    }
+}
@@ -0,0 +1,230 @@
+package com.inventory.assignment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.bulkhead.WorkloadContext;
+import com.inventory.dto.request.ProductFilterRequest;
+import com.inventory.dto.request.SupplierProductAssignmentRequest;
+import com.inventory.dto.response.SupplierProductAssignmentResponse;
+import com.inventory.entity.Product;
+import com.inventory.enums.AssignmentAction;
+import com.inventory.enums.Workload;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.exception.AssignmentQueueFullException;
+import com.inventory.repository.ProductRepository;
+import com.inventory.search.ProductFilterIndex;
+import com.inventory.search.ProductSearchCriteria;
+import com.inventory.service.SupplierService;
+import com.inventory.specification.ProductSpecification;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Links products to a supplier, or unlinks them, in bulk.
+ * <p>
+ * Assignments run one at a time on a background thread in the bulk workload. The products, given
+ * by id or by a search filter read in keyset order, are handled in chunks of
+ * {@code inventory.supplier-assignments.chunk-size}, each in its own transaction: one statement
+ * locks the chunk's products whose links change, one bumps their versions and one inserts or
+ * deletes all their {@code product_suppliers} rows. Products keep at least one supplier, so a
+ * removal skips those that have no other. Caches drop the changed products as each chunk commits
+ * and the product filter index is reloaded once at the end.
+ */
+@Component
+public class SupplierProductAssigner {
+
+    private static final Logger log = LoggerFactory.getLogger(SupplierProductAssigner.class);
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final SupplierService supplierService;
+    private final ProductRepository productRepository;
+    private final ProductFilterIndex productFilterIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final ThreadPoolExecutor executor;
+    private final Cache<UUID, SupplierProductAssignment> assignments;
+
+    public SupplierProductAssigner(SupplierService supplierService,
+                                   ProductRepository productRepository,
+                                   ProductFilterIndex productFilterIndex,
+                                   EntityManager entityManager,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${inventory.supplier-assignments.chunk-size:500}") int chunkSize,
+                                   @Value("${inventory.supplier-assignments.queue-capacity:16}") int queueCapacity,
+                                   @Value("${inventory.supplier-assignments.retention:PT1H}") Duration retention) {
+        this.supplierService = supplierService;
+        this.productRepository = productRepository;
+        this.productFilterIndex = productFilterIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "supplier-assignment");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.assignments = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    /**
+     * Queues an assignment for an active supplier.
+     *
+     * @throws AssignmentQueueFullException when too many assignments are waiting
+     */
+    public SupplierProductAssignment submit(UUID supplierId, SupplierProductAssignmentRequest request) {
+        supplierService.getSupplierEntityById(supplierId);
+        SupplierProductAssignment assignment = new SupplierProductAssignment(supplierId, request);
+        assignments.put(assignment.getId(), assignment);
+        try {
+            executor.execute(() -> WorkloadContext.callIn(Workload.BULK, () -> {
+                run(assignment);
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            assignments.invalidate(assignment.getId());
+            throw new AssignmentQueueFullException();
+        }
+        return assignment;
+    }
+
+    public Optional<SupplierProductAssignment> find(UUID supplierId, UUID assignmentId) {
+        return Optional.ofNullable(assignments.getIfPresent(assignmentId))
+                .filter(assignment -> assignment.getSupplierId().equals(supplierId));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(SupplierProductAssignment assignment) {
+        long started = System.nanoTime();
+        SupplierProductAssignmentRequest request = assignment.getRequest();
+        RuntimeException failure = null;
+        try {
+            if (request.productIds() != null) {
+                List<UUID> productIds = List.copyOf(new LinkedHashSet<>(request.productIds()));
+                assignment.start(productIds.size());
+                for (int from = 0; from < productIds.size(); from += chunkSize) {
+                    List<UUID> chunk = productIds.subList(from, Math.min(from + chunkSize, productIds.size()));
+                    transactionTemplate.executeWithoutResult(status -> apply(assignment, chunk));
+                }
+            } else {
+                Specification<Product> spec = ProductSpecification.matching(criteria(request.filter()));
+                assignment.start(transactionTemplate.execute(status -> productRepository.count(spec)));
+                UUID after = FIRST_ID;
+                while (after != null) {
+                    UUID from = after;
+                    after = transactionTemplate.execute(status -> {
+                        List<UUID> chunk = findIdsAfter(spec, from);
+                        if (chunk.isEmpty()) {
+                            return null;
+                        }
+                        apply(assignment, chunk);
+                        return chunk.get(chunk.size() - 1);
+                    });
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Supplier product assignment {} for supplier {} failed", assignment.getId(),
+                    assignment.getSupplierId(), e);
+            failure = e;
+        }
+
+        // Committed chunks stay applied either way, and the supplier facets must reflect them
+        productFilterIndex.reload();
+        if (failure != null) {
+            assignment.fail("Assignment Failed", "Stopped after " + assignment.toResponse().processedProducts()
+                    + " products; the chunks applied until then are kept");
+        } else {
+            assignment.complete();
+        }
+        SupplierProductAssignmentResponse result = assignment.toResponse();
+        log.info("Supplier product assignment {} ({} supplier {}) processed {} products, changed {}, skipped {} in {} ms",
+                result.assignmentId(), result.action(), result.supplierId(), result.processedProducts(),
+                result.changedProducts(), result.skippedProducts(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+
+    private void apply(SupplierProductAssignment assignment, List<UUID> productIds) {
+        UUID supplierId = assignment.getSupplierId();
+        List<UUID> changed;
+        int skipped = 0;
+        if (assignment.getRequest().action() == AssignmentAction.ADD) {
+            changed = productRepository.lockActiveWithoutSupplier(productIds, supplierId);
+            if (!changed.isEmpty()) {
+                productRepository.touchAll(changed);
+                productRepository.insertSupplierLinks(changed, supplierId);
+            }
+        } else {
+            List<UUID> linked = productRepository.lockWithSupplier(productIds, supplierId);
+            Set<UUID> soleSupplier = linked.isEmpty() ? Set.of() : new HashSet<>(productRepository.findIdsWithSingleSupplier(linked));
+            changed = linked.stream().filter(id -> !soleSupplier.contains(id)).toList();
+            skipped = soleSupplier.size();
+            if (!changed.isEmpty()) {
+                productRepository.touchAll(changed);
+                productRepository.deleteSupplierLinks(changed, supplierId);
+            }
+        }
+        // Product events fire after commit, so caches never drop a product before its new links are visible
+        changed.forEach(id -> eventPublisher.publishEvent(new ProductChangedEvent(id)));
+        int changedCount = changed.size();
+        int skippedCount = skipped;
+        afterCommit(() -> assignment.chunkApplied(productIds.size(), changedCount, skippedCount));
+    }
+
+    private List<UUID> findIdsAfter(Specification<Product> spec, UUID after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(product.get("id"))
+                .where(spec.and(ProductSpecification.hasIdGreaterThan(after)).toPredicate(product, query, cb))
+                .orderBy(cb.asc(product.get("id")));
+        return entityManager.createQuery(query).setMaxResults(chunkSize).getResultList();
+    }
+
+    private static void afterCommit(Runnable change) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static ProductSearchCriteria criteria(ProductFilterRequest filter) {
+        return ProductSearchCriteria.of(filter.name(), filter.category(), filter.sku(), filter.description(),
+                filter.minPrice(), filter.maxPrice(), filter.minStock(), filter.maxStock(), filter.lowStock());
+    }
+}
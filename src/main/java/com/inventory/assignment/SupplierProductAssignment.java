@@ -0,0 +1,84 @@
+package com.inventory.assignment;
+
+import com.inventory.dto.request.SupplierProductAssignmentRequest;
+import com.inventory.dto.response.SupplierProductAssignmentResponse;
+import com.inventory.enums.AssignmentStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bulk product-to-supplier assignment and its progress. Counters advance as each chunk
+ * commits, so a running assignment reports how far it has got.
+ */
+public class SupplierProductAssignment {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID supplierId;
+    private final SupplierProductAssignmentRequest request;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final AtomicLong processedProducts = new AtomicLong();
+    private final AtomicLong changedProducts = new AtomicLong();
+    private final AtomicLong skippedProducts = new AtomicLong();
+    private final CompletableFuture<SupplierProductAssignmentResponse> outcome = new CompletableFuture<>();
+
+    private volatile AssignmentStatus status = AssignmentStatus.QUEUED;
+    private volatile Long totalProducts;
+
+    SupplierProductAssignment(UUID supplierId, SupplierProductAssignmentRequest request) {
+        this.supplierId = supplierId;
+        this.request = request;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getSupplierId() {
+        return supplierId;
+    }
+
+    public SupplierProductAssignmentRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Completes with the final progress once every chunk has been applied, or the assignment failed.
+     */
+    public CompletableFuture<SupplierProductAssignmentResponse> outcome() {
+        return outcome;
+    }
+
+    public SupplierProductAssignmentResponse toResponse() {
+        return outcome.getNow(response(null, null, null));
+    }
+
+    void start(long total) {
+        totalProducts = total;
+        status = AssignmentStatus.RUNNING;
+    }
+
+    void chunkApplied(int processed, int changed, int skipped) {
+        processedProducts.addAndGet(processed);
+        changedProducts.addAndGet(changed);
+        skippedProducts.addAndGet(skipped);
+    }
+
+    void complete() {
+        status = AssignmentStatus.COMPLETED;
+        outcome.complete(response(LocalDateTime.now(), null, null));
+    }
+
+    void fail(String error, String message) {
+        status = AssignmentStatus.FAILED;
+        outcome.complete(response(LocalDateTime.now(), error, message));
+    }
+
+    private SupplierProductAssignmentResponse response(LocalDateTime completedAt, String error, String message) {
+        return new SupplierProductAssignmentResponse(id, supplierId, request.action(), status, totalProducts,
+                processedProducts.get(), changedProducts.get(), skippedProducts.get(), submittedAt, completedAt,
+                error, message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.inventory.bulkhead;
+
+import com.inventory.enums.Workload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated service method on the executor of its workload, with database connections
+ * taken from that workload's pool. A call made from inside another bulkhead stays in the
+ * caller's, since it shares the caller's transaction.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Bulkhead {
+
+    Workload value();
+}
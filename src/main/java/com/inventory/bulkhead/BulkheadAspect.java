@@ -0,0 +1,142 @@
+package com.inventory.bulkhead;
+
+import com.inventory.enums.Workload;
+import com.inventory.exception.BulkheadFullException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves {@link Bulkhead} methods onto a bounded executor per workload. The executor has as many
+ * threads as the workload's connection pool has connections, plus a short queue; when both are
+ * taken the call fails immediately with {@link BulkheadFullException} instead of waiting for a
+ * connection that other work is holding.
+ * <p>
+ * Ordered ahead of the transaction interceptor, so the transaction and its connection are
+ * opened on the executor thread, inside the workload, but behind the interceptor exposing the
+ * invocation that the annotation binding reads.
+ * <p>
+ * Calls made inside a workload, or inside a transaction already open on the caller's thread, run
+ * inline: moving them to another thread would detach them from that transaction, and from the row
+ * locks it holds, which they could then wait on forever.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class BulkheadAspect {
+
+    private final Map<Workload, ThreadPoolExecutor> executors = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejections = new EnumMap<>(Workload.class);
+    private final Map<Workload, Timer> queueWaits = new EnumMap<>(Workload.class);
+
+    public BulkheadAspect(Map<Workload, Limits> limits, MeterRegistry meterRegistry) {
+        for (Workload workload : Workload.values()) {
+            String name = workload.name().toLowerCase(Locale.ROOT);
+            Limits limit = limits.get(workload);
+            AtomicInteger sequence = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(limit.threads(), limit.threads(), 60, TimeUnit.SECONDS,
+                    queue(limit.queueCapacity()), runnable -> {
+                Thread thread = new Thread(runnable, "bulkhead-" + name + "-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            executors.put(workload, executor);
+
+            new ExecutorServiceMetrics(executor, "bulkhead-" + name, Tags.empty()).bindTo(meterRegistry);
+            Gauge.builder("inventory.bulkhead.saturation", executor,
+                            e -> (double) (e.getActiveCount() + e.getQueue().size()) / (limit.threads() + limit.queueCapacity()))
+                    .description("Share of a bulkhead's threads and queue slots in use")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            rejections.put(workload, Counter.builder("inventory.bulkhead.rejections")
+                    .description("Calls refused because the bulkhead was full")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry));
+            queueWaits.put(workload, Timer.builder("inventory.bulkhead.queue.wait")
+                    .description("Time calls waited for a bulkhead thread")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("@annotation(bulkhead)")
+    public Object isolate(ProceedingJoinPoint joinPoint, Bulkhead bulkhead) throws Throwable {
+        if (WorkloadContext.current() != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        Workload workload = bulkhead.value();
+        long submittedAt = System.nanoTime();
+        Callable<Object> call = () -> {
+            queueWaits.get(workload).record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            Workload previous = WorkloadContext.enter(workload);
+            try {
+                return joinPoint.proceed();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            } finally {
+                WorkloadContext.set(previous);
+            }
+        };
+
+        Future<Object> result;
+        try {
+            result = executors.get(workload).submit(call);
+        } catch (RejectedExecutionException e) {
+            rejections.get(workload).increment();
+            throw new BulkheadFullException(workload);
+        }
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the " + workload + " bulkhead", e);
+        }
+    }
+
+    private static BlockingQueue<Runnable> queue(int capacity) {
+        // No queue at all: calls run only when a thread is free
+        return capacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    /**
+     * @param threads       calls running at once, matching the workload's connection pool size
+     * @param queueCapacity calls allowed to wait for a thread before new ones are refused
+     */
+    public record Limits(int threads, int queueCapacity) {
+    }
+}
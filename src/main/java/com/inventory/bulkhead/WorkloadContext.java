@@ -0,0 +1,50 @@
+package com.inventory.bulkhead;
+
+import com.inventory.enums.Workload;
+
+import java.util.function.Supplier;
+
+/**
+ * The workload the current thread is running for, which selects the connection pool.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    /**
+     * @return the current workload, or {@code null} outside any bulkhead
+     */
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs {@code task} on this thread as part of {@code workload}, e.g. work handed to another
+     * executor on behalf of a bulkhead.
+     */
+    public static <T> T callIn(Workload workload, Supplier<T> task) {
+        Workload previous = enter(workload);
+        try {
+            return task.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        set(workload);
+        return previous;
+    }
+
+    static void set(Workload workload) {
+        if (workload == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(workload);
+        }
+    }
+}
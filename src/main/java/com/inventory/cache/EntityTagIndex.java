@@ -0,0 +1,188 @@
+package com.inventory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.inventory.entity.Product;
+import com.inventory.entity.Supplier;
+import com.inventory.event.ProductBatchChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.event.SupplierChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Compact id -> ETag index used to answer conditional GETs without loading the entity.
+ * <p>
+ * Product tags combine the product version with the sum of its suppliers' versions, so a
+ * supplier edit changes the tag of every product that embeds it. Entries are dropped after
+ * the writing transaction commits; readers pass the {@link #stamp()} taken before loading so
+ * that a read racing with an invalidation never re-publishes a stale tag. A supplier -> products
+ * reverse index finds the tags a supplier edit affects without scanning every entry.
+ */
+@Component
+public class EntityTagIndex {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final Cache<UUID, ProductTag> productTags;
+    private final Cache<String, UUID> productIdsBySku;
+    private final Cache<UUID, String> supplierTags;
+    private final Cache<UUID, Long> invalidations;
+    // Only changed inside compute calls, so the sets need no synchronization of their own
+    private final ConcurrentMap<UUID, Set<UUID>> productIdsBySupplier = new ConcurrentHashMap<>();
+
+    public EntityTagIndex(@Value("${inventory.etag.max-entries:100000}") long maxEntries) {
+        this.productTags = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .evictionListener((UUID productId, ProductTag entry, RemovalCause cause) ->
+                        unlink(productId, entry.supplierIds()))
+                .build();
+        this.productIdsBySku = Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.supplierTags = Caffeine.newBuilder().maximumSize(maxEntries).build();
+        this.invalidations = Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).build();
+    }
+
+    public static String productTag(Product product) {
+        if (product.getVersion() == null) {
+            return null;
+        }
+        long supplierVersions = 0;
+        if (product.getSuppliers() != null) {
+            for (Supplier supplier : product.getSuppliers()) {
+                supplierVersions += supplier.getVersion() != null ? supplier.getVersion() : 0;
+            }
+        }
+        return product.getVersion() + "." + supplierVersions;
+    }
+
+    public static String supplierTag(Supplier supplier) {
+        return supplier.getVersion() != null ? supplier.getVersion().toString() : null;
+    }
+
+    public long stamp() {
+        return clock.get();
+    }
+
+    public Optional<String> findProductTag(UUID productId) {
+        ProductTag entry = productTags.getIfPresent(productId);
+        return entry != null ? Optional.of(entry.tag()) : Optional.empty();
+    }
+
+    public Optional<String> findProductTagBySku(String sku) {
+        UUID productId = productIdsBySku.getIfPresent(sku);
+        if (productId == null) {
+            return Optional.empty();
+        }
+        ProductTag entry = productTags.getIfPresent(productId);
+        // The SKU may have moved to another product since it was indexed
+        return entry != null && entry.sku().equals(sku) ? Optional.of(entry.tag()) : Optional.empty();
+    }
+
+    public Optional<String> findSupplierTag(UUID supplierId) {
+        return Optional.ofNullable(supplierTags.getIfPresent(supplierId));
+    }
+
+    public void putProduct(long stamp, Product product) {
+        String tag = productTag(product);
+        if (tag == null || invalidatedSince(product.getId(), stamp)) {
+            return;
+        }
+        Set<UUID> supplierIds = product.getSuppliers() == null ? Set.of() : product.getSuppliers().stream()
+                .map(Supplier::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        if (supplierIds.stream().anyMatch(supplierId -> invalidatedSince(supplierId, stamp))) {
+            return;
+        }
+        link(product.getId(), supplierIds);
+        ProductTag previous = productTags.asMap().put(product.getId(), new ProductTag(product.getSku(), tag, supplierIds));
+        if (previous != null) {
+            unlink(product.getId(), previous.supplierIds().stream()
+                    .filter(supplierId -> !supplierIds.contains(supplierId))
+                    .collect(Collectors.toSet()));
+        }
+        productIdsBySku.put(product.getSku(), product.getId());
+
+        // A supplier change between the checks above and the put may have missed this entry
+        if (supplierIds.stream().anyMatch(supplierId -> invalidatedSince(supplierId, stamp))) {
+            removeProduct(product.getId());
+        }
+    }
+
+    public void putSupplier(long stamp, Supplier supplier) {
+        String tag = supplierTag(supplier);
+        if (tag != null && !invalidatedSince(supplier.getId(), stamp)) {
+            supplierTags.put(supplier.getId(), tag);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        invalidations.put(event.productId(), clock.incrementAndGet());
+        removeProduct(event.productId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductBatchChanged(ProductBatchChangedEvent event) {
+        long invalidatedAt = clock.incrementAndGet();
+        for (UUID productId : event.productIds()) {
+            invalidations.put(productId, invalidatedAt);
+            removeProduct(productId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupplierChanged(SupplierChangedEvent event) {
+        invalidations.put(event.supplierId(), clock.incrementAndGet());
+        supplierTags.invalidate(event.supplierId());
+        Set<UUID> affected = productIdsBySupplier.remove(event.supplierId());
+        if (affected != null) {
+            affected.forEach(this::removeProduct);
+        }
+    }
+
+    private void removeProduct(UUID productId) {
+        ProductTag removed = productTags.asMap().remove(productId);
+        if (removed != null) {
+            productIdsBySku.asMap().remove(removed.sku(), productId);
+            unlink(productId, removed.supplierIds());
+        }
+    }
+
+    private void link(UUID productId, Set<UUID> supplierIds) {
+        for (UUID supplierId : supplierIds) {
+            productIdsBySupplier.compute(supplierId, (key, productIds) -> {
+                Set<UUID> linked = productIds != null ? productIds : new HashSet<>();
+                linked.add(productId);
+                return linked;
+            });
+        }
+    }
+
+    private void unlink(UUID productId, Set<UUID> supplierIds) {
+        for (UUID supplierId : supplierIds) {
+            productIdsBySupplier.computeIfPresent(supplierId, (key, productIds) -> {
+                productIds.remove(productId);
+                return productIds.isEmpty() ? null : productIds;
+            });
+        }
+    }
+
+    private boolean invalidatedSince(UUID id, long stamp) {
+        Long invalidatedAt = invalidations.getIfPresent(id);
+        return invalidatedAt != null && invalidatedAt > stamp;
+    }
+
+    private record ProductTag(String sku, String tag, Set<UUID> supplierIds) {
+    }
+}
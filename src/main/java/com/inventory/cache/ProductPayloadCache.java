@@ -0,0 +1,110 @@
+package com.inventory.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.event.ProductBatchChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opt-in cache of fully serialized {@link ProductResponse} JSON, optionally pre-gzipped.
+ * <p>
+ * Entries are keyed by product id and stamped with the product ETag they were rendered from.
+ * An entry is only served while that tag is still the current one in {@link EntityTagIndex},
+ * so product, stock and supplier writes make stale bytes unreachable immediately; product
+ * events additionally free the memory.
+ */
+@Component
+public class ProductPayloadCache {
+
+    public static final String GZIP_TAG_SUFFIX = "-gzip";
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPayloadCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final Cache<UUID, ProductPayload> payloads;
+
+    public ProductPayloadCache(ObjectMapper objectMapper,
+                               @Value("${inventory.cache.product-json.enabled:false}") boolean enabled,
+                               @Value("${inventory.cache.product-json.gzip:true}") boolean gzip,
+                               @Value("${inventory.cache.product-json.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.payloads = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID id, ProductPayload payload) -> payload.weight())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<ProductPayload> get(UUID productId, String currentTag) {
+        if (!enabled || currentTag == null) {
+            return Optional.empty();
+        }
+        ProductPayload payload = payloads.getIfPresent(productId);
+        return payload != null && payload.tag().equals(currentTag) ? Optional.of(payload) : Optional.empty();
+    }
+
+    public void put(UUID productId, String tag, ProductResponse response) {
+        if (!enabled || tag == null) {
+            return;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            payloads.put(productId, new ProductPayload(tag, json, gzip ? gzip(json) : null));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize product {} for payload cache", productId, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        payloads.invalidate(event.productId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductBatchChanged(ProductBatchChangedEvent event) {
+        payloads.invalidateAll(event.productIds());
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 3 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public record ProductPayload(String tag, byte[] json, byte[] gzipped) {
+
+        public boolean hasGzip() {
+            return gzipped != null;
+        }
+
+        int weight() {
+            return json.length + (gzipped != null ? gzipped.length : 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.inventory.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.enums.CountMode;
+import com.inventory.event.ProductBatchChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.event.SupplierChangedEvent;
+import com.inventory.search.ProductSearchCriteria;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of product search result pages keyed by normalized filters, page request and count mode.
+ * <p>
+ * Every key carries the catalog generation it was loaded in. Product, stock and supplier writes
+ * bump the generation after commit, which makes all earlier entries unreachable in O(1); the
+ * orphaned entries are reclaimed by size-bounded eviction. The generation is read before the
+ * search runs, so a result loaded concurrently with a write is never served to later readers.
+ */
+@Component
+public class ProductSearchCache {
+
+    public static final String CACHE_NAME = "productSearch";
+
+    private final AtomicLong generation = new AtomicLong();
+    private final boolean enabled;
+    private final Cache<Key, Slice<ProductResponse>> results;
+
+    public ProductSearchCache(MeterRegistry meterRegistry,
+                              @Value("${inventory.cache.product-search.enabled:false}") boolean enabled,
+                              @Value("${inventory.cache.product-search.max-entries:10000}") long maxEntries,
+                              @Value("${inventory.cache.product-search.expire-after-access:PT10M}") Duration expireAfterAccess) {
+        this.enabled = enabled;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached result for the current generation, loading it at most once per key.
+     * A {@code null} count mode identifies the legacy page-with-total search.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Slice<ProductResponse>> T get(ProductSearchCriteria criteria, Pageable pageable,
+                                                     CountMode countMode, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(generation.get(), criteria, pageable, countMode);
+        return (T) results.get(key, ignored -> loader.get());
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductBatchChanged(ProductBatchChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSupplierChanged(SupplierChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    CacheStats stats() {
+        return results.stats();
+    }
+
+    private record Key(long generation, ProductSearchCriteria criteria, Pageable pageable, CountMode countMode) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.inventory.config;
+
+import com.inventory.bulkhead.BulkheadAspect;
+import com.inventory.bulkhead.BulkheadAspect.Limits;
+import com.inventory.bulkhead.WorkloadRoutingDataSource;
+import com.inventory.enums.Workload;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulkheads: one Hikari pool and one executor per {@link Workload}, so stock writes, interactive
+ * reads and bulk reads cannot exhaust each other's connections. Replaces the auto-configured
+ * pool; connection settings still come from {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.bulkhead", name = "enabled")
+public class BulkheadConfig {
+
+    private final Map<Workload, Limits> limits = new EnumMap<>(Workload.class);
+
+    public BulkheadConfig(@Value("${inventory.bulkhead.write.threads:10}") int writeThreads,
+                          @Value("${inventory.bulkhead.write.queue-capacity:50}") int writeQueueCapacity,
+                          @Value("${inventory.bulkhead.interactive.threads:10}") int interactiveThreads,
+                          @Value("${inventory.bulkhead.interactive.queue-capacity:50}") int interactiveQueueCapacity,
+                          @Value("${inventory.bulkhead.bulk.threads:4}") int bulkThreads,
+                          @Value("${inventory.bulkhead.bulk.queue-capacity:8}") int bulkQueueCapacity) {
+        limits.put(Workload.WRITE, new Limits(writeThreads, writeQueueCapacity));
+        limits.put(Workload.INTERACTIVE, new Limits(interactiveThreads, interactiveQueueCapacity));
+        limits.put(Workload.BULK, new Limits(bulkThreads, bulkQueueCapacity));
+    }
+
+    @Bean
+    DataSource dataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        limits.forEach((workload, limit) -> {
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            pool.setPoolName("bulkhead-" + workload.name().toLowerCase(Locale.ROOT));
+            // Reads may hold a second connection for the total counted in parallel with their page
+            pool.setMaximumPoolSize(workload == Workload.WRITE ? limit.threads() : 2 * limit.threads());
+            pool.setMinimumIdle(Math.min(2, limit.threads()));
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(workload, pool);
+        });
+        return new WorkloadRoutingDataSource(pools);
+    }
+
+    @Bean
+    BulkheadAspect bulkheadAspect(MeterRegistry meterRegistry) {
+        return new BulkheadAspect(limits, meterRegistry);
+    }
+}
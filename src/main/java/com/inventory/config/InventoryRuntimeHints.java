@@ -0,0 +1,135 @@
+package com.inventory.config;
+
+import com.inventory.archive.ArchivalJob.ArchivalReport;
+import com.inventory.dto.request.BulkPriceUpdateRequest;
+import com.inventory.dto.request.CreateLocationRequest;
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.request.CreateSupplierRequest;
+import com.inventory.dto.request.ProductFilterRequest;
+import com.inventory.dto.request.ProductLookupRequest;
+import com.inventory.dto.request.SkuPriceRequest;
+import com.inventory.dto.request.SupplierProductAssignmentRequest;
+import com.inventory.dto.request.UpdateProductRequest;
+import com.inventory.dto.request.UpdateProductSuppliersRequest;
+import com.inventory.dto.request.UpdateSupplierRequest;
+import com.inventory.dto.response.BulkPriceUpdateResponse;
+import com.inventory.dto.response.DemandVelocityResponse;
+import com.inventory.dto.response.FacetedProductSearchResponse;
+import com.inventory.dto.response.LocationResponse;
+import com.inventory.dto.response.LocationStockResponse;
+import com.inventory.dto.response.MovementSeriesResponse;
+import com.inventory.dto.response.ProductFacetsResponse;
+import com.inventory.dto.response.ProductLookupResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.ReplenishmentSuggestionResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.StockMovementTicketResponse;
+import com.inventory.dto.response.SupplierProductAssignmentResponse;
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Address;
+import com.inventory.entity.ArchivedProduct;
+import com.inventory.entity.ArchivedStockMovement;
+import com.inventory.entity.BaseEntity;
+import com.inventory.entity.DemandVelocity;
+import com.inventory.entity.Location;
+import com.inventory.entity.MovementRollup;
+import com.inventory.entity.MovementRollupId;
+import com.inventory.entity.Product;
+import com.inventory.entity.ProductStock;
+import com.inventory.entity.ProductStockId;
+import com.inventory.entity.ReplenishmentSuggestion;
+import com.inventory.entity.ReplenishmentSuggestionId;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockOutboxEntry;
+import com.inventory.entity.Supplier;
+import com.inventory.metrics.SlowQueriesEndpoint.SlowQueries;
+import com.inventory.repository.DemandVelocityRepository.CoverRow;
+import com.inventory.repository.ProductRepository.ProductFilterRow;
+import com.inventory.repository.ProductRepository.ProductSupplierLink;
+import com.inventory.repository.ProductRepository.StockLevelCounts;
+import com.inventory.repository.ProductStockRepository.LocationStockRow;
+import com.inventory.repository.ReplenishmentSuggestionRepository.CandidateRow;
+import com.inventory.replenishment.ReplenishmentJob.JobReport;
+import com.inventory.rollup.MovementRollupBackfill.BackfillReport;
+import com.inventory.search.ProductFilterIndexListener;
+import com.inventory.search.SupplierDirectoryListener;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reflection and proxy metadata for the native image that AOT processing cannot infer from the
+ * bean definitions: how Hibernate reaches into entities and their listeners, the proxies behind
+ * repository projections and SQL timing, and the payloads Jackson and springdoc introspect.
+ * <p>
+ * MapStruct mappers and JPA specifications need nothing of their own: the mappers are Spring
+ * beans created by generated code, and specifications only use the entity metamodel.
+ */
+public class InventoryRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            BaseEntity.class, Product.class, Supplier.class, StockMovement.class, Address.class,
+            MovementRollup.class, MovementRollupId.class, DemandVelocity.class,
+            ReplenishmentSuggestion.class, ReplenishmentSuggestionId.class, Location.class, ProductStock.class,
+            ProductStockId.class, StockOutboxEntry.class, ArchivedProduct.class, ArchivedStockMovement.class);
+
+    private static final List<Class<?>> ENTITY_LISTENERS = List.of(
+            ProductFilterIndexListener.class, SupplierDirectoryListener.class);
+
+    private static final List<Class<?>> PROJECTIONS = List.of(
+            StockLevelCounts.class, ProductFilterRow.class, ProductSupplierLink.class, CoverRow.class,
+            CandidateRow.class, LocationStockRow.class);
+
+    private static final List<Class<?>> JDBC_PROXIES = List.of(
+            Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class, ResultSet.class);
+
+    private static final List<Class<?>> PAYLOADS = List.of(
+            CreateProductRequest.class, UpdateProductRequest.class, UpdateProductSuppliersRequest.class,
+            CreateSupplierRequest.class, UpdateSupplierRequest.class, CreateStockMovementRequest.class,
+            ProductResponse.class, SupplierResponse.class, StockMovementResponse.class,
+            StockMovementTicketResponse.class, FacetedProductSearchResponse.class, ProductFacetsResponse.class,
+            MovementSeriesResponse.class, DemandVelocityResponse.class, PageImpl.class, SliceImpl.class, SlowQueries.class, BackfillReport.class,
+            ReplenishmentSuggestionResponse.class, JobReport.class, CreateLocationRequest.class, LocationResponse.class,
+            LocationStockResponse.class, ProductFilterRequest.class, SupplierProductAssignmentRequest.class,
+            SupplierProductAssignmentResponse.class, ArchivalReport.class, BulkPriceUpdateRequest.class,
+            SkuPriceRequest.class, BulkPriceUpdateResponse.class, ProductLookupRequest.class,
+            ProductLookupResponse.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Hibernate reads and writes fields directly, instantiates entities and calls lifecycle callbacks
+        ENTITIES.forEach(entity -> hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+        ENTITY_LISTENERS.forEach(listener -> hints.reflection().registerType(listener,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // Spring Data backs interface projections with JDK proxies
+        PROJECTIONS.forEach(projection -> {
+            hints.reflection().registerType(projection, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.proxies().registerJdkProxy(projection, TargetAware.class, SpringProxy.class, DecoratingProxy.class);
+        });
+
+        // QueryTimingDataSource wraps connections, statements and result sets
+        JDBC_PROXIES.forEach(type -> hints.proxies().registerJdkProxy(type));
+
+        // Request and response bodies, including the page and slice envelopes
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), PAYLOADS.toArray(Class<?>[]::new));
+    }
+}
@@ -0,0 +1,57 @@
+package com.inventory.config;
+
+import com.inventory.metrics.QueryMetricsRecorder;
+import com.inventory.metrics.QueryTimingDataSource;
+import com.inventory.metrics.RepositoryMethodTracker;
+import com.inventory.metrics.SlowQueriesEndpoint;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL timing per repository method and statement shape. Per-method latency itself comes from
+ * Spring Boot's {@code spring.data.repository.invocations} timer; percentiles are configured in
+ * application.yml.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.sql.metrics", name = "enabled", matchIfMissing = true)
+public class QueryMetricsConfig {
+
+    @Bean
+    static BeanPostProcessor queryTimingDataSourcePostProcessor(ObjectProvider<QueryMetricsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryTimingDataSource)) {
+                    return new QueryTimingDataSource(dataSource, recorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryMethodTrackerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositoryMethodTracker(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    SlowQueriesEndpoint slowQueriesEndpoint(QueryMetricsRecorder recorder) {
+        return new SlowQueriesEndpoint(recorder);
+    }
+}
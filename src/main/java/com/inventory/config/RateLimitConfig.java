@@ -0,0 +1,65 @@
+package com.inventory.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.enums.EndpointClass;
+import com.inventory.ratelimit.EndpointClassifier;
+import com.inventory.ratelimit.RateLimitFilter;
+import com.inventory.ratelimit.RateLimiter;
+import com.inventory.ratelimit.RateLimiter.Budget;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process rate limiting of {@code /api/*} by client and endpoint class. Budgets and the
+ * endpoints belonging to the critical and bulk classes come from {@code inventory.rate-limit.*};
+ * everything else is interactive.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "inventory.rate-limit", name = "enabled")
+public class RateLimitConfig {
+
+    @Bean
+    RateLimiter rateLimiter(@Value("${inventory.rate-limit.critical.rate:500}") long criticalRate,
+                            @Value("${inventory.rate-limit.critical.burst:1000}") long criticalBurst,
+                            @Value("${inventory.rate-limit.interactive.rate:100}") long interactiveRate,
+                            @Value("${inventory.rate-limit.interactive.burst:200}") long interactiveBurst,
+                            @Value("${inventory.rate-limit.bulk.rate:10}") long bulkRate,
+                            @Value("${inventory.rate-limit.bulk.burst:20}") long bulkBurst,
+                            @Value("${inventory.rate-limit.max-clients:100000}") long maxClients) {
+        return new RateLimiter(Map.of(
+                EndpointClass.CRITICAL, new Budget(criticalRate, criticalBurst),
+                EndpointClass.INTERACTIVE, new Budget(interactiveRate, interactiveBurst),
+                EndpointClass.BULK, new Budget(bulkRate, bulkBurst)), maxClients);
+    }
+
+    @Bean
+    EndpointClassifier endpointClassifier(@Value("${inventory.rate-limit.critical.endpoints:}") List<String> critical,
+                                          @Value("${inventory.rate-limit.bulk.endpoints:}") List<String> bulk) {
+        return new EndpointClassifier(Map.of(EndpointClass.CRITICAL, critical, EndpointClass.BULK, bulk));
+    }
+
+    @Bean
+    FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimiter rateLimiter,
+                                                            EndpointClassifier endpointClassifier,
+                                                            @Value("${inventory.rate-limit.client-header:X-Client-Id}") String clientHeader,
+                                                            @Value("${inventory.rate-limit.client-header-trusted:false}") boolean clientHeaderTrusted,
+                                                            @Value("${inventory.rate-limit.max-clients-per-address:16}") int maxClientsPerAddress,
+                                                            ObjectMapper objectMapper,
+                                                            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimiter, endpointClassifier, clientHeader, clientHeaderTrusted,
+                        maxClientsPerAddress, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Refuse over-budget requests before any other work is done for them
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,12 @@
+package com.inventory.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Runs {@code @Scheduled} jobs; each job's cron expression is configurable and {@code -} disables it.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
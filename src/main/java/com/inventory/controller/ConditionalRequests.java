@@ -0,0 +1,44 @@
+package com.inventory.controller;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+/**
+ * Helpers for ETag based conditional requests (RFC 9110 section 13).
+ */
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    // If-Match uses strong comparison, If-None-Match uses weak comparison
+    static boolean matches(String header, String currentTag, boolean strong) {
+        if (header == null || currentTag == null) {
+            return false;
+        }
+        ETag current = ETag.create(ETag.quoteETagIfNecessary(currentTag));
+        for (ETag candidate : ETag.parse(header)) {
+            if (candidate.isWildcard() || candidate.compare(current, strong)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String tag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build();
+    }
+
+    static <T> ResponseEntity<T> ok(T body, Optional<String> tag, String ifNoneMatch) {
+        if (tag.isEmpty()) {
+            return ResponseEntity.ok(body);
+        }
+        if (matches(ifNoneMatch, tag.get(), false)) {
+            return notModified(tag.get());
+        }
+        return ResponseEntity.ok().eTag(tag.get()).body(body);
+    }
+}
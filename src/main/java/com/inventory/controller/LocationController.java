@@ -0,0 +1,120 @@
+package com.inventory.controller;
+
+import com.inventory.dto.request.CreateLocationRequest;
+import com.inventory.dto.response.LocationResponse;
+import com.inventory.dto.response.LocationStockResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.service.LocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/locations")
+@Tag(name = "Locations", description = "Stock locations and the stock held at each")
+public class LocationController {
+
+    private final LocationService locationService;
+
+    public LocationController(LocationService locationService) {
+        this.locationService = locationService;
+    }
+
+    @Operation(
+            summary = "Create a new location",
+            description = "Creates a location that stock movements can be recorded at"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Location created successfully",
+                    content = @Content(schema = @Schema(implementation = LocationResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid location data",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Location code already exists",
+                    content = @Content)
+    })
+    @PostMapping
+    public ResponseEntity<LocationResponse> createLocation(
+            @Parameter(description = "Location data to be created", required = true)
+            @Valid @RequestBody CreateLocationRequest request) {
+        LocationResponse response = locationService.createLocation(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(
+            summary = "Get all locations",
+            description = "Retrieves a paginated list of active locations"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Locations retrieved successfully")
+    })
+    @GetMapping
+    public ResponseEntity<Page<LocationResponse>> getAllLocations(
+            @PageableDefault(size = 20, sort = "code") Pageable pageable) {
+        return ResponseEntity.ok(locationService.getAllLocations(pageable));
+    }
+
+    @Operation(
+            summary = "Get location by ID",
+            description = "Retrieves a specific location by its unique identifier"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Location found",
+                    content = @Content(schema = @Schema(implementation = LocationResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Location not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<LocationResponse> getLocationById(
+            @Parameter(description = "Location unique identifier", required = true, example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(locationService.getLocationById(id));
+    }
+
+    @Operation(
+            summary = "Get stock at a location",
+            description = "Retrieves the stock of every active product held at the location, in product id order"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stock retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Location not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<Page<LocationStockResponse>> getLocationStock(
+            @Parameter(description = "Location unique identifier", required = true, example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+            @PathVariable UUID id,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(locationService.getLocationStock(id, pageable));
+    }
+
+    @Operation(
+            summary = "Get stock movements at a location",
+            description = "Retrieves the stock movements recorded at the location, most recent first"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stock movements retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Location not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/stock-movements")
+    public ResponseEntity<Page<StockMovementResponse>> getLocationMovements(
+            @Parameter(description = "Location unique identifier", required = true, example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+            @PathVariable UUID id,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(locationService.getLocationMovements(id, pageable));
+    }
+}
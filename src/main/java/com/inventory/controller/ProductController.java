@@ -1,10 +1,26 @@
 package com.inventory.controller;
 
+import com.inventory.archive.ProductArchive;
+import com.inventory.cache.ProductPayloadCache;
+import com.inventory.cache.ProductPayloadCache.ProductPayload;
+import com.inventory.dto.request.BulkPriceUpdateRequest;
 import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.ProductLookupRequest;
 import com.inventory.dto.request.UpdateProductRequest;
 import com.inventory.dto.request.UpdateProductSuppliersRequest;
+import com.inventory.dto.response.BulkPriceUpdateResponse;
+import com.inventory.dto.response.DemandVelocityResponse;
+import com.inventory.dto.response.FacetedProductSearchResponse;
+import com.inventory.dto.response.LocationStockResponse;
+import com.inventory.dto.response.MovementSeriesResponse;
+import com.inventory.dto.response.ProductLookupResponse;
 import com.inventory.dto.response.ProductResponse;
 import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.enums.CountMode;
+import com.inventory.enums.RollupGranularity;
+import com.inventory.pricing.BulkRepricer;
+import com.inventory.service.DemandVelocityService;
+import com.inventory.service.LocationService;
 import com.inventory.service.ProductService;
 import com.inventory.service.StockMovementService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,18 +31,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -37,10 +61,20 @@ public class ProductController {
 
     private final ProductService productService;
     private final StockMovementService stockMovementService;
+    private final DemandVelocityService demandVelocityService;
+    private final LocationService locationService;
+    private final ProductArchive productArchive;
+    private final BulkRepricer bulkRepricer;
 
-    public ProductController(ProductService productService, StockMovementService stockMovementService) {
+    public ProductController(ProductService productService, StockMovementService stockMovementService,
+                             DemandVelocityService demandVelocityService, LocationService locationService,
+                             ProductArchive productArchive, BulkRepricer bulkRepricer) {
         this.productService = productService;
         this.stockMovementService = stockMovementService;
+        this.demandVelocityService = demandVelocityService;
+        this.locationService = locationService;
+        this.productArchive = productArchive;
+        this.bulkRepricer = bulkRepricer;
     }
 
     @Operation(
@@ -71,46 +105,109 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Products retrieved successfully")
     })
     @GetMapping
-    public ResponseEntity<Page<ProductResponse>> getAllProducts(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<ProductResponse> products = productService.getAllProducts(pageable);
+    public ResponseEntity<Slice<ProductResponse>> getAllProducts(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Total count mode: EXACT (counted in parallel), ESTIMATED (planner statistics) or NONE (slice without total). Omit for a standard page")
+            @RequestParam(required = false) CountMode count) {
+        Slice<ProductResponse> products = count == null
+                ? productService.getAllProducts(pageable)
+                : productService.getAllProducts(pageable, count);
         return ResponseEntity.ok(products);
     }
 
     @Operation(
             summary = "Get product by ID",
-            description = "Retrieves a specific product by its unique identifier"
+            description = "Retrieves a specific product by its unique identifier. " +
+                    "Supports If-None-Match with the ETag of a previous response."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Product found",
                     content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Product not modified since the given ETag",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Product not found",
                     content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(
+    public ResponseEntity<?> getProductById(
             @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of a previously retrieved representation", example = "\"3.1\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (ifNoneMatch != null) {
+            Optional<String> cachedTag = productService.findProductTag(id);
+            if (ConditionalRequests.matches(ifNoneMatch, cachedTag.orElse(null), false)) {
+                return ConditionalRequests.notModified(cachedTag.get());
+            }
+            String gzipTag = cachedTag.map(tag -> tag + ProductPayloadCache.GZIP_TAG_SUFFIX).orElse(null);
+            if (ConditionalRequests.matches(ifNoneMatch, gzipTag, false)) {
+                return ConditionalRequests.notModified(gzipTag);
+            }
+        }
+
+        // Serve pre-serialized bytes when the payload cache is enabled and holds the current version
+        Optional<ProductPayload> payload = productService.findProductPayload(id);
+        if (payload.isPresent()) {
+            return payloadResponse(payload.get(), ifNoneMatch, acceptEncoding);
+        }
+
+        // The tag index was cold above, so the current tag is only known once the product is loaded
         ProductResponse product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        payload = productService.findProductPayload(id);
+        if (payload.isPresent()) {
+            return payloadResponse(payload.get(), ifNoneMatch, acceptEncoding);
+        }
+        return ConditionalRequests.ok(product, productService.findProductTag(id), ifNoneMatch);
     }
 
     @Operation(
             summary = "Get product by SKU",
-            description = "Retrieves a specific product by its Stock Keeping Unit (SKU)"
+            description = "Retrieves a specific product by its Stock Keeping Unit (SKU). " +
+                    "Supports If-None-Match with the ETag of a previous response."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Product found",
                     content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Product not modified since the given ETag",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Product not found",
                     content = @Content)
     })
     @GetMapping("/sku/{sku}")
     public ResponseEntity<ProductResponse> getProductBySku(
             @Parameter(description = "Product SKU identifier", required = true, example = "WM-LOG-MX3-001")
-            @PathVariable @NotBlank @Size(max = 50, message = "SKU must not exceed 50 characters") String sku) {
+            @PathVariable @NotBlank @Size(max = 50, message = "SKU must not exceed 50 characters") String sku,
+            @Parameter(description = "ETag of a previously retrieved representation", example = "\"3.1\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> cachedTag = productService.findProductTagBySku(sku);
+            if (ConditionalRequests.matches(ifNoneMatch, cachedTag.orElse(null), false)) {
+                return ConditionalRequests.notModified(cachedTag.get());
+            }
+        }
+
         ProductResponse product = productService.getProductBySku(sku);
-        return ResponseEntity.ok(product);
+        return ConditionalRequests.ok(product, productService.findProductTagBySku(sku), ifNoneMatch);
+    }
+
+    @Operation(
+            summary = "Look up products in batch",
+            description = "Fetches up to 5000 products by ID or by SKU in one call. Results follow the request order, " +
+                          "one per requested key, and keys without an active product are marked as not found"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lookup completed",
+                    content = @Content(schema = @Schema(implementation = ProductLookupResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid lookup request",
+                    content = @Content)
+    })
+    @PostMapping("/lookup")
+    public ResponseEntity<ProductLookupResponse> lookupProducts(
+            @Parameter(description = "Product IDs or SKUs to fetch", required = true)
+            @Valid @RequestBody ProductLookupRequest request) {
+        return ResponseEntity.ok(productService.lookupProducts(request));
     }
 
     @Operation(
@@ -124,17 +221,22 @@ public class ProductController {
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Product not found",
                     content = @Content),
-            @ApiResponse(responseCode = "409", description = "SKU already exists",
+            @ApiResponse(responseCode = "409", description = "SKU already exists, or product changed by a concurrent update",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "Product changed since the ETag given in If-Match",
                     content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> updateProduct(
             @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
+            @Parameter(description = "Only update when the product still has this ETag", example = "\"3.1\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Updated product data", required = true)
             @Valid @RequestBody UpdateProductRequest request) {
-        ProductResponse response = productService.updateProduct(id, request);
-        return ResponseEntity.ok(response);
+        ProductResponse response = productService.updateProduct(id, request,
+                tag -> ifMatch == null || ConditionalRequests.matches(ifMatch, tag, true));
+        return ConditionalRequests.ok(response, productService.resolveProductTag(id), null);
     }
 
     @Operation(
@@ -157,6 +259,46 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "Restore archived product",
+            description = "Moves a product archived after its soft delete back into the catalog, with its suppliers and " +
+                          "stock movements, active again under its original SKU"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Product restored successfully",
+                    content = @Content(schema = @Schema(implementation = ProductResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No archived product with this ID",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "An active product already uses the SKU",
+                    content = @Content)
+    })
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<ProductResponse> restoreArchivedProduct(
+            @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(productArchive.restore(id));
+    }
+
+    @Operation(
+            summary = "Update prices in bulk",
+            description = "Sets new prices for products by SKU, or changes the price of every active product matching " +
+                          "a filter by a percentage. SKUs that match no active product are reported, not rejected"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Prices updated",
+                    content = @Content(schema = @Schema(implementation = BulkPriceUpdateResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid price data",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too much bulk work in progress",
+                    content = @Content)
+    })
+    @PostMapping("/prices")
+    public ResponseEntity<BulkPriceUpdateResponse> updatePrices(
+            @Parameter(description = "New prices by SKU, or a filter with a percentage change", required = true)
+            @Valid @RequestBody BulkPriceUpdateRequest request) {
+        return ResponseEntity.ok(bulkRepricer.reprice(request));
+    }
+
     @Operation(
             summary = "Advanced product search",
             description = "Searches products using multiple filters including text fields, price ranges, and stock levels. " +
@@ -166,7 +308,7 @@ public class ProductController {
             @ApiResponse(responseCode = "200", description = "Search completed successfully")
     })
     @GetMapping("/search")
-    public ResponseEntity<Page<ProductResponse>> searchProducts(
+    public ResponseEntity<Slice<ProductResponse>> searchProducts(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @Parameter(description = "Filter by product name (partial match)", example = "mouse")
             @RequestParam(required = false) @Size(max = 100, message = "Name must not exceed 100 characters") String name,
@@ -185,15 +327,58 @@ public class ProductController {
             @Parameter(description = "Maximum stock quantity filter", example = "100")
             @RequestParam(required = false) Integer maxStock,
             @Parameter(description = "Filter products with stock below minimum level", example = "true")
+            @RequestParam(required = false) Boolean lowStock,
+            @Parameter(description = "Total count mode: EXACT (counted in parallel), ESTIMATED (planner statistics) or NONE (slice without total). Omit for a standard page")
+            @RequestParam(required = false) CountMode count) {
+
+        Slice<ProductResponse> products = count == null
+                ? productService.searchProducts(
+                        name, category, sku, description,
+                        minPrice, maxPrice, minStock, maxStock,
+                        lowStock, pageable)
+                : productService.searchProducts(
+                        name, category, sku, description,
+                        minPrice, maxPrice, minStock, maxStock,
+                        lowStock, pageable, count);
+
+        return ResponseEntity.ok(products);
+    }
+
+    @Operation(
+            summary = "Product search with facet counts",
+            description = "Same filters as the advanced search. Returns the requested page together with category, " +
+                    "price range, low stock and supplier counts over all matching products"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Search completed successfully",
+                    content = @Content(schema = @Schema(implementation = FacetedProductSearchResponse.class)))
+    })
+    @GetMapping("/search/faceted")
+    public ResponseEntity<FacetedProductSearchResponse> searchProductsWithFacets(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Filter by product name (partial match)", example = "mouse")
+            @RequestParam(required = false) @Size(max = 100, message = "Name must not exceed 100 characters") String name,
+            @Parameter(description = "Filter by category", example = "electronics")
+            @RequestParam(required = false) @Size(max = 50, message = "Category must not exceed 50 characters") String category,
+            @Parameter(description = "Filter by SKU (partial match)", example = "WM-LOG")
+            @RequestParam(required = false) @Size(max = 50, message = "SKU must not exceed 50 characters") String sku,
+            @Parameter(description = "Filter by description (partial match)", example = "wireless")
+            @RequestParam(required = false) @Size(max = 500, message = "Description must not exceed 500 characters") String description,
+            @Parameter(description = "Minimum price filter", example = "50.00")
+            @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price filter", example = "200.00")
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Minimum stock quantity filter", example = "10")
+            @RequestParam(required = false) Integer minStock,
+            @Parameter(description = "Maximum stock quantity filter", example = "100")
+            @RequestParam(required = false) Integer maxStock,
+            @Parameter(description = "Filter products with stock below minimum level", example = "true")
             @RequestParam(required = false) Boolean lowStock) {
 
-        Page<ProductResponse> products = productService.searchProducts(
+        return ResponseEntity.ok(productService.searchProductsWithFacets(
                 name, category, sku, description,
                 minPrice, maxPrice, minStock, maxStock,
-                lowStock, pageable
-        );
-
-        return ResponseEntity.ok(products);
+                lowStock, pageable));
     }
 
     @Operation(
@@ -228,11 +413,127 @@ public class ProductController {
                     content = @Content)
     })
     @GetMapping("/{id}/stock-movements")
-    public ResponseEntity<Page<StockMovementResponse>> getProductStockMovements(
+    public ResponseEntity<Slice<StockMovementResponse>> getProductStockMovements(
             @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<StockMovementResponse> movements = stockMovementService.getMovementsByProductId(id, pageable);
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Total count mode: EXACT (counted in parallel), ESTIMATED (planner statistics) or NONE (slice without total). Omit for a standard page")
+            @RequestParam(required = false) CountMode count) {
+        Slice<StockMovementResponse> movements = count == null
+                ? stockMovementService.getMovementsByProductId(id, pageable)
+                : stockMovementService.getMovementsByProductId(id, pageable, count);
         return ResponseEntity.ok(movements);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Get product stock movement series",
+            description = "Returns the product's movement count and quantity per day, week or month, movement type and reason, "
+                    + "read from daily rollups. Defaults to the last 30 days"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Movement series retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "From date after to date",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Product not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/stock-movements/rollups")
+    public ResponseEntity<MovementSeriesResponse> getProductMovementSeries(
+            @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "First day (ISO date), default 29 days before to", example = "2026-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (ISO date), default today", example = "2026-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Period length: DAY, WEEK (starting Monday) or MONTH")
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(stockMovementService.getMovementSeries(id, start, end, granularity));
+    }
+
+    @Operation(
+            summary = "Get product stock by location",
+            description = "Returns the product's stock at each location it has moved at; the quantities add up to "
+                    + "its stock quantity"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stock retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Product not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<List<LocationStockResponse>> getProductStock(
+            @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(locationService.getProductStock(id));
+    }
+
+    @Operation(
+            summary = "Get product sales velocity",
+            description = "Returns the exponentially weighted average of units sold per day and the days of cover "
+                    + "left at that rate"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Velocity retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Product not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/velocity")
+    public ResponseEntity<DemandVelocityResponse> getProductVelocity(
+            @Parameter(description = "Product unique identifier", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(demandVelocityService.getVelocity(id));
+    }
+
+    @Operation(
+            summary = "List products with the lowest cover",
+            description = "Returns active products with sales, ordered by the days their stock lasts at the current "
+                    + "sales velocity, fewest first"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range",
+                    content = @Content)
+    })
+    @GetMapping("/velocity/lowest-cover")
+    public ResponseEntity<List<DemandVelocityResponse>> getLowestCoverProducts(
+            @Parameter(description = "Number of products to return (1-500)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(500) int limit) {
+        return ResponseEntity.ok(demandVelocityService.getLowestCover(limit));
+    }
+
+    private static ResponseEntity<byte[]> payloadResponse(ProductPayload payload, String ifNoneMatch,
+                                                          String acceptEncoding) {
+        boolean gzip = payload.hasGzip() && acceptsGzip(acceptEncoding);
+        String gzipTag = payload.tag() + ProductPayloadCache.GZIP_TAG_SUFFIX;
+        String tag = gzip ? gzipTag : payload.tag();
+        // Both encodings' tags name the same version
+        if (ConditionalRequests.matches(ifNoneMatch, payload.tag(), false)
+                || ConditionalRequests.matches(ifNoneMatch, gzipTag, false)) {
+            return ConditionalRequests.notModified(tag);
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(tag);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzipped());
+        }
+        return builder.body(payload.json());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -2,6 +2,11 @@ package com.inventory.controller;
 
 import com.inventory.dto.request.CreateStockMovementRequest;
 import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.StockMovementTicketResponse;
+import com.inventory.enums.CountMode;
+import com.inventory.exception.TicketNotFoundException;
+import com.inventory.ingestion.StockMovementIngestor;
+import com.inventory.ingestion.StockMovementTicket;
 import com.inventory.service.StockMovementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,45 +16,96 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 @RestController
 @RequestMapping("/api/v1/stock-movements")
 @Tag(name = "Stock Movements", description = "Stock movement tracking and audit operations")
 public class StockMovementController {
 
+    private static final int MAX_WAIT_SECONDS = 30;
+
     private final StockMovementService stockMovementService;
+    private final StockMovementIngestor stockMovementIngestor;
 
-    public StockMovementController(StockMovementService stockMovementService) {
+    public StockMovementController(StockMovementService stockMovementService,
+                                   StockMovementIngestor stockMovementIngestor) {
         this.stockMovementService = stockMovementService;
+        this.stockMovementIngestor = stockMovementIngestor;
     }
 
     @Operation(
             summary = "Create stock movement",
-            description = "Records a new stock movement (IN/OUT) for a product with reason and quantity tracking"
+            description = "Records a new stock movement (IN/OUT) for a product at a location, the default one unless given, with reason and quantity tracking. "
+                    + "With 'Prefer: respond-async' the movement is queued and a ticket is returned instead"
     )
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Stock movement created successfully",
                     content = @Content(schema = @Schema(implementation = StockMovementResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Stock movement queued for asynchronous ingestion",
+                    content = @Content(schema = @Schema(implementation = StockMovementTicketResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid movement data or insufficient stock",
                     content = @Content),
-            @ApiResponse(responseCode = "404", description = "Product not found",
+            @ApiResponse(responseCode = "404", description = "Product or location not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Ingestion queue full",
                     content = @Content)
     })
     @PostMapping
-    public ResponseEntity<StockMovementResponse> createStockMovement(
+    public ResponseEntity<?> createStockMovement(
+            @Parameter(description = "Send 'respond-async' to queue the movement and receive a ticket")
+            @RequestHeader(value = "Prefer", required = false) String prefer,
             @Parameter(description = "Stock movement data including product, type, quantity and reason", required = true)
             @Valid @RequestBody CreateStockMovementRequest request) {
+        if (prefer != null && prefer.toLowerCase(Locale.ROOT).contains("respond-async") && stockMovementIngestor.isEnabled()) {
+            StockMovementTicket ticket = stockMovementIngestor.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/stock-movements/tickets/" + ticket.getId()))
+                    .header("Preference-Applied", "respond-async")
+                    .body(ticket.toResponse());
+        }
         StockMovementResponse response = stockMovementService.createStockMovement(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(
+            summary = "Get stock movement ticket",
+            description = "Returns the status of a movement submitted asynchronously. With wait, the response is held "
+                    + "until the movement is applied or rejected, for at most that many seconds"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ticket status retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Ticket not found or expired",
+                    content = @Content)
+    })
+    @GetMapping("/tickets/{ticketId}")
+    public CompletableFuture<ResponseEntity<StockMovementTicketResponse>> getTicket(
+            @Parameter(description = "Ticket identifier", required = true)
+            @PathVariable UUID ticketId,
+            @Parameter(description = "Seconds to wait for completion (max 30)", example = "5")
+            @RequestParam(defaultValue = "0") int wait) {
+        StockMovementTicket ticket = stockMovementIngestor.find(ticketId)
+                .orElseThrow(() -> new TicketNotFoundException(ticketId));
+        if (wait <= 0 || ticket.outcome().isDone()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(ticket.toResponse()));
+        }
+        return ticket.outcome().copy()
+                .completeOnTimeout(ticket.toResponse(), Math.min(wait, MAX_WAIT_SECONDS), TimeUnit.SECONDS)
+                .thenApply(ResponseEntity::ok);
+    }
+
     @Operation(
             summary = "Get all stock movements",
             description = "Retrieves a paginated list of all stock movements ordered by creation date (most recent first)"
@@ -58,9 +114,13 @@ public class StockMovementController {
             @ApiResponse(responseCode = "200", description = "Stock movements retrieved successfully")
     })
     @GetMapping
-    public ResponseEntity<Page<StockMovementResponse>> getAllMovements(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<StockMovementResponse> movements = stockMovementService.getAllMovements(pageable);
+    public ResponseEntity<Slice<StockMovementResponse>> getAllMovements(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Total count mode: EXACT (counted in parallel), ESTIMATED (planner statistics) or NONE (slice without total). Omit for a standard page")
+            @RequestParam(required = false) CountMode count) {
+        Slice<StockMovementResponse> movements = count == null
+                ? stockMovementService.getAllMovements(pageable)
+                : stockMovementService.getAllMovements(pageable, count);
         return ResponseEntity.ok(movements);
     }
 }
\ No newline at end of file
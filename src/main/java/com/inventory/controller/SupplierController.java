@@ -1,11 +1,19 @@
 package com.inventory.controller;
 
+import com.inventory.assignment.SupplierProductAssigner;
+import com.inventory.assignment.SupplierProductAssignment;
 import com.inventory.dto.request.CreateSupplierRequest;
+import com.inventory.dto.request.SupplierProductAssignmentRequest;
 import com.inventory.dto.request.UpdateSupplierRequest;
 import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.ReplenishmentSuggestionResponse;
+import com.inventory.dto.response.SupplierProductAssignmentResponse;
 import com.inventory.dto.response.SupplierResponse;
+import com.inventory.enums.CountMode;
 import com.inventory.enums.SupplierStatus;
 import com.inventory.enums.SupplierType;
+import com.inventory.exception.AssignmentNotFoundException;
+import com.inventory.service.ReplenishmentService;
 import com.inventory.service.SupplierService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,15 +26,23 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1/suppliers")
@@ -34,10 +50,17 @@ import java.util.UUID;
 @Tag(name = "Suppliers", description = "Supplier management operations and relationships")
 public class SupplierController {
 
+    private static final int MAX_WAIT_SECONDS = 30;
+
     private final SupplierService supplierService;
+    private final ReplenishmentService replenishmentService;
+    private final SupplierProductAssigner supplierProductAssigner;
 
-    public SupplierController(SupplierService supplierService) {
+    public SupplierController(SupplierService supplierService, ReplenishmentService replenishmentService,
+                              SupplierProductAssigner supplierProductAssigner) {
         this.supplierService = supplierService;
+        this.replenishmentService = replenishmentService;
+        this.supplierProductAssigner = supplierProductAssigner;
     }
 
     @Operation(
@@ -68,28 +91,44 @@ public class SupplierController {
             @ApiResponse(responseCode = "200", description = "Suppliers retrieved successfully")
     })
     @GetMapping
-    public ResponseEntity<Page<SupplierResponse>> getAllSuppliers(
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<SupplierResponse> suppliers = supplierService.getAllSuppliers(pageable);
+    public ResponseEntity<Slice<SupplierResponse>> getAllSuppliers(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "Total count mode: EXACT (counted in parallel), ESTIMATED (planner statistics) or NONE (slice without total). Omit for a standard page")
+            @RequestParam(required = false) CountMode count) {
+        Slice<SupplierResponse> suppliers = count == null
+                ? supplierService.getAllSuppliers(pageable)
+                : supplierService.getAllSuppliers(pageable, count);
         return ResponseEntity.ok(suppliers);
     }
 
     @Operation(
             summary = "Get supplier by ID",
-            description = "Retrieves a specific supplier by its unique identifier"
+            description = "Retrieves a specific supplier by its unique identifier. " +
+                    "Supports If-None-Match with the ETag of a previous response."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Supplier found",
                     content = @Content(schema = @Schema(implementation = SupplierResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Supplier not modified since the given ETag",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Supplier not found",
                     content = @Content)
     })
     @GetMapping("/{id}")
     public ResponseEntity<SupplierResponse> getSupplierById(
             @Parameter(description = "Supplier unique identifier", required = true, example = "456e1234-e89b-12d3-a456-426614174001")
-            @PathVariable UUID id) {
+            @PathVariable UUID id,
+            @Parameter(description = "ETag of a previously retrieved representation", example = "\"2\"")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> cachedTag = supplierService.findSupplierTag(id);
+            if (ConditionalRequests.matches(ifNoneMatch, cachedTag.orElse(null), false)) {
+                return ConditionalRequests.notModified(cachedTag.get());
+            }
+        }
+
         SupplierResponse supplier = supplierService.getSupplierById(id);
-        return ResponseEntity.ok(supplier);
+        return ConditionalRequests.ok(supplier, supplierService.findSupplierTag(id), ifNoneMatch);
     }
 
     @Operation(
@@ -102,16 +141,23 @@ public class SupplierController {
             @ApiResponse(responseCode = "400", description = "Invalid supplier data",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Supplier not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Supplier changed by a concurrent update",
+                    content = @Content),
+            @ApiResponse(responseCode = "412", description = "Supplier changed since the ETag given in If-Match",
                     content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<SupplierResponse> updateSupplier(
             @Parameter(description = "Supplier unique identifier", required = true, example = "456e1234-e89b-12d3-a456-426614174001")
             @PathVariable UUID id,
+            @Parameter(description = "Only update when the supplier still has this ETag", example = "\"2\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Updated supplier data", required = true)
             @Valid @RequestBody UpdateSupplierRequest request) {
-        SupplierResponse supplier = supplierService.updateSupplier(id, request);
-        return ResponseEntity.ok(supplier);
+        SupplierResponse supplier = supplierService.updateSupplier(id, request,
+                tag -> ifMatch == null || ConditionalRequests.matches(ifMatch, tag, true));
+        return ConditionalRequests.ok(supplier, supplierService.resolveSupplierTag(id), null);
     }
 
     @Operation(
@@ -122,7 +168,7 @@ public class SupplierController {
             @ApiResponse(responseCode = "200", description = "Search completed successfully")
     })
     @GetMapping("/search")
-    public ResponseEntity<Page<SupplierResponse>> searchSuppliers(
+    public ResponseEntity<Slice<SupplierResponse>> searchSuppliers(
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @Parameter(description = "Filter by supplier name (partial match)")
             @RequestParam(required = false) @Size(max = 150, message = "Name must not exceed 150 characters") String name,
@@ -143,13 +189,19 @@ public class SupplierController {
             @Parameter(description = "Minimum delivery days filter")
             @RequestParam(required = false) Integer minDeliveryDays,
             @Parameter(description = "Maximum delivery days filter")
-            @RequestParam(required = false) Integer maxDeliveryDays) {
+            @RequestParam(required = false) Integer maxDeliveryDays,
+            @Parameter(description = "Total count mode: EXACT (counted in parallel), ESTIMATED (planner statistics) or NONE (slice without total). Omit for a standard page")
+            @RequestParam(required = false) CountMode count) {
 
-        Page<SupplierResponse> suppliers = supplierService.searchSuppliers(
-                name, email, city, country,
-                status, supplierType, minRating, maxRating,
-                minDeliveryDays, maxDeliveryDays, pageable
-        );
+        Slice<SupplierResponse> suppliers = count == null
+                ? supplierService.searchSuppliers(
+                        name, email, city, country,
+                        status, supplierType, minRating, maxRating,
+                        minDeliveryDays, maxDeliveryDays, pageable)
+                : supplierService.searchSuppliers(
+                        name, email, city, country,
+                        status, supplierType, minRating, maxRating,
+                        minDeliveryDays, maxDeliveryDays, pageable, count);
 
         return ResponseEntity.ok(suppliers);
     }
@@ -171,4 +223,80 @@ public class SupplierController {
         Page<ProductResponse> products = supplierService.getSupplierProducts(id, pageable);
         return ResponseEntity.ok(products);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Assign products to a supplier in bulk",
+            description = "Links the given products, or every active product matching a filter, to the supplier, "
+                    + "or unlinks them. Runs in the background in chunks; poll the returned location for progress"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Assignment queued",
+                    content = @Content(schema = @Schema(implementation = SupplierProductAssignmentResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid assignment data",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Supplier not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many assignments queued",
+                    content = @Content)
+    })
+    @PostMapping("/{id}/products/assignments")
+    public ResponseEntity<SupplierProductAssignmentResponse> assignProducts(
+            @Parameter(description = "Supplier unique identifier", required = true, example = "456e1234-e89b-12d3-a456-426614174001")
+            @PathVariable UUID id,
+            @Parameter(description = "Action and the products it applies to", required = true)
+            @Valid @RequestBody SupplierProductAssignmentRequest request) {
+        SupplierProductAssignment assignment = supplierProductAssigner.submit(id, request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/suppliers/" + id + "/products/assignments/" + assignment.getId()))
+                .body(assignment.toResponse());
+    }
+
+    @Operation(
+            summary = "Get bulk assignment progress",
+            description = "Returns the progress of a bulk product assignment. With wait, the response is held "
+                    + "until the assignment finishes, for at most that many seconds"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Assignment progress retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Assignment not found or expired",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/products/assignments/{assignmentId}")
+    public CompletableFuture<ResponseEntity<SupplierProductAssignmentResponse>> getAssignment(
+            @Parameter(description = "Supplier unique identifier", required = true, example = "456e1234-e89b-12d3-a456-426614174001")
+            @PathVariable UUID id,
+            @Parameter(description = "Assignment identifier", required = true)
+            @PathVariable UUID assignmentId,
+            @Parameter(description = "Seconds to wait for completion (max 30)", example = "5")
+            @RequestParam(defaultValue = "0") int wait) {
+        SupplierProductAssignment assignment = supplierProductAssigner.find(id, assignmentId)
+                .orElseThrow(() -> new AssignmentNotFoundException(assignmentId));
+        if (wait <= 0 || assignment.outcome().isDone()) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok(assignment.toResponse()));
+        }
+        // On timeout, report the progress made while waiting
+        return assignment.outcome().copy()
+                .completeOnTimeout(null, Math.min(wait, MAX_WAIT_SECONDS), TimeUnit.SECONDS)
+                .thenApply(outcome -> ResponseEntity.ok(outcome != null ? outcome : assignment.toResponse()));
+    }
+
+    @Operation(
+            summary = "Get replenishment suggestions for a supplier",
+            description = "Retrieves the products to reorder from this supplier according to a replenishment run, "
+                    + "the latest one unless a date is given"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Supplier not found",
+                    content = @Content)
+    })
+    @GetMapping("/{id}/replenishment-suggestions")
+    public ResponseEntity<Page<ReplenishmentSuggestionResponse>> getReplenishmentSuggestions(
+            @Parameter(description = "Supplier unique identifier", required = true, example = "456e1234-e89b-12d3-a456-426614174001")
+            @PathVariable UUID id,
+            @Parameter(description = "Day of the replenishment run (ISO date), default the latest run", example = "2026-01-15")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @PageableDefault(size = 20, sort = "suggestedQuantity", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(replenishmentService.getSuggestions(id, date, pageable));
+    }
+}
@@ -0,0 +1,40 @@
+package com.inventory.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Request to change the prices of many products at once")
+public record BulkPriceUpdateRequest(
+
+        @Schema(description = "New prices by SKU; give either these or a filter with a percentage change")
+        @Size(max = 100000, message = "At most 100000 prices can be given per request")
+        List<@Valid SkuPriceRequest> prices,
+
+        @Schema(description = "Reprice every active product matching these filters")
+        @Valid
+        ProductFilterRequest filter,
+
+        @Schema(description = "Percentage applied to the current price of every product matching the filter",
+                example = "-12.5")
+        @DecimalMin(value = "-99.99", message = "Percentage change must be greater than -100")
+        @DecimalMax(value = "1000", message = "Percentage change must not exceed 1000")
+        @Digits(integer = 4, fraction = 2, message = "Percentage change must have at most 2 decimal places")
+        BigDecimal percentChange
+) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "Either prices or filter with percentChange is required, but not both")
+    public boolean isSingleTarget() {
+        return prices != null ? filter == null && percentChange == null : filter != null && percentChange != null;
+    }
+}
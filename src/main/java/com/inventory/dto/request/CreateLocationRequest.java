@@ -0,0 +1,20 @@
+package com.inventory.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+@Schema(description = "Request to create a stock location")
+public record CreateLocationRequest(
+
+        @Schema(description = "Short unique code of the location", example = "WH-NORTH", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Location code is required")
+        @Size(max = 20, message = "Location code must not exceed 20 characters")
+        @Pattern(regexp = "^[A-Z0-9-]+$", message = "Location code must contain only uppercase letters, numbers, and hyphens")
+        String code,
+
+        @Schema(description = "Location name", example = "North Warehouse", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Location name is required")
+        @Size(max = 100, message = "Location name must not exceed 100 characters")
+        String name
+) {
+}
@@ -33,6 +33,14 @@ public record CreateStockMovementRequest(
 
         @Schema(description = "Additional notes", example = "Bulk purchase for Q1 inventory")
         @Size(max = 500, message = "Notes must not exceed 500 characters")
-        String notes
+        String notes,
+
+        @Schema(description = "Location the stock moves at; the default location when omitted", example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+        UUID locationId
 ) {
+
+    public CreateStockMovementRequest(UUID productId, MovementType movementType, Integer quantity, MovementReason reason,
+                                      String reference, String notes) {
+        this(productId, movementType, quantity, reason, reference, notes, null);
+    }
 }
\ No newline at end of file
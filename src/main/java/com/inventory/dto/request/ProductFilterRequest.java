@@ -0,0 +1,42 @@
+package com.inventory.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+@Schema(description = "Product filters, as accepted by the product search")
+public record ProductFilterRequest(
+
+        @Schema(description = "Product name (partial match)", example = "mouse")
+        @Size(max = 100, message = "Name must not exceed 100 characters")
+        String name,
+
+        @Schema(description = "Product category", example = "Electronics")
+        @Size(max = 50, message = "Category must not exceed 50 characters")
+        String category,
+
+        @Schema(description = "SKU (partial match)", example = "WM-LOG")
+        @Size(max = 50, message = "SKU must not exceed 50 characters")
+        String sku,
+
+        @Schema(description = "Description (partial match)", example = "wireless")
+        @Size(max = 500, message = "Description must not exceed 500 characters")
+        String description,
+
+        @Schema(description = "Minimum price", example = "10.00")
+        BigDecimal minPrice,
+
+        @Schema(description = "Maximum price", example = "100.00")
+        BigDecimal maxPrice,
+
+        @Schema(description = "Minimum stock quantity", example = "0")
+        Integer minStock,
+
+        @Schema(description = "Maximum stock quantity", example = "100")
+        Integer maxStock,
+
+        @Schema(description = "Only products at or below their minimum stock level", example = "false")
+        Boolean lowStock
+) {
+}
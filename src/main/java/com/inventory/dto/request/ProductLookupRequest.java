@@ -0,0 +1,32 @@
+package com.inventory.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Request to fetch many products at once by ID or by SKU")
+public record ProductLookupRequest(
+
+        @Schema(description = "Product IDs to fetch; give either these or SKUs",
+                example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+        @Size(min = 1, max = 5000, message = "Between 1 and 5000 product IDs can be looked up at once")
+        List<@NotNull(message = "Product ID must not be null") UUID> ids,
+
+        @Schema(description = "SKUs to fetch; give either these or product IDs", example = "[\"WM-LOG-MX3S-001\"]")
+        @Size(min = 1, max = 5000, message = "Between 1 and 5000 SKUs can be looked up at once")
+        List<@NotBlank(message = "SKU must not be blank") String> skus
+) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "Either ids or skus is required, but not both")
+    public boolean isSingleKind() {
+        return (ids != null) != (skus != null);
+    }
+}
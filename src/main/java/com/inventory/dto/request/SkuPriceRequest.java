@@ -0,0 +1,26 @@
+package com.inventory.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+@Schema(description = "New price for the product with a SKU")
+public record SkuPriceRequest(
+
+        @Schema(description = "Stock Keeping Unit", example = "WM-LOG-MX3S-001", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "SKU is required")
+        @Size(max = 50, message = "SKU must not exceed 50 characters")
+        String sku,
+
+        @Schema(description = "New unit price", example = "139.99", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Price is required")
+        @DecimalMin(value = "0.01", message = "Price must be greater than 0")
+        @Digits(integer = 8, fraction = 2, message = "Price must have at most 8 integer digits and 2 decimal places")
+        BigDecimal price
+) {
+}
@@ -0,0 +1,37 @@
+package com.inventory.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.inventory.enums.AssignmentAction;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Request to link products to a supplier, or unlink them, in bulk")
+public record SupplierProductAssignmentRequest(
+
+        @Schema(description = "Whether to add or remove the supplier", example = "ADD", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Action is required")
+        AssignmentAction action,
+
+        @Schema(description = "Products to link or unlink; give either these or a filter",
+                example = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+        @Size(max = 100000, message = "At most 100000 product IDs can be given, use a filter for more")
+        List<UUID> productIds,
+
+        @Schema(description = "Link or unlink every active product matching these filters")
+        @Valid
+        ProductFilterRequest filter
+) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "Either productIds or filter is required, but not both")
+    public boolean isSingleTarget() {
+        return (productIds != null) != (filter != null);
+    }
+}
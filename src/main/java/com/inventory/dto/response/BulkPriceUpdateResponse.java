@@ -0,0 +1,21 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk price update")
+public record BulkPriceUpdateResponse(
+        @Schema(description = "Distinct SKUs given, or products matching the filter", example = "50000")
+        long requestedProducts,
+        @Schema(description = "Products whose price was written", example = "49990")
+        long updatedProducts,
+        @Schema(description = "Products left unchanged because the new price would be out of range (percentage change)",
+                example = "0")
+        long skippedProducts,
+        @Schema(description = "Given SKUs that match no active product", example = "[\"WM-LOG-MX3S-404\"]")
+        List<String> unknownSkus,
+        @Schema(description = "Time taken in milliseconds", example = "2150")
+        long elapsedMs
+) {
+}
@@ -0,0 +1,26 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Sales velocity of a product and how long its stock lasts at that rate")
+public record DemandVelocityResponse(
+        @Schema(description = "Product unique identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID productId,
+        @Schema(description = "Stock Keeping Unit", example = "WM-LOG-MX3-001")
+        String sku,
+        @Schema(description = "Product name", example = "Logitech MX Master 3 Mouse")
+        String name,
+        @Schema(description = "Current stock quantity", example = "42")
+        Integer stockQuantity,
+        @Schema(description = "Exponentially weighted average of units sold per day", example = "3.5")
+        double dailyVelocity,
+        @Schema(description = "Days until the stock runs out at the current velocity; null when the product has no sales",
+                example = "12.0")
+        Double daysOfCover,
+        @Schema(description = "Time of the most recent sale; null when the product has no sales")
+        LocalDateTime lastSaleAt
+) {
+}
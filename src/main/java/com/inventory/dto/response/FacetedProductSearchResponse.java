@@ -0,0 +1,13 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+@Schema(description = "Product search page together with facet counts for the whole result")
+public record FacetedProductSearchResponse(
+        @Schema(description = "Requested page of matching products")
+        Page<ProductResponse> results,
+        @Schema(description = "Facet counts over all matching products")
+        ProductFacetsResponse facets
+) {
+}
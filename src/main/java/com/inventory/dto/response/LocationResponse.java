@@ -0,0 +1,19 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Stock location")
+public record LocationResponse(
+        @Schema(description = "Location unique identifier", example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+        UUID id,
+        @Schema(description = "Location code", example = "WH-NORTH")
+        String code,
+        @Schema(description = "Location name", example = "North Warehouse")
+        String name,
+        @Schema(description = "Creation timestamp", example = "2024-01-15T10:30:00")
+        LocalDateTime createdAt
+) {
+}
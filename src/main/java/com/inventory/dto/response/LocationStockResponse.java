@@ -0,0 +1,25 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Units of a product held at one location")
+public record LocationStockResponse(
+        @Schema(description = "Location identifier", example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+        UUID locationId,
+        @Schema(description = "Location code", example = "WH-NORTH")
+        String locationCode,
+        @Schema(description = "Product identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID productId,
+        @Schema(description = "Product SKU", example = "WM-LOG-MX3-001")
+        String productSku,
+        @Schema(description = "Product name", example = "Wireless Mouse Logitech MX Master 3")
+        String productName,
+        @Schema(description = "Units at the location", example = "42")
+        int quantity,
+        @Schema(description = "Time of the last movement at the location", example = "2024-01-20T11:30:00")
+        LocalDateTime updatedAt
+) {
+}
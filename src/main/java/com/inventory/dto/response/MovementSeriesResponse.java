@@ -0,0 +1,40 @@
+package com.inventory.dto.response;
+
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.enums.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Stock movement volume of a product per period, movement type and reason")
+public record MovementSeriesResponse(
+        @Schema(description = "Product unique identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID productId,
+        @Schema(description = "Length of each period", example = "DAY")
+        RollupGranularity granularity,
+        @Schema(description = "First day covered, the start of the period containing the requested from date", example = "2026-01-01")
+        LocalDate from,
+        @Schema(description = "Last day covered, the end of the period containing the requested to date", example = "2026-01-31")
+        LocalDate to,
+        @Schema(description = "Periods with movements, in ascending order; periods without movements are omitted")
+        List<Point> points
+) {
+
+    @Schema(description = "Movements of one type and reason within one period")
+    public record Point(
+            @Schema(description = "First day of the period", example = "2026-01-05")
+            LocalDate period,
+            @Schema(description = "Movement type", example = "OUT")
+            MovementType movementType,
+            @Schema(description = "Movement reason", example = "SALE")
+            MovementReason reason,
+            @Schema(description = "Number of movements", example = "12")
+            long movements,
+            @Schema(description = "Total quantity moved", example = "340")
+            long quantity
+    ) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Facet counts over all products matching a search")
+public record ProductFacetsResponse(
+        @Schema(description = "Matching products per category, most frequent first")
+        List<ValueCount> categories,
+        @Schema(description = "Matching products per price range, in ascending price order")
+        List<PriceBucket> priceBuckets,
+        @Schema(description = "Matching products with (true) and without (false) low stock")
+        List<ValueCount> lowStock,
+        @Schema(description = "Matching products per supplier id, most frequent first")
+        List<ValueCount> suppliers
+) {
+
+    @Schema(description = "Number of matching products sharing a facet value")
+    public record ValueCount(
+            @Schema(description = "Facet value", example = "electronics")
+            String value,
+            @Schema(description = "Number of matching products", example = "42")
+            long count
+    ) {
+    }
+
+    @Schema(description = "Number of matching products priced in [from, to)")
+    public record PriceBucket(
+            @Schema(description = "Inclusive lower bound, absent for the first bucket", example = "25")
+            BigDecimal from,
+            @Schema(description = "Exclusive upper bound, absent for the last bucket", example = "50")
+            BigDecimal to,
+            @Schema(description = "Number of matching products", example = "17")
+            long count
+    ) {
+    }
+}
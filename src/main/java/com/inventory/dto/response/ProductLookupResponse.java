@@ -0,0 +1,27 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Products fetched by ID or SKU, one result per requested key in request order")
+public record ProductLookupResponse(
+        @Schema(description = "One result per requested ID or SKU, in request order")
+        List<Result> results,
+        @Schema(description = "Requested keys that matched an active product", example = "198")
+        int found,
+        @Schema(description = "Requested keys that matched no active product", example = "2")
+        int notFound
+) {
+
+    @Schema(description = "Outcome for one requested ID or SKU")
+    public record Result(
+            @Schema(description = "The ID or SKU as requested", example = "WM-LOG-MX3S-001")
+            String key,
+            @Schema(description = "Whether an active product matched the key", example = "true")
+            boolean found,
+            @Schema(description = "The product, null when not found")
+            ProductResponse product
+    ) {
+    }
+}
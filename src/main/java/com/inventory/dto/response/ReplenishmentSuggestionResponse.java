@@ -0,0 +1,31 @@
+package com.inventory.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Schema(description = "Reorder suggestion for a product from a replenishment run")
+public record ReplenishmentSuggestionResponse(
+        @Schema(description = "Day of the replenishment run", example = "2026-01-15")
+        LocalDate runDate,
+        @Schema(description = "Product unique identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID productId,
+        @Schema(description = "Stock Keeping Unit", example = "WM-LOG-MX3-001")
+        String sku,
+        @Schema(description = "Supplier to order from", example = "123e4567-e89b-12d3-a456-426614174001")
+        UUID supplierId,
+        @Schema(description = "Stock quantity when the run planned the suggestion", example = "4")
+        int stockQuantity,
+        @Schema(description = "Minimum stock level of the product", example = "5")
+        int minStockLevel,
+        @Schema(description = "Average units sold per day", example = "1.5")
+        double dailyVelocity,
+        @Schema(description = "Supplier's average delivery days", example = "7")
+        int leadTimeDays,
+        @Schema(description = "Stock level at or below which the product is reordered", example = "16")
+        int reorderPoint,
+        @Schema(description = "Quantity to order", example = "23")
+        int suggestedQuantity
+) {
+}
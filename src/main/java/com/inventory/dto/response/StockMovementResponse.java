@@ -17,13 +17,17 @@ public record StockMovementResponse(
         String productSku,
         @Schema(description = "Product name", example = "Wireless Mouse Logitech MX Master 3")
         String productName,
+        @Schema(description = "Location identifier", example = "5f0c7a52-3b1e-4c1e-9d0a-2b7f1a9e8c41")
+        UUID locationId,
+        @Schema(description = "Location code", example = "MAIN")
+        String locationCode,
         @Schema(description = "Type of movement", example = "IN")
         MovementType movementType,
         @Schema(description = "Quantity moved", example = "25")
         Integer quantity,
-        @Schema(description = "Stock level before movement", example = "20")
+        @Schema(description = "Stock level at the location before movement", example = "20")
         Integer previousStock,
-        @Schema(description = "Stock level after movement", example = "45")
+        @Schema(description = "Stock level at the location after movement", example = "45")
         Integer newStock,
         @Schema(description = "Reason for movement", example = "PURCHASE")
         MovementReason reason,
@@ -0,0 +1,28 @@
+package com.inventory.dto.response;
+
+import com.inventory.enums.IngestionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Outcome of a stock movement submitted for asynchronous ingestion")
+public record StockMovementTicketResponse(
+        @Schema(description = "Ticket identifier", example = "5f0c2a3e-8d1b-4f7a-9c3e-2b6d8e4f1a90")
+        UUID ticketId,
+        @Schema(description = "Ingestion status", example = "COMPLETED")
+        IngestionStatus status,
+        @Schema(description = "Product identifier", example = "123e4567-e89b-12d3-a456-426614174000")
+        UUID productId,
+        @Schema(description = "Submission timestamp", example = "2024-01-20T11:30:00")
+        LocalDateTime submittedAt,
+        @Schema(description = "Completion timestamp, absent while queued", example = "2024-01-20T11:30:00.042")
+        LocalDateTime completedAt,
+        @Schema(description = "Recorded movement when completed")
+        StockMovementResponse movement,
+        @Schema(description = "Error category when failed", example = "Insufficient Stock")
+        String error,
+        @Schema(description = "Error detail when failed")
+        String message
+) {
+}
@@ -0,0 +1,37 @@
+package com.inventory.dto.response;
+
+import com.inventory.enums.AssignmentAction;
+import com.inventory.enums.AssignmentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Progress of a bulk product-to-supplier assignment")
+public record SupplierProductAssignmentResponse(
+        @Schema(description = "Assignment identifier", example = "5f0c2a3e-8d1b-4f7a-9c3e-2b6d8e4f1a90")
+        UUID assignmentId,
+        @Schema(description = "Supplier identifier", example = "456e1234-e89b-12d3-a456-426614174001")
+        UUID supplierId,
+        @Schema(description = "Whether the supplier is being added or removed", example = "ADD")
+        AssignmentAction action,
+        @Schema(description = "Assignment status", example = "RUNNING")
+        AssignmentStatus status,
+        @Schema(description = "Products to process, absent until counted", example = "25000")
+        Long totalProducts,
+        @Schema(description = "Products processed so far", example = "12000")
+        long processedProducts,
+        @Schema(description = "Products whose supplier links changed", example = "11950")
+        long changedProducts,
+        @Schema(description = "Products left linked because the supplier is their only one (REMOVE)", example = "0")
+        long skippedProducts,
+        @Schema(description = "Submission timestamp", example = "2024-01-20T11:30:00")
+        LocalDateTime submittedAt,
+        @Schema(description = "Completion timestamp, absent while queued or running", example = "2024-01-20T11:30:04.250")
+        LocalDateTime completedAt,
+        @Schema(description = "Error category when failed", example = "Assignment Failed")
+        String error,
+        @Schema(description = "Error detail when failed")
+        String message
+) {
+}
@@ -0,0 +1,74 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A soft-deleted product moved out of {@code products} by {@link com.inventory.archive.ArchivalJob},
+ * column for column, together with its supplier links. Written and read back with set-based SQL;
+ * see {@link com.inventory.archive.ProductArchive}.
+ */
+@Entity
+@Table(name = "archived_products", indexes = {
+        @Index(name = "idx_archived_products_sku", columnList = "sku")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedProduct {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false, length = 100)
+    private String sku;
+
+    @Column(name = "original_sku", length = 50)
+    private String originalSku;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private Integer stockQuantity;
+
+    @Column(nullable = false)
+    private Integer minStockLevel;
+
+    @Column(length = 50)
+    private String category;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Boolean active;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @ElementCollection
+    @CollectionTable(name = "archived_product_suppliers", joinColumns = @JoinColumn(name = "product_id"))
+    @Column(name = "supplier_id", nullable = false)
+    private Set<UUID> supplierIds = new HashSet<>();
+}
@@ -0,0 +1,76 @@
+package com.inventory.entity;
+
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A stock movement of an archived (or still archiving) product, moved out of
+ * {@code stock_movements} column for column. Product and location are plain ids: the product
+ * row may already be in {@code archived_products}.
+ */
+@Entity
+@Table(name = "archived_stock_movements", indexes = {
+        @Index(name = "idx_archived_stock_movements_product", columnList = "product_id")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedStockMovement {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "location_id")
+    private UUID locationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false)
+    private MovementType movementType;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "previous_stock", nullable = false)
+    private Integer previousStock;
+
+    @Column(name = "new_stock", nullable = false)
+    private Integer newStock;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementReason reason;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "created_by", nullable = false, length = 100)
+    private String createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Boolean active;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
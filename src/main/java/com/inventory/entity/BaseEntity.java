@@ -3,6 +3,8 @@ package com.inventory.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,6 +29,12 @@ public abstract class BaseEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // Defaulted so ddl-auto=update can add the column to tables that already have rows
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -43,6 +51,10 @@ public abstract class BaseEntity {
         return deletedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public void softDelete() {
         this.deletedAt = LocalDateTime.now();
         this.active = false;
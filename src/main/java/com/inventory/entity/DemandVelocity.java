@@ -0,0 +1,40 @@
+package com.inventory.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Exponentially weighted sales of a product, kept as the logarithm of the sum of sold quantities
+ * each scaled by {@code e^(lambda * t)}, with {@code t} in days since a fixed epoch. A sale adds
+ * to it without reading anything else, and the velocity at any later time follows from the sum
+ * alone. See {@link com.inventory.velocity.DemandVelocityTracker}.
+ */
+@Entity
+@Table(name = "demand_velocities")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemandVelocity {
+
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Column(name = "log_weight", nullable = false)
+    private double logWeight;
+
+    // Days since the epoch of the first sale tracked, for the warm-up correction
+    @Column(name = "tracked_since", nullable = false)
+    private double trackedSince;
+
+    @Column(name = "last_sale_at", nullable = false)
+    private LocalDateTime lastSaleAt;
+}
@@ -0,0 +1,31 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number and total quantity of a product's stock movements of one type and reason at one location
+ * on one day.
+ * Derived from {@code stock_movements}: kept current by the transactions that record movements
+ * and rebuilt from history by the backfill.
+ */
+@Entity
+@Table(name = "movement_rollups", indexes = {
+        @Index(name = "idx_movement_rollups_product_date", columnList = "product_id, movement_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementRollup {
+
+    @EmbeddedId
+    private MovementRollupId id;
+
+    @Column(nullable = false)
+    private long movements;
+
+    @Column(nullable = false)
+    private long quantity;
+}
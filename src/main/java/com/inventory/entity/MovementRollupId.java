@@ -0,0 +1,39 @@
+package com.inventory.entity;
+
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementRollupId implements Serializable {
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "location_id", nullable = false)
+    private UUID locationId;
+
+    @Column(name = "movement_date", nullable = false)
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false)
+    private MovementType movementType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementReason reason;
+}
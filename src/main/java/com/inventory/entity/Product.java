@@ -1,17 +1,21 @@
 package com.inventory.entity;
 
+import com.inventory.search.ProductFilterIndexListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
 @Table(name = "products")
+@EntityListeners(ProductFilterIndexListener.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -47,13 +51,18 @@ public class Product extends BaseEntity {
     @Column(length = 50)
     private String category;
 
+    // A set rather than a bag: Hibernate then writes only the links added or removed, where a bag
+    // change deletes and re-inserts every row of the product
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "product_suppliers",
         joinColumns = @JoinColumn(name = "product_id"),
         inverseJoinColumns = @JoinColumn(name = "supplier_id")
     )
-    private List<Supplier> suppliers;
+    @OrderBy("name")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Set<Supplier> suppliers = new LinkedHashSet<>();
 
     public Product(String name, String sku, BigDecimal price) {
         this.name = name;
@@ -0,0 +1,33 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Units of a product held at one location. Stock movements lock and update only this row, so
+ * movements of the same product at different locations do not wait for each other;
+ * {@link Product#getStockQuantity()} is the sum over locations, maintained by
+ * {@link com.inventory.location.StockAggregator}.
+ */
+@Entity
+@Table(name = "product_stocks", indexes = {
+        @Index(name = "idx_product_stocks_location_product", columnList = "location_id, product_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStock {
+
+    @EmbeddedId
+    private ProductStockId id;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
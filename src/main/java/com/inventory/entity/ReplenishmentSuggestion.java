@@ -0,0 +1,49 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Reorder suggestion for one product from one replenishment run: how much to order and from
+ * which of its suppliers. Written in bulk by {@link com.inventory.replenishment.ReplenishmentJob}.
+ */
+@Entity
+@Table(name = "replenishment_suggestions", indexes = {
+        @Index(name = "idx_replenishment_suggestions_supplier_date", columnList = "supplier_id, run_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplenishmentSuggestion {
+
+    @EmbeddedId
+    private ReplenishmentSuggestionId id;
+
+    @Column(name = "supplier_id", nullable = false)
+    private UUID supplierId;
+
+    @Column(nullable = false, length = 50)
+    private String sku;
+
+    @Column(name = "stock_quantity", nullable = false)
+    private int stockQuantity;
+
+    @Column(name = "min_stock_level", nullable = false)
+    private int minStockLevel;
+
+    @Column(name = "daily_velocity", nullable = false)
+    private double dailyVelocity;
+
+    @Column(name = "lead_time_days", nullable = false)
+    private int leadTimeDays;
+
+    @Column(name = "reorder_point", nullable = false)
+    private int reorderPoint;
+
+    @Column(name = "suggested_quantity", nullable = false)
+    private int suggestedQuantity;
+}
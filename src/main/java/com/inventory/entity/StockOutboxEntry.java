@@ -0,0 +1,34 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A recorded stock movement whose product total and sales velocity are not updated yet. Written in
+ * the movement's transaction and deleted in the one that applies it, by
+ * {@link com.inventory.location.StockAggregator}, so each movement is applied exactly once.
+ */
+@Entity
+@Table(name = "stock_outbox", indexes = {
+        @Index(name = "idx_stock_outbox_product", columnList = "product_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockOutboxEntry {
+
+    @Id
+    @Column(name = "movement_id")
+    private UUID movementId;
+
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
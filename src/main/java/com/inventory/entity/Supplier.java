@@ -2,6 +2,7 @@ package com.inventory.entity;
 
 import com.inventory.enums.SupplierStatus;
 import com.inventory.enums.SupplierType;
+import com.inventory.search.SupplierDirectoryListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -11,6 +12,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -18,8 +20,11 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "suppliers")
+@EntityListeners(SupplierDirectoryListener.class)
 @Data
-@EqualsAndHashCode(callSuper = true)
+// Identity equality (BaseEntity keeps Object's): a persistence context holds one instance per row,
+// and a hash that ignores the mutable fields stays put while the supplier sits in product sets
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class Supplier extends BaseEntity {
@@ -74,5 +79,6 @@ public class Supplier extends BaseEntity {
     private BigDecimal rating;
     
     @ManyToMany(mappedBy = "suppliers", fetch = FetchType.LAZY)
+    @ToString.Exclude
     private List<Product> products;
 }
\ No newline at end of file
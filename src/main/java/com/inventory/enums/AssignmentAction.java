@@ -0,0 +1,6 @@
+package com.inventory.enums;
+
+public enum AssignmentAction {
+    ADD,
+    REMOVE
+}
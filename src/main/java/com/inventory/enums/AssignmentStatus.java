@@ -0,0 +1,8 @@
+package com.inventory.enums;
+
+public enum AssignmentStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
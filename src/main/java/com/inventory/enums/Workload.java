@@ -0,0 +1,7 @@
+package com.inventory.enums;
+
+public enum Workload {
+    WRITE,
+    INTERACTIVE,
+    BULK
+}
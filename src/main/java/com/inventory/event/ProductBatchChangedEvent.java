@@ -0,0 +1,11 @@
+package com.inventory.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published once for a chunk of products written together by a bulk operation, in place of one
+ * {@link ProductChangedEvent} per product.
+ */
+public record ProductBatchChangedEvent(List<UUID> productIds) {
+}
@@ -0,0 +1,9 @@
+package com.inventory.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a product row is written (create, update, delete, supplier links or stock).
+ */
+public record ProductChangedEvent(UUID productId) {
+}
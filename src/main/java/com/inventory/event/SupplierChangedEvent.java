@@ -0,0 +1,9 @@
+package com.inventory.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a supplier row is written.
+ */
+public record SupplierChangedEvent(UUID supplierId) {
+}
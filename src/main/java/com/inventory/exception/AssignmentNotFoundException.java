@@ -0,0 +1,10 @@
+package com.inventory.exception;
+
+import java.util.UUID;
+
+public class AssignmentNotFoundException extends RuntimeException {
+
+    public AssignmentNotFoundException(UUID id) {
+        super("Supplier product assignment not found with id: " + id);
+    }
+}
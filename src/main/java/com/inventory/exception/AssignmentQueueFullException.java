@@ -0,0 +1,8 @@
+package com.inventory.exception;
+
+public class AssignmentQueueFullException extends RuntimeException {
+
+    public AssignmentQueueFullException() {
+        super("Too many supplier product assignments are queued, retry later");
+    }
+}
@@ -0,0 +1,12 @@
+package com.inventory.exception;
+
+import com.inventory.enums.Workload;
+
+import java.util.Locale;
+
+public class BulkheadFullException extends RuntimeException {
+
+    public BulkheadFullException(Workload workload) {
+        super(String.format("Too many %s requests in progress, retry later", workload.name().toLowerCase(Locale.ROOT)));
+    }
+}
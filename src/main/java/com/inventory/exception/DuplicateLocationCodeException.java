@@ -0,0 +1,8 @@
+package com.inventory.exception;
+
+public class DuplicateLocationCodeException extends RuntimeException {
+
+    public DuplicateLocationCodeException(String code) {
+        super("Location with code '" + code + "' already exists");
+    }
+}
@@ -0,0 +1,8 @@
+package com.inventory.exception;
+
+public class IngestionQueueFullException extends RuntimeException {
+
+    public IngestionQueueFullException(int lane) {
+        super(String.format("Stock movement ingestion lane %d is full, retry later", lane));
+    }
+}
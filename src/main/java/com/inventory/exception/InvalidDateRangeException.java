@@ -0,0 +1,10 @@
+package com.inventory.exception;
+
+import java.time.LocalDate;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(LocalDate from, LocalDate to) {
+        super(String.format("Invalid date range: from (%s) must not be after to (%s)", from, to));
+    }
+}
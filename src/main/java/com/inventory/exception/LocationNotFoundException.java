@@ -0,0 +1,10 @@
+package com.inventory.exception;
+
+import java.util.UUID;
+
+public class LocationNotFoundException extends RuntimeException {
+
+    public LocationNotFoundException(UUID id) {
+        super("Location not found with id: " + id);
+    }
+}
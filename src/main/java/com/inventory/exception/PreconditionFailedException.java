@@ -0,0 +1,9 @@
+package com.inventory.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String resource, Object id) {
+        super(String.format("%s %s has been modified since it was last retrieved (If-Match precondition failed)",
+                resource, id));
+    }
+}
@@ -0,0 +1,10 @@
+package com.inventory.exception;
+
+import java.util.UUID;
+
+public class TicketNotFoundException extends RuntimeException {
+
+    public TicketNotFoundException(UUID id) {
+        super("Stock movement ticket not found with id: " + id);
+    }
+}
@@ -0,0 +1,257 @@
+package com.inventory.ingestion;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.exception.BulkheadFullException;
+import com.inventory.exception.IngestionQueueFullException;
+import com.inventory.exception.InsufficientStockException;
+import com.inventory.exception.LocationNotFoundException;
+import com.inventory.exception.ProductNotFoundException;
+import com.inventory.service.StockMovementService;
+import com.inventory.service.StockMovementService.MovementOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous stock movement ingestion.
+ * <p>
+ * Each product id hashes to one lane, a bounded queue drained by a single thread, so movements
+ * for a product are applied in submission order and async writers never contend for its row.
+ * A lane takes whatever has queued up (up to the batch size) and applies the movements of each
+ * product in one transaction. Tickets complete after that transaction commits.
+ */
+@Component
+public class StockMovementIngestor {
+
+    private static final Logger log = LoggerFactory.getLogger(StockMovementIngestor.class);
+
+    private static final long POLL_MILLIS = 100;
+    private static final long BULKHEAD_BACKOFF_MILLIS = 50;
+
+    private final StockMovementService stockMovementService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Lane[] lanes;
+    private final Cache<UUID, StockMovementTicket> tickets;
+    private final Timer lag;
+    private final DistributionSummary batchSizes;
+    private final Counter completed;
+    private final Counter failed;
+    private final Counter rejected;
+
+    private volatile boolean running = true;
+
+    public StockMovementIngestor(StockMovementService stockMovementService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${inventory.ingestion.enabled:false}") boolean enabled,
+                                 @Value("${inventory.ingestion.lanes:4}") int laneCount,
+                                 @Value("${inventory.ingestion.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${inventory.ingestion.batch-size:100}") int batchSize,
+                                 @Value("${inventory.ingestion.ticket-retention:PT15M}") Duration ticketRetention) {
+        this.stockMovementService = stockMovementService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.tickets = Caffeine.newBuilder()
+                .expireAfterWrite(ticketRetention)
+                .build();
+
+        lag = Timer.builder("inventory.ingestion.lag")
+                .description("Time from submission until a queued stock movement is applied or rejected")
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("inventory.ingestion.batch.size")
+                .description("Stock movements drained from a lane in one batch")
+                .register(meterRegistry);
+        completed = ticketCounter(meterRegistry, "completed");
+        failed = ticketCounter(meterRegistry, "failed");
+        rejected = ticketCounter(meterRegistry, "rejected");
+
+        lanes = new Lane[enabled ? laneCount : 0];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new Lane(i, queueCapacity);
+            Gauge.builder("inventory.ingestion.queue.depth", lanes[i].queue, BlockingQueue::size)
+                    .description("Stock movements waiting in an ingestion lane")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            Gauge.builder("inventory.ingestion.queue.age", lanes[i], Lane::oldestAgeSeconds)
+                    .description("Age of the oldest stock movement waiting in an ingestion lane")
+                    .baseUnit("seconds")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+            lanes[i].thread.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a movement on its product's lane.
+     *
+     * @throws IngestionQueueFullException when the lane cannot take more work
+     */
+    public StockMovementTicket submit(CreateStockMovementRequest request) {
+        if (!enabled) {
+            throw new IllegalStateException("Stock movement ingestion is disabled");
+        }
+        StockMovementTicket ticket = new StockMovementTicket(request);
+        int lane = Math.floorMod(request.productId().hashCode(), lanes.length);
+        tickets.put(ticket.getId(), ticket);
+        if (!running || !lanes[lane].queue.offer(ticket)) {
+            tickets.invalidate(ticket.getId());
+            rejected.increment();
+            throw new IngestionQueueFullException(lane);
+        }
+        return ticket;
+    }
+
+    public Optional<StockMovementTicket> find(UUID ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId));
+    }
+
+    /**
+     * Stops accepting movements and lets every lane drain what is already queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void apply(List<StockMovementTicket> batch) {
+        batchSizes.record(batch.size());
+        Map<UUID, List<StockMovementTicket>> byProduct = new LinkedHashMap<>();
+        for (StockMovementTicket ticket : batch) {
+            byProduct.computeIfAbsent(ticket.getRequest().productId(), productId -> new ArrayList<>()).add(ticket);
+        }
+        byProduct.forEach(this::applyProduct);
+    }
+
+    private void applyProduct(UUID productId, List<StockMovementTicket> productTickets) {
+        List<CreateStockMovementRequest> requests = productTickets.stream().map(StockMovementTicket::getRequest).toList();
+        while (true) {
+            try {
+                List<MovementOutcome> outcomes = stockMovementService.createStockMovements(productId, requests);
+                for (int i = 0; i < productTickets.size(); i++) {
+                    MovementOutcome outcome = outcomes.get(i);
+                    if (outcome.failure() != null) {
+                        fail(productTickets.get(i), outcome.failure());
+                    } else {
+                        completed.increment();
+                        lag.record(System.nanoTime() - productTickets.get(i).getSubmittedNanos(), TimeUnit.NANOSECONDS);
+                        productTickets.get(i).complete(outcome.movement());
+                    }
+                }
+                return;
+            } catch (BulkheadFullException e) {
+                // Synchronous writes have the write bulkhead; wait for room instead of failing queued work
+                if (!backOff()) {
+                    productTickets.forEach(ticket -> fail(ticket, e));
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // Nothing was applied: the stock total and velocity commit in the movements' transaction
+                if (!(e instanceof ProductNotFoundException)) {
+                    log.error("Failed to apply {} queued stock movements for product {}", requests.size(), productId, e);
+                }
+                productTickets.forEach(ticket -> fail(ticket, e));
+                return;
+            }
+        }
+    }
+
+    private static boolean backOff() {
+        try {
+            Thread.sleep(BULKHEAD_BACKOFF_MILLIS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void fail(StockMovementTicket ticket, RuntimeException cause) {
+        failed.increment();
+        lag.record(System.nanoTime() - ticket.getSubmittedNanos(), TimeUnit.NANOSECONDS);
+        if (cause instanceof InsufficientStockException) {
+            ticket.fail("Insufficient Stock", cause.getMessage());
+        } else if (cause instanceof ProductNotFoundException) {
+            ticket.fail("Product Not Found", cause.getMessage());
+        } else if (cause instanceof LocationNotFoundException) {
+            ticket.fail("Location Not Found", cause.getMessage());
+        } else if (cause instanceof BulkheadFullException) {
+            ticket.fail("Bulkhead Full", cause.getMessage());
+        } else {
+            ticket.fail("Ingestion Failed", "Unexpected error while recording the movement");
+        }
+    }
+
+    private static Counter ticketCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.ingestion.tickets")
+                .description("Stock movements submitted for asynchronous ingestion, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<StockMovementTicket> queue;
+        private final Thread thread;
+
+        Lane(int index, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, "stock-ingest-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<StockMovementTicket> batch = new ArrayList<>(batchSize);
+            while (running || !queue.isEmpty()) {
+                try {
+                    StockMovementTicket first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    apply(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.error("Stock movement ingestion lane {} failed a batch", thread.getName(), e);
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        double oldestAgeSeconds() {
+            StockMovementTicket oldest = queue.peek();
+            return oldest == null ? 0 : (System.nanoTime() - oldest.getSubmittedNanos()) / 1e9;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.inventory.ingestion;
+
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.StockMovementTicketResponse;
+import com.inventory.enums.IngestionStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A stock movement accepted for asynchronous ingestion. Completed exactly once by the lane that
+ * owns its product, after the transaction recording it has committed.
+ */
+public class StockMovementTicket {
+
+    private final UUID id = UUID.randomUUID();
+    private final CreateStockMovementRequest request;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final long submittedNanos = System.nanoTime();
+    private final CompletableFuture<StockMovementTicketResponse> outcome = new CompletableFuture<>();
+
+    StockMovementTicket(CreateStockMovementRequest request) {
+        this.request = request;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public CreateStockMovementRequest getRequest() {
+        return request;
+    }
+
+    long getSubmittedNanos() {
+        return submittedNanos;
+    }
+
+    /**
+     * Completes with the final status once the movement has been applied or rejected.
+     */
+    public CompletableFuture<StockMovementTicketResponse> outcome() {
+        return outcome;
+    }
+
+    public StockMovementTicketResponse toResponse() {
+        return outcome.getNow(response(IngestionStatus.QUEUED, null, null, null));
+    }
+
+    void complete(StockMovementResponse movement) {
+        outcome.complete(response(IngestionStatus.COMPLETED, movement, null, null));
+    }
+
+    void fail(String error, String message) {
+        outcome.complete(response(IngestionStatus.FAILED, null, error, message));
+    }
+
+    private StockMovementTicketResponse response(IngestionStatus status, StockMovementResponse movement,
+                                                 String error, String message) {
+        return new StockMovementTicketResponse(id, status, request.productId(), submittedAt,
+                status == IngestionStatus.QUEUED ? null : LocalDateTime.now(), movement, error, message);
+    }
+}
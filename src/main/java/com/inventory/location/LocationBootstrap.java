@@ -0,0 +1,48 @@
+package com.inventory.location;
+
+import com.inventory.entity.Location;
+import com.inventory.repository.ProductStockRepository;
+import com.inventory.repository.StockMovementRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Brings data from before locations existed under the default location: products without any
+ * stock row get one holding their whole stock, and movements without a location are assigned to
+ * it. Runs once the beans are created, before the web server takes traffic; on later starts
+ * both statements find nothing to do.
+ */
+@Component
+public class LocationBootstrap implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(LocationBootstrap.class);
+
+    private final LocationResolver locationResolver;
+    private final ProductStockRepository productStockRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public LocationBootstrap(LocationResolver locationResolver, ProductStockRepository productStockRepository,
+                             StockMovementRepository stockMovementRepository, TransactionTemplate transactionTemplate) {
+        this.locationResolver = locationResolver;
+        this.productStockRepository = productStockRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Location location = locationResolver.defaultLocation();
+            int stocks = productStockRepository.seedFromProducts(location.getId());
+            int movements = stockMovementRepository.assignUnlocated(location.getId());
+            if (stocks > 0 || movements > 0) {
+                log.info("Moved stock of {} products and {} stock movements to default location {}",
+                        stocks, movements, location.getCode());
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.inventory.location;
+
+import com.inventory.entity.Location;
+import com.inventory.exception.LocationNotFoundException;
+import com.inventory.repository.LocationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Resolves the location a stock movement applies to: the one named in the request, or else the
+ * default location ({@code inventory.locations.default-code}), which is created on first use.
+ * Must be called inside a transaction.
+ */
+@Component
+public class LocationResolver {
+
+    private final LocationRepository locationRepository;
+    private final String defaultCode;
+    private final String defaultName;
+
+    public LocationResolver(LocationRepository locationRepository,
+                            @Value("${inventory.locations.default-code:MAIN}") String defaultCode,
+                            @Value("${inventory.locations.default-name:Main warehouse}") String defaultName) {
+        this.locationRepository = locationRepository;
+        this.defaultCode = defaultCode;
+        this.defaultName = defaultName;
+    }
+
+    public Location resolve(UUID locationId) {
+        if (locationId == null) {
+            return defaultLocation();
+        }
+        return locationRepository.findById(locationId)
+                .filter(Location::getActive)
+                .orElseThrow(() -> new LocationNotFoundException(locationId));
+    }
+
+    public String getDefaultCode() {
+        return defaultCode;
+    }
+
+    public Location defaultLocation() {
+        return locationRepository.findByCode(defaultCode).orElseGet(() -> {
+            locationRepository.insertIfMissing(UUID.randomUUID(), defaultCode, defaultName);
+            return locationRepository.findByCode(defaultCode).orElseThrow();
+        });
+    }
+}
@@ -0,0 +1,148 @@
+package com.inventory.location;
+
+import com.inventory.bulkhead.WorkloadContext;
+import com.inventory.entity.Product;
+import com.inventory.entity.StockMovement;
+import com.inventory.entity.StockOutboxEntry;
+import com.inventory.enums.Workload;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
+import com.inventory.repository.StockMovementRepository;
+import com.inventory.repository.StockOutboxRepository;
+import com.inventory.velocity.DemandVelocityTracker;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps {@link Product#getStockQuantity()} equal to the product's stock summed over locations,
+ * and the product's sales velocity up to date, without touching the product row while movements
+ * are recorded.
+ * <p>
+ * A movement's transaction only adds it to the {@code stock_outbox}. Once that transaction has
+ * committed, {@link #refresh(UUID)} locks the product row in a short transaction of its own, sets
+ * the total from the stock rows, adds the pending movements' sales to the velocity and deletes
+ * their outbox entries, so a retried refresh never applies a movement twice. A refresh that finds
+ * the row held by another one leaves the movements to it: the holder checks the outbox again after
+ * committing and sees every movement committed before it finished. Movements whose refresh failed,
+ * found the row held by some other product write, or never ran because they were recorded inside a
+ * caller's transaction, are picked up by {@link #refreshPending()} on
+ * {@code inventory.locations.stock-refresh-cron}.
+ */
+@Component
+public class StockAggregator {
+
+    private static final Logger log = LoggerFactory.getLogger(StockAggregator.class);
+
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final StockOutboxRepository stockOutboxRepository;
+    private final DemandVelocityTracker demandVelocityTracker;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public StockAggregator(ProductRepository productRepository, ProductStockRepository productStockRepository,
+                           StockMovementRepository stockMovementRepository, StockOutboxRepository stockOutboxRepository,
+                           DemandVelocityTracker demandVelocityTracker, EntityManager entityManager,
+                           ApplicationEventPublisher eventPublisher, TransactionTemplate transactionTemplate) {
+        this.productRepository = productRepository;
+        this.productStockRepository = productStockRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.stockOutboxRepository = stockOutboxRepository;
+        this.demandVelocityTracker = demandVelocityTracker;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Records saved movements of a product for the next refresh, in the transaction that saves them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(UUID productId, List<StockMovement> movements) {
+        for (StockMovement movement : movements) {
+            entityManager.persist(new StockOutboxEntry(movement.getId(), productId, movement.getCreatedAt()));
+        }
+    }
+
+    /**
+     * Applies the committed movements of a product. Runs outside any transaction, after the
+     * movements committed; a failure is logged and left to {@link #refreshPending()}, since the
+     * movements themselves are already recorded.
+     */
+    public void refresh(UUID productId) {
+        try {
+            while (Boolean.TRUE.equals(transactionTemplate.execute(status -> applyPending(productId)))) {
+                // Movements committed while this refresh held the row are applied in the next round
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the stock of product {}; retrying on the next sweep", productId, e);
+        }
+    }
+
+    /**
+     * Applies the movements of every product still in the outbox.
+     *
+     * @return the number of products refreshed
+     */
+    public int refreshPending() {
+        return WorkloadContext.callIn(Workload.BULK, () -> {
+            List<UUID> productIds = stockOutboxRepository.findPendingProductIds();
+            productIds.forEach(this::refresh);
+            return productIds.size();
+        });
+    }
+
+    @Scheduled(cron = "${inventory.locations.stock-refresh-cron:-}")
+    void runScheduled() {
+        int products = refreshPending();
+        if (products > 0) {
+            log.info("Refreshed the stock of {} products with pending movements", products);
+        }
+    }
+
+    private boolean applyPending(UUID productId) {
+        if (!stockOutboxRepository.existsByProductId(productId)) {
+            return false;
+        }
+        Optional<Product> locked = productRepository.lockIfAvailable(productId);
+        if (locked.isEmpty()) {
+            // Held by another refresh, which applies these movements before it stops, or by another
+            // product write, after which the sweep applies them; or the product was archived
+            if (!productRepository.existsById(productId)) {
+                stockOutboxRepository.deleteAllInBatch(stockOutboxRepository.findByProductId(productId));
+            }
+            return false;
+        }
+        // Read under the lock: entries seen before it may have been applied by the previous holder
+        List<StockOutboxEntry> pending = stockOutboxRepository.findByProductId(productId);
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        Product product = locked.get();
+        int stockQuantity = Math.toIntExact(productStockRepository.sumQuantityByProductId(productId));
+        if (!Objects.equals(product.getStockQuantity(), stockQuantity)) {
+            product.setStockQuantity(stockQuantity);
+        }
+        demandVelocityTracker.record(stockMovementRepository.findAllById(
+                pending.stream().map(StockOutboxEntry::getMovementId).toList()));
+        stockOutboxRepository.deleteAllInBatch(pending);
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package com.inventory.mapper;
+
+import com.inventory.dto.request.CreateLocationRequest;
+import com.inventory.dto.response.LocationResponse;
+import com.inventory.entity.Location;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface LocationMapper {
+
+    LocationResponse toResponse(Location location);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "active", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "deletedAt", ignore = true)
+    Location toEntity(CreateLocationRequest request);
+}
@@ -11,5 +11,7 @@ public interface StockMovementMapper {
     @Mapping(source = "product.id", target = "productId")
     @Mapping(source = "product.sku", target = "productSku")
     @Mapping(source = "product.name", target = "productName")
+    @Mapping(source = "location.id", target = "locationId")
+    @Mapping(source = "location.code", target = "locationCode")
     StockMovementResponse toResponse(StockMovement stockMovement);
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.inventory.metrics;
+
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Business throughput counters. Every tag value comes from a closed enum, and all meters are
+ * registered up front so the hot path is a plain counter increment.
+ */
+@Component
+public class InventoryMetrics {
+
+    public enum Rejection {
+        INSUFFICIENT_STOCK,
+        DUPLICATE_SKU
+    }
+
+    private final Map<MovementType, Map<MovementReason, Counter>> movements = new EnumMap<>(MovementType.class);
+    private final Map<MovementType, Map<MovementReason, Counter>> units = new EnumMap<>(MovementType.class);
+    private final Map<Rejection, Counter> rejections = new EnumMap<>(Rejection.class);
+
+    public InventoryMetrics(MeterRegistry meterRegistry) {
+        for (MovementType type : MovementType.values()) {
+            Map<MovementReason, Counter> movementCounters = new EnumMap<>(MovementReason.class);
+            Map<MovementReason, Counter> unitCounters = new EnumMap<>(MovementReason.class);
+            for (MovementReason reason : MovementReason.values()) {
+                movementCounters.put(reason, Counter.builder("inventory.stock.movements")
+                        .description("Stock movements recorded")
+                        .tag("type", type.name())
+                        .tag("reason", reason.name())
+                        .register(meterRegistry));
+                unitCounters.put(reason, Counter.builder("inventory.stock.units")
+                        .description("Units moved by stock movements")
+                        .baseUnit("units")
+                        .tag("type", type.name())
+                        .tag("reason", reason.name())
+                        .register(meterRegistry));
+            }
+            movements.put(type, movementCounters);
+            units.put(type, unitCounters);
+        }
+        for (Rejection rejection : Rejection.values()) {
+            rejections.put(rejection, Counter.builder("inventory.rejections")
+                    .description("Requests rejected by business rules")
+                    .tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordStockMovement(MovementType type, MovementReason reason, int quantity) {
+        movements.get(type).get(reason).increment();
+        units.get(type).get(reason).increment(quantity);
+    }
+
+    public void recordRejection(Rejection rejection) {
+        rejections.get(rejection).increment();
+    }
+}
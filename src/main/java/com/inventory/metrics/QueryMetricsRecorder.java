@@ -0,0 +1,146 @@
+package com.inventory.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates JDBC statement timings per SQL shape and repository method.
+ * <p>
+ * Every execution feeds the {@code inventory.sql.statements} timer; statements at or above the
+ * slow threshold are logged with their bind-parameter and row counts. At most {@code max-shapes}
+ * distinct shapes are tracked, anything beyond is folded into the {@code other} shape.
+ */
+@Component
+public class QueryMetricsRecorder {
+
+    public static final String METRIC_NAME = "inventory.sql.statements";
+    static final String OTHER_SHAPE = "other";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMetricsRecorder.class);
+    private static final int MAX_METHODS_PER_SHAPE = 16;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final int maxShapes;
+    private final Cache<String, ParsedSql> parsed;
+    private final Map<String, ShapeStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final LongAdder slowStatements = new LongAdder();
+
+    public QueryMetricsRecorder(MeterRegistry meterRegistry,
+                                @Value("${inventory.sql.metrics.slow-threshold-ms:200}") long slowThresholdMs,
+                                @Value("${inventory.sql.metrics.max-shapes:500}") int maxShapes) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.maxShapes = maxShapes;
+        this.parsed = Caffeine.newBuilder().maximumSize(maxShapes * 4L).build();
+    }
+
+    public void record(String rawSql, String repositoryMethod, long elapsedNanos, long rows, int batchSize) {
+        ParsedSql sql = parsed.get(rawSql, raw -> new ParsedSql(SqlShape.parse(raw), SqlShape.countBindParameters(raw)));
+        SqlShape shape = sql.shape();
+
+        ShapeStats shapeStats = stats.get(shape.id());
+        if (shapeStats == null && stats.size() < maxShapes) {
+            shapeStats = stats.computeIfAbsent(shape.id(), id -> new ShapeStats(shape));
+        }
+        String shapeTag = shapeStats != null ? shape.id() : OTHER_SHAPE;
+        if (shapeStats != null) {
+            shapeStats.add(repositoryMethod, elapsedNanos, rows);
+        }
+
+        String timerKey = shapeTag + '|' + shape.operation() + '|' + repositoryMethod;
+        timers.computeIfAbsent(timerKey, key -> Timer.builder(METRIC_NAME)
+                        .description("JDBC statement execution time per SQL shape")
+                        .tag("shape", shapeTag)
+                        .tag("operation", shape.operation())
+                        .tag("repository", repositoryMethod)
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.warn("Slow SQL {} ms [{}] rows={} binds={} batch={} shape={}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), repositoryMethod, rows,
+                    sql.bindParameters(), batchSize, shape.id(), shape.sql());
+        }
+    }
+
+    public List<ShapeSummary> topShapes(int limit, Comparator<ShapeSummary> order) {
+        return stats.values().stream()
+                .map(ShapeStats::summary)
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    public long slowStatementCount() {
+        return slowStatements.sum();
+    }
+
+    public long slowThresholdMs() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public void reset() {
+        stats.clear();
+        slowStatements.reset();
+    }
+
+    public record ShapeSummary(String shape, String operation, String sql, long count,
+                               double meanMs, double maxMs, double totalMs,
+                               double meanRows, long maxRows, Set<String> repositoryMethods) {
+    }
+
+    private record ParsedSql(SqlShape shape, int bindParameters) {
+    }
+
+    private static final class ShapeStats {
+
+        private final SqlShape shape;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder totalRows = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong maxRows = new AtomicLong();
+        private final Set<String> repositoryMethods = ConcurrentHashMap.newKeySet();
+
+        private ShapeStats(SqlShape shape) {
+            this.shape = shape;
+        }
+
+        private void add(String repositoryMethod, long nanos, long rows) {
+            count.increment();
+            totalNanos.add(nanos);
+            totalRows.add(rows);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            maxRows.accumulateAndGet(rows, Math::max);
+            if (repositoryMethods.size() < MAX_METHODS_PER_SHAPE) {
+                repositoryMethods.add(repositoryMethod);
+            }
+        }
+
+        private ShapeSummary summary() {
+            long n = Math.max(count.sum(), 1);
+            double total = totalNanos.sum() / 1_000_000.0;
+            return new ShapeSummary(shape.id(), shape.operation(), shape.sql(), count.sum(),
+                    total / n, maxNanos.get() / 1_000_000.0, total,
+                    (double) totalRows.sum() / n, maxRows.get(), Set.copyOf(repositoryMethods));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.inventory.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that times every statement execution and counts the rows it produced.
+ * <p>
+ * Query time covers the execute call only; rows are counted while the result set is consumed
+ * and the execution is reported to {@link QueryMetricsRecorder} once the result set or the
+ * statement is closed. Updates and batches are reported immediately with their update counts.
+ */
+public class QueryTimingDataSource extends DelegatingDataSource {
+
+    private final QueryMetricsRecorder recorder;
+
+    public QueryTimingDataSource(DataSource target, QueryMetricsRecorder recorder) {
+        super(target);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrap(statement, sql, method.getName());
+            }
+            return result;
+        });
+    }
+
+    private Statement wrap(Statement statement, String preparedSql, String factoryMethod) {
+        Class<? extends Statement> type = switch (factoryMethod) {
+            case "prepareCall" -> CallableStatement.class;
+            case "prepareStatement" -> PreparedStatement.class;
+            default -> Statement.class;
+        };
+        return proxy(type, new StatementHandler(statement, preparedSql));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        // Identity equality: Hibernate keeps statements and result sets in hash-based registries
+        InvocationHandler identity = (proxy, method, args) -> method.getName().equals("equals")
+                && method.getParameterCount() == 1 ? proxy == args[0] : handler.invoke(proxy, method, args);
+        return (T) Proxy.newProxyInstance(QueryTimingDataSource.class.getClassLoader(), new Class<?>[]{type}, identity);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private int batchSize;
+        private Execution pending;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(method, args);
+            }
+            switch (name) {
+                case "addBatch" -> batchSize++;
+                case "clearBatch" -> batchSize = 0;
+                case "close" -> flush();
+                default -> {
+                }
+            }
+            Object result = QueryTimingDataSource.invoke(target, method, args);
+            if (result instanceof ResultSet resultSet && pending != null && name.equals("getResultSet")) {
+                return wrap(resultSet);
+            }
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            flush();
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            boolean batched = method.getName().endsWith("Batch");
+            int batch = batched ? batchSize : 1;
+            Execution execution = new Execution(sql, RepositoryMethodTracker.current(), batch);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = QueryTimingDataSource.invoke(target, method, args);
+            } catch (Throwable e) {
+                execution.elapsedNanos = System.nanoTime() - start;
+                report(execution);
+                throw e;
+            }
+            execution.elapsedNanos = System.nanoTime() - start;
+            if (batched) {
+                batchSize = 0;
+            }
+
+            if (result instanceof ResultSet resultSet) {
+                pending = execution;
+                return wrap(resultSet);
+            }
+            if (Boolean.TRUE.equals(result)) {
+                pending = execution;
+                return result;
+            }
+            execution.rows = updateCount(result);
+            report(execution);
+            return result;
+        }
+
+        private long updateCount(Object result) throws SQLException {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                return sum(counts);
+            }
+            if (result instanceof long[] counts) {
+                return sum(counts);
+            }
+            return Math.max(target.getUpdateCount(), 0);
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            Execution execution = pending;
+            return proxy(ResultSet.class, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.equals("close")) {
+                    flush();
+                }
+                Object result = QueryTimingDataSource.invoke(resultSet, method, args);
+                if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                    execution.rows++;
+                }
+                return result;
+            });
+        }
+
+        private void flush() {
+            if (pending != null) {
+                report(pending);
+                pending = null;
+            }
+        }
+
+        private void report(Execution execution) {
+            if (execution.sql != null) {
+                recorder.record(execution.sql, execution.repositoryMethod, execution.elapsedNanos,
+                        execution.rows, execution.batchSize);
+            }
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static final class Execution {
+
+        private final String sql;
+        private final String repositoryMethod;
+        private final int batchSize;
+        private long elapsedNanos;
+        private long rows;
+
+        private Execution(String sql, String repositoryMethod, int batchSize) {
+            this.sql = sql;
+            this.repositoryMethod = repositoryMethod;
+            this.batchSize = batchSize;
+        }
+    }
+}
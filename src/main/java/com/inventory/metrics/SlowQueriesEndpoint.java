@@ -0,0 +1,43 @@
+package com.inventory.metrics;
+
+import com.inventory.metrics.QueryMetricsRecorder.ShapeSummary;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final QueryMetricsRecorder recorder;
+
+    public SlowQueriesEndpoint(QueryMetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public SlowQueries slowQueries(@Nullable Integer limit, @Nullable String orderBy) {
+        Comparator<ShapeSummary> order = switch (orderBy != null ? orderBy : "max") {
+            case "mean" -> Comparator.comparingDouble(ShapeSummary::meanMs);
+            case "total" -> Comparator.comparingDouble(ShapeSummary::totalMs);
+            case "count" -> Comparator.comparingLong(ShapeSummary::count);
+            default -> Comparator.comparingDouble(ShapeSummary::maxMs);
+        };
+        int size = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+        return new SlowQueries(recorder.slowThresholdMs(), recorder.slowStatementCount(),
+                recorder.topShapes(size, order.reversed()));
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+
+    public record SlowQueries(long slowThresholdMs, long slowStatements, List<ShapeSummary> shapes) {
+    }
+}
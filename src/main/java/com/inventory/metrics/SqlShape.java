@@ -0,0 +1,48 @@
+package com.inventory.metrics;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Literal-free, whitespace-normalized form of a SQL statement used to group timings.
+ * IN lists of any length collapse to {@code in (?...)} so that batch lookups share one shape.
+ */
+public record SqlShape(String id, String operation, String sql) {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+
+    public static SqlShape parse(String rawSql) {
+        String sql = STRING_LITERAL.matcher(rawSql).replaceAll("?");
+        sql = NUMERIC_LITERAL.matcher(sql).replaceAll("?");
+        sql = WHITESPACE.matcher(sql).replaceAll(" ").trim();
+        sql = IN_LIST.matcher(sql).replaceAll("in (?...)");
+        return new SqlShape(String.format("%08x", sql.hashCode()), operationOf(sql), sql);
+    }
+
+    public static int countBindParameters(String rawSql) {
+        int count = 0;
+        boolean quoted = false;
+        for (int i = 0; i < rawSql.length(); i++) {
+            char c = rawSql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == '?' && !quoted) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String operationOf(String sql) {
+        int end = sql.indexOf(' ');
+        String keyword = (end < 0 ? sql : sql.substring(0, end)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> "select";
+            case "insert", "update", "delete", "merge" -> keyword;
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.inventory.metrics;
+
+import com.inventory.event.ProductBatchChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductRepository.StockLevelCounts;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gauges for active and low-stock product counts.
+ * <p>
+ * Both values come from one aggregate query that only runs when a scrape finds the snapshot
+ * marked dirty by a product change and older than the refresh interval, so scrape frequency
+ * never turns into database load.
+ */
+@Component
+public class StockLevelGauges {
+
+    private static final Logger log = LoggerFactory.getLogger(StockLevelGauges.class);
+
+    private final ProductRepository productRepository;
+    private final long refreshIntervalNanos;
+
+    private volatile boolean dirty = true;
+    private volatile long refreshedAt;
+    private volatile long activeProducts;
+    private volatile long lowStockProducts;
+
+    public StockLevelGauges(ProductRepository productRepository, MeterRegistry meterRegistry,
+                            @Value("${inventory.metrics.gauge-refresh-ms:10000}") long refreshIntervalMs) {
+        this.productRepository = productRepository;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMs);
+        this.refreshedAt = System.nanoTime() - refreshIntervalNanos;
+
+        Gauge.builder("inventory.products.active", this, gauges -> gauges.refresh().activeProducts)
+                .description("Active products")
+                .register(meterRegistry);
+        Gauge.builder("inventory.products.low_stock", this, gauges -> gauges.refresh().lowStockProducts)
+                .description("Active products at or below their minimum stock level")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        dirty = true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductBatchChanged(ProductBatchChangedEvent event) {
+        dirty = true;
+    }
+
+    private StockLevelGauges refresh() {
+        if (dirty && System.nanoTime() - refreshedAt >= refreshIntervalNanos) {
+            synchronized (this) {
+                if (dirty && System.nanoTime() - refreshedAt >= refreshIntervalNanos) {
+                    dirty = false;
+                    try {
+                        StockLevelCounts counts = productRepository.countActiveAndLowStock();
+                        activeProducts = counts.getActive();
+                        lowStockProducts = counts.getLowStock();
+                    } catch (RuntimeException e) {
+                        dirty = true;
+                        log.debug("Could not refresh stock level gauges", e);
+                    }
+                    refreshedAt = System.nanoTime();
+                }
+            }
+        }
+        return this;
+    }
+}
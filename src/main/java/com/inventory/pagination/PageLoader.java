@@ -0,0 +1,125 @@
+package com.inventory.pagination;
+
+import com.inventory.bulkhead.WorkloadContext;
+import com.inventory.enums.CountMode;
+import com.inventory.enums.Workload;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Loads a page of content as a {@link Slice} and attaches a total according to {@link CountMode}.
+ * <ul>
+ *   <li>{@code NONE} returns the slice as is (one extra row fetched to compute hasNext).</li>
+ *   <li>{@code ESTIMATED} uses planner statistics for unfiltered lists, otherwise behaves like EXACT.</li>
+ *   <li>{@code EXACT} runs the count on a separate connection while the content query executes.</li>
+ * </ul>
+ * The count is skipped whenever the slice itself proves the total (last page). A count task that
+ * has not started by the time the content is loaded is run by the caller instead, so a saturated
+ * count pool degrades to sequential counting rather than queueing.
+ */
+@Component
+public class PageLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(PageLoader.class);
+
+    private final RowCountEstimator rowCountEstimator;
+    private final ExecutorService countExecutor;
+
+    public PageLoader(RowCountEstimator rowCountEstimator,
+                      @Value("${inventory.pagination.count-threads:4}") int countThreads) {
+        this.rowCountEstimator = rowCountEstimator;
+        AtomicInteger sequence = new AtomicInteger();
+        this.countExecutor = new ThreadPoolExecutor(countThreads, countThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "page-count-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param estimateTable table whose active rows the content query pages over without further
+     *                      filters, or {@code null} when the query is filtered
+     */
+    public <T> Slice<T> load(Pageable pageable, CountMode mode, Function<Pageable, Slice<T>> content,
+                             LongSupplier exactCount, String estimateTable) {
+        if (mode == CountMode.NONE) {
+            return content.apply(pageable);
+        }
+        if (mode == CountMode.ESTIMATED && estimateTable != null) {
+            OptionalLong estimate = rowCountEstimator.estimateActiveRows(estimateTable);
+            if (estimate.isPresent()) {
+                Slice<T> slice = content.apply(pageable);
+                return toPage(slice, pageable, knownTotal(slice, pageable)
+                        .orElse(Math.max(estimate.getAsLong(), minimumTotal(slice, pageable))));
+            }
+        }
+        return loadWithParallelCount(pageable, content, exactCount);
+    }
+
+    private <T> Slice<T> loadWithParallelCount(Pageable pageable, Function<Pageable, Slice<T>> content,
+                                               LongSupplier exactCount) {
+        AtomicBoolean claimed = new AtomicBoolean();
+        // The count runs for the caller's workload so it uses the same connection pool
+        Workload workload = WorkloadContext.current();
+        CompletableFuture<Long> count = CompletableFuture.supplyAsync(() -> WorkloadContext.callIn(workload,
+                () -> claimed.compareAndSet(false, true) ? exactCount.getAsLong() : null), countExecutor);
+
+        Slice<T> slice = content.apply(pageable);
+        OptionalLong known = knownTotal(slice, pageable);
+        if (known.isPresent()) {
+            claimed.compareAndSet(false, true);
+            return toPage(slice, pageable, known.getAsLong());
+        }
+        if (claimed.compareAndSet(false, true)) {
+            return toPage(slice, pageable, exactCount.getAsLong());
+        }
+        try {
+            return toPage(slice, pageable, count.join());
+        } catch (RuntimeException e) {
+            log.debug("Parallel count failed, counting on the caller thread", e);
+            return toPage(slice, pageable, exactCount.getAsLong());
+        }
+    }
+
+    private static OptionalLong knownTotal(Slice<?> slice, Pageable pageable) {
+        if (slice.hasNext()) {
+            return OptionalLong.empty();
+        }
+        if (pageable.isUnpaged() || slice.hasContent() || pageable.getOffset() == 0) {
+            return OptionalLong.of(minimumTotal(slice, pageable));
+        }
+        return OptionalLong.empty();
+    }
+
+    private static long minimumTotal(Slice<?> slice, Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        return offset + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+    }
+
+    private static <T> PageImpl<T> toPage(Slice<T> slice, Pageable pageable, long total) {
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        countExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,61 @@
+package com.inventory.pagination;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Planner-statistics row estimates for the active rows of a table.
+ * <p>
+ * On PostgreSQL this asks the planner for the row estimate of {@code WHERE active = true}, which
+ * only plans the statement and never scans the table. Other databases report no estimate and
+ * callers fall back to an exact count.
+ */
+@Component
+public class RowCountEstimator {
+
+    private static final Logger log = LoggerFactory.getLogger(RowCountEstimator.class);
+    private static final Set<String> TABLES = Set.of("products", "suppliers", "stock_movements");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private volatile Boolean postgres;
+
+    public RowCountEstimator(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    public OptionalLong estimateActiveRows(String table) {
+        if (!TABLES.contains(table) || !isPostgres()) {
+            return OptionalLong.empty();
+        }
+        try {
+            String plan = jdbcTemplate.queryForObject(
+                    "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + table + " WHERE active = true", String.class);
+            JsonNode rows = objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows");
+            return rows.isNumber() ? OptionalLong.of(rows.asLong()) : OptionalLong.empty();
+        } catch (Exception e) {
+            log.debug("Could not estimate row count for {}", table, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            result = "PostgreSQL".equalsIgnoreCase(product);
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+package com.inventory.pricing;
+
+import com.inventory.bulkhead.Bulkhead;
+import com.inventory.dto.request.BulkPriceUpdateRequest;
+import com.inventory.dto.request.ProductFilterRequest;
+import com.inventory.dto.request.SkuPriceRequest;
+import com.inventory.dto.response.BulkPriceUpdateResponse;
+import com.inventory.entity.Product;
+import com.inventory.enums.Workload;
+import com.inventory.event.ProductBatchChangedEvent;
+import com.inventory.repository.ProductRepository;
+import com.inventory.search.ProductFilterIndex;
+import com.inventory.search.ProductSearchCriteria;
+import com.inventory.specification.ProductSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Changes the prices of many products at once, without loading them.
+ * <p>
+ * Prices given by SKU are written in chunks of {@code inventory.repricing.chunk-size}, each in its
+ * own transaction as one JDBC batch of updates keyed by SKU; SKUs whose update touched no row are
+ * reported as unknown. A percentage change is applied to the products matching a search filter,
+ * read in keyset order, with one statement per chunk. Either way versions are bumped, so ETags
+ * change, caches drop each chunk's products with one event as it commits, and the product filter
+ * index is reloaded once at the end. Chunks that committed stay applied if a later one fails.
+ */
+@Component
+public class BulkRepricer {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkRepricer.class);
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final String UPDATE_BY_SKU =
+            "UPDATE products SET price = ?, version = version + 1, updated_at = ? WHERE sku = ? AND active = true";
+
+    private final ProductRepository productRepository;
+    private final ProductFilterIndex productFilterIndex;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public BulkRepricer(ProductRepository productRepository,
+                        ProductFilterIndex productFilterIndex,
+                        EntityManager entityManager,
+                        JdbcTemplate jdbcTemplate,
+                        TransactionTemplate transactionTemplate,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${inventory.repricing.chunk-size:1000}") int chunkSize) {
+        this.productRepository = productRepository;
+        this.productFilterIndex = productFilterIndex;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Bulkhead(Workload.BULK)
+    public BulkPriceUpdateResponse reprice(BulkPriceUpdateRequest request) {
+        long started = System.nanoTime();
+        Outcome outcome;
+        try {
+            outcome = request.prices() != null ? applyPrices(request.prices()) : applyPercentage(request);
+        } finally {
+            productFilterIndex.reload();
+        }
+
+        BulkPriceUpdateResponse response = new BulkPriceUpdateResponse(outcome.requested(), outcome.updated(),
+                outcome.skipped(), outcome.unknownSkus(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Repriced {} of {} products ({} skipped, {} unknown SKUs) in {} ms", response.updatedProducts(),
+                response.requestedProducts(), response.skippedProducts(), response.unknownSkus().size(),
+                response.elapsedMs());
+        return response;
+    }
+
+    private Outcome applyPrices(List<SkuPriceRequest> prices) {
+        // A SKU given twice gets its last price
+        Map<String, BigDecimal> bySku = new LinkedHashMap<>();
+        prices.forEach(price -> bySku.put(price.sku(), price.price()));
+        List<Map.Entry<String, BigDecimal>> entries = new ArrayList<>(bySku.entrySet());
+
+        long updated = 0;
+        List<String> unknownSkus = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<Map.Entry<String, BigDecimal>> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+            updated += transactionTemplate.execute(status -> applyPrices(chunk, unknownSkus));
+        }
+        return new Outcome(entries.size(), updated, 0, unknownSkus);
+    }
+
+    private int applyPrices(List<Map.Entry<String, BigDecimal>> chunk, List<String> unknownSkus) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_BY_SKU, chunk, chunk.size(), (statement, entry) -> {
+            statement.setBigDecimal(1, entry.getValue());
+            statement.setTimestamp(2, now);
+            statement.setString(3, entry.getKey());
+        });
+
+        List<String> updatedSkus = new ArrayList<>(chunk.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                String sku = chunk.get(index++).getKey();
+                if (count == 0) {
+                    unknownSkus.add(sku);
+                } else {
+                    updatedSkus.add(sku);
+                }
+            }
+        }
+        if (!updatedSkus.isEmpty()) {
+            eventPublisher.publishEvent(new ProductBatchChangedEvent(productRepository.findActiveIdsBySkus(updatedSkus)));
+        }
+        return updatedSkus.size();
+    }
+
+    private Outcome applyPercentage(BulkPriceUpdateRequest request) {
+        BigDecimal factor = BigDecimal.ONE.add(request.percentChange().divide(HUNDRED, 4, RoundingMode.UNNECESSARY));
+        Specification<Product> spec = ProductSpecification.matching(criteria(request.filter()));
+
+        long requested = 0;
+        long updated = 0;
+        UUID after = FIRST_ID;
+        while (true) {
+            UUID from = after;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<UUID> ids = findIdsAfter(spec, from);
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                int scaled = productRepository.scalePrices(ids, factor);
+                eventPublisher.publishEvent(new ProductBatchChangedEvent(ids));
+                return new Chunk(ids.get(ids.size() - 1), ids.size(), scaled);
+            });
+            if (chunk == null) {
+                return new Outcome(requested, updated, requested - updated, List.of());
+            }
+            requested += chunk.products();
+            updated += chunk.updated();
+            after = chunk.last();
+        }
+    }
+
+    private List<UUID> findIdsAfter(Specification<Product> spec, UUID after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Product> product = query.from(Product.class);
+        query.select(product.get("id"))
+                .where(spec.and(ProductSpecification.hasIdGreaterThan(after)).toPredicate(product, query, cb))
+                .orderBy(cb.asc(product.get("id")));
+        return entityManager.createQuery(query).setMaxResults(chunkSize).getResultList();
+    }
+
+    private static ProductSearchCriteria criteria(ProductFilterRequest filter) {
+        return ProductSearchCriteria.of(filter.name(), filter.category(), filter.sku(), filter.description(),
+                filter.minPrice(), filter.maxPrice(), filter.minStock(), filter.maxStock(), filter.lowStock());
+    }
+
+    private record Chunk(UUID last, int products, int updated) {
+    }
+
+    private record Outcome(long requested, long updated, long skipped, List<String> unknownSkus) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.inventory.ratelimit;
+
+import com.inventory.enums.EndpointClass;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Assigns requests to an {@link EndpointClass} from rules written as {@code "METHOD /path/pattern"}
+ * (or just a pattern, for any method). Rules are tried in {@link EndpointClass} order, so critical
+ * rules win over bulk ones; requests matching no rule are {@link EndpointClass#INTERACTIVE}.
+ */
+public class EndpointClassifier {
+
+    private final List<Rule> rules = new ArrayList<>();
+
+    public EndpointClassifier(Map<EndpointClass, List<String>> endpoints) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            for (String endpoint : endpoints.getOrDefault(endpointClass, List.of())) {
+                String[] parts = endpoint.trim().split("\\s+", 2);
+                String method = parts.length == 2 ? parts[0].toUpperCase(Locale.ROOT) : null;
+                rules.add(new Rule(method, parser.parse(parts[parts.length - 1]), endpointClass));
+            }
+        }
+    }
+
+    public EndpointClass classify(String method, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (Rule rule : rules) {
+            if ((rule.method() == null || rule.method().equals(method)) && rule.pattern().matches(container)) {
+                return rule.endpointClass();
+            }
+        }
+        return EndpointClass.INTERACTIVE;
+    }
+
+    private record Rule(String method, PathPattern pattern, EndpointClass endpointClass) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.inventory.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.enums.EndpointClass;
+import com.inventory.ratelimit.RateLimiter.Decision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Admits API requests against the caller's budget for the endpoint class and reports the budget
+ * in {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset} headers.
+ * Refused requests get {@code 429 Too Many Requests} with {@code Retry-After}.
+ * <p>
+ * Callers are identified by the configured client header, falling back to the remote address,
+ * which is the real client's once {@code server.forward-headers-strategy} resolves it behind a
+ * load balancer. The header is only authenticated when an authenticating gateway sets it, which
+ * {@code clientHeaderTrusted} declares; then it alone names the bucket. Otherwise anyone could send
+ * another client's id and drain its budget, so the bucket is the address and id together, and each
+ * address gets at most {@code maxClientsPerAddress} ids: requests naming further ids from it share
+ * the address's own bucket, so rotating the header neither escapes the budget nor floods out other
+ * clients' buckets. An address forgets its ids once idle for {@link #ADDRESS_IDLE_TIMEOUT}.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+    private static final long MAX_ADDRESSES = 100_000;
+    static final Duration ADDRESS_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final RateLimiter rateLimiter;
+    private final EndpointClassifier endpointClassifier;
+    private final String clientHeader;
+    private final boolean clientHeaderTrusted;
+    private final int maxClientsPerAddress;
+    private final Cache<String, Set<String>> clientsByAddress = Caffeine.newBuilder()
+            .maximumSize(MAX_ADDRESSES)
+            .expireAfterAccess(ADDRESS_IDLE_TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, Counter> rejections = new EnumMap<>(EndpointClass.class);
+
+    public RateLimitFilter(RateLimiter rateLimiter, EndpointClassifier endpointClassifier, String clientHeader,
+                           boolean clientHeaderTrusted, int maxClientsPerAddress, ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.endpointClassifier = endpointClassifier;
+        this.clientHeader = clientHeader;
+        this.clientHeaderTrusted = clientHeaderTrusted;
+        this.maxClientsPerAddress = maxClientsPerAddress;
+        this.objectMapper = objectMapper;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            rejections.put(endpointClass, Counter.builder("inventory.ratelimit.rejections")
+                    .description("Requests refused because the client exhausted its budget")
+                    .tag("class", endpointClass.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        Gauge.builder("inventory.ratelimit.clients", rateLimiter, RateLimiter::clients)
+                .description("Clients with rate limit buckets held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = endpointClassifier.classify(request.getMethod(), request.getRequestURI());
+        Decision decision = rateLimiter.tryAcquire(clientOf(request), endpointClass);
+
+        response.setHeader("RateLimit-Limit", Long.toString(decision.limit()));
+        response.setHeader("RateLimit-Remaining", Long.toString(decision.remaining()));
+        response.setHeader("RateLimit-Reset", Long.toString(decision.resetSeconds()));
+        if (decision.allowed()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejections.get(endpointClass).increment();
+        Map<String, Object> errors = new HashMap<>();
+        errors.put("timestamp", LocalDateTime.now());
+        errors.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errors.put("error", "Too Many Requests");
+        errors.put("message", String.format("Rate limit for %s endpoints exceeded, retry in %d seconds",
+                endpointClass.name().toLowerCase(Locale.ROOT), decision.retryAfterSeconds()));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errors);
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        String client = request.getHeader(clientHeader);
+        if (client == null || client.isBlank()) {
+            return address;
+        }
+        String clientId = client.length() > MAX_CLIENT_ID_LENGTH ? client.substring(0, MAX_CLIENT_ID_LENGTH) : client;
+        if (clientHeaderTrusted) {
+            return clientId;
+        }
+        Set<String> clients = clientsByAddress.get(address, key -> ConcurrentHashMap.newKeySet());
+        if (!clients.contains(clientId)) {
+            synchronized (clients) {
+                if (clients.size() >= maxClientsPerAddress) {
+                    return address;
+                }
+                clients.add(clientId);
+            }
+        }
+        return address + "|" + clientId;
+    }
+}
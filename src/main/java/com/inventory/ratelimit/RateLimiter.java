@@ -0,0 +1,112 @@
+package com.inventory.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory.enums.EndpointClass;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets, one per {@link EndpointClass}.
+ * <p>
+ * Each bucket is a single long holding its theoretical arrival time (the generic cell rate
+ * algorithm): the instant at which the bucket would be full again. Admitting a request moves it
+ * forward by one token interval with a compare-and-set, so there are no locks and no background
+ * refill. A request is refused when that instant lies more than a full burst ahead of now.
+ */
+public class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long[] intervals = new long[EndpointClass.values().length];
+    private final long[] tolerances = new long[EndpointClass.values().length];
+    private final long[] limits = new long[EndpointClass.values().length];
+    private final Cache<String, AtomicLongArray> buckets;
+    private final LongSupplier clock;
+
+    public RateLimiter(Map<EndpointClass, Budget> budgets, long maxClients) {
+        this(budgets, maxClients, System::nanoTime);
+    }
+
+    RateLimiter(Map<EndpointClass, Budget> budgets, long maxClients, LongSupplier clock) {
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            Budget budget = budgets.get(endpointClass);
+            if (budget == null || budget.ratePerSecond() <= 0 || budget.burst() <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit budget for " + endpointClass + ": " + budget);
+            }
+            int slot = endpointClass.ordinal();
+            intervals[slot] = Math.max(1, NANOS_PER_SECOND / budget.ratePerSecond());
+            tolerances[slot] = intervals[slot] * budget.burst();
+            limits[slot] = budget.burst();
+        }
+        // An evicted client simply starts again with full buckets
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(max(tolerances)).plusMinutes(1))
+                .build();
+        this.clock = clock;
+    }
+
+    public Decision tryAcquire(String client, EndpointClass endpointClass) {
+        int slot = endpointClass.ordinal();
+        long interval = intervals[slot];
+        long tolerance = tolerances[slot];
+        AtomicLongArray arrivals = buckets.get(client, key -> newBuckets());
+        long now = clock.getAsLong();
+        while (true) {
+            long arrival = arrivals.get(slot);
+            long next = Math.max(arrival, now) + interval;
+            long backlog = next - now;
+            if (backlog > tolerance) {
+                return new Decision(false, limits[slot], 0, seconds(arrival - now), seconds(backlog - tolerance));
+            }
+            if (arrivals.compareAndSet(slot, arrival, next)) {
+                return new Decision(true, limits[slot], (tolerance - backlog) / interval, seconds(backlog), 0);
+            }
+        }
+    }
+
+    long clients() {
+        return buckets.estimatedSize();
+    }
+
+    private static AtomicLongArray newBuckets() {
+        AtomicLongArray arrivals = new AtomicLongArray(EndpointClass.values().length);
+        for (int i = 0; i < arrivals.length(); i++) {
+            // Never used before: full bucket whatever the clock reads
+            arrivals.set(i, Long.MIN_VALUE);
+        }
+        return arrivals;
+    }
+
+    private static long seconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    private static long max(long[] values) {
+        long max = 0;
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * @param burst requests a client may make at once after being idle
+     */
+    public record Budget(long ratePerSecond, long burst) {
+    }
+
+    /**
+     * @param limit             bucket capacity
+     * @param remaining         requests that would still be admitted right now
+     * @param resetSeconds      seconds until the bucket is full again
+     * @param retryAfterSeconds seconds until the next request would be admitted, 0 when admitted
+     */
+    public record Decision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.inventory.replenishment;
+
+import com.inventory.replenishment.ReplenishmentJob.JobReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@Endpoint(id = "replenishment")
+public class ReplenishmentEndpoint {
+
+    private final ReplenishmentJob job;
+
+    public ReplenishmentEndpoint(ReplenishmentJob job) {
+        this.job = job;
+    }
+
+    @WriteOperation
+    public JobReport run(@Nullable LocalDate runDate) {
+        return job.run(runDate != null ? runDate : LocalDate.now());
+    }
+}
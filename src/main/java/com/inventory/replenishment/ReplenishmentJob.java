@@ -0,0 +1,158 @@
+package com.inventory.replenishment;
+
+import com.inventory.bulkhead.WorkloadContext;
+import com.inventory.entity.ReplenishmentSuggestion;
+import com.inventory.enums.Workload;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ReplenishmentSuggestionRepository;
+import com.inventory.repository.ReplenishmentSuggestionRepository.CandidateRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the day's reorder suggestions for the whole catalog.
+ * <p>
+ * Product ids are read in keyset order and handed out in chunks to a small worker pool, so no
+ * more than a few chunks are held in memory at a time. Each chunk is planned from one query that
+ * returns its products together with their active suppliers and sales velocity, and its
+ * suggestions are written with one JDBC batch in the same transaction that first deletes the
+ * chunk's earlier suggestions for the day, which makes reruns idempotent. When every worker is
+ * busy the reading thread plans the next chunk itself.
+ */
+@Component
+public class ReplenishmentJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplenishmentJob.class);
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final String INSERT = "INSERT INTO replenishment_suggestions (run_date, product_id, supplier_id, sku, " +
+            "stock_quantity, min_stock_level, daily_velocity, lead_time_days, reorder_point, suggested_quantity) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ProductRepository productRepository;
+    private final ReplenishmentSuggestionRepository suggestionRepository;
+    private final ReplenishmentPlanner planner;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int threads;
+    private final int retentionDays;
+
+    public ReplenishmentJob(ProductRepository productRepository,
+                            ReplenishmentSuggestionRepository suggestionRepository,
+                            ReplenishmentPlanner planner,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${inventory.replenishment.chunk-size:1000}") int chunkSize,
+                            @Value("${inventory.replenishment.threads:2}") int threads,
+                            @Value("${inventory.replenishment.retention-days:30}") int retentionDays) {
+        this.productRepository = productRepository;
+        this.suggestionRepository = suggestionRepository;
+        this.planner = planner;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(cron = "${inventory.replenishment.cron:-}")
+    void runDaily() {
+        run(LocalDate.now());
+    }
+
+    public synchronized JobReport run(LocalDate runDate) {
+        long started = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads), runnable -> {
+            Thread thread = new Thread(runnable, "replenishment-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            long products = 0;
+            UUID after = FIRST_ID;
+            List<UUID> productIds;
+            while (!(productIds = productRepository.findIdsAfter(after, PageRequest.ofSize(chunkSize))).isEmpty()) {
+                products += productIds.size();
+                after = productIds.get(productIds.size() - 1);
+                List<UUID> chunk = productIds;
+                chunks.add(executor.submit(() -> WorkloadContext.callIn(Workload.BULK, () -> plan(runDate, chunk, now))));
+            }
+
+            long suggestions = 0;
+            for (Future<Integer> chunk : chunks) {
+                suggestions += chunk.get();
+            }
+            int expired = WorkloadContext.callIn(Workload.BULK, () -> transactionTemplate.execute(
+                    status -> suggestionRepository.deleteRunsBefore(runDate.minusDays(retentionDays))));
+
+            JobReport report = new JobReport(runDate, products, chunks.size(), suggestions, expired,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            log.info("Planned {} reorder suggestions for {} for {} products in {} chunks in {} ms",
+                    report.suggestions(), report.runDate(), report.products(), report.chunks(), report.elapsedMs());
+            return report;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Replenishment run failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replenishment run interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int plan(LocalDate runDate, List<UUID> productIds, LocalDateTime now) {
+        return transactionTemplate.execute(status -> {
+            Map<UUID, List<CandidateRow>> offers = new LinkedHashMap<>();
+            for (CandidateRow row : suggestionRepository.findCandidates(productIds)) {
+                offers.computeIfAbsent(row.getProductId(), productId -> new ArrayList<>()).add(row);
+            }
+            List<ReplenishmentSuggestion> suggestions = new ArrayList<>();
+            offers.values().forEach(productOffers ->
+                    planner.plan(runDate, productOffers, now).ifPresent(suggestions::add));
+
+            suggestionRepository.deleteByRunDateAndProductIds(runDate, productIds);
+            jdbcTemplate.batchUpdate(INSERT, suggestions, suggestions.size(), (statement, suggestion) -> {
+                statement.setObject(1, suggestion.getId().getRunDate());
+                statement.setObject(2, suggestion.getId().getProductId());
+                statement.setObject(3, suggestion.getSupplierId());
+                statement.setString(4, suggestion.getSku());
+                statement.setInt(5, suggestion.getStockQuantity());
+                statement.setInt(6, suggestion.getMinStockLevel());
+                statement.setDouble(7, suggestion.getDailyVelocity());
+                statement.setInt(8, suggestion.getLeadTimeDays());
+                statement.setInt(9, suggestion.getReorderPoint());
+                statement.setInt(10, suggestion.getSuggestedQuantity());
+            });
+            return suggestions.size();
+        });
+    }
+
+    public record JobReport(LocalDate runDate, long products, int chunks, long suggestions, int expiredSuggestions,
+                            long elapsedMs) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.inventory.replenishment;
+
+import com.inventory.entity.ReplenishmentSuggestion;
+import com.inventory.entity.ReplenishmentSuggestionId;
+import com.inventory.repository.ReplenishmentSuggestionRepository.CandidateRow;
+import com.inventory.velocity.DemandVelocityTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decides whether a product needs reordering and from which supplier.
+ * <p>
+ * The supplier is the one with the shortest lead time once adjusted for reliability: average
+ * delivery days times {@code 1 + (5 - rating) / 4}, so a 5-star supplier counts at face value,
+ * a 1-star one at double and an unrated one at one and a half. Suppliers without delivery days
+ * are assumed to take {@code inventory.replenishment.default-lead-days}.
+ * <p>
+ * The reorder point is the minimum stock level plus expected sales over that supplier's lead
+ * time. At or below it the suggestion tops stock up to the reorder point plus expected sales
+ * over {@code inventory.replenishment.review-days}, the time until the order is reconsidered.
+ */
+@Component
+public class ReplenishmentPlanner {
+
+    private static final BigDecimal UNRATED = new BigDecimal("3");
+
+    private final DemandVelocityTracker demandVelocityTracker;
+    private final int defaultLeadDays;
+    private final int reviewDays;
+
+    public ReplenishmentPlanner(DemandVelocityTracker demandVelocityTracker,
+                                @Value("${inventory.replenishment.default-lead-days:7}") int defaultLeadDays,
+                                @Value("${inventory.replenishment.review-days:7}") int reviewDays) {
+        this.demandVelocityTracker = demandVelocityTracker;
+        this.defaultLeadDays = defaultLeadDays;
+        this.reviewDays = reviewDays;
+    }
+
+    /**
+     * @param offers one row per active supplier of the same product
+     */
+    public Optional<ReplenishmentSuggestion> plan(LocalDate runDate, List<CandidateRow> offers, LocalDateTime now) {
+        CandidateRow best = offers.stream()
+                .min(Comparator.comparingDouble(this::effectiveLeadDays)
+                        .thenComparing(CandidateRow::getRating, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(CandidateRow::getSupplierId))
+                .orElseThrow();
+
+        int stock = best.getStockQuantity() != null ? best.getStockQuantity() : 0;
+        int minStock = best.getMinStockLevel() != null ? best.getMinStockLevel() : 0;
+        double velocity = best.getLogWeight() != null
+                ? demandVelocityTracker.dailyVelocity(best.getLogWeight(), best.getTrackedSince(), now)
+                : 0;
+        int leadDays = leadDays(best);
+        int reorderPoint = minStock + (int) Math.ceil(velocity * leadDays);
+        if (reorderPoint <= 0 || stock > reorderPoint) {
+            return Optional.empty();
+        }
+
+        int target = reorderPoint + (int) Math.ceil(velocity * reviewDays);
+        int quantity = Math.max(target - stock, 1);
+        return Optional.of(new ReplenishmentSuggestion(new ReplenishmentSuggestionId(runDate, best.getProductId()),
+                best.getSupplierId(), best.getSku(), stock, minStock, velocity, leadDays, reorderPoint, quantity));
+    }
+
+    private double effectiveLeadDays(CandidateRow offer) {
+        double rating = (offer.getRating() != null ? offer.getRating() : UNRATED).doubleValue();
+        return leadDays(offer) * (1 + (5 - rating) / 4);
+    }
+
+    private int leadDays(CandidateRow offer) {
+        return offer.getDeliveryDays() != null ? offer.getDeliveryDays() : defaultLeadDays;
+    }
+}
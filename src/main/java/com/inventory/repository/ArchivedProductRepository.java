@@ -0,0 +1,50 @@
+package com.inventory.repository;
+
+import com.inventory.entity.ArchivedProduct;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedProductRepository extends JpaRepository<ArchivedProduct, UUID> {
+
+    String COLUMNS = "id, name, description, sku, original_sku, price, stock_quantity, min_stock_level, category, " +
+            "created_at, updated_at, active, deleted_at, version";
+
+    // Archival: copy soft-deleted products and their supplier links, before the hot rows are deleted
+    @Modifying
+    @Query(value = "INSERT INTO archived_products (" + COLUMNS + ", archived_at) " +
+            "SELECT " + COLUMNS + ", :archivedAt FROM products WHERE id IN (:ids)", nativeQuery = true)
+    int copyProducts(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_product_suppliers (product_id, supplier_id) " +
+            "SELECT product_id, supplier_id FROM product_suppliers WHERE product_id IN (:ids)", nativeQuery = true)
+    int copySupplierLinks(@Param("ids") Collection<UUID> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ArchivedProduct a WHERE a.id = :id")
+    Optional<ArchivedProduct> lockById(@Param("id") UUID id);
+
+    // Restore: the product comes back active under its original SKU, with a new version and so a new ETag
+    @Modifying
+    @Query(value = "INSERT INTO products (" + COLUMNS + ") " +
+            "SELECT id, name, description, :sku, NULL, price, stock_quantity, min_stock_level, category, " +
+            "created_at, CURRENT_TIMESTAMP, true, NULL, version + 1 FROM archived_products WHERE id = :id",
+            nativeQuery = true)
+    int restoreProduct(@Param("id") UUID id, @Param("sku") String sku);
+
+    @Modifying
+    @Query(value = "INSERT INTO product_suppliers (product_id, supplier_id) " +
+            "SELECT product_id, supplier_id FROM archived_product_suppliers WHERE product_id = :id", nativeQuery = true)
+    int restoreSupplierLinks(@Param("id") UUID id);
+}
@@ -0,0 +1,33 @@
+package com.inventory.repository;
+
+import com.inventory.entity.ArchivedStockMovement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedStockMovementRepository extends JpaRepository<ArchivedStockMovement, UUID> {
+
+    String COLUMNS = "id, product_id, location_id, movement_type, quantity, previous_stock, new_stock, reason, " +
+            "reference, notes, created_by, created_at, updated_at, active, deleted_at, version";
+
+    @Modifying
+    @Query(value = "INSERT INTO archived_stock_movements (" + COLUMNS + ", archived_at) " +
+            "SELECT " + COLUMNS + ", :archivedAt FROM stock_movements WHERE id IN (:ids)", nativeQuery = true)
+    int copyMovements(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO stock_movements (" + COLUMNS + ") " +
+            "SELECT " + COLUMNS + " FROM archived_stock_movements WHERE product_id = :productId", nativeQuery = true)
+    int restoreMovements(@Param("productId") UUID productId);
+
+    @Modifying
+    @Query(value = "DELETE FROM archived_stock_movements WHERE product_id = :productId", nativeQuery = true)
+    int deleteByProductId(@Param("productId") UUID productId);
+}
@@ -0,0 +1,41 @@
+package com.inventory.repository;
+
+import com.inventory.entity.DemandVelocity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DemandVelocityRepository extends JpaRepository<DemandVelocity, UUID> {
+
+    // Days of cover are stock / velocity; ordering by their logarithm drops the terms every product shares
+    @Query("SELECT p.id AS productId, p.sku AS sku, p.name AS name, p.stockQuantity AS stockQuantity, " +
+            "v.logWeight AS logWeight, v.trackedSince AS trackedSince, v.lastSaleAt AS lastSaleAt " +
+            "FROM DemandVelocity v JOIN Product p ON p.id = v.productId WHERE p.active = true " +
+            "ORDER BY CASE WHEN p.stockQuantity > 0 THEN 1 ELSE 0 END, " +
+            "CASE WHEN p.stockQuantity > 0 THEN LN(p.stockQuantity) - v.logWeight + LN(1 - EXP(:lambda * " +
+            "CASE WHEN v.trackedSince - :today < -1 THEN v.trackedSince - :today ELSE -1.0 END)) END, p.id")
+    List<CoverRow> findLowestCover(@Param("lambda") double lambda, @Param("today") double today, Pageable pageable);
+
+    interface CoverRow {
+        UUID getProductId();
+
+        String getSku();
+
+        String getName();
+
+        Integer getStockQuantity();
+
+        double getLogWeight();
+
+        double getTrackedSince();
+
+        LocalDateTime getLastSaleAt();
+    }
+}
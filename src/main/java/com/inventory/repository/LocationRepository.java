@@ -0,0 +1,29 @@
+package com.inventory.repository;
+
+import com.inventory.entity.Location;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LocationRepository extends JpaRepository<Location, UUID> {
+
+    Optional<Location> findByCode(String code);
+
+    boolean existsByCode(String code);
+
+    Page<Location> findByActiveTrue(Pageable pageable);
+
+    // Creates the default location; concurrent starts and first movements may all try
+    @Modifying
+    @Query(value = "INSERT INTO locations (id, code, name, active, created_at, version) " +
+            "VALUES (:id, :code, :name, true, CURRENT_TIMESTAMP, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfMissing(@Param("id") UUID id, @Param("code") String code, @Param("name") String name);
+}
@@ -0,0 +1,43 @@
+package com.inventory.repository;
+
+import com.inventory.entity.MovementRollup;
+import com.inventory.entity.MovementRollupId;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MovementRollupRepository extends JpaRepository<MovementRollup, MovementRollupId> {
+
+    List<MovementRollup> findByIdProductIdAndIdDateBetween(UUID productId, LocalDate from, LocalDate to);
+
+    // Flushes first, so the movements and stock rows of the transaction are written before their rollups
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MovementRollup r SET r.movements = r.movements + :movements, r.quantity = r.quantity + :quantity " +
+            "WHERE r.id.productId = :productId AND r.id.locationId = :locationId AND r.id.date = :date " +
+            "AND r.id.movementType = :movementType AND r.id.reason = :reason")
+    int increment(@Param("productId") UUID productId, @Param("locationId") UUID locationId, @Param("date") LocalDate date,
+                  @Param("movementType") MovementType movementType, @Param("reason") MovementReason reason,
+                  @Param("movements") long movements, @Param("quantity") long quantity);
+
+    // Backfill: rebuild the rollups of a chunk of products from their movement history
+    @Modifying
+    @Query(value = "DELETE FROM movement_rollups WHERE product_id IN (:productIds)", nativeQuery = true)
+    int deleteByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO movement_rollups (product_id, location_id, movement_date, movement_type, reason, movements, quantity) " +
+            "SELECT product_id, location_id, CAST(created_at AS DATE), movement_type, reason, COUNT(*), SUM(quantity) " +
+            "FROM stock_movements WHERE product_id IN (:productIds) AND active = true " +
+            "GROUP BY product_id, location_id, CAST(created_at AS DATE), movement_type, reason", nativeQuery = true)
+    int insertFromMovements(@Param("productIds") Collection<UUID> productIds);
+}
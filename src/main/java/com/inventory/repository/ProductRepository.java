@@ -1,24 +1,48 @@
 package com.inventory.repository;
 
 import com.inventory.entity.Product;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product> {
 
-    Page<Product> findByActiveTrue(Pageable pageable);
+
+    // Count-free variants for Slice and estimated/parallel count pagination
+    Slice<Product> findSliceByActiveTrue(Pageable pageable);
+
+    long countByActiveTrue();
     
     Optional<Product> findBySkuAndActiveTrue(String sku);
 
+    // Batch lookups: each product arrives with its suppliers in the same statement
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.suppliers WHERE p.id IN :ids AND p.active = true")
+    List<Product> findActiveWithSuppliersByIds(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.suppliers WHERE p.sku IN :skus AND p.active = true")
+    List<Product> findActiveWithSuppliersBySkus(@Param("skus") Collection<String> skus);
+
     // Find by category (active only)
     Page<Product> findByCategoryAndActiveTrue(String category, Pageable pageable);
 
@@ -35,4 +59,109 @@ public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpec
 
     // Check if SKU exists (for validation, active only)
     boolean existsBySkuAndActiveTrue(String sku);
-}
\ No newline at end of file
+
+    // Active and low-stock product counts in a single scan (metrics gauges)
+    @Query("SELECT COUNT(p) AS active, " +
+            "COALESCE(SUM(CASE WHEN p.stockQuantity <= p.minStockLevel THEN 1 ELSE 0 END), 0) AS lowStock " +
+            "FROM Product p WHERE p.active = true")
+    StockLevelCounts countActiveAndLowStock();
+
+    // Filter columns of all active products (in-memory product filter index)
+    @Query("SELECT p.id AS id, p.version AS version, p.price AS price, p.stockQuantity AS stockQuantity, " +
+            "p.minStockLevel AS minStockLevel, p.category AS category FROM Product p WHERE p.active = true")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<ProductFilterRow> streamActiveFilterRows();
+
+    @Query("SELECT p.id AS productId, s.id AS supplierId FROM Product p JOIN p.suppliers s WHERE p.active = true")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<ProductSupplierLink> streamActiveSupplierLinks();
+
+    // Keyset pages of product ids (rollup backfill)
+    @Query("SELECT p.id FROM Product p WHERE p.id > :after ORDER BY p.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    // Holds off stock writes to these products until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids")
+    List<Product> lockAllById(@Param("ids") Collection<UUID> ids);
+
+    // Returns nothing while another transaction holds the row, instead of waiting for it. Native because
+    // Hibernate's H2 dialect drops SKIP LOCKED from a lock timeout hint
+    @Query(value = "SELECT * FROM products WHERE id = :id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<Product> lockIfAvailable(@Param("id") UUID id);
+
+    // Bulk supplier assignment: lock the products whose links change, then rewrite them set-based
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND p.active = true AND NOT EXISTS " +
+            "(SELECT s.id FROM p.suppliers s WHERE s.id = :supplierId) ORDER BY p.id")
+    List<UUID> lockActiveWithoutSupplier(@Param("ids") Collection<UUID> ids, @Param("supplierId") UUID supplierId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND EXISTS " +
+            "(SELECT s.id FROM p.suppliers s WHERE s.id = :supplierId) ORDER BY p.id")
+    List<UUID> lockWithSupplier(@Param("ids") Collection<UUID> ids, @Param("supplierId") UUID supplierId);
+
+    @Query("SELECT p.id FROM Product p JOIN p.suppliers s WHERE p.id IN :ids GROUP BY p.id HAVING COUNT(s) = 1")
+    List<UUID> findIdsWithSingleSupplier(@Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query(value = "INSERT INTO product_suppliers (product_id, supplier_id) " +
+            "SELECT p.id, :supplierId FROM products p WHERE p.id IN (:ids)", nativeQuery = true)
+    int insertSupplierLinks(@Param("ids") Collection<UUID> ids, @Param("supplierId") UUID supplierId);
+
+    @Modifying
+    @Query(value = "DELETE FROM product_suppliers WHERE product_id IN (:ids) AND supplier_id = :supplierId",
+            nativeQuery = true)
+    int deleteSupplierLinks(@Param("ids") Collection<UUID> ids, @Param("supplierId") UUID supplierId);
+
+    // Archival: products soft-deleted before the cutoff whose movements are already archived
+    @Query("SELECT p.id FROM Product p WHERE p.active = false AND p.deletedAt < :cutoff AND NOT EXISTS " +
+            "(SELECT m.id FROM StockMovement m WHERE m.product = p) ORDER BY p.id")
+    List<UUID> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM product_suppliers WHERE product_id IN (:ids)", nativeQuery = true)
+    int deleteAllSupplierLinks(@Param("ids") Collection<UUID> ids);
+
+    // New versions, and so new ETags, for products whose links were rewritten outside the entity
+    @Modifying
+    @Query(value = "UPDATE products SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id IN (:ids)",
+            nativeQuery = true)
+    int touchAll(@Param("ids") Collection<UUID> ids);
+
+    // Repricing by percentage; a product whose rounded price would leave the column's range keeps its price
+    @Modifying
+    @Query(value = "UPDATE products SET price = ROUND(price * :factor, 2), version = version + 1, " +
+            "updated_at = CURRENT_TIMESTAMP WHERE id IN (:ids) AND ROUND(price * :factor, 2) BETWEEN 0.01 AND 99999999.99",
+            nativeQuery = true)
+    int scalePrices(@Param("ids") Collection<UUID> ids, @Param("factor") BigDecimal factor);
+
+    @Query("SELECT p.id FROM Product p WHERE p.sku IN :skus AND p.active = true")
+    List<UUID> findActiveIdsBySkus(@Param("skus") Collection<String> skus);
+
+    interface StockLevelCounts {
+        long getActive();
+
+        long getLowStock();
+    }
+
+    interface ProductFilterRow {
+        UUID getId();
+
+        Long getVersion();
+
+        BigDecimal getPrice();
+
+        Integer getStockQuantity();
+
+        Integer getMinStockLevel();
+
+        String getCategory();
+    }
+
+    interface ProductSupplierLink {
+        UUID getProductId();
+
+        UUID getSupplierId();
+    }
+}
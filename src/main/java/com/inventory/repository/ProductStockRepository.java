@@ -0,0 +1,94 @@
+package com.inventory.repository;
+
+import com.inventory.entity.ProductStock;
+import com.inventory.entity.ProductStockId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProductStockRepository extends JpaRepository<ProductStock, ProductStockId> {
+
+    // Stock rows start at zero the first time a product moves at a location; concurrent first movements may all try
+    @Modifying
+    @Query(value = "INSERT INTO product_stocks (product_id, location_id, quantity, updated_at) " +
+            "VALUES (:productId, :locationId, 0, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfMissing(@Param("productId") UUID productId, @Param("locationId") UUID locationId);
+
+    // Restore: the product's stock goes back to the default location, as after seedFromProducts
+    @Modifying
+    @Query(value = "INSERT INTO product_stocks (product_id, location_id, quantity, updated_at) " +
+            "SELECT p.id, l.id, p.stock_quantity, CURRENT_TIMESTAMP FROM products p JOIN locations l ON l.code = :locationCode " +
+            "WHERE p.id = :productId AND NOT EXISTS (SELECT 1 FROM product_stocks s WHERE s.product_id = p.id)",
+            nativeQuery = true)
+    int seedIfUnstocked(@Param("productId") UUID productId, @Param("locationCode") String locationCode);
+
+    // Serializes the movements of one product at one location
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStock s WHERE s.id.productId = :productId AND s.id.locationId = :locationId")
+    Optional<ProductStock> lockById(@Param("productId") UUID productId, @Param("locationId") UUID locationId);
+
+    // Holds off stock writes to these products at every location until the transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStock s WHERE s.id.productId IN :productIds ORDER BY s.id.productId, s.id.locationId")
+    List<ProductStock> lockAllByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM ProductStock s WHERE s.id.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") UUID productId);
+
+    // Served from the primary key, which leads with the product
+    @Query("SELECT l.id AS locationId, l.code AS locationCode, p.id AS productId, p.sku AS sku, p.name AS name, " +
+            "s.quantity AS quantity, s.updatedAt AS updatedAt " +
+            "FROM ProductStock s JOIN Location l ON l.id = s.id.locationId JOIN Product p ON p.id = s.id.productId " +
+            "WHERE s.id.productId = :productId ORDER BY l.code")
+    List<LocationStockRow> findByProductId(@Param("productId") UUID productId);
+
+    // Served from idx_product_stocks_location_product, in index order
+    @Query(value = "SELECT l.id AS locationId, l.code AS locationCode, p.id AS productId, p.sku AS sku, p.name AS name, " +
+            "s.quantity AS quantity, s.updatedAt AS updatedAt " +
+            "FROM ProductStock s JOIN Location l ON l.id = s.id.locationId JOIN Product p ON p.id = s.id.productId " +
+            "WHERE s.id.locationId = :locationId AND p.active = true ORDER BY s.id.productId",
+            countQuery = "SELECT COUNT(s) FROM ProductStock s JOIN Product p ON p.id = s.id.productId " +
+                    "WHERE s.id.locationId = :locationId AND p.active = true")
+    Page<LocationStockRow> findByLocationId(@Param("locationId") UUID locationId, Pageable pageable);
+
+    // Startup: products without any stock row keep their stock at the default location
+    @Modifying
+    @Query(value = "INSERT INTO product_stocks (product_id, location_id, quantity, updated_at) " +
+            "SELECT p.id, :locationId, p.stock_quantity, CURRENT_TIMESTAMP FROM products p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM product_stocks s WHERE s.product_id = p.id)", nativeQuery = true)
+    int seedFromProducts(@Param("locationId") UUID locationId);
+
+    // Archival: a deleted product holds no stock, so its rows are dropped rather than archived
+    @Modifying
+    @Query(value = "DELETE FROM product_stocks WHERE product_id IN (:productIds)", nativeQuery = true)
+    int deleteByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    interface LocationStockRow {
+        UUID getLocationId();
+
+        String getLocationCode();
+
+        UUID getProductId();
+
+        String getSku();
+
+        String getName();
+
+        int getQuantity();
+
+        LocalDateTime getUpdatedAt();
+    }
+}
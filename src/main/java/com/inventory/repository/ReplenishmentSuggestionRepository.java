@@ -0,0 +1,69 @@
+package com.inventory.repository;
+
+import com.inventory.entity.ReplenishmentSuggestion;
+import com.inventory.entity.ReplenishmentSuggestionId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ReplenishmentSuggestionRepository extends JpaRepository<ReplenishmentSuggestion, ReplenishmentSuggestionId> {
+
+    Page<ReplenishmentSuggestion> findBySupplierIdAndIdRunDate(UUID supplierId, LocalDate runDate, Pageable pageable);
+
+    @Query("SELECT MAX(s.id.runDate) FROM ReplenishmentSuggestion s")
+    Optional<LocalDate> findLatestRunDate();
+
+    // One row per active product and active supplier, with the product's sales velocity when it has one
+    @Query("SELECT p.id AS productId, p.sku AS sku, p.stockQuantity AS stockQuantity, p.minStockLevel AS minStockLevel, " +
+            "v.logWeight AS logWeight, v.trackedSince AS trackedSince, " +
+            "s.id AS supplierId, s.averageDeliveryDays AS deliveryDays, s.rating AS rating " +
+            "FROM Product p JOIN p.suppliers s LEFT JOIN DemandVelocity v ON v.productId = p.id " +
+            "WHERE p.id IN :productIds AND p.active = true AND s.status = com.inventory.enums.SupplierStatus.ACTIVE " +
+            "ORDER BY p.id")
+    List<CandidateRow> findCandidates(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM replenishment_suggestions WHERE run_date = :runDate AND product_id IN (:productIds)",
+            nativeQuery = true)
+    int deleteByRunDateAndProductIds(@Param("runDate") LocalDate runDate, @Param("productIds") Collection<UUID> productIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM replenishment_suggestions WHERE run_date < :before", nativeQuery = true)
+    int deleteRunsBefore(@Param("before") LocalDate before);
+
+    @Modifying
+    @Query(value = "DELETE FROM replenishment_suggestions WHERE product_id IN (:productIds)", nativeQuery = true)
+    int deleteByProductIds(@Param("productIds") Collection<UUID> productIds);
+
+    interface CandidateRow {
+        UUID getProductId();
+
+        String getSku();
+
+        Integer getStockQuantity();
+
+        Integer getMinStockLevel();
+
+        Double getLogWeight();
+
+        Double getTrackedSince();
+
+        UUID getSupplierId();
+
+        Integer getDeliveryDays();
+
+        BigDecimal getRating();
+    }
+}
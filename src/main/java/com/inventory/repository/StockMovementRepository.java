@@ -3,10 +3,15 @@ package com.inventory.repository;
 import com.inventory.entity.StockMovement;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -18,4 +23,26 @@ public interface StockMovementRepository extends JpaRepository<StockMovement, UU
     Page<StockMovement> findAllActiveWithProduct(Pageable pageable);
 
     Page<StockMovement> findByProductIdAndActiveTrueOrderByCreatedAtDesc(UUID productId, Pageable pageable);
+
+    // Count-free variants for Slice and estimated/parallel count pagination
+    Slice<StockMovement> findSliceByActiveTrueOrderByCreatedAtDesc(Pageable pageable);
+
+    long countByActiveTrue();
+
+    Slice<StockMovement> findSliceByProductIdAndActiveTrueOrderByCreatedAtDesc(UUID productId, Pageable pageable);
+
+    long countByProductIdAndActiveTrue(UUID productId);
+
+    // Served from idx_stock_movements_location_created
+    Page<StockMovement> findByLocationIdAndActiveTrueOrderByCreatedAtDesc(UUID locationId, Pageable pageable);
+
+    // Startup: movements recorded before locations existed happened at the default location
+    @Modifying
+    @Query(value = "UPDATE stock_movements SET location_id = :locationId WHERE location_id IS NULL", nativeQuery = true)
+    int assignUnlocated(@Param("locationId") UUID locationId);
+
+    // Archival: movements of products soft-deleted before the cutoff, one batch at a time
+    @Query("SELECT m.id FROM StockMovement m WHERE m.product.active = false AND m.product.deletedAt < :cutoff " +
+            "ORDER BY m.id")
+    List<UUID> findIdsOfProductsDeletedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
\ No newline at end of file
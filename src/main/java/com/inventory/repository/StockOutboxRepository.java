@@ -0,0 +1,20 @@
+package com.inventory.repository;
+
+import com.inventory.entity.StockOutboxEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StockOutboxRepository extends JpaRepository<StockOutboxEntry, UUID> {
+
+    boolean existsByProductId(UUID productId);
+
+    List<StockOutboxEntry> findByProductId(UUID productId);
+
+    @Query("SELECT DISTINCT e.productId FROM StockOutboxEntry e")
+    List<UUID> findPendingProductIds();
+}
@@ -4,12 +4,14 @@ import com.inventory.entity.Product;
 import com.inventory.entity.Supplier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -17,6 +19,13 @@ public interface SupplierRepository extends JpaRepository<Supplier, UUID>, JpaSp
 
     Page<Supplier> findByActiveTrue(Pageable pageable);
 
+    // Count-free variants for Slice and estimated/parallel count pagination
+    Slice<Supplier> findSliceByActiveTrue(Pageable pageable);
+
+    long countByActiveTrue();
+
+    List<Supplier> findAllByActiveTrue();
+
     boolean existsByBusinessIdAndActiveTrue(String businessId);
 
     @Query("SELECT p FROM Supplier s JOIN s.products p WHERE s.id = :supplierId AND s.active = true AND p.active = true")
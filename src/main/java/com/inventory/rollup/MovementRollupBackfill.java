@@ -0,0 +1,111 @@
+package com.inventory.rollup;
+
+import com.inventory.bulkhead.WorkloadContext;
+import com.inventory.enums.Workload;
+import com.inventory.repository.MovementRollupRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rebuilds the daily rollups of every product from its movement history.
+ * <p>
+ * Product ids are read in keyset order and handed out in chunks to a small worker pool; each
+ * chunk is rebuilt with one set-based statement in its own transaction, which locks the stock
+ * rows of the chunk's products so stock movements recorded meanwhile wait for it rather than
+ * being counted twice or lost. When every worker is busy the reading thread rebuilds the next chunk itself.
+ */
+@Component
+public class MovementRollupBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(MovementRollupBackfill.class);
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final ProductRepository productRepository;
+    private final MovementRollupRepository movementRollupRepository;
+    private final ProductStockRepository productStockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int threads;
+
+    public MovementRollupBackfill(ProductRepository productRepository,
+                                  MovementRollupRepository movementRollupRepository,
+                                  ProductStockRepository productStockRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${inventory.rollups.backfill.chunk-size:500}") int chunkSize,
+                                  @Value("${inventory.rollups.backfill.threads:2}") int threads) {
+        this.productRepository = productRepository;
+        this.movementRollupRepository = movementRollupRepository;
+        this.productStockRepository = productStockRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.threads = threads;
+    }
+
+    public synchronized BackfillReport run() {
+        long started = System.nanoTime();
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads), runnable -> {
+            Thread thread = new Thread(runnable, "rollup-backfill-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            List<Future<Integer>> chunks = new ArrayList<>();
+            long products = 0;
+            UUID after = FIRST_ID;
+            List<UUID> productIds;
+            while (!(productIds = productRepository.findIdsAfter(after, PageRequest.ofSize(chunkSize))).isEmpty()) {
+                products += productIds.size();
+                after = productIds.get(productIds.size() - 1);
+                List<UUID> chunk = productIds;
+                chunks.add(executor.submit(() -> WorkloadContext.callIn(Workload.BULK, () -> rebuild(chunk))));
+            }
+
+            long rollups = 0;
+            for (Future<Integer> chunk : chunks) {
+                rollups += chunk.get();
+            }
+            BackfillReport report = new BackfillReport(products, chunks.size(), rollups,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            log.info("Rebuilt {} movement rollups for {} products in {} chunks in {} ms",
+                    report.rollups(), report.products(), report.chunks(), report.elapsedMs());
+            return report;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Movement rollup backfill failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Movement rollup backfill interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int rebuild(List<UUID> productIds) {
+        return transactionTemplate.execute(status -> {
+            productStockRepository.lockAllByProductIds(productIds);
+            movementRollupRepository.deleteByProductIds(productIds);
+            return movementRollupRepository.insertFromMovements(productIds);
+        });
+    }
+
+    public record BackfillReport(long products, int chunks, long rollups, long elapsedMs) {
+    }
+}
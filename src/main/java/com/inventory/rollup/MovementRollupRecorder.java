@@ -0,0 +1,49 @@
+package com.inventory.rollup;
+
+import com.inventory.entity.MovementRollup;
+import com.inventory.entity.MovementRollupId;
+import com.inventory.entity.StockMovement;
+import com.inventory.repository.MovementRollupRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds newly saved movements to their daily rollups inside the transaction that saved them.
+ * <p>
+ * Rollup rows of a product at a location are only written by transactions holding the lock on
+ * its stock row at that location, taken before any movement is applied. That lock serializes the
+ * writers of each rollup row, so the increment-or-insert below cannot race.
+ */
+@Component
+public class MovementRollupRecorder {
+
+    private final MovementRollupRepository movementRollupRepository;
+    private final EntityManager entityManager;
+
+    public MovementRollupRecorder(MovementRollupRepository movementRollupRepository, EntityManager entityManager) {
+        this.movementRollupRepository = movementRollupRepository;
+        this.entityManager = entityManager;
+    }
+
+    public void record(List<StockMovement> movements) {
+        Map<MovementRollupId, long[]> totals = new LinkedHashMap<>();
+        for (StockMovement movement : movements) {
+            MovementRollupId id = new MovementRollupId(movement.getProduct().getId(), movement.getLocation().getId(),
+                    movement.getCreatedAt().toLocalDate(), movement.getMovementType(), movement.getReason());
+            long[] total = totals.computeIfAbsent(id, key -> new long[2]);
+            total[0]++;
+            total[1] += movement.getQuantity();
+        }
+        totals.forEach((id, total) -> {
+            int updated = movementRollupRepository.increment(id.getProductId(), id.getLocationId(), id.getDate(),
+                    id.getMovementType(), id.getReason(), total[0], total[1]);
+            if (updated == 0) {
+                entityManager.persist(new MovementRollup(id, total[0], total[1]));
+            }
+        });
+    }
+}
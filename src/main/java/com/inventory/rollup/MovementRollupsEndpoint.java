@@ -0,0 +1,22 @@
+package com.inventory.rollup;
+
+import com.inventory.rollup.MovementRollupBackfill.BackfillReport;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "movementrollups")
+public class MovementRollupsEndpoint {
+
+    private final MovementRollupBackfill backfill;
+
+    public MovementRollupsEndpoint(MovementRollupBackfill backfill) {
+        this.backfill = backfill;
+    }
+
+    @WriteOperation
+    public BackfillReport backfill() {
+        return backfill.run();
+    }
+}
@@ -0,0 +1,16 @@
+package com.inventory.search;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Facet counts over the products matching a search. {@code priceBuckets[i]} counts prices in
+ * {@code [edges[i - 1], edges[i])}, with the first and last buckets open-ended.
+ */
+public record ProductFacetCounts(
+        Map<String, Long> categories,
+        long[] priceBuckets,
+        long lowStock,
+        long notLowStock,
+        Map<UUID, Long> suppliers) {
+}
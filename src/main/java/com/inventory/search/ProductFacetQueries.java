@@ -0,0 +1,110 @@
+package com.inventory.search;
+
+import com.inventory.entity.Product;
+import com.inventory.entity.Supplier;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Product facet counts computed by the database for searches the {@link ProductFilterIndex}
+ * cannot evaluate. Category, price bucket and low stock are counted by one grouped query and
+ * suppliers by a second one over the supplier join, independent of the number of facet values.
+ */
+@Component
+public class ProductFacetQueries {
+
+    private final EntityManager entityManager;
+    private final List<BigDecimal> priceEdges;
+
+    public ProductFacetQueries(EntityManager entityManager,
+                               @Value("${inventory.search.facets.price-buckets:10,25,50,100,250,500,1000}") List<BigDecimal> priceEdges) {
+        this.entityManager = entityManager;
+        this.priceEdges = priceEdges.stream().distinct().sorted().toList();
+    }
+
+    /**
+     * Ascending lower bounds of every price bucket but the first.
+     */
+    public List<BigDecimal> priceEdges() {
+        return priceEdges;
+    }
+
+    public ProductFacetCounts count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        // Literals rather than bind parameters, so the grouped CASE expressions are identical in SELECT and GROUP BY
+        CriteriaQuery<Tuple> grouped = cb.createTupleQuery();
+        Root<Product> product = grouped.from(Product.class);
+        Expression<String> category = product.get("category");
+        Expression<Integer> priceBucket = priceBucket(cb, product.get("price"));
+        Expression<Integer> lowStock = cb.<Integer>selectCase()
+                .when(cb.le(product.get("stockQuantity"), product.get("minStockLevel")), cb.literal(1))
+                .otherwise(cb.literal(0));
+        grouped.multiselect(category, priceBucket, lowStock, cb.count(product))
+                .groupBy(category, priceBucket, lowStock);
+        where(grouped, spec.toPredicate(product, grouped, cb));
+
+        Map<String, Long> categories = new HashMap<>();
+        long[] priceBuckets = new long[priceEdges.size() + 1];
+        long lowStockCount = 0;
+        long notLowStockCount = 0;
+        for (Tuple row : entityManager.createQuery(grouped).getResultList()) {
+            long count = row.get(3, Long.class);
+            if (row.get(0) != null) {
+                categories.merge(row.get(0, String.class), count, Long::sum);
+            }
+            priceBuckets[row.get(1, Integer.class)] += count;
+            if (row.get(2, Integer.class) == 1) {
+                lowStockCount += count;
+            } else {
+                notLowStockCount += count;
+            }
+        }
+
+        CriteriaQuery<Tuple> bySupplier = cb.createTupleQuery();
+        Root<Product> linked = bySupplier.from(Product.class);
+        Join<Product, Supplier> supplier = linked.join("suppliers");
+        bySupplier.multiselect(supplier.get("id"), cb.count(linked))
+                .groupBy(supplier.get("id"));
+        where(bySupplier, spec.toPredicate(linked, bySupplier, cb));
+
+        Map<UUID, Long> suppliers = new HashMap<>();
+        for (Tuple row : entityManager.createQuery(bySupplier).getResultList()) {
+            suppliers.put(row.get(0, UUID.class), row.get(1, Long.class));
+        }
+
+        return new ProductFacetCounts(categories, priceBuckets, lowStockCount, notLowStockCount, suppliers);
+    }
+
+    private Expression<Integer> priceBucket(CriteriaBuilder cb, Expression<BigDecimal> price) {
+        if (priceEdges.isEmpty()) {
+            return cb.literal(0);
+        }
+        CriteriaBuilder.Case<Integer> bucket = cb.selectCase();
+        for (int i = 0; i < priceEdges.size(); i++) {
+            bucket = bucket.when(cb.lessThan(price, cb.literal(priceEdges.get(i))), cb.literal(i));
+        }
+        return bucket.otherwise(cb.literal(priceEdges.size()));
+    }
+
+    private static void where(CriteriaQuery<?> query, Predicate predicate) {
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package com.inventory.search;
+
+import com.inventory.entity.Product;
+import com.inventory.entity.Supplier;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductRepository.ProductFilterRow;
+import com.inventory.repository.ProductRepository.ProductSupplierLink;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Columnar in-memory index of the numeric and categorical product columns used by product search.
+ * <p>
+ * Each product occupies one row across primitive columns: price in cents ({@code long[]}), stock
+ * and minimum stock ({@code int[]}) and a dictionary-encoded category ({@code int[]}), plus
+ * bitsets of active and low-stock rows, and the dictionary-encoded suppliers of each product. Price,
+ * stock, category and low-stock filters are evaluated by a single allocation-free scan, which can
+ * also count facets, and only the ids of the matching rows go to the database for the final fetch.
+ * <p>
+ * The columns are loaded once the application is ready and updated in place after every committed
+ * product write (see {@link ProductFilterIndexListener}), which includes stock changes. Bulk JPQL
+ * or JDBC updates bypass entity callbacks and must call {@link #reload()}.
+ * <p>
+ * Commit callbacks of concurrent transactions can run in either order, so each row keeps the
+ * entity version it was written with and older writes are ignored. A reload does not hold up
+ * those callbacks: writes arriving while it reads the database are recorded and replayed onto the
+ * new columns before they are swapped in.
+ */
+@Component
+public class ProductFilterIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFilterIndex.class);
+
+    private static final int NO_CATEGORY = -1;
+    private static final int[] NO_SUPPLIERS = new int[0];
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final int maxFetchIds;
+
+    private final Object reloadMutex = new Object();
+    private final Object writeMutex = new Object();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by writeMutex; not null while a reload reads the database
+    private List<Write> writesDuringReload;
+
+    // Guarded by lock
+    private boolean ready;
+    private int size;
+    private UUID[] ids = new UUID[0];
+    private long[] versions = new long[0];
+    private long[] priceCents = new long[0];
+    private int[] stock = new int[0];
+    private int[] minStock = new int[0];
+    private int[] categories = new int[0];
+    private int[][] suppliers = new int[0][];
+    private BitSet active = new BitSet();
+    private BitSet lowStock = new BitSet();
+    private Map<UUID, Integer> rowById = new HashMap<>();
+    private Map<String, Integer> categoryCodes = new HashMap<>();
+    private Map<UUID, Integer> supplierCodes = new HashMap<>();
+
+    public ProductFilterIndex(ProductRepository productRepository,
+                              @Value("${inventory.search.product-filter-index.enabled:false}") boolean enabled,
+                              @Value("${inventory.search.product-filter-index.max-fetch-ids:1000}") int maxFetchIds) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.maxFetchIds = maxFetchIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    /**
+     * Rebuilds every column from the database. Searches keep using the previous columns until
+     * the new ones are swapped in.
+     */
+    @Transactional(readOnly = true)
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (reloadMutex) {
+            long start = System.nanoTime();
+            synchronized (writeMutex) {
+                writesDuringReload = new ArrayList<>();
+            }
+            Columns columns = new Columns();
+            try {
+                try (Stream<ProductFilterRow> rows = productRepository.streamActiveFilterRows()) {
+                    rows.forEach(row -> columns.upsert(row.getId(), Row.of(row.getVersion(), true, row.getPrice(),
+                            row.getStockQuantity(), row.getMinStockLevel(), row.getCategory(), List.of())));
+                }
+                try (Stream<ProductSupplierLink> links = productRepository.streamActiveSupplierLinks()) {
+                    links.forEach(link -> columns.link(link.getProductId(), link.getSupplierId()));
+                }
+                synchronized (writeMutex) {
+                    // Writes the database read may or may not have seen; older ones are ignored by version
+                    writesDuringReload.forEach(write -> columns.upsert(write.id(), write.row()));
+                    lock.writeLock().lock();
+                    try {
+                        columns.install(this);
+                        ready = true;
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+            } finally {
+                synchronized (writeMutex) {
+                    writesDuringReload = null;
+                }
+            }
+            log.info("Loaded {} products into the product filter index in {} ms",
+                    columns.size, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Records the flushed state of a product; it becomes visible once the transaction commits.
+     */
+    public void productWritten(Product product) {
+        if (!enabled) {
+            return;
+        }
+        UUID id = product.getId();
+        Row row = Row.of(product.getVersion(), Boolean.TRUE.equals(product.getActive()), product.getPrice(),
+                product.getStockQuantity(), product.getMinStockLevel(), product.getCategory(), supplierIds(product));
+        afterCommit(() -> apply(id, row));
+    }
+
+    public void productRemoved(Product product) {
+        if (!enabled) {
+            return;
+        }
+        UUID id = product.getId();
+        Row row = Row.removed(product.getVersion());
+        afterCommit(() -> apply(id, row));
+    }
+
+    /**
+     * Evaluates the columnar filters of {@code criteria}. Returns empty when the index is not
+     * ready or the criteria contain text filters, which only the database can evaluate.
+     */
+    public Optional<Matches> match(ProductSearchCriteria criteria) {
+        return match(criteria, null);
+    }
+
+    /**
+     * Like {@link #match(ProductSearchCriteria)}, additionally counting facets of the matching
+     * products in the same scan when {@code priceEdges} is not {@code null}.
+     */
+    public Optional<Matches> match(ProductSearchCriteria criteria, List<BigDecimal> priceEdges) {
+        if (!enabled || criteria.name() != null || criteria.sku() != null || criteria.description() != null) {
+            return Optional.empty();
+        }
+        long minCents = criteria.minPrice() != null ? cents(criteria.minPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxCents = criteria.maxPrice() != null ? cents(criteria.maxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        int minStockFilter = criteria.minStock() != null ? criteria.minStock() : Integer.MIN_VALUE;
+        int maxStockFilter = criteria.maxStock() != null ? criteria.maxStock() : Integer.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            int category = NO_CATEGORY;
+            if (criteria.category() != null) {
+                Integer code = categoryCodes.get(criteria.category());
+                if (code == null) {
+                    return Optional.of(new Matches(0, List.of(),
+                            priceEdges != null ? new FacetCounter(priceEdges).toCounts() : null));
+                }
+                category = code;
+            }
+
+            FacetCounter facets = priceEdges != null ? new FacetCounter(priceEdges) : null;
+            int[] found = new int[maxFetchIds];
+            int total = 0;
+            BitSet scan = criteria.lowStock() ? lowStock : active;
+            for (int row = scan.nextSetBit(0); row >= 0; row = scan.nextSetBit(row + 1)) {
+                if ((category != NO_CATEGORY && categories[row] != category)
+                        || priceCents[row] < minCents || priceCents[row] > maxCents
+                        || stock[row] < minStockFilter || stock[row] > maxStockFilter) {
+                    continue;
+                }
+                if (total < found.length) {
+                    found[total] = row;
+                }
+                total++;
+                if (facets != null) {
+                    facets.add(row);
+                }
+            }
+
+            ProductFacetCounts facetCounts = facets != null ? facets.toCounts() : null;
+            if (total > found.length) {
+                return Optional.of(new Matches(total, null, facetCounts));
+            }
+            List<UUID> matchingIds = new ArrayList<>(total);
+            for (int i = 0; i < total; i++) {
+                matchingIds.add(ids[found[i]]);
+            }
+            return Optional.of(new Matches(total, matchingIds, facetCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(UUID id, Row row) {
+        synchronized (writeMutex) {
+            if (writesDuringReload != null) {
+                writesDuringReload.add(new Write(id, row));
+            }
+            lock.writeLock().lock();
+            try {
+                if (!ready) {
+                    return;
+                }
+                Columns columns = Columns.of(this);
+                columns.upsert(id, row);
+                columns.install(this);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Supplier ids of a product being flushed, or {@code null} when its supplier collection was
+     * never loaded and therefore cannot have changed.
+     */
+    private static List<UUID> supplierIds(Product product) {
+        if (product.getSuppliers() == null) {
+            return List.of();
+        }
+        if (!Hibernate.isInitialized(product.getSuppliers())) {
+            return null;
+        }
+        return product.getSuppliers().stream().map(Supplier::getId).toList();
+    }
+
+    private static long cents(BigDecimal amount, RoundingMode rounding) {
+        BigDecimal cents = amount.movePointRight(2).setScale(0, rounding);
+        if (cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0) {
+            return Long.MAX_VALUE;
+        }
+        if (cents.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return cents.longValue();
+    }
+
+    /**
+     * Result of a columnar filter: the exact number of matching products and their ids, or
+     * {@code null} ids when there are more matches than worth fetching by id. Facets are only
+     * present when requested.
+     */
+    public record Matches(int total, List<UUID> ids, ProductFacetCounts facets) {
+    }
+
+    /**
+     * @param version   entity version the row was written with
+     * @param active    whether the product is searchable; inactive rows only keep their version
+     * @param suppliers supplier ids, or {@code null} to keep the ones already indexed
+     */
+    private record Row(long version, boolean active, long priceCents, int stock, int minStock, String category,
+                       List<UUID> suppliers) {
+
+        static Row of(Long version, boolean active, BigDecimal price, Integer stock, Integer minStock, String category,
+                      List<UUID> suppliers) {
+            // Prices are stored with two decimals, rounded half-up by the database
+            return new Row(version != null ? version : 0, active, price != null ? cents(price, RoundingMode.HALF_UP) : 0,
+                    stock != null ? stock : 0, minStock != null ? minStock : 0, category, suppliers);
+        }
+
+        static Row removed(Long version) {
+            return of(version, false, null, null, null, null, List.of());
+        }
+    }
+
+    private record Write(UUID id, Row row) {
+    }
+
+    /**
+     * Facet counts accumulated row by row into arrays indexed by dictionary code. Must be used
+     * under the read lock.
+     */
+    private final class FacetCounter {
+
+        private final long[] edges;
+        private final long[] categoryCounts = new long[categoryCodes.size()];
+        private final long[] supplierCounts = new long[supplierCodes.size()];
+        private final long[] priceCounts;
+        private long lowStockCount;
+        private long notLowStockCount;
+
+        FacetCounter(List<BigDecimal> priceEdges) {
+            edges = new long[priceEdges.size()];
+            for (int i = 0; i < edges.length; i++) {
+                edges[i] = cents(priceEdges.get(i), RoundingMode.CEILING);
+            }
+            priceCounts = new long[edges.length + 1];
+        }
+
+        void add(int row) {
+            if (categories[row] != NO_CATEGORY) {
+                categoryCounts[categories[row]]++;
+            }
+            for (int supplier : suppliers[row]) {
+                supplierCounts[supplier]++;
+            }
+            int bucket = Arrays.binarySearch(edges, priceCents[row]);
+            priceCounts[bucket >= 0 ? bucket + 1 : -bucket - 1]++;
+            if (lowStock.get(row)) {
+                lowStockCount++;
+            } else {
+                notLowStockCount++;
+            }
+        }
+
+        ProductFacetCounts toCounts() {
+            Map<String, Long> categoryFacet = new HashMap<>();
+            categoryCodes.forEach((category, code) -> {
+                if (categoryCounts[code] > 0) {
+                    categoryFacet.put(category, categoryCounts[code]);
+                }
+            });
+            Map<UUID, Long> supplierFacet = new HashMap<>();
+            supplierCodes.forEach((supplier, code) -> {
+                if (supplierCounts[code] > 0) {
+                    supplierFacet.put(supplier, supplierCounts[code]);
+                }
+            });
+            return new ProductFacetCounts(categoryFacet, priceCounts, lowStockCount, notLowStockCount, supplierFacet);
+        }
+    }
+
+    /**
+     * Working view of the columns. Writers update the index arrays in place and only reallocate
+     * them when they run out of capacity.
+     */
+    private static final class Columns {
+
+        private int size;
+        private UUID[] ids;
+        private long[] versions;
+        private long[] priceCents;
+        private int[] stock;
+        private int[] minStock;
+        private int[] categories;
+        private int[][] suppliers;
+        private BitSet active;
+        private BitSet lowStock;
+        private Map<UUID, Integer> rowById;
+        private Map<String, Integer> categoryCodes;
+        private Map<UUID, Integer> supplierCodes;
+
+        Columns() {
+            this(0, new UUID[1024], new long[1024], new long[1024], new int[1024], new int[1024], new int[1024],
+                    new int[1024][], new BitSet(), new BitSet(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+        }
+
+        private Columns(int size, UUID[] ids, long[] versions, long[] priceCents, int[] stock, int[] minStock, int[] categories,
+                        int[][] suppliers, BitSet active, BitSet lowStock, Map<UUID, Integer> rowById,
+                        Map<String, Integer> categoryCodes, Map<UUID, Integer> supplierCodes) {
+            this.size = size;
+            this.ids = ids;
+            this.versions = versions;
+            this.priceCents = priceCents;
+            this.stock = stock;
+            this.minStock = minStock;
+            this.categories = categories;
+            this.suppliers = suppliers;
+            this.active = active;
+            this.lowStock = lowStock;
+            this.rowById = rowById;
+            this.categoryCodes = categoryCodes;
+            this.supplierCodes = supplierCodes;
+        }
+
+        static Columns of(ProductFilterIndex index) {
+            return new Columns(index.size, index.ids, index.versions, index.priceCents, index.stock, index.minStock,
+                    index.categories, index.suppliers, index.active, index.lowStock, index.rowById, index.categoryCodes,
+                    index.supplierCodes);
+        }
+
+        void install(ProductFilterIndex index) {
+            index.size = size;
+            index.ids = ids;
+            index.versions = versions;
+            index.priceCents = priceCents;
+            index.stock = stock;
+            index.minStock = minStock;
+            index.categories = categories;
+            index.suppliers = suppliers;
+            index.active = active;
+            index.lowStock = lowStock;
+            index.rowById = rowById;
+            index.categoryCodes = categoryCodes;
+            index.supplierCodes = supplierCodes;
+        }
+
+        /**
+         * Writes {@code row} unless the product's row holds a newer version. Removals of products
+         * not in the columns still leave an inactive row, so that an older write arriving later
+         * cannot bring them back.
+         */
+        void upsert(UUID id, Row row) {
+            Integer existing = rowById.get(id);
+            if (existing != null && versions[existing] > row.version()) {
+                return;
+            }
+            int index;
+            if (existing != null) {
+                index = existing;
+            } else {
+                if (size == ids.length) {
+                    grow();
+                }
+                index = size++;
+                ids[index] = id;
+                suppliers[index] = NO_SUPPLIERS;
+                rowById.put(id, index);
+            }
+            versions[index] = row.version();
+            if (!row.active()) {
+                active.clear(index);
+                lowStock.clear(index);
+                return;
+            }
+            priceCents[index] = row.priceCents();
+            stock[index] = row.stock();
+            minStock[index] = row.minStock();
+            categories[index] = row.category() != null
+                    ? categoryCodes.computeIfAbsent(row.category(), ignored -> categoryCodes.size())
+                    : NO_CATEGORY;
+            if (row.suppliers() != null) {
+                int[] codes = new int[row.suppliers().size()];
+                for (int i = 0; i < codes.length; i++) {
+                    codes[i] = supplierCode(row.suppliers().get(i));
+                }
+                suppliers[index] = codes;
+            }
+            active.set(index);
+            lowStock.set(index, row.stock() <= row.minStock());
+        }
+
+        void link(UUID productId, UUID supplierId) {
+            Integer index = rowById.get(productId);
+            if (index != null) {
+                int[] codes = Arrays.copyOf(suppliers[index], suppliers[index].length + 1);
+                codes[codes.length - 1] = supplierCode(supplierId);
+                suppliers[index] = codes;
+            }
+        }
+
+        private int supplierCode(UUID supplierId) {
+            return supplierCodes.computeIfAbsent(supplierId, ignored -> supplierCodes.size());
+        }
+
+        private void grow() {
+            int capacity = Math.max(1024, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            priceCents = Arrays.copyOf(priceCents, capacity);
+            stock = Arrays.copyOf(stock, capacity);
+            minStock = Arrays.copyOf(minStock, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            suppliers = Arrays.copyOf(suppliers, capacity);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.inventory.search;
+
+import com.inventory.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener feeding product writes, including stock changes, into the
+ * {@link ProductFilterIndex}. The index is resolved lazily for the same reason as in
+ * {@link SupplierDirectoryListener}.
+ */
+public class ProductFilterIndexListener {
+
+    private final ObjectProvider<ProductFilterIndex> productFilterIndex;
+
+    public ProductFilterIndexListener(ObjectProvider<ProductFilterIndex> productFilterIndex) {
+        this.productFilterIndex = productFilterIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Product product) {
+        productFilterIndex.ifAvailable(index -> index.productWritten(product));
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        productFilterIndex.ifAvailable(index -> index.productRemoved(product));
+    }
+}
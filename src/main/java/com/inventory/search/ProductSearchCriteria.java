@@ -0,0 +1,51 @@
+package com.inventory.search;
+
+import java.math.BigDecimal;
+
+/**
+ * Normalized product search filters. Two requests that select the same rows produce equal
+ * criteria: blank text counts as absent, case-insensitive filters are lower-cased the same way
+ * {@link com.inventory.specification.ProductSpecification} does and prices ignore trailing zeros.
+ */
+public record ProductSearchCriteria(
+        String name,
+        String category,
+        String sku,
+        String description,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Integer minStock,
+        Integer maxStock,
+        boolean lowStock) {
+
+    public static ProductSearchCriteria of(String name, String category, String sku, String description,
+                                           BigDecimal minPrice, BigDecimal maxPrice,
+                                           Integer minStock, Integer maxStock, Boolean lowStock) {
+        return new ProductSearchCriteria(
+                lowerCase(name),
+                isBlank(category) ? null : category,
+                lowerCase(sku),
+                lowerCase(description),
+                canonical(minPrice),
+                canonical(maxPrice),
+                minStock,
+                maxStock,
+                Boolean.TRUE.equals(lowStock));
+    }
+
+    private static String lowerCase(String value) {
+        return isBlank(value) ? null : value.toLowerCase();
+    }
+
+    private static BigDecimal canonical(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
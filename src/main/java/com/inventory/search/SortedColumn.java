@@ -0,0 +1,91 @@
+package com.inventory.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable sorted column of int keys for range lookups. Each entry packs the key into the high
+ * 32 bits and the row into the low 32 bits, so a single sorted {@code long[]} orders by key and
+ * then by row, and a key range maps to one contiguous slice found by binary search.
+ */
+final class SortedColumn {
+
+    private final long[] entries;
+
+    private SortedColumn(long[] entries) {
+        this.entries = entries;
+    }
+
+    static SortedColumn build(Integer[] keys) {
+        long[] entries = new long[keys.length];
+        int size = 0;
+        for (int row = 0; row < keys.length; row++) {
+            if (keys[row] != null) {
+                entries[size++] = entry(keys[row], row);
+            }
+        }
+        entries = Arrays.copyOf(entries, size);
+        Arrays.sort(entries);
+        return new SortedColumn(entries);
+    }
+
+    /**
+     * Rows whose key lies in {@code [min, max]}; rows without a key never match.
+     */
+    BitSet range(int min, int max) {
+        BitSet rows = new BitSet();
+        if (min > max) {
+            return rows;
+        }
+        int from = lowerBound((long) min << 32);
+        int to = max == Integer.MAX_VALUE ? entries.length : lowerBound(((long) max + 1) << 32);
+        for (int i = from; i < to; i++) {
+            rows.set((int) entries[i]);
+        }
+        return rows;
+    }
+
+    SortedColumn with(int row, Integer oldKey, Integer newKey) {
+        if (oldKey == null ? newKey == null : oldKey.equals(newKey)) {
+            return this;
+        }
+        long[] result = entries;
+        if (oldKey != null) {
+            int index = Arrays.binarySearch(result, entry(oldKey, row));
+            if (index >= 0) {
+                long[] shrunk = new long[result.length - 1];
+                System.arraycopy(result, 0, shrunk, 0, index);
+                System.arraycopy(result, index + 1, shrunk, index, result.length - index - 1);
+                result = shrunk;
+            }
+        }
+        if (newKey != null) {
+            long entry = entry(newKey, row);
+            int insertAt = -Arrays.binarySearch(result, entry) - 1;
+            long[] grown = new long[result.length + 1];
+            System.arraycopy(result, 0, grown, 0, insertAt);
+            grown[insertAt] = entry;
+            System.arraycopy(result, insertAt, grown, insertAt + 1, result.length - insertAt);
+            result = grown;
+        }
+        return new SortedColumn(result);
+    }
+
+    private int lowerBound(long value) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long entry(int key, int row) {
+        return ((long) key << 32) | (row & 0xFFFFFFFFL);
+    }
+}
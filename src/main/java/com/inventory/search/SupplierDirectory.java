@@ -0,0 +1,459 @@
+package com.inventory.search;
+
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.enums.CountMode;
+import com.inventory.mapper.SupplierMapper;
+import com.inventory.repository.SupplierRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * In-memory, copy-on-write directory of active suppliers answering supplier searches without
+ * touching the database.
+ * <p>
+ * The directory is loaded once the application is ready. Every committed supplier insert, update
+ * or delete (see {@link SupplierDirectoryListener}) publishes a new immutable snapshot, so readers
+ * never lock. Commit callbacks of concurrent transactions can run in either order, so writes older
+ * than the last version applied for a supplier are ignored. Name, email and city substring filters are narrowed through trigram indexes, rating
+ * and delivery day ranges through sorted columns, and every candidate is then checked against the
+ * exact filter semantics of {@link com.inventory.specification.SupplierSpecification}.
+ * <p>
+ * Searches the directory cannot answer exactly return empty and fall back to the database: LIKE
+ * wildcards in text filters, and sorting on properties other than timestamps, rating and delivery
+ * days (text ordering follows the database collation).
+ */
+@Component
+public class SupplierDirectory {
+
+    private static final Logger log = LoggerFactory.getLogger(SupplierDirectory.class);
+
+    private static final int COMPACTION_MIN_FREE_ROWS = 1024;
+
+    private static final Map<String, Function<SupplierResponse, Comparable<?>>> SORTABLE = Map.of(
+            "createdAt", SupplierResponse::createdAt,
+            "updatedAt", SupplierResponse::updatedAt,
+            "rating", SupplierResponse::rating,
+            "averageDeliveryDays", SupplierResponse::averageDeliveryDays);
+
+    private final SupplierRepository supplierRepository;
+    private final SupplierMapper supplierMapper;
+    private final boolean enabled;
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot;
+    // Guarded by writeLock: version of the last write applied per supplier, removals included
+    private Map<UUID, Long> versions = new HashMap<>();
+
+    public SupplierDirectory(SupplierRepository supplierRepository, SupplierMapper supplierMapper,
+                             @Value("${inventory.search.supplier-directory.enabled:false}") boolean enabled) {
+        this.supplierRepository = supplierRepository;
+        this.supplierMapper = supplierMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            long start = System.nanoTime();
+            List<SupplierResponse> suppliers = new ArrayList<>();
+            Map<UUID, Long> loadedVersions = new HashMap<>();
+            for (Supplier supplier : supplierRepository.findAllByActiveTrue()) {
+                suppliers.add(supplierMapper.toResponse(supplier));
+                loadedVersions.put(supplier.getId(), version(supplier));
+            }
+            versions = loadedVersions;
+            snapshot = Snapshot.build(suppliers);
+            log.info("Loaded {} suppliers into the supplier directory in {} ms",
+                    suppliers.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.live : 0;
+    }
+
+    /**
+     * Records the flushed state of a supplier; it becomes visible once the transaction commits.
+     */
+    public void supplierWritten(Supplier supplier) {
+        if (!enabled) {
+            return;
+        }
+        UUID id = supplier.getId();
+        long version = version(supplier);
+        SupplierResponse response = Boolean.TRUE.equals(supplier.getActive()) ? supplierMapper.toResponse(supplier) : null;
+        afterCommit(() -> apply(id, version, response));
+    }
+
+    public void supplierRemoved(Supplier supplier) {
+        if (!enabled) {
+            return;
+        }
+        UUID id = supplier.getId();
+        long version = version(supplier);
+        afterCommit(() -> apply(id, version, null));
+    }
+
+    public Optional<Page<SupplierResponse>> search(SupplierSearchCriteria criteria, Pageable pageable) {
+        return search(criteria, pageable, CountMode.EXACT).map(slice -> (Page<SupplierResponse>) slice);
+    }
+
+    public Optional<Slice<SupplierResponse>> search(SupplierSearchCriteria criteria, Pageable pageable, CountMode countMode) {
+        Snapshot current = snapshot;
+        if (current == null || criteria.hasLikePatterns()) {
+            return Optional.empty();
+        }
+        Comparator<Integer> order = comparator(current, pageable.getSort());
+        if (order == null) {
+            return Optional.empty();
+        }
+
+        int[] matches = current.matching(criteria);
+        List<SupplierResponse> content = page(current, matches, order, pageable);
+        if (countMode == CountMode.NONE) {
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            return Optional.of(new SliceImpl<>(content, pageable, offset + content.size() < matches.length));
+        }
+        return Optional.of(new PageImpl<>(content, pageable, matches.length));
+    }
+
+    private static List<SupplierResponse> page(Snapshot snapshot, int[] matches, Comparator<Integer> order,
+                                               Pageable pageable) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        if (offset >= matches.length) {
+            return List.of();
+        }
+        int end = pageable.isPaged() ? (int) Math.min(matches.length, offset + pageable.getPageSize()) : matches.length;
+
+        List<Integer> ordered;
+        if (end < matches.length / 4) {
+            // Top-k selection: only the rows up to the end of the requested page are ever sorted
+            PriorityQueue<Integer> top = new PriorityQueue<>(end + 1, order.reversed());
+            for (int row : matches) {
+                top.offer(row);
+                if (top.size() > end) {
+                    top.poll();
+                }
+            }
+            ordered = new ArrayList<>(top);
+        } else {
+            ordered = new ArrayList<>(matches.length);
+            for (int row : matches) {
+                ordered.add(row);
+            }
+        }
+        ordered.sort(order);
+
+        List<SupplierResponse> content = new ArrayList<>(end - (int) offset);
+        for (int i = (int) offset; i < end; i++) {
+            content.add(snapshot.rows[ordered.get(i)]);
+        }
+        return content;
+    }
+
+    /**
+     * Row order for {@code sort}, or {@code null} if a property cannot be ordered in memory the way
+     * the database would. Ties keep load order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Integer> comparator(Snapshot snapshot, Sort sort) {
+        Comparator<Integer> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Function<SupplierResponse, Comparable<?>> property = SORTABLE.get(sortOrder.getProperty());
+            if (property == null || sortOrder.isIgnoreCase()) {
+                return null;
+            }
+            Comparator<Comparable> values = sortOrder.isAscending()
+                    ? Comparator.naturalOrder() : Comparator.<Comparable>naturalOrder().reversed();
+            Comparator<Comparable> withNulls = switch (sortOrder.getNullHandling()) {
+                case NULLS_FIRST -> Comparator.nullsFirst(values);
+                case NULLS_LAST -> Comparator.nullsLast(values);
+                // PostgreSQL treats null as larger than any value
+                case NATIVE -> sortOrder.isAscending() ? Comparator.nullsLast(values) : Comparator.nullsFirst(values);
+            };
+            Comparator<Integer> next = Comparator.comparing(row -> (Comparable) property.apply(snapshot.rows[row]), withNulls);
+            order = order == null ? next : order.thenComparing(next);
+        }
+        Comparator<Integer> loadOrder = Comparator.naturalOrder();
+        return order == null ? loadOrder : order.thenComparing(loadOrder);
+    }
+
+    private void apply(UUID id, long version, SupplierResponse response) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                return;
+            }
+            Long applied = versions.get(id);
+            if (applied != null && applied > version) {
+                return;
+            }
+            versions.put(id, version);
+            Integer row = current.rowById.get(id);
+            if (row == null && response == null) {
+                return;
+            }
+            Snapshot next = current.with(row != null ? row : current.rows.length, response);
+            int free = next.rows.length - next.live;
+            snapshot = free > COMPACTION_MIN_FREE_ROWS && free > next.live ? Snapshot.build(next.liveRows()) : next;
+        }
+    }
+
+    private static long version(Supplier supplier) {
+        return supplier.getVersion() != null ? supplier.getVersion() : 0;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final SupplierResponse[] rows;
+        private final String[] names;
+        private final String[] emails;
+        private final String[] cities;
+        private final String[] countries;
+        private final Map<UUID, Integer> rowById;
+        private final int live;
+        private final TrigramIndex nameIndex;
+        private final TrigramIndex emailIndex;
+        private final TrigramIndex cityIndex;
+        private final SortedColumn ratings;
+        private final SortedColumn deliveryDays;
+
+        private Snapshot(SupplierResponse[] rows, String[] names, String[] emails, String[] cities, String[] countries,
+                         Map<UUID, Integer> rowById, int live, TrigramIndex nameIndex, TrigramIndex emailIndex,
+                         TrigramIndex cityIndex, SortedColumn ratings, SortedColumn deliveryDays) {
+            this.rows = rows;
+            this.names = names;
+            this.emails = emails;
+            this.cities = cities;
+            this.countries = countries;
+            this.rowById = rowById;
+            this.live = live;
+            this.nameIndex = nameIndex;
+            this.emailIndex = emailIndex;
+            this.cityIndex = cityIndex;
+            this.ratings = ratings;
+            this.deliveryDays = deliveryDays;
+        }
+
+        static Snapshot build(List<SupplierResponse> suppliers) {
+            int size = suppliers.size();
+            SupplierResponse[] rows = suppliers.toArray(new SupplierResponse[0]);
+            String[] names = new String[size];
+            String[] emails = new String[size];
+            String[] cities = new String[size];
+            String[] countries = new String[size];
+            Integer[] ratingKeys = new Integer[size];
+            Integer[] dayKeys = new Integer[size];
+            Map<UUID, Integer> rowById = new HashMap<>(size * 4 / 3 + 1);
+            for (int row = 0; row < size; row++) {
+                SupplierResponse supplier = rows[row];
+                names[row] = lower(supplier.name());
+                emails[row] = lower(supplier.email());
+                cities[row] = supplier.address() != null ? lower(supplier.address().getCity()) : null;
+                countries[row] = supplier.address() != null ? upper(supplier.address().getCountry()) : null;
+                ratingKeys[row] = ratingKey(supplier.rating());
+                dayKeys[row] = supplier.averageDeliveryDays();
+                rowById.put(supplier.id(), row);
+            }
+            return new Snapshot(rows, names, emails, cities, countries, rowById, size,
+                    TrigramIndex.build(names), TrigramIndex.build(emails), TrigramIndex.build(cities),
+                    SortedColumn.build(ratingKeys), SortedColumn.build(dayKeys));
+        }
+
+        /**
+         * Copy of this snapshot with {@code row} holding {@code supplier}; {@code null} frees the
+         * row and a row equal to the current length appends.
+         */
+        Snapshot with(int row, SupplierResponse supplier) {
+            boolean append = row == rows.length;
+            SupplierResponse previous = append ? null : rows[row];
+            int length = append ? rows.length + 1 : rows.length;
+
+            SupplierResponse[] newRows = Arrays.copyOf(rows, length);
+            String[] newNames = Arrays.copyOf(names, length);
+            String[] newEmails = Arrays.copyOf(emails, length);
+            String[] newCities = Arrays.copyOf(cities, length);
+            String[] newCountries = Arrays.copyOf(countries, length);
+            newRows[row] = supplier;
+            newNames[row] = supplier != null ? lower(supplier.name()) : null;
+            newEmails[row] = supplier != null ? lower(supplier.email()) : null;
+            newCities[row] = supplier != null && supplier.address() != null ? lower(supplier.address().getCity()) : null;
+            newCountries[row] = supplier != null && supplier.address() != null ? upper(supplier.address().getCountry()) : null;
+
+            Map<UUID, Integer> newRowById = rowById;
+            if (previous == null || supplier == null) {
+                newRowById = new HashMap<>(rowById);
+                if (supplier != null) {
+                    newRowById.put(supplier.id(), row);
+                } else {
+                    newRowById.remove(previous.id());
+                }
+            }
+            int newLive = live + (previous == null ? 1 : 0) - (supplier == null ? 1 : 0);
+
+            return new Snapshot(newRows, newNames, newEmails, newCities, newCountries, newRowById, newLive,
+                    nameIndex.with(row, at(names, row), newNames[row]),
+                    emailIndex.with(row, at(emails, row), newEmails[row]),
+                    cityIndex.with(row, at(cities, row), newCities[row]),
+                    ratings.with(row, previous != null ? ratingKey(previous.rating()) : null,
+                            supplier != null ? ratingKey(supplier.rating()) : null),
+                    deliveryDays.with(row, previous != null ? previous.averageDeliveryDays() : null,
+                            supplier != null ? supplier.averageDeliveryDays() : null));
+        }
+
+        List<SupplierResponse> liveRows() {
+            List<SupplierResponse> result = new ArrayList<>(live);
+            for (SupplierResponse row : rows) {
+                if (row != null) {
+                    result.add(row);
+                }
+            }
+            return result;
+        }
+
+        int[] matching(SupplierSearchCriteria criteria) {
+            BitSet candidates = null;
+            if (criteria.name() != null) {
+                candidates = and(candidates, nameIndex.candidates(criteria.name()));
+            }
+            if (criteria.email() != null) {
+                candidates = and(candidates, emailIndex.candidates(criteria.email()));
+            }
+            if (criteria.city() != null) {
+                candidates = and(candidates, cityIndex.candidates(criteria.city()));
+            }
+            if (criteria.minRating() != null || criteria.maxRating() != null) {
+                candidates = and(candidates, ratings.range(
+                        criteria.minRating() != null ? ratingKey(criteria.minRating()) : Integer.MIN_VALUE,
+                        criteria.maxRating() != null ? ratingKey(criteria.maxRating()) : Integer.MAX_VALUE));
+            }
+            if (criteria.minDeliveryDays() != null || criteria.maxDeliveryDays() != null) {
+                candidates = and(candidates, deliveryDays.range(
+                        criteria.minDeliveryDays() != null ? criteria.minDeliveryDays() : Integer.MIN_VALUE,
+                        criteria.maxDeliveryDays() != null ? criteria.maxDeliveryDays() : Integer.MAX_VALUE));
+            }
+
+            int[] result = new int[candidates != null ? candidates.cardinality() : live];
+            int size = 0;
+            if (candidates != null) {
+                for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                    if (matches(row, criteria)) {
+                        result[size++] = row;
+                    }
+                }
+            } else {
+                for (int row = 0; row < rows.length; row++) {
+                    if (rows[row] != null && matches(row, criteria)) {
+                        result[size++] = row;
+                    }
+                }
+            }
+            return size == result.length ? result : Arrays.copyOf(result, size);
+        }
+
+        private boolean matches(int row, SupplierSearchCriteria criteria) {
+            SupplierResponse supplier = rows[row];
+            return contains(names[row], criteria.name())
+                    && contains(emails[row], criteria.email())
+                    && contains(cities[row], criteria.city())
+                    && (criteria.country() == null || criteria.country().equals(countries[row]))
+                    && (criteria.status() == null || criteria.status() == supplier.status())
+                    && (criteria.supplierType() == null || criteria.supplierType() == supplier.supplierType())
+                    && within(supplier.rating(), criteria.minRating(), criteria.maxRating())
+                    && within(supplier.averageDeliveryDays(), criteria.minDeliveryDays(), criteria.maxDeliveryDays());
+        }
+
+        private static BitSet and(BitSet candidates, BitSet narrowed) {
+            if (narrowed == null) {
+                return candidates;
+            }
+            if (candidates != null) {
+                narrowed.and(candidates);
+            }
+            return narrowed;
+        }
+
+        private static boolean contains(String value, String filter) {
+            return filter == null || (value != null && value.contains(filter));
+        }
+
+        private static <T extends Comparable<T>> boolean within(T value, T min, T max) {
+            if (min == null && max == null) {
+                return true;
+            }
+            return value != null
+                    && (min == null || value.compareTo(min) >= 0)
+                    && (max == null || value.compareTo(max) <= 0);
+        }
+
+        private static String at(String[] values, int row) {
+            return row < values.length ? values[row] : null;
+        }
+
+        private static String lower(String value) {
+            return value != null ? value.toLowerCase() : null;
+        }
+
+        private static String upper(String value) {
+            return value != null ? value.toUpperCase() : null;
+        }
+
+        /**
+         * Rating in hundredths, rounded down so that indexed ranges are a superset of exact ones.
+         */
+        private static Integer ratingKey(BigDecimal rating) {
+            if (rating == null) {
+                return null;
+            }
+            BigDecimal hundredths = rating.movePointRight(2).setScale(0, RoundingMode.FLOOR);
+            return hundredths.max(BigDecimal.valueOf(Integer.MIN_VALUE)).min(BigDecimal.valueOf(Integer.MAX_VALUE)).intValue();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.inventory.search;
+
+import com.inventory.entity.Supplier;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener feeding supplier writes into the {@link SupplierDirectory}, so that writes
+ * made through the repository directly are seen as well as those made by the supplier service.
+ * The directory is resolved lazily because Hibernate creates listeners while the entity manager
+ * factory the directory depends on is still being built.
+ */
+public class SupplierDirectoryListener {
+
+    private final ObjectProvider<SupplierDirectory> supplierDirectory;
+
+    public SupplierDirectoryListener(ObjectProvider<SupplierDirectory> supplierDirectory) {
+        this.supplierDirectory = supplierDirectory;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onWrite(Supplier supplier) {
+        supplierDirectory.ifAvailable(directory -> directory.supplierWritten(supplier));
+    }
+
+    @PostRemove
+    public void onRemove(Supplier supplier) {
+        supplierDirectory.ifAvailable(directory -> directory.supplierRemoved(supplier));
+    }
+}
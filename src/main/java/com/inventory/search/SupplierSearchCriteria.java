@@ -0,0 +1,57 @@
+package com.inventory.search;
+
+import com.inventory.enums.SupplierStatus;
+import com.inventory.enums.SupplierType;
+
+import java.math.BigDecimal;
+
+/**
+ * Normalized supplier search filters. Text filters are blank-to-null and case-folded the same way
+ * {@link com.inventory.specification.SupplierSpecification} folds them (lower-case substrings,
+ * upper-case country).
+ */
+public record SupplierSearchCriteria(
+        String name,
+        String email,
+        String city,
+        String country,
+        SupplierStatus status,
+        SupplierType supplierType,
+        BigDecimal minRating,
+        BigDecimal maxRating,
+        Integer minDeliveryDays,
+        Integer maxDeliveryDays) {
+
+    public static SupplierSearchCriteria of(String name, String email, String city, String country,
+                                            SupplierStatus status, SupplierType supplierType,
+                                            BigDecimal minRating, BigDecimal maxRating,
+                                            Integer minDeliveryDays, Integer maxDeliveryDays) {
+        return new SupplierSearchCriteria(
+                isBlank(name) ? null : name.toLowerCase(),
+                isBlank(email) ? null : email.toLowerCase(),
+                isBlank(city) ? null : city.toLowerCase(),
+                isBlank(country) ? null : country.toUpperCase(),
+                status,
+                supplierType,
+                minRating,
+                maxRating,
+                minDeliveryDays,
+                maxDeliveryDays);
+    }
+
+    /**
+     * Whether a substring filter contains LIKE wildcard or escape characters, which the database
+     * interprets as patterns rather than literal text.
+     */
+    public boolean hasLikePatterns() {
+        return isPattern(name) || isPattern(email) || isPattern(city);
+    }
+
+    private static boolean isPattern(String value) {
+        return value != null && (value.indexOf('%') >= 0 || value.indexOf('_') >= 0 || value.indexOf('\\') >= 0);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
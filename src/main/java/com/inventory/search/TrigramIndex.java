@@ -0,0 +1,177 @@
+package com.inventory.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable inverted index from character trigrams to the sorted rows containing them. Any
+ * substring of three or more characters can only occur in rows that contain all of its trigrams,
+ * so intersecting their postings yields a superset of the matching rows.
+ */
+final class TrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final long[] NO_GRAMS = new long[0];
+
+    private final Map<Long, int[]> postings;
+
+    private TrigramIndex(Map<Long, int[]> postings) {
+        this.postings = postings;
+    }
+
+    static TrigramIndex build(String[] values) {
+        Map<Long, Postings> building = new HashMap<>();
+        for (int row = 0; row < values.length; row++) {
+            for (long gram : grams(values[row])) {
+                building.computeIfAbsent(gram, ignored -> new Postings()).add(row);
+            }
+        }
+        Map<Long, int[]> postings = new HashMap<>(building.size() * 4 / 3 + 1);
+        building.forEach((gram, rows) -> postings.put(gram, rows.toArray()));
+        return new TrigramIndex(postings);
+    }
+
+    /**
+     * Rows that may contain {@code query}, or {@code null} when the query is too short to use
+     * the index and every row is a candidate.
+     */
+    BitSet candidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            return null;
+        }
+        long[] grams = grams(query);
+        int[][] lists = new int[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) {
+                return new BitSet();
+            }
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] rows = lists[0];
+        for (int i = 1; i < lists.length && rows.length > 0; i++) {
+            rows = intersect(rows, lists[i]);
+        }
+        BitSet result = new BitSet();
+        for (int row : rows) {
+            result.set(row);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an index where {@code row} holds {@code newValue} instead of {@code oldValue},
+     * sharing every posting list the change does not touch.
+     */
+    TrigramIndex with(int row, String oldValue, String newValue) {
+        long[] oldGrams = grams(oldValue);
+        long[] newGrams = grams(newValue);
+        if (Arrays.equals(oldGrams, newGrams)) {
+            return this;
+        }
+        Map<Long, int[]> copy = new HashMap<>(postings);
+        for (long gram : oldGrams) {
+            if (Arrays.binarySearch(newGrams, gram) < 0) {
+                int[] rows = without(copy.get(gram), row);
+                if (rows.length == 0) {
+                    copy.remove(gram);
+                } else {
+                    copy.put(gram, rows);
+                }
+            }
+        }
+        for (long gram : newGrams) {
+            if (Arrays.binarySearch(oldGrams, gram) < 0) {
+                copy.put(gram, including(copy.get(gram), row));
+            }
+        }
+        return new TrigramIndex(copy);
+    }
+
+    /**
+     * Distinct trigrams of {@code value}, sorted.
+     */
+    static long[] grams(String value) {
+        if (value == null || value.length() < GRAM_LENGTH) {
+            return NO_GRAMS;
+        }
+        long[] grams = new long[value.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+        int distinct = 0;
+        for (int i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return distinct == grams.length ? grams : Arrays.copyOf(grams, distinct);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] without(int[] rows, int row) {
+        int index = Arrays.binarySearch(rows, row);
+        if (index < 0) {
+            return rows;
+        }
+        int[] result = new int[rows.length - 1];
+        System.arraycopy(rows, 0, result, 0, index);
+        System.arraycopy(rows, index + 1, result, index, rows.length - index - 1);
+        return result;
+    }
+
+    private static int[] including(int[] rows, int row) {
+        if (rows == null) {
+            return new int[]{row};
+        }
+        int index = Arrays.binarySearch(rows, row);
+        if (index >= 0) {
+            return rows;
+        }
+        int insertAt = -index - 1;
+        int[] result = new int[rows.length + 1];
+        System.arraycopy(rows, 0, result, 0, insertAt);
+        result[insertAt] = row;
+        System.arraycopy(rows, insertAt, result, insertAt + 1, rows.length - insertAt);
+        return result;
+    }
+
+    private static final class Postings {
+
+        private int[] rows = new int[4];
+        private int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(rows, size);
+        }
+    }
+}
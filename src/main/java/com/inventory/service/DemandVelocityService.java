@@ -0,0 +1,74 @@
+package com.inventory.service;
+
+import com.inventory.bulkhead.Bulkhead;
+import com.inventory.dto.response.DemandVelocityResponse;
+import com.inventory.entity.Product;
+import com.inventory.enums.Workload;
+import com.inventory.exception.ProductNotFoundException;
+import com.inventory.repository.DemandVelocityRepository;
+import com.inventory.repository.DemandVelocityRepository.CoverRow;
+import com.inventory.repository.ProductRepository;
+import com.inventory.velocity.DemandVelocityTracker;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Timed("inventory.service")
+public class DemandVelocityService {
+
+    private final DemandVelocityRepository demandVelocityRepository;
+    private final ProductRepository productRepository;
+    private final DemandVelocityTracker demandVelocityTracker;
+
+    public DemandVelocityService(DemandVelocityRepository demandVelocityRepository,
+                                 ProductRepository productRepository,
+                                 DemandVelocityTracker demandVelocityTracker) {
+        this.demandVelocityRepository = demandVelocityRepository;
+        this.productRepository = productRepository;
+        this.demandVelocityTracker = demandVelocityTracker;
+    }
+
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public DemandVelocityResponse getVelocity(UUID productId) {
+        Product product = productRepository.findById(productId)
+                .filter(Product::getActive)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        return demandVelocityRepository.findById(productId)
+                .map(velocity -> response(product.getId(), product.getSku(), product.getName(), product.getStockQuantity(),
+                        demandVelocityTracker.dailyVelocity(velocity.getLogWeight(), velocity.getTrackedSince(),
+                                LocalDateTime.now()), velocity.getLastSaleAt()))
+                .orElseGet(() -> new DemandVelocityResponse(product.getId(), product.getSku(), product.getName(),
+                        product.getStockQuantity(), 0, null, null));
+    }
+
+    /**
+     * Active products with sales, fewest days of cover first.
+     */
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public List<DemandVelocityResponse> getLowestCover(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CoverRow> rows = demandVelocityRepository.findLowestCover(demandVelocityTracker.lambda(),
+                demandVelocityTracker.days(now), PageRequest.ofSize(limit));
+        return rows.stream()
+                .map(row -> response(row.getProductId(), row.getSku(), row.getName(), row.getStockQuantity(),
+                        demandVelocityTracker.dailyVelocity(row.getLogWeight(), row.getTrackedSince(), now),
+                        row.getLastSaleAt()))
+                .toList();
+    }
+
+    private static DemandVelocityResponse response(UUID productId, String sku, String name, Integer stockQuantity,
+                                                   double dailyVelocity, LocalDateTime lastSaleAt) {
+        int stock = stockQuantity != null ? Math.max(stockQuantity, 0) : 0;
+        return new DemandVelocityResponse(productId, sku, name, stockQuantity, dailyVelocity,
+                dailyVelocity > 0 ? stock / dailyVelocity : null, lastSaleAt);
+    }
+}
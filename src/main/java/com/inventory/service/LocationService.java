@@ -0,0 +1,119 @@
+package com.inventory.service;
+
+import com.inventory.bulkhead.Bulkhead;
+import com.inventory.dto.request.CreateLocationRequest;
+import com.inventory.dto.response.LocationResponse;
+import com.inventory.dto.response.LocationStockResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Location;
+import com.inventory.entity.Product;
+import com.inventory.enums.Workload;
+import com.inventory.exception.DuplicateLocationCodeException;
+import com.inventory.exception.LocationNotFoundException;
+import com.inventory.exception.ProductNotFoundException;
+import com.inventory.mapper.LocationMapper;
+import com.inventory.mapper.StockMovementMapper;
+import com.inventory.repository.LocationRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
+import com.inventory.repository.ProductStockRepository.LocationStockRow;
+import com.inventory.repository.StockMovementRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Timed("inventory.service")
+public class LocationService {
+
+    private final LocationRepository locationRepository;
+    private final LocationMapper locationMapper;
+    private final ProductStockRepository productStockRepository;
+    private final ProductRepository productRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final StockMovementMapper stockMovementMapper;
+
+    public LocationService(LocationRepository locationRepository, LocationMapper locationMapper,
+                           ProductStockRepository productStockRepository, ProductRepository productRepository,
+                           StockMovementRepository stockMovementRepository, StockMovementMapper stockMovementMapper) {
+        this.locationRepository = locationRepository;
+        this.locationMapper = locationMapper;
+        this.productStockRepository = productStockRepository;
+        this.productRepository = productRepository;
+        this.stockMovementRepository = stockMovementRepository;
+        this.stockMovementMapper = stockMovementMapper;
+    }
+
+    @Bulkhead(Workload.WRITE)
+    @Transactional
+    public LocationResponse createLocation(CreateLocationRequest request) {
+        if (locationRepository.existsByCode(request.code())) {
+            throw new DuplicateLocationCodeException(request.code());
+        }
+        Location location = locationRepository.save(locationMapper.toEntity(request));
+        return locationMapper.toResponse(location);
+    }
+
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public Page<LocationResponse> getAllLocations(Pageable pageable) {
+        return locationRepository.findByActiveTrue(pageable).map(locationMapper::toResponse);
+    }
+
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public LocationResponse getLocationById(UUID id) {
+        return locationMapper.toResponse(findActiveLocation(id));
+    }
+
+    /**
+     * Stock rows of a location in product id order, the order of the index they are read from.
+     */
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Page<LocationStockResponse> getLocationStock(UUID id, Pageable pageable) {
+        findActiveLocation(id);
+        return productStockRepository.findByLocationId(id, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+                .map(LocationService::toResponse);
+    }
+
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Page<StockMovementResponse> getLocationMovements(UUID id, Pageable pageable) {
+        findActiveLocation(id);
+        return stockMovementRepository.findByLocationIdAndActiveTrueOrderByCreatedAtDesc(id, pageable)
+                .map(stockMovementMapper::toResponse);
+    }
+
+    /**
+     * Stock of a product at each location it has moved at; the quantities add up to the
+     * product's stock quantity.
+     */
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public List<LocationStockResponse> getProductStock(UUID productId) {
+        productRepository.findById(productId)
+                .filter(Product::getActive)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+        return productStockRepository.findByProductId(productId).stream()
+                .map(LocationService::toResponse)
+                .toList();
+    }
+
+    private Location findActiveLocation(UUID id) {
+        return locationRepository.findById(id)
+                .filter(Location::getActive)
+                .orElseThrow(() -> new LocationNotFoundException(id));
+    }
+
+    private static LocationStockResponse toResponse(LocationStockRow row) {
+        return new LocationStockResponse(row.getLocationId(), row.getLocationCode(), row.getProductId(), row.getSku(),
+                row.getName(), row.getQuantity(), row.getUpdatedAt());
+    }
+}
@@ -1,47 +1,108 @@
 package com.inventory.service;
 
+import com.inventory.bulkhead.Bulkhead;
 import com.inventory.dto.request.CreateProductRequest;
 import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.request.ProductLookupRequest;
 import com.inventory.dto.request.UpdateProductRequest;
+import com.inventory.cache.EntityTagIndex;
+import com.inventory.cache.ProductPayloadCache;
+import com.inventory.cache.ProductPayloadCache.ProductPayload;
+import com.inventory.cache.ProductSearchCache;
+import com.inventory.dto.response.FacetedProductSearchResponse;
+import com.inventory.dto.response.ProductFacetsResponse;
+import com.inventory.dto.response.ProductFacetsResponse.PriceBucket;
+import com.inventory.dto.response.ProductFacetsResponse.ValueCount;
+import com.inventory.dto.response.ProductLookupResponse;
+import com.inventory.dto.response.ProductLookupResponse.Result;
 import com.inventory.dto.response.ProductResponse;
 import com.inventory.entity.Product;
 import com.inventory.entity.Supplier;
+import com.inventory.enums.CountMode;
 import com.inventory.enums.MovementReason;
 import com.inventory.enums.MovementType;
+import com.inventory.enums.Workload;
+import com.inventory.event.ProductChangedEvent;
 import com.inventory.exception.*;
 import com.inventory.mapper.ProductMapper;
+import com.inventory.metrics.InventoryMetrics;
+import com.inventory.metrics.InventoryMetrics.Rejection;
+import com.inventory.pagination.PageLoader;
 import com.inventory.repository.ProductRepository;
+import com.inventory.search.ProductFacetCounts;
+import com.inventory.search.ProductFacetQueries;
+import com.inventory.search.ProductFilterIndex;
+import com.inventory.search.ProductSearchCriteria;
 import com.inventory.specification.ProductSpecification;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("inventory.service")
 public class ProductService {
 
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
     private final StockMovementService stockMovementService;
     private final SupplierService supplierService;
-
-    public ProductService(ProductRepository productRepository, ProductMapper productMapper, StockMovementService stockMovementService, SupplierService supplierService) {
+    private final EntityTagIndex entityTagIndex;
+    private final ProductPayloadCache productPayloadCache;
+    private final ProductSearchCache productSearchCache;
+    private final ProductFilterIndex productFilterIndex;
+    private final ProductFacetQueries productFacetQueries;
+    private final PageLoader pageLoader;
+    private final InventoryMetrics inventoryMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProductService(ProductRepository productRepository, ProductMapper productMapper, StockMovementService stockMovementService, SupplierService supplierService,
+                          EntityTagIndex entityTagIndex, ProductPayloadCache productPayloadCache, ProductSearchCache productSearchCache,
+                          ProductFilterIndex productFilterIndex, ProductFacetQueries productFacetQueries, PageLoader pageLoader,
+                          InventoryMetrics inventoryMetrics,
+                          ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
         this.stockMovementService = stockMovementService;
         this.supplierService = supplierService;
+        this.entityTagIndex = entityTagIndex;
+        this.productPayloadCache = productPayloadCache;
+        this.productSearchCache = productSearchCache;
+        this.productFilterIndex = productFilterIndex;
+        this.productFacetQueries = productFacetQueries;
+        this.pageLoader = pageLoader;
+        this.inventoryMetrics = inventoryMetrics;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Bulkhead(Workload.WRITE)
     @Transactional
     public ProductResponse createProduct(CreateProductRequest request) {
         // Validate SKU uniqueness
         if (productRepository.existsBySkuAndActiveTrue(request.sku())) {
+            inventoryMetrics.recordRejection(Rejection.DUPLICATE_SKU);
             throw new DuplicateSkuException(request.sku());
         }
 
@@ -49,7 +110,7 @@ public class ProductService {
         validateStockLevel(request.stockQuantity(), request.minStockLevel());
 
         // Validate suppliers exist
-        List<Supplier> suppliers = request.supplierIds().stream()
+        Set<Supplier> suppliers = request.supplierIds().stream()
                 .map(supplierId -> {
                     try {
                         return supplierService.getSupplierEntityById(supplierId);
@@ -57,12 +118,13 @@ public class ProductService {
                         throw new SupplierNotFoundException(supplierId);
                     }
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
         Product product = productMapper.toEntity(request);
         product.setSuppliers(suppliers);
 
         Product savedProduct = productRepository.save(product);
+        stockMovementService.seedStock(savedProduct);
 
         Integer stockQuantity = request.stockQuantity() != null ? request.stockQuantity() : 0;
 
@@ -75,46 +137,151 @@ public class ProductService {
                 "Initial stock set during product creation"
         );
         stockMovementService.createStockMovement(movementRequest);
-
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getId()));
 
         return productMapper.toResponse(savedProduct);
     }
 
+    @Bulkhead(Workload.BULK)
     @Transactional(readOnly = true)
     public Page<ProductResponse> getAllProducts(Pageable pageable) {
-        return productRepository.findByActiveTrue(pageable)
+        // An exact count always yields a page
+        return (Page<ProductResponse>) getAllProducts(pageable, CountMode.EXACT);
+    }
+
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> getAllProducts(Pageable pageable, CountMode countMode) {
+        return pageLoader.load(pageable, countMode, productRepository::findSliceByActiveTrue,
+                        productRepository::countByActiveTrue, "products")
                 .map(productMapper::toResponse);
     }
 
+    @Bulkhead(Workload.INTERACTIVE)
     @Transactional(readOnly = true)
     public ProductResponse getProductById(UUID id) {
+        long stamp = entityTagIndex.stamp();
         Product product = productRepository.findById(id)
                 .filter(Product::getActive)
                 .orElseThrow(() -> new ProductNotFoundException(id));
 
-        return productMapper.toResponse(product);
+        ProductResponse response = productMapper.toResponse(product);
+        entityTagIndex.putProduct(stamp, product);
+        productPayloadCache.put(id, EntityTagIndex.productTag(product), response);
+        return response;
     }
 
+    @Bulkhead(Workload.INTERACTIVE)
     @Transactional(readOnly = true)
     public ProductResponse getProductBySku(String sku) {
+        long stamp = entityTagIndex.stamp();
         Product product = productRepository.findBySkuAndActiveTrue(sku)
                 .orElseThrow(() -> new ProductNotFoundException(sku));
 
-        return productMapper.toResponse(product);
+        ProductResponse response = productMapper.toResponse(product);
+        entityTagIndex.putProduct(stamp, product);
+        return response;
+    }
+
+    /**
+     * Fetches products by ID or by SKU, with their suppliers, in one statement per chunk of
+     * {@value #LOOKUP_CHUNK_SIZE} keys. Results follow the request order, one per requested key,
+     * repeated keys included; keys without an active product are marked as not found.
+     */
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public ProductLookupResponse lookupProducts(ProductLookupRequest request) {
+        long stamp = entityTagIndex.stamp();
+        List<String> keys;
+        Map<String, Product> byKey = new HashMap<>();
+        if (request.ids() != null) {
+            keys = request.ids().stream().map(UUID::toString).toList();
+            List<UUID> ids = List.copyOf(new LinkedHashSet<>(request.ids()));
+            for (int from = 0; from < ids.size(); from += LOOKUP_CHUNK_SIZE) {
+                productRepository.findActiveWithSuppliersByIds(ids.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, ids.size())))
+                        .forEach(product -> byKey.put(product.getId().toString(), product));
+            }
+        } else {
+            keys = request.skus();
+            List<String> skus = List.copyOf(new LinkedHashSet<>(request.skus()));
+            for (int from = 0; from < skus.size(); from += LOOKUP_CHUNK_SIZE) {
+                productRepository.findActiveWithSuppliersBySkus(skus.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, skus.size())))
+                        .forEach(product -> byKey.put(product.getSku(), product));
+            }
+        }
+
+        byKey.values().forEach(product -> entityTagIndex.putProduct(stamp, product));
+
+        // A product requested twice is mapped once
+        Map<UUID, ProductResponse> responses = new HashMap<>();
+        List<Result> results = new ArrayList<>(keys.size());
+        int found = 0;
+        for (String key : keys) {
+            Product product = byKey.get(key);
+            if (product == null) {
+                results.add(new Result(key, false, null));
+            } else {
+                results.add(new Result(key, true,
+                        responses.computeIfAbsent(product.getId(), id -> productMapper.toResponse(product))));
+                found++;
+            }
+        }
+        return new ProductLookupResponse(results, found, results.size() - found);
+    }
+
+    // Index-only lookups: never touch the database, empty when the tag is not known
+    public Optional<String> findProductTag(UUID id) {
+        return entityTagIndex.findProductTag(id);
     }
 
+    public Optional<String> findProductTagBySku(String sku) {
+        return entityTagIndex.findProductTagBySku(sku);
+    }
+
+    public Optional<ProductPayload> findProductPayload(UUID id) {
+        return entityTagIndex.findProductTag(id).flatMap(tag -> productPayloadCache.get(id, tag));
+    }
 
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public Optional<String> resolveProductTag(UUID id) {
+        Optional<String> cached = entityTagIndex.findProductTag(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long stamp = entityTagIndex.stamp();
+        Product product = productRepository.findById(id)
+                .filter(Product::getActive)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+
+        entityTagIndex.putProduct(stamp, product);
+        return Optional.ofNullable(EntityTagIndex.productTag(product));
+    }
+
+
+    /**
+     * Updates a product if {@code precondition} accepts its current ETag. The tag is taken from the
+     * row read by this transaction and the version is checked again on flush, so a concurrent
+     * update between the two fails with an optimistic locking conflict instead of being overwritten.
+     */
+    @Bulkhead(Workload.WRITE)
     @Transactional
-    public ProductResponse updateProduct(UUID id, UpdateProductRequest request) {
+    public ProductResponse updateProduct(UUID id, UpdateProductRequest request, Predicate<String> precondition) {
         // Find the product by ID and ensure it's active
         Product product = productRepository.findById(id)
                 .filter(Product::getActive)
                 .orElseThrow(() -> new ProductNotFoundException(id));
 
+        if (!precondition.test(EntityTagIndex.productTag(product))) {
+            throw new PreconditionFailedException("Product", id);
+        }
+
         // Check if SKU is being changed and if new SKU already exists
         if (!product.getSku().equals(request.sku())) {
             // If changing SKU, check if new SKU already exists among active products
             if (productRepository.existsBySkuAndActiveTrue(request.sku())) {
+                inventoryMetrics.recordRejection(Rejection.DUPLICATE_SKU);
                 throw new DuplicateSkuException(request.sku());
             }
         }
@@ -123,9 +290,11 @@ public class ProductService {
         productMapper.updateProductFromRequest(request, product);
 
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
         return productMapper.toResponse(savedProduct);
     }
 
+    @Bulkhead(Workload.WRITE)
     @Transactional
     public void deleteProduct(UUID id) {
         Product product = productRepository.findById(id)
@@ -140,8 +309,10 @@ public class ProductService {
 
         product.softDelete();
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
     }
 
+    @Bulkhead(Workload.BULK)
     @Transactional(readOnly = true)
     public Page<ProductResponse> searchProducts(
             String name,
@@ -154,41 +325,117 @@ public class ProductService {
             Integer maxStock,
             Boolean lowStock,
             Pageable pageable) {
+        // An exact count always yields a page
+        return (Page<ProductResponse>) searchProducts(name, category, sku, description, minPrice, maxPrice,
+                minStock, maxStock, lowStock, pageable, CountMode.EXACT);
+    }
 
-        Specification<Product> spec = ProductSpecification.isActive();
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> searchProducts(
+            String name,
+            String category,
+            String sku,
+            String description,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minStock,
+            Integer maxStock,
+            Boolean lowStock,
+            Pageable pageable,
+            CountMode countMode) {
+
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(name, category, sku, description,
+                minPrice, maxPrice, minStock, maxStock, lowStock);
+
+        return productSearchCache.get(criteria, pageable, countMode, () -> {
+            Optional<ProductFilterIndex.Matches> matches = productFilterIndex.match(criteria);
+            if (matches.isPresent()) {
+                Slice<Product> content = findMatches(criteria, matches.get(), pageable);
+                Slice<Product> result = countMode == CountMode.NONE
+                        ? content : new PageImpl<>(content.getContent(), pageable, matches.get().total());
+                return result.map(productMapper::toResponse);
+            }
 
-        if (name != null && !name.trim().isEmpty()) {
-            spec = spec.and(ProductSpecification.hasName(name));
-        }
+            Specification<Product> spec = ProductSpecification.matching(criteria);
+            return pageLoader.load(pageable, countMode,
+                            page -> productRepository.findBy(spec, query -> query.slice(page)),
+                            () -> productRepository.count(spec), null)
+                    .map(productMapper::toResponse);
+        });
+    }
 
-        if (category != null && !category.trim().isEmpty()) {
-            spec = spec.and(ProductSpecification.hasCategory(category));
-        }
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public FacetedProductSearchResponse searchProductsWithFacets(
+            String name,
+            String category,
+            String sku,
+            String description,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Integer minStock,
+            Integer maxStock,
+            Boolean lowStock,
+            Pageable pageable) {
 
-        if (sku != null && !sku.trim().isEmpty()) {
-            spec = spec.and(ProductSpecification.hasSku(sku));
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(name, category, sku, description,
+                minPrice, maxPrice, minStock, maxStock, lowStock);
+        List<BigDecimal> priceEdges = productFacetQueries.priceEdges();
+
+        // Facets come from the same index scan as the page, or from grouped queries when text filters are present
+        Optional<ProductFilterIndex.Matches> matches = productFilterIndex.match(criteria, priceEdges);
+        Page<Product> results;
+        ProductFacetCounts facets;
+        if (matches.isPresent()) {
+            Slice<Product> content = findMatches(criteria, matches.get(), pageable);
+            results = new PageImpl<>(content.getContent(), pageable, matches.get().total());
+            facets = matches.get().facets();
+        } else {
+            Specification<Product> spec = ProductSpecification.matching(criteria);
+            results = productRepository.findAll(spec, pageable);
+            facets = productFacetQueries.count(spec);
         }
 
-        if (description != null && !description.trim().isEmpty()) {
-            spec = spec.and(ProductSpecification.hasDescription(description));
-        }
+        return new FacetedProductSearchResponse(results.map(productMapper::toResponse), facetsResponse(facets, priceEdges));
+    }
 
-        if (minPrice != null || maxPrice != null) {
-            spec = spec.and(ProductSpecification.hasPriceBetween(minPrice, maxPrice));
+    private static ProductFacetsResponse facetsResponse(ProductFacetCounts facets, List<BigDecimal> priceEdges) {
+        List<PriceBucket> priceBuckets = new ArrayList<>(priceEdges.size() + 1);
+        for (int i = 0; i <= priceEdges.size(); i++) {
+            priceBuckets.add(new PriceBucket(i > 0 ? priceEdges.get(i - 1) : null,
+                    i < priceEdges.size() ? priceEdges.get(i) : null, facets.priceBuckets()[i]));
         }
+        return new ProductFacetsResponse(
+                byCountDescending(facets.categories()),
+                priceBuckets,
+                List.of(new ValueCount("true", facets.lowStock()), new ValueCount("false", facets.notLowStock())),
+                byCountDescending(facets.suppliers()));
+    }
 
-        if (minStock != null || maxStock != null) {
-            spec = spec.and(ProductSpecification.hasStockQuantityBetween(minStock, maxStock));
-        }
+    private static List<ValueCount> byCountDescending(Map<?, Long> counts) {
+        return counts.entrySet().stream()
+                .map(entry -> new ValueCount(entry.getKey().toString(), entry.getValue()))
+                .sorted(Comparator.comparingLong(ValueCount::count).reversed().thenComparing(ValueCount::value))
+                .toList();
+    }
 
-        if (Boolean.TRUE.equals(lowStock)) {
-            spec = spec.and(ProductSpecification.isLowStock());
+    /**
+     * Loads the requested page of products matched by the filter index. Small match sets are
+     * fetched by primary key; the full filter is re-applied so rows changed since the index
+     * matched them are never returned.
+     */
+    private Slice<Product> findMatches(ProductSearchCriteria criteria, ProductFilterIndex.Matches matches, Pageable pageable) {
+        if (matches.total() == 0) {
+            return new SliceImpl<>(List.of(), pageable, false);
         }
-
-        return productRepository.findAll(spec, pageable)
-                .map(productMapper::toResponse);
+        Specification<Product> spec = matches.ids() != null
+                ? ProductSpecification.matching(criteria).and(ProductSpecification.hasIdIn(matches.ids()))
+                : ProductSpecification.matching(criteria);
+        return productRepository.findBy(spec, query -> query.slice(pageable));
     }
 
+    @Bulkhead(Workload.WRITE)
     @Transactional
     public ProductResponse updateProductSuppliers(UUID id, List<UUID> supplierIds) {
         // Find the product by ID and ensure it's active
@@ -201,8 +448,12 @@ public class ProductService {
             throw new IllegalArgumentException("At least one supplier is required");
         }
 
+        // Load the current links first, so suppliers that stay linked resolve without a query each
+        Set<Supplier> current = product.getSuppliers();
+        Hibernate.initialize(current);
+
         // Validate that all suppliers exist and are active
-        List<Supplier> suppliers = supplierIds.stream()
+        Set<Supplier> suppliers = supplierIds.stream()
                 .map(supplierId -> {
                     try {
                         return supplierService.getSupplierEntityById(supplierId);
@@ -210,12 +461,14 @@ public class ProductService {
                         throw new SupplierNotFoundException(supplierId);
                     }
                 })
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
-        // Update suppliers (complete replacement)
-        product.setSuppliers(suppliers);
+        // Update suppliers in place (complete replacement), so only the links that differ are written
+        current.retainAll(suppliers);
+        current.addAll(suppliers);
 
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id));
         return productMapper.toResponse(savedProduct);
     }
 
@@ -0,0 +1,55 @@
+package com.inventory.service;
+
+import com.inventory.bulkhead.Bulkhead;
+import com.inventory.dto.response.ReplenishmentSuggestionResponse;
+import com.inventory.entity.ReplenishmentSuggestion;
+import com.inventory.enums.Workload;
+import com.inventory.exception.SupplierNotFoundException;
+import com.inventory.repository.ReplenishmentSuggestionRepository;
+import com.inventory.repository.SupplierRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Service
+@Timed("inventory.service")
+public class ReplenishmentService {
+
+    private final ReplenishmentSuggestionRepository suggestionRepository;
+    private final SupplierRepository supplierRepository;
+
+    public ReplenishmentService(ReplenishmentSuggestionRepository suggestionRepository,
+                                SupplierRepository supplierRepository) {
+        this.suggestionRepository = suggestionRepository;
+        this.supplierRepository = supplierRepository;
+    }
+
+    /**
+     * Suggestions to order from a supplier, from the given run or else the latest one.
+     */
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Page<ReplenishmentSuggestionResponse> getSuggestions(UUID supplierId, LocalDate runDate, Pageable pageable) {
+        if (!supplierRepository.existsById(supplierId)) {
+            throw new SupplierNotFoundException(supplierId);
+        }
+        LocalDate date = runDate != null ? runDate : suggestionRepository.findLatestRunDate().orElse(null);
+        if (date == null) {
+            return Page.empty(pageable);
+        }
+        return suggestionRepository.findBySupplierIdAndIdRunDate(supplierId, date, pageable)
+                .map(ReplenishmentService::toResponse);
+    }
+
+    private static ReplenishmentSuggestionResponse toResponse(ReplenishmentSuggestion suggestion) {
+        return new ReplenishmentSuggestionResponse(suggestion.getId().getRunDate(), suggestion.getId().getProductId(),
+                suggestion.getSku(), suggestion.getSupplierId(), suggestion.getStockQuantity(),
+                suggestion.getMinStockLevel(), suggestion.getDailyVelocity(), suggestion.getLeadTimeDays(),
+                suggestion.getReorderPoint(), suggestion.getSuggestedQuantity());
+    }
+}
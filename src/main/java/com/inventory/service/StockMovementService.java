@@ -1,44 +1,114 @@
 package com.inventory.service;
 
+import com.inventory.bulkhead.Bulkhead;
 import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.response.MovementSeriesResponse;
 import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Location;
+import com.inventory.entity.MovementRollup;
+import com.inventory.entity.MovementRollupId;
 import com.inventory.entity.Product;
+import com.inventory.entity.ProductStock;
+import com.inventory.entity.ProductStockId;
 import com.inventory.entity.StockMovement;
+import com.inventory.enums.CountMode;
 import com.inventory.enums.MovementReason;
 import com.inventory.enums.MovementType;
+import com.inventory.enums.RollupGranularity;
+import com.inventory.enums.Workload;
 import com.inventory.exception.InsufficientStockException;
+import com.inventory.exception.InvalidDateRangeException;
+import com.inventory.exception.LocationNotFoundException;
 import com.inventory.exception.ProductNotFoundException;
+import com.inventory.location.LocationResolver;
+import com.inventory.location.StockAggregator;
 import com.inventory.mapper.StockMovementMapper;
+import com.inventory.metrics.InventoryMetrics;
+import com.inventory.metrics.InventoryMetrics.Rejection;
+import com.inventory.pagination.PageLoader;
+import com.inventory.repository.MovementRollupRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
 import com.inventory.repository.StockMovementRepository;
+import com.inventory.rollup.MovementRollupRecorder;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.UUID;
 
 @Service
+@Timed("inventory.service")
 public class StockMovementService {
 
     private final StockMovementRepository stockMovementRepository;
     private final StockMovementMapper stockMovementMapper;
     private final ProductRepository productRepository;
+    private final PageLoader pageLoader;
+    private final InventoryMetrics inventoryMetrics;
+    private final MovementRollupRecorder movementRollupRecorder;
+    private final MovementRollupRepository movementRollupRepository;
+    private final ProductStockRepository productStockRepository;
+    private final LocationResolver locationResolver;
+    private final StockAggregator stockAggregator;
+    private final TransactionTemplate transactionTemplate;
 
     public StockMovementService(StockMovementRepository stockMovementRepository,
                                 StockMovementMapper stockMovementMapper,
-                                ProductRepository productRepository) {
+                                ProductRepository productRepository,
+                                PageLoader pageLoader,
+                                InventoryMetrics inventoryMetrics,
+                                MovementRollupRecorder movementRollupRecorder,
+                                MovementRollupRepository movementRollupRepository,
+                                ProductStockRepository productStockRepository,
+                                LocationResolver locationResolver,
+                                StockAggregator stockAggregator,
+                                TransactionTemplate transactionTemplate) {
         this.stockMovementRepository = stockMovementRepository;
         this.stockMovementMapper = stockMovementMapper;
         this.productRepository = productRepository;
+        this.pageLoader = pageLoader;
+        this.inventoryMetrics = inventoryMetrics;
+        this.movementRollupRecorder = movementRollupRecorder;
+        this.movementRollupRepository = movementRollupRepository;
+        this.productStockRepository = productStockRepository;
+        this.locationResolver = locationResolver;
+        this.stockAggregator = stockAggregator;
+        this.transactionTemplate = transactionTemplate;
     }
 
+    @Bulkhead(Workload.BULK)
     @Transactional(readOnly = true)
     public Page<StockMovementResponse> getAllMovements(Pageable pageable) {
         return stockMovementRepository.findByActiveTrueOrderByCreatedAtDesc(pageable)
                 .map(stockMovementMapper::toResponse);
     }
 
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Slice<StockMovementResponse> getAllMovements(Pageable pageable, CountMode countMode) {
+        return pageLoader.load(pageable, countMode, stockMovementRepository::findSliceByActiveTrueOrderByCreatedAtDesc,
+                        stockMovementRepository::countByActiveTrue, "stock_movements")
+                .map(stockMovementMapper::toResponse);
+    }
+
+    @Bulkhead(Workload.BULK)
     @Transactional(readOnly = true)
     public Page<StockMovementResponse> getMovementsByProductId(UUID productId, Pageable pageable) {
         // Verify product exists and is active
@@ -50,17 +120,179 @@ public class StockMovementService {
                 .map(stockMovementMapper::toResponse);
     }
 
-    @Transactional
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Slice<StockMovementResponse> getMovementsByProductId(UUID productId, Pageable pageable, CountMode countMode) {
+        productRepository.findById(productId)
+                .filter(Product::getActive)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+
+        return pageLoader.load(pageable, countMode,
+                        page -> stockMovementRepository.findSliceByProductIdAndActiveTrueOrderByCreatedAtDesc(productId, page),
+                        () -> stockMovementRepository.countByProductIdAndActiveTrue(productId), null)
+                .map(stockMovementMapper::toResponse);
+    }
+
+    @Bulkhead(Workload.WRITE)
     public StockMovementResponse createStockMovement(CreateStockMovementRequest request) {
-        // Find and validate product exists and is active
-        Product product = productRepository.findById(request.productId())
+        StockMovement savedMovement = transactionTemplate.execute(status -> {
+            // Find and validate product exists and is active
+            Product product = findActiveProduct(request.productId());
+            Location location = locationResolver.resolve(request.locationId());
+            ProductStock stock = lockStock(product.getId(), location.getId());
+
+            StockMovement stockMovement = applyMovement(product, location, stock, request);
+
+            StockMovement saved = stockMovementRepository.save(stockMovement);
+            movementRollupRecorder.record(List.of(saved));
+            stockAggregator.enqueue(request.productId(), List.of(saved));
+            return saved;
+        });
+        refreshStock(request.productId());
+        inventoryMetrics.recordStockMovement(request.movementType(), request.reason(), request.quantity());
+
+        return stockMovementMapper.toResponse(savedMovement);
+    }
+
+    /**
+     * Applies movements for one product in order within a single transaction. A movement that
+     * would take stock at its location below zero, or names an unknown location, is rejected on
+     * its own and the following ones still apply.
+     *
+     * @return one outcome per request, in request order
+     */
+    @Bulkhead(Workload.WRITE)
+    public List<MovementOutcome> createStockMovements(UUID productId, List<CreateStockMovementRequest> requests) {
+        List<MovementOutcome> outcomes = new ArrayList<>(requests.size());
+        List<StockMovement> savedMovements = transactionTemplate.execute(status -> {
+            outcomes.clear();
+            Product product = findActiveProduct(productId);
+
+            List<Location> locations = new ArrayList<>(requests.size());
+            for (CreateStockMovementRequest request : requests) {
+                try {
+                    locations.add(locationResolver.resolve(request.locationId()));
+                    outcomes.add(null);
+                } catch (LocationNotFoundException e) {
+                    locations.add(null);
+                    outcomes.add(new MovementOutcome(null, e));
+                }
+            }
+            // Lock in database order, so batches touching the same locations cannot deadlock
+            Map<UUID, ProductStock> stocks = new HashMap<>();
+            locations.stream().filter(Objects::nonNull).map(Location::getId).distinct()
+                    .sorted(Comparator.comparing(UUID::toString))
+                    .forEach(locationId -> stocks.put(locationId, lockStock(productId, locationId)));
+
+            List<StockMovement> applied = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                Location location = locations.get(i);
+                if (location == null) {
+                    continue;
+                }
+                try {
+                    applied.add(applyMovement(product, location, stocks.get(location.getId()), requests.get(i)));
+                } catch (InsufficientStockException e) {
+                    outcomes.set(i, new MovementOutcome(null, e));
+                }
+            }
+            if (applied.isEmpty()) {
+                return applied;
+            }
+
+            List<StockMovement> saved = stockMovementRepository.saveAll(applied);
+            movementRollupRecorder.record(saved);
+            stockAggregator.enqueue(productId, saved);
+            return saved;
+        });
+        if (!savedMovements.isEmpty()) {
+            refreshStock(productId);
+        }
+
+        Iterator<StockMovement> saved = savedMovements.iterator();
+        for (int i = 0; i < outcomes.size(); i++) {
+            if (outcomes.get(i) == null) {
+                StockMovement movement = saved.next();
+                inventoryMetrics.recordStockMovement(movement.getMovementType(), movement.getReason(), movement.getQuantity());
+                outcomes.set(i, new MovementOutcome(stockMovementMapper.toResponse(movement), null));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Gives a product created in the current transaction its stock row at the default location,
+     * holding the stock it was created with. Rows at other locations are created by the first
+     * movement there.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void seedStock(Product product) {
+        UUID locationId = locationResolver.defaultLocation().getId();
+        int quantity = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+        productStockRepository.save(new ProductStock(new ProductStockId(product.getId(), locationId), quantity,
+                LocalDateTime.now()));
+    }
+
+    /**
+     * Movement volume of a product per period from the daily rollups, over all locations. The
+     * range is widened to whole periods of the requested granularity.
+     */
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public MovementSeriesResponse getMovementSeries(UUID productId, LocalDate from, LocalDate to,
+                                                    RollupGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException(from, to);
+        }
+        productRepository.findById(productId)
                 .filter(Product::getActive)
-                .orElseThrow(() -> new ProductNotFoundException(request.productId()));
+                .orElseThrow(() -> new ProductNotFoundException(productId));
 
-        // Get current stock
-        Integer currentStock = product.getStockQuantity() != null ? product.getStockQuantity() : 0;
+        LocalDate start = granularity.periodStart(from);
+        LocalDate end = granularity.periodEnd(to);
+        Map<MovementRollupId, long[]> periods = new TreeMap<>(Comparator
+                .comparing(MovementRollupId::getDate)
+                .thenComparing(MovementRollupId::getMovementType)
+                .thenComparing(MovementRollupId::getReason));
+        for (MovementRollup rollup : movementRollupRepository.findByIdProductIdAndIdDateBetween(productId, start, end)) {
+            MovementRollupId day = rollup.getId();
+            long[] total = periods.computeIfAbsent(new MovementRollupId(productId, null,
+                    granularity.periodStart(day.getDate()), day.getMovementType(), day.getReason()), period -> new long[2]);
+            total[0] += rollup.getMovements();
+            total[1] += rollup.getQuantity();
+        }
 
-        Integer newStock;
+        List<MovementSeriesResponse.Point> points = periods.entrySet().stream()
+                .map(period -> new MovementSeriesResponse.Point(period.getKey().getDate(), period.getKey().getMovementType(),
+                        period.getKey().getReason(), period.getValue()[0], period.getValue()[1]))
+                .toList();
+        return new MovementSeriesResponse(productId, granularity, start, end, points);
+    }
+
+    private Product findActiveProduct(UUID productId) {
+        return productRepository.findById(productId)
+                .filter(Product::getActive)
+                .orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+
+    private void refreshStock(UUID productId) {
+        // Inside a caller's transaction (a product's initial stock) nothing is committed yet; the sweep applies it
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            stockAggregator.refresh(productId);
+        }
+    }
+
+    private ProductStock lockStock(UUID productId, UUID locationId) {
+        productStockRepository.insertIfMissing(productId, locationId);
+        return productStockRepository.lockById(productId, locationId).orElseThrow();
+    }
+
+    private StockMovement applyMovement(Product product, Location location, ProductStock stock,
+                                        CreateStockMovementRequest request) {
+        // Get current stock at the location
+        int currentStock = stock.getQuantity();
+
+        int newStock;
 
         // Special handling for INITIAL_STOCK - sets stock directly, doesn't add/subtract
         if (request.reason() == MovementReason.INITIAL_STOCK) {
@@ -74,6 +306,7 @@ public class StockMovementService {
 
                 // Validate sufficient stock for OUT movements
                 if (newStock < 0) {
+                    inventoryMetrics.recordRejection(Rejection.INSUFFICIENT_STOCK);
                     throw new InsufficientStockException(product.getSku(), currentStock, request.quantity());
                 }
             }
@@ -82,6 +315,7 @@ public class StockMovementService {
         // Create stock movement record
         StockMovement stockMovement = new StockMovement();
         stockMovement.setProduct(product);
+        stockMovement.setLocation(location);
         stockMovement.setMovementType(request.movementType());
         stockMovement.setQuantity(request.quantity());
         stockMovement.setPreviousStock(currentStock);
@@ -91,13 +325,15 @@ public class StockMovementService {
         stockMovement.setNotes(request.notes());
         stockMovement.setCreatedBy("system"); // TODO: Get from security context
 
-        // Update product stock
-        product.setStockQuantity(newStock);
-
-        // Save both entities
-        productRepository.save(product);
-        StockMovement savedMovement = stockMovementRepository.save(stockMovement);
+        // Update stock at the location; the product's total follows after commit in StockAggregator
+        stock.setQuantity(newStock);
+        stock.setUpdatedAt(LocalDateTime.now());
+        return stockMovement;
+    }
 
-        return stockMovementMapper.toResponse(savedMovement);
+    /**
+     * Result of one movement in a batch: the recorded movement, or the business rule it broke.
+     */
+    public record MovementOutcome(StockMovementResponse movement, RuntimeException failure) {
     }
-}
\ No newline at end of file
+}
@@ -1,55 +1,112 @@
 package com.inventory.service;
 
+import com.inventory.bulkhead.Bulkhead;
+import com.inventory.cache.EntityTagIndex;
 import com.inventory.dto.request.CreateSupplierRequest;
 import com.inventory.dto.request.UpdateSupplierRequest;
 import com.inventory.dto.response.ProductResponse;
 import com.inventory.dto.response.SupplierResponse;
 import com.inventory.entity.Supplier;
+import com.inventory.enums.CountMode;
 import com.inventory.enums.SupplierStatus;
 import com.inventory.enums.SupplierType;
+import com.inventory.enums.Workload;
+import com.inventory.event.SupplierChangedEvent;
 import com.inventory.exception.DuplicateBusinessIdException;
+import com.inventory.exception.PreconditionFailedException;
 import com.inventory.exception.SupplierNotFoundException;
 import com.inventory.mapper.ProductMapper;
 import com.inventory.mapper.SupplierMapper;
+import com.inventory.pagination.PageLoader;
 import com.inventory.repository.SupplierRepository;
+import com.inventory.search.SupplierDirectory;
+import com.inventory.search.SupplierSearchCriteria;
 import com.inventory.specification.SupplierSpecification;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 @Service
+@Timed("inventory.service")
 public class SupplierService {
 
     private final SupplierRepository supplierRepository;
     private final SupplierMapper supplierMapper;
     private final ProductMapper productMapper;
+    private final EntityTagIndex entityTagIndex;
+    private final PageLoader pageLoader;
+    private final SupplierDirectory supplierDirectory;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SupplierService(SupplierRepository supplierRepository, SupplierMapper supplierMapper, ProductMapper productMapper) {
+    public SupplierService(SupplierRepository supplierRepository, SupplierMapper supplierMapper, ProductMapper productMapper,
+                           EntityTagIndex entityTagIndex, PageLoader pageLoader, SupplierDirectory supplierDirectory,
+                           ApplicationEventPublisher eventPublisher) {
         this.supplierRepository = supplierRepository;
         this.supplierMapper = supplierMapper;
         this.productMapper = productMapper;
+        this.entityTagIndex = entityTagIndex;
+        this.pageLoader = pageLoader;
+        this.supplierDirectory = supplierDirectory;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Bulkhead(Workload.BULK)
     @Transactional(readOnly = true)
     public Page<SupplierResponse> getAllSuppliers(Pageable pageable) {
         return supplierRepository.findByActiveTrue(pageable)
                 .map(supplierMapper::toResponse);
     }
 
+    @Bulkhead(Workload.BULK)
+    @Transactional(readOnly = true)
+    public Slice<SupplierResponse> getAllSuppliers(Pageable pageable, CountMode countMode) {
+        return pageLoader.load(pageable, countMode, supplierRepository::findSliceByActiveTrue,
+                        supplierRepository::countByActiveTrue, "suppliers")
+                .map(supplierMapper::toResponse);
+    }
+
+    @Bulkhead(Workload.INTERACTIVE)
     @Transactional(readOnly = true)
     public SupplierResponse getSupplierById(UUID id) {
+        long stamp = entityTagIndex.stamp();
         Supplier supplier = supplierRepository.findById(id)
                 .filter(Supplier::getActive)
                 .orElseThrow(() -> new SupplierNotFoundException(id));
 
-        return supplierMapper.toResponse(supplier);
+        SupplierResponse response = supplierMapper.toResponse(supplier);
+        entityTagIndex.putSupplier(stamp, supplier);
+        return response;
+    }
+
+    public Optional<String> findSupplierTag(UUID id) {
+        return entityTagIndex.findSupplierTag(id);
+    }
+
+    @Bulkhead(Workload.INTERACTIVE)
+    @Transactional(readOnly = true)
+    public Optional<String> resolveSupplierTag(UUID id) {
+        Optional<String> cached = entityTagIndex.findSupplierTag(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long stamp = entityTagIndex.stamp();
+        Supplier supplier = getSupplierEntityById(id);
+        entityTagIndex.putSupplier(stamp, supplier);
+        return Optional.ofNullable(EntityTagIndex.supplierTag(supplier));
     }
 
+    @Bulkhead(Workload.INTERACTIVE)
     @Transactional(readOnly = true)
     public Supplier getSupplierEntityById(UUID id) {
         return supplierRepository.findById(id)
@@ -57,6 +114,7 @@ public class SupplierService {
                 .orElseThrow(() -> new SupplierNotFoundException(id));
     }
 
+    @Bulkhead(Workload.WRITE)
     @Transactional
     public SupplierResponse createSupplier(CreateSupplierRequest request) {
         if (request.businessId() != null && !request.businessId().trim().isEmpty()) {
@@ -67,16 +125,23 @@ public class SupplierService {
 
         Supplier supplier = supplierMapper.toEntity(request);
         Supplier savedSupplier = supplierRepository.save(supplier);
+        eventPublisher.publishEvent(new SupplierChangedEvent(savedSupplier.getId()));
 
         return supplierMapper.toResponse(savedSupplier);
     }
 
+    @Bulkhead(Workload.WRITE)
     @Transactional
-    public SupplierResponse updateSupplier(UUID id, UpdateSupplierRequest request) {
+    public SupplierResponse updateSupplier(UUID id, UpdateSupplierRequest request, Predicate<String> precondition) {
         Supplier supplier = supplierRepository.findById(id)
                 .filter(Supplier::getActive)
                 .orElseThrow(() -> new SupplierNotFoundException(id));
 
+        // Checked against the row this transaction updates; see ProductService.updateProduct
+        if (!precondition.test(EntityTagIndex.supplierTag(supplier))) {
+            throw new PreconditionFailedException("Supplier", id);
+        }
+
         if (request.businessId() != null && !request.businessId().trim().isEmpty()) {
             if (supplierRepository.existsByBusinessIdAndActiveTrue(request.businessId()) &&
                     !request.businessId().equals(supplier.getBusinessId())) {
@@ -86,11 +151,13 @@ public class SupplierService {
 
         supplierMapper.updateEntity(request, supplier);
         Supplier updatedSupplier = supplierRepository.save(supplier);
+        eventPublisher.publishEvent(new SupplierChangedEvent(id));
 
         return supplierMapper.toResponse(updatedSupplier);
     }
 
-    @Transactional(readOnly = true)
+    // Not transactional: searches answered by the supplier directory must not borrow a connection
+    @Bulkhead(Workload.BULK)
     public Page<SupplierResponse> searchSuppliers(
             String name,
             String email,
@@ -104,44 +171,83 @@ public class SupplierService {
             Integer maxDeliveryDays,
             Pageable pageable) {
 
+        SupplierSearchCriteria criteria = SupplierSearchCriteria.of(name, email, city, country, status, supplierType,
+                minRating, maxRating, minDeliveryDays, maxDeliveryDays);
+
+        return supplierDirectory.search(criteria, pageable)
+                .orElseGet(() -> supplierRepository.findAll(searchSpecification(criteria), pageable)
+                        .map(supplierMapper::toResponse));
+    }
+
+    @Bulkhead(Workload.BULK)
+    public Slice<SupplierResponse> searchSuppliers(
+            String name,
+            String email,
+            String city,
+            String country,
+            SupplierStatus status,
+            SupplierType supplierType,
+            BigDecimal minRating,
+            BigDecimal maxRating,
+            Integer minDeliveryDays,
+            Integer maxDeliveryDays,
+            Pageable pageable,
+            CountMode countMode) {
+
+        SupplierSearchCriteria criteria = SupplierSearchCriteria.of(name, email, city, country, status, supplierType,
+                minRating, maxRating, minDeliveryDays, maxDeliveryDays);
+
+        Optional<Slice<SupplierResponse>> cached = supplierDirectory.search(criteria, pageable, countMode);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        Specification<Supplier> spec = searchSpecification(criteria);
+        return pageLoader.load(pageable, countMode,
+                        page -> supplierRepository.findBy(spec, query -> query.slice(page)),
+                        () -> supplierRepository.count(spec), null)
+                .map(supplierMapper::toResponse);
+    }
+
+    private Specification<Supplier> searchSpecification(SupplierSearchCriteria criteria) {
         Specification<Supplier> spec = SupplierSpecification.isActive();
 
-        if (name != null && !name.trim().isEmpty()) {
-            spec = spec.and(SupplierSpecification.hasName(name));
+        if (criteria.name() != null) {
+            spec = spec.and(SupplierSpecification.hasName(criteria.name()));
         }
 
-        if (email != null && !email.trim().isEmpty()) {
-            spec = spec.and(SupplierSpecification.hasEmail(email));
+        if (criteria.email() != null) {
+            spec = spec.and(SupplierSpecification.hasEmail(criteria.email()));
         }
 
-        if (city != null && !city.trim().isEmpty()) {
-            spec = spec.and(SupplierSpecification.hasCity(city));
+        if (criteria.city() != null) {
+            spec = spec.and(SupplierSpecification.hasCity(criteria.city()));
         }
 
-        if (country != null && !country.trim().isEmpty()) {
-            spec = spec.and(SupplierSpecification.hasCountry(country));
+        if (criteria.country() != null) {
+            spec = spec.and(SupplierSpecification.hasCountry(criteria.country()));
         }
 
-        if (status != null) {
-            spec = spec.and(SupplierSpecification.hasStatus(status));
+        if (criteria.status() != null) {
+            spec = spec.and(SupplierSpecification.hasStatus(criteria.status()));
         }
 
-        if (supplierType != null) {
-            spec = spec.and(SupplierSpecification.hasSupplierType(supplierType));
+        if (criteria.supplierType() != null) {
+            spec = spec.and(SupplierSpecification.hasSupplierType(criteria.supplierType()));
         }
 
-        if (minRating != null || maxRating != null) {
-            spec = spec.and(SupplierSpecification.hasRatingBetween(minRating, maxRating));
+        if (criteria.minRating() != null || criteria.maxRating() != null) {
+            spec = spec.and(SupplierSpecification.hasRatingBetween(criteria.minRating(), criteria.maxRating()));
         }
 
-        if (minDeliveryDays != null || maxDeliveryDays != null) {
-            spec = spec.and(SupplierSpecification.hasDeliveryDaysBetween(minDeliveryDays, maxDeliveryDays));
+        if (criteria.minDeliveryDays() != null || criteria.maxDeliveryDays() != null) {
+            spec = spec.and(SupplierSpecification.hasDeliveryDaysBetween(criteria.minDeliveryDays(), criteria.maxDeliveryDays()));
         }
 
-        return supplierRepository.findAll(spec, pageable)
-                .map(supplierMapper::toResponse);
+        return spec;
     }
 
+    @Bulkhead(Workload.BULK)
     @Transactional(readOnly = true)
     public Page<ProductResponse> getSupplierProducts(UUID supplierId, Pageable pageable) {
         supplierRepository.findById(supplierId)
@@ -1,9 +1,12 @@
 package com.inventory.specification;
 
 import com.inventory.entity.Product;
+import com.inventory.search.ProductSearchCriteria;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
 
 public class ProductSpecification {
 
@@ -12,6 +15,14 @@ public class ProductSpecification {
                 criteriaBuilder.isTrue(root.get("active"));
     }
 
+    public static Specification<Product> hasIdIn(Collection<UUID> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Product> hasIdGreaterThan(UUID id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get("id"), id);
+    }
+
     public static Specification<Product> hasName(String name) {
         return (root, query, criteriaBuilder) -> {
             if (name == null || name.trim().isEmpty()) {
@@ -94,4 +105,41 @@ public class ProductSpecification {
             );
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Active products matching every filter present in {@code criteria}.
+     */
+    public static Specification<Product> matching(ProductSearchCriteria criteria) {
+        Specification<Product> spec = isActive();
+
+        if (criteria.name() != null) {
+            spec = spec.and(hasName(criteria.name()));
+        }
+
+        if (criteria.category() != null) {
+            spec = spec.and(hasCategory(criteria.category()));
+        }
+
+        if (criteria.sku() != null) {
+            spec = spec.and(hasSku(criteria.sku()));
+        }
+
+        if (criteria.description() != null) {
+            spec = spec.and(hasDescription(criteria.description()));
+        }
+
+        if (criteria.minPrice() != null || criteria.maxPrice() != null) {
+            spec = spec.and(hasPriceBetween(criteria.minPrice(), criteria.maxPrice()));
+        }
+
+        if (criteria.minStock() != null || criteria.maxStock() != null) {
+            spec = spec.and(hasStockQuantityBetween(criteria.minStock(), criteria.maxStock()));
+        }
+
+        if (criteria.lowStock()) {
+            spec = spec.and(isLowStock());
+        }
+
+        return spec;
+    }
+}
@@ -0,0 +1,97 @@
+package com.inventory.velocity;
+
+import com.inventory.entity.DemandVelocity;
+import com.inventory.entity.StockMovement;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.repository.DemandVelocityRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sales velocity per product as an exponentially weighted moving average of sold quantity per
+ * day, with weights halving every {@code inventory.velocity.half-life-days}.
+ * <p>
+ * With {@code lambda = ln 2 / half-life} the velocity at time {@code now} (in days) is
+ * {@code lambda * sum(q * e^(-lambda * (now - t)))} over past sales of {@code q} units at
+ * {@code t}. Scaling every sale by {@code e^(lambda * t)} instead makes the sum independent of
+ * {@code now}, so a sale is added in constant time and read back at any time; the sum is kept as a
+ * logarithm so the scale factors cannot overflow. For products tracked for less than a few
+ * half-lives the average is divided by the weight seen so far, {@code 1 - e^(-lambda * age)}.
+ * <p>
+ * Only {@code OUT} movements with reason {@code SALE} count as demand, wherever they happen. The
+ * row of a product is written under the product's row lock, which
+ * {@link com.inventory.location.StockAggregator} holds while applying committed sales, once each.
+ */
+@Component
+public class DemandVelocityTracker {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final double SECONDS_PER_DAY = 86_400;
+
+    private final DemandVelocityRepository demandVelocityRepository;
+    private final EntityManager entityManager;
+    private final double lambda;
+
+    public DemandVelocityTracker(DemandVelocityRepository demandVelocityRepository, EntityManager entityManager,
+                                 @Value("${inventory.velocity.half-life-days:14}") double halfLifeDays) {
+        this.demandVelocityRepository = demandVelocityRepository;
+        this.entityManager = entityManager;
+        this.lambda = Math.log(2) / halfLifeDays;
+    }
+
+    public void record(List<StockMovement> movements) {
+        List<StockMovement> sales = movements.stream().filter(DemandVelocityTracker::isSale).toList();
+        if (sales.isEmpty()) {
+            return;
+        }
+
+        UUID productId = sales.get(0).getProduct().getId();
+        DemandVelocity velocity = demandVelocityRepository.findById(productId).orElse(null);
+        for (StockMovement sale : sales) {
+            double days = days(sale.getCreatedAt());
+            double weight = Math.log(sale.getQuantity()) + lambda * days;
+            if (velocity == null) {
+                velocity = new DemandVelocity(productId, weight, days, sale.getCreatedAt());
+                entityManager.persist(velocity);
+            } else {
+                velocity.setLogWeight(logSum(velocity.getLogWeight(), weight));
+                if (sale.getCreatedAt().isAfter(velocity.getLastSaleAt())) {
+                    velocity.setLastSaleAt(sale.getCreatedAt());
+                }
+            }
+        }
+    }
+
+    /**
+     * Average units sold per day at {@code now}.
+     */
+    public double dailyVelocity(double logWeight, double trackedSince, LocalDateTime now) {
+        double today = days(now);
+        double age = Math.max(today - trackedSince, 1);
+        return lambda * Math.exp(logWeight - lambda * today) / -Math.expm1(-lambda * age);
+    }
+
+    public double lambda() {
+        return lambda;
+    }
+
+    public double days(LocalDateTime time) {
+        return (time.toEpochSecond(ZoneOffset.UTC) - EPOCH.toEpochSecond(ZoneOffset.UTC)) / SECONDS_PER_DAY;
+    }
+
+    private static boolean isSale(StockMovement movement) {
+        return movement.getMovementType() == MovementType.OUT && movement.getReason() == MovementReason.SALE;
+    }
+
+    private static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
@@ -0,0 +1,144 @@
+package com.inventory.bulkhead;
+
+import com.inventory.bulkhead.BulkheadAspect.Limits;
+import com.inventory.enums.Workload;
+import com.inventory.exception.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BulkheadAspect Tests")
+class BulkheadAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BulkheadAspect aspect;
+    private Workloads workloads;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new BulkheadAspect(Map.of(
+                Workload.WRITE, new Limits(1, 1),
+                Workload.INTERACTIVE, new Limits(2, 2),
+                Workload.BULK, new Limits(1, 0)), meterRegistry);
+        Workloads target = new Workloads();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        workloads = factory.getProxy();
+        target.self = workloads;
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspect.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run annotated methods on the bulkhead's executor inside its workload")
+    void shouldRunOnBulkheadExecutorInsideWorkload() {
+        String thread = workloads.interactive();
+
+        assertThat(thread).startsWith("bulkhead-interactive-").endsWith("/INTERACTIVE");
+        assertThat(WorkloadContext.current()).isNull();
+        assertThat(meterRegistry.get("inventory.bulkhead.queue.wait").tag("bulkhead", "interactive").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should run nested bulkhead calls inline in the caller's workload")
+    void shouldRunNestedCallsInline() {
+        String thread = workloads.writeCallingInteractive();
+
+        assertThat(thread).startsWith("bulkhead-write-").endsWith("/WRITE");
+    }
+
+    @Test
+    @DisplayName("Should run calls inline in a transaction the caller already holds")
+    void shouldRunInlineInCallersTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(workloads.interactive()).isEqualTo(Thread.currentThread().getName() + "/null");
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail fast when a bulkhead's threads and queue are taken")
+    void shouldFailFastWhenBulkheadIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = CompletableFuture.runAsync(() -> workloads.bulk(release));
+        awaitSaturation("bulk", 1.0);
+
+        assertThatThrownBy(() -> workloads.bulk(release))
+                .isInstanceOf(BulkheadFullException.class)
+                .hasMessageContaining("bulk");
+        assertThat(meterRegistry.get("inventory.bulkhead.rejections").tag("bulkhead", "bulk").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(workloads.interactive()).startsWith("bulkhead-interactive-");
+    }
+
+    @Test
+    @DisplayName("Should rethrow exceptions raised inside the bulkhead unchanged")
+    void shouldRethrowExceptionsUnchanged() {
+        assertThatThrownBy(() -> workloads.failing())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+    }
+
+    private void awaitSaturation(String bulkhead, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (saturation(bulkhead) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(saturation(bulkhead)).isEqualTo(expected);
+    }
+
+    private double saturation(String bulkhead) {
+        return meterRegistry.get("inventory.bulkhead.saturation").tag("bulkhead", bulkhead).gauge().value();
+    }
+
+    static class Workloads {
+
+        private Workloads self;
+
+        @Bulkhead(Workload.INTERACTIVE)
+        public String interactive() {
+            return Thread.currentThread().getName() + "/" + WorkloadContext.current();
+        }
+
+        @Bulkhead(Workload.WRITE)
+        public String writeCallingInteractive() {
+            return self.interactive();
+        }
+
+        @Bulkhead(Workload.BULK)
+        public void bulk(CountDownLatch release) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Bulkhead(Workload.INTERACTIVE)
+        public void failing() {
+            throw new IllegalArgumentException("boom");
+        }
+    }
+}
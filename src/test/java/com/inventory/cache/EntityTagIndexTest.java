@@ -0,0 +1,143 @@
+package com.inventory.cache;
+
+import com.inventory.entity.Product;
+import com.inventory.entity.Supplier;
+import com.inventory.event.ProductBatchChangedEvent;
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.event.SupplierChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EntityTagIndex Tests")
+class EntityTagIndexTest {
+
+    private EntityTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EntityTagIndex(100);
+    }
+
+    @Test
+    @DisplayName("Should combine product version with supplier versions")
+    void shouldCombineProductVersionWithSupplierVersions() {
+        Product product = product("SKU-1", 4L, supplier(2L), supplier(5L));
+
+        assertThat(EntityTagIndex.productTag(product)).isEqualTo("4.7");
+    }
+
+    @Test
+    @DisplayName("Should drop product tag when the product changes")
+    void shouldDropProductTagWhenProductChanges() {
+        Product product = product("SKU-1", 1L);
+        index.putProduct(index.stamp(), product);
+
+        index.onProductChanged(new ProductChangedEvent(product.getId()));
+
+        assertThat(index.findProductTag(product.getId())).isEmpty();
+        assertThat(index.findProductTagBySku("SKU-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop tags of every product in a changed batch")
+    void shouldDropTagsOfEveryProductInChangedBatch() {
+        Product first = product("SKU-1", 1L);
+        Product second = product("SKU-2", 1L);
+        Product unrelated = product("SKU-3", 1L);
+        long stamp = index.stamp();
+        index.putProduct(stamp, first);
+        index.putProduct(stamp, unrelated);
+
+        index.onProductBatchChanged(new ProductBatchChangedEvent(List.of(first.getId(), second.getId())));
+        index.putProduct(stamp, second);
+
+        assertThat(index.findProductTagBySku("SKU-1")).isEmpty();
+        assertThat(index.findProductTag(second.getId())).isEmpty();
+        assertThat(index.findProductTag(unrelated.getId())).contains("1.0");
+    }
+
+    @Test
+    @DisplayName("Should not publish a tag read before a concurrent invalidation")
+    void shouldNotPublishTagReadBeforeConcurrentInvalidation() {
+        Product product = product("SKU-1", 1L);
+        long stamp = index.stamp();
+
+        index.onProductChanged(new ProductChangedEvent(product.getId()));
+        index.putProduct(stamp, product);
+
+        assertThat(index.findProductTag(product.getId())).isEmpty();
+
+        index.putProduct(index.stamp(), product);
+        assertThat(index.findProductTag(product.getId())).contains("1.0");
+    }
+
+    @Test
+    @DisplayName("Should drop tags of products embedding a changed supplier")
+    void shouldDropTagsOfProductsEmbeddingChangedSupplier() {
+        Supplier supplier = supplier(1L);
+        Product linked = product("SKU-1", 1L, supplier);
+        Product unrelated = product("SKU-2", 1L, supplier(1L));
+        index.putProduct(index.stamp(), linked);
+        index.putProduct(index.stamp(), unrelated);
+        index.putSupplier(index.stamp(), supplier);
+
+        index.onSupplierChanged(new SupplierChangedEvent(supplier.getId()));
+
+        assertThat(index.findSupplierTag(supplier.getId())).isEmpty();
+        assertThat(index.findProductTag(linked.getId())).isEmpty();
+        assertThat(index.findProductTag(unrelated.getId())).contains("1.1");
+    }
+
+    @Test
+    @DisplayName("Should keep a product's tag when a supplier it no longer embeds changes")
+    void shouldKeepTagWhenFormerSupplierChanges() {
+        Supplier former = supplier(1L);
+        Supplier current = supplier(2L);
+        Product product = product("SKU-1", 1L, former);
+        index.putProduct(index.stamp(), product);
+        product.setSuppliers(Set.of(current));
+        index.putProduct(index.stamp(), product);
+
+        index.onSupplierChanged(new SupplierChangedEvent(former.getId()));
+        assertThat(index.findProductTag(product.getId())).contains("1.2");
+
+        index.onSupplierChanged(new SupplierChangedEvent(current.getId()));
+        assertThat(index.findProductTag(product.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should ignore SKU lookups once the SKU moved to another product")
+    void shouldIgnoreSkuLookupsOnceSkuMoved() {
+        Product product = product("SKU-1", 1L);
+        index.putProduct(index.stamp(), product);
+        product.setSku("SKU-2");
+        index.putProduct(index.stamp(), product);
+
+        assertThat(index.findProductTagBySku("SKU-1")).isEmpty();
+        assertThat(index.findProductTagBySku("SKU-2")).contains("1.0");
+    }
+
+    private static Product product(String sku, long version, Supplier... suppliers) {
+        Product product = new Product("Product " + sku, sku, BigDecimal.TEN);
+        product.setId(UUID.randomUUID());
+        product.setSuppliers(Set.of(suppliers));
+        ReflectionTestUtils.setField(product, "version", version);
+        return product;
+    }
+
+    private static Supplier supplier(long version) {
+        Supplier supplier = new Supplier();
+        supplier.setId(UUID.randomUUID());
+        ReflectionTestUtils.setField(supplier, "version", version);
+        return supplier;
+    }
+}
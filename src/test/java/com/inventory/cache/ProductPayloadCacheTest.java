@@ -0,0 +1,81 @@
+package com.inventory.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.event.ProductChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductPayloadCache Tests")
+class ProductPayloadCacheTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Test
+    @DisplayName("Should store JSON and gzip bytes for the rendered version")
+    void shouldStoreJsonAndGzipBytesForRenderedVersion() throws IOException {
+        ProductPayloadCache cache = new ProductPayloadCache(objectMapper, true, true, 1 << 20);
+        ProductResponse response = productResponse();
+
+        cache.put(response.id(), "2.1", response);
+
+        ProductPayloadCache.ProductPayload payload = cache.get(response.id(), "2.1").orElseThrow();
+        assertThat(objectMapper.readValue(payload.json(), ProductResponse.class)).isEqualTo(response);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzipped()))) {
+            assertThat(in.readAllBytes()).isEqualTo(payload.json());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not serve bytes rendered from an older version")
+    void shouldNotServeBytesRenderedFromOlderVersion() {
+        ProductPayloadCache cache = new ProductPayloadCache(objectMapper, true, false, 1 << 20);
+        ProductResponse response = productResponse();
+
+        cache.put(response.id(), "2.1", response);
+
+        assertThat(cache.get(response.id(), "3.1")).isEmpty();
+        assertThat(cache.get(response.id(), "2.1")).hasValueSatisfying(payload -> assertThat(payload.hasGzip()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should drop bytes when the product changes")
+    void shouldDropBytesWhenProductChanges() {
+        ProductPayloadCache cache = new ProductPayloadCache(objectMapper, true, true, 1 << 20);
+        ProductResponse response = productResponse();
+        cache.put(response.id(), "2.1", response);
+
+        cache.onProductChanged(new ProductChangedEvent(response.id()));
+
+        assertThat(cache.get(response.id(), "2.1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stay empty when disabled")
+    void shouldStayEmptyWhenDisabled() {
+        ProductPayloadCache cache = new ProductPayloadCache(objectMapper, false, true, 1 << 20);
+        ProductResponse response = productResponse();
+
+        cache.put(response.id(), "2.1", response);
+
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.get(response.id(), "2.1")).isEmpty();
+    }
+
+    private static ProductResponse productResponse() {
+        return new ProductResponse(UUID.randomUUID(), "iPhone 15", "Latest iPhone", "IPHONE15",
+                BigDecimal.valueOf(999.99), 10, 5, "electronics", true, false,
+                LocalDateTime.of(2024, 1, 15, 10, 30), LocalDateTime.of(2024, 1, 20, 14, 45), List.of());
+    }
+}
@@ -0,0 +1,113 @@
+package com.inventory.cache;
+
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.enums.CountMode;
+import com.inventory.event.SupplierChangedEvent;
+import com.inventory.search.ProductSearchCriteria;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductSearchCache Tests")
+class ProductSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should key results by page request and count mode")
+    void shouldKeyResultsByPageRequestAndCountMode() {
+        ProductSearchCache cache = new ProductSearchCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+        ProductSearchCriteria criteria = ProductSearchCriteria.of("phone", null, null, null, null, null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+        cache.get(criteria, PageRequest.of(0, 10, Sort.by("name")), null, () -> page(loads));
+        Slice<ProductResponse> slice = cache.get(criteria, PageRequest.of(0, 10), CountMode.NONE, () -> slice(loads));
+
+        assertThat(loads).hasValue(3);
+        assertThat(slice).isInstanceOf(SliceImpl.class);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("Should make earlier results unreachable when the generation is bumped")
+    void shouldMakeEarlierResultsUnreachableWhenGenerationIsBumped() {
+        ProductSearchCache cache = new ProductSearchCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(null, "tools", null, null, null, null, null, null, true);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+        cache.onSupplierChanged(new SupplierChangedEvent(UUID.randomUUID()));
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.generation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should always load when disabled")
+    void shouldAlwaysLoadWhenDisabled() {
+        ProductSearchCache cache = new ProductSearchCache(meterRegistry, false, 100, Duration.ofMinutes(10));
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(null, null, null, null, null, null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should normalize equivalent filters to equal criteria")
+    void shouldNormalizeEquivalentFiltersToEqualCriteria() {
+        ProductSearchCriteria first = ProductSearchCriteria.of("Phone", "Tools", "", null,
+                new BigDecimal("10.00"), null, 1, null, false);
+        ProductSearchCriteria second = ProductSearchCriteria.of("PHONE", "Tools", null, "  ",
+                BigDecimal.TEN, null, 1, null, null);
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.minPrice()).isEqualByComparingTo("10").hasToString("10");
+        assertThat(ProductSearchCriteria.of(null, "tools", null, null, null, null, null, null, null))
+                .isNotEqualTo(ProductSearchCriteria.of(null, "Tools", null, null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss metrics")
+    void shouldPublishHitAndMissMetrics() {
+        ProductSearchCache cache = new ProductSearchCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+        ProductSearchCriteria criteria = ProductSearchCriteria.of(null, null, null, null, null, null, null, null, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+        cache.get(criteria, PageRequest.of(0, 10), null, () -> page(loads));
+
+        assertThat(meterRegistry.get("cache.gets").tags("cache", ProductSearchCache.CACHE_NAME, "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tags("cache", ProductSearchCache.CACHE_NAME, "result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    private static PageImpl<ProductResponse> page(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+    }
+
+    private static SliceImpl<ProductResponse> slice(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+    }
+}
@@ -0,0 +1,61 @@
+package com.inventory.config;
+
+import com.inventory.dto.response.ProductFacetsResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.entity.Address;
+import com.inventory.entity.Product;
+import com.inventory.entity.Supplier;
+import com.inventory.repository.ProductRepository.ProductFilterRow;
+import com.inventory.search.SupplierDirectoryListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.projection.TargetAware;
+
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InventoryRuntimeHints Tests")
+class InventoryRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new InventoryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should open entities and embeddables to Hibernate field access")
+    void shouldRegisterEntities() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Product.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onField(Address.class.getDeclaredField("city"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(SupplierDirectoryListener.class.getMethod(
+                "onWrite", Supplier.class))).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register projection and JDBC timing proxies")
+    void shouldRegisterProxies() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(
+                ProductFilterRow.class, TargetAware.class, SpringProxy.class, DecoratingProxy.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Should register request and response payloads for JSON binding")
+    void shouldRegisterPayloads() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ProductResponse.class.getMethod("sku"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ProductFacetsResponse.PriceBucket.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(SliceImpl.class.getMethod("getContent"))).accepts(hints);
+    }
+}
@@ -0,0 +1,146 @@
+package com.inventory.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.request.CreateLocationRequest;
+import com.inventory.dto.response.LocationResponse;
+import com.inventory.dto.response.LocationStockResponse;
+import com.inventory.exception.DuplicateLocationCodeException;
+import com.inventory.exception.GlobalExceptionHandler;
+import com.inventory.exception.LocationNotFoundException;
+import com.inventory.service.LocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationController Tests")
+class LocationControllerTest {
+
+    @Mock
+    private LocationService locationService;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        this.objectMapper = new ObjectMapper();
+        this.mockMvc = MockMvcBuilders
+                .standaloneSetup(new LocationController(locationService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/locations")
+    class CreateLocationTests {
+
+        @Test
+        @DisplayName("Should create location successfully")
+        void shouldCreateLocationSuccessfully() throws Exception {
+            // Given
+            CreateLocationRequest request = new CreateLocationRequest("WH-NORTH", "North Warehouse");
+            given(locationService.createLocation(request))
+                    .willReturn(new LocationResponse(UUID.randomUUID(), "WH-NORTH", "North Warehouse", null));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/locations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.code").value("WH-NORTH"))
+                    .andExpect(jsonPath("$.name").value("North Warehouse"));
+        }
+
+        @Test
+        @DisplayName("Should return 400 when the code is not uppercase")
+        void shouldReturn400WhenCodeIsInvalid() throws Exception {
+            // When & Then
+            mockMvc.perform(post("/api/v1/locations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateLocationRequest("wh north", "North"))))
+                    .andExpect(status().isBadRequest());
+
+            then(locationService).should(never()).createLocation(any());
+        }
+
+        @Test
+        @DisplayName("Should return 409 when the code already exists")
+        void shouldReturn409WhenCodeAlreadyExists() throws Exception {
+            // Given
+            given(locationService.createLocation(any(CreateLocationRequest.class)))
+                    .willThrow(new DuplicateLocationCodeException("MAIN"));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/locations")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new CreateLocationRequest("MAIN", "Main"))))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error").value("Duplicate Location Code"))
+                    .andExpect(jsonPath("$.message").value("Location with code 'MAIN' already exists"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/locations/{id}/stock")
+    class GetLocationStockTests {
+
+        @Test
+        @DisplayName("Should return the stock rows of the location")
+        void shouldReturnStockRows() throws Exception {
+            // Given
+            UUID locationId = UUID.randomUUID();
+            LocationStockResponse row = new LocationStockResponse(locationId, "WH-NORTH", UUID.randomUUID(), "SKU-1",
+                    "Product", 7, LocalDateTime.now());
+            given(locationService.getLocationStock(eq(locationId), any(Pageable.class)))
+                    .willReturn(new PageImpl<>(List.of(row), PageRequest.of(0, 20), 1));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/locations/{id}/stock", locationId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].productSku").value("SKU-1"))
+                    .andExpect(jsonPath("$.content[0].quantity").value(7))
+                    .andExpect(jsonPath("$.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when the location does not exist")
+        void shouldReturn404WhenLocationNotFound() throws Exception {
+            // Given
+            UUID locationId = UUID.randomUUID();
+            given(locationService.getLocationStock(eq(locationId), any(Pageable.class)))
+                    .willThrow(new LocationNotFoundException(locationId));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/locations/{id}/stock", locationId))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("Location Not Found"));
+        }
+    }
+}
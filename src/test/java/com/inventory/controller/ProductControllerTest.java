@@ -1,16 +1,25 @@
 package com.inventory.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.archive.ProductArchive;
+import com.inventory.cache.ProductPayloadCache.ProductPayload;
 import com.inventory.dto.request.CreateProductRequest;
 import com.inventory.dto.request.UpdateProductRequest;
 import com.inventory.dto.request.UpdateProductSuppliersRequest;
+import com.inventory.dto.response.FacetedProductSearchResponse;
+import com.inventory.dto.response.ProductFacetsResponse;
 import com.inventory.dto.response.ProductResponse;
 import com.inventory.exception.DuplicateSkuException;
+import com.inventory.entity.Product;
 import com.inventory.exception.GlobalExceptionHandler;
 import com.inventory.exception.InvalidStockLevelException;
+import com.inventory.exception.PreconditionFailedException;
 import com.inventory.exception.ProductHasStockException;
 import com.inventory.exception.ProductNotFoundException;
 import com.inventory.exception.SupplierNotFoundException;
+import com.inventory.pricing.BulkRepricer;
+import com.inventory.service.DemandVelocityService;
+import com.inventory.service.LocationService;
 import com.inventory.service.ProductService;
 import com.inventory.service.StockMovementService;
 import com.inventory.dto.response.StockMovementResponse;
@@ -29,13 +38,16 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Predicate;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,6 +65,18 @@ class ProductControllerTest {
     @Mock
     private StockMovementService stockMovementService;
 
+    @Mock
+    private DemandVelocityService demandVelocityService;
+
+    @Mock
+    private LocationService locationService;
+
+    @Mock
+    private ProductArchive productArchive;
+
+    @Mock
+    private BulkRepricer bulkRepricer;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -60,7 +84,8 @@ class ProductControllerTest {
     void setUp() {
         this.objectMapper = new ObjectMapper();
         this.mockMvc = MockMvcBuilders
-                .standaloneSetup(new ProductController(productService, stockMovementService))
+                .standaloneSetup(new ProductController(productService, stockMovementService, demandVelocityService,
+                        locationService, productArchive, bulkRepricer))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
@@ -221,6 +246,88 @@ class ProductControllerTest {
             then(productService).should().getProductById(productId);
         }
 
+        @Test
+        @DisplayName("Should return ETag with product")
+        void shouldReturnETagWithProduct() throws Exception {
+            // Given
+            UUID productId = UUID.randomUUID();
+
+            given(productService.getProductById(productId)).willReturn(createProductResponse());
+            given(productService.findProductTag(productId)).willReturn(Optional.of("3.1"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/products/{id}", productId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"3.1\""));
+        }
+
+        @Test
+        @DisplayName("Should return 304 from tag index without loading product")
+        void shouldReturn304FromTagIndexWithoutLoadingProduct() throws Exception {
+            // Given
+            UUID productId = UUID.randomUUID();
+
+            given(productService.findProductTag(productId)).willReturn(Optional.of("3.1"));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/products/{id}", productId)
+                            .header("If-None-Match", "\"3.1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"3.1\""))
+                    .andExpect(content().string(""));
+
+            then(productService).should(never()).getProductById(any());
+        }
+
+        @Test
+        @DisplayName("Should write cached gzip payload bytes without calling getProductById")
+        void shouldWriteCachedGzipPayloadBytes() throws Exception {
+            // Given
+            UUID productId = UUID.randomUUID();
+            byte[] json = "{\"name\":\"iPhone 15\"}".getBytes();
+            byte[] gzipped = {31, -117, 8, 0};
+
+            given(productService.findProductPayload(productId))
+                    .willReturn(Optional.of(new ProductPayload("3.1", json, gzipped)));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/products/{id}", productId)
+                            .header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("ETag", "\"3.1-gzip\""))
+                    .andExpect(content().bytes(gzipped));
+
+            mockMvc.perform(get("/api/v1/products/{id}", productId))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.name").value("iPhone 15"));
+
+            then(productService).should(never()).getProductById(any());
+        }
+
+        @Test
+        @DisplayName("Should return 304 when the tag index was cold and the loaded product matches If-None-Match")
+        void shouldReturn304AfterLoadingWithColdTagIndex() throws Exception {
+            // Given
+            UUID productId = UUID.randomUUID();
+            byte[] json = "{\"name\":\"iPhone 15\"}".getBytes();
+
+            given(productService.findProductTag(productId)).willReturn(Optional.empty());
+            given(productService.findProductPayload(productId))
+                    .willReturn(Optional.empty())
+                    .willReturn(Optional.of(new ProductPayload("3.1", json, null)));
+            given(productService.getProductById(productId)).willReturn(createProductResponse());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/products/{id}", productId)
+                            .header("If-None-Match", "\"3.1\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string("ETag", "\"3.1\""))
+                    .andExpect(content().string(""));
+        }
+
         @Test
         @DisplayName("Should return 404 when product not found")
         void shouldReturn404WhenProductNotFound() throws Exception {
@@ -297,6 +404,55 @@ class ProductControllerTest {
     @DisplayName("PUT /api/v1/products/{id}")
     class UpdateProductTests {
 
+        @Test
+        @DisplayName("Should return 412 when If-Match does not match current ETag")
+        void shouldReturn412WhenIfMatchDoesNotMatch() throws Exception {
+            // Given
+            UUID productId = UUID.randomUUID();
+            UpdateProductRequest request = new UpdateProductRequest(
+                    "iPhone 15 Pro", "Updated iPhone", "IPHONE15PRO",
+                    BigDecimal.valueOf(1199.99), 8, "electronics"
+            );
+
+            given(productService.updateProduct(eq(productId), any(UpdateProductRequest.class), any()))
+                    .willAnswer(invocation -> {
+                        Predicate<String> precondition = invocation.getArgument(2);
+                        if (!precondition.test("4.1")) {
+                            throw new PreconditionFailedException("Product", productId);
+                        }
+                        return createProductResponse();
+                    });
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/products/{id}", productId)
+                            .header("If-Match", "\"3.1\"")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.error").value("Precondition Failed"));
+        }
+
+        @Test
+        @DisplayName("Should return 409 when a concurrent update committed first")
+        void shouldReturn409OnConcurrentUpdate() throws Exception {
+            // Given
+            UUID productId = UUID.randomUUID();
+            UpdateProductRequest request = new UpdateProductRequest(
+                    "iPhone 15 Pro", "Updated iPhone", "IPHONE15PRO",
+                    BigDecimal.valueOf(1199.99), 8, "electronics"
+            );
+
+            given(productService.updateProduct(eq(productId), any(UpdateProductRequest.class), any()))
+                    .willThrow(new ObjectOptimisticLockingFailureException(Product.class, productId));
+
+            // When & Then
+            mockMvc.perform(put("/api/v1/products/{id}", productId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.error").value("Concurrent Modification"));
+        }
+
         @Test
         @DisplayName("Should update product successfully")
         void shouldUpdateProductSuccessfully() throws Exception {
@@ -308,7 +464,7 @@ class ProductControllerTest {
             );
             ProductResponse response = createProductResponse();
 
-            given(productService.updateProduct(eq(productId), any(UpdateProductRequest.class)))
+            given(productService.updateProduct(eq(productId), any(UpdateProductRequest.class), any()))
                     .willReturn(response);
 
             // When & Then
@@ -319,7 +475,7 @@ class ProductControllerTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.name").value("iPhone 15"));
 
-            then(productService).should().updateProduct(eq(productId), any(UpdateProductRequest.class));
+            then(productService).should().updateProduct(eq(productId), any(UpdateProductRequest.class), any());
         }
 
         @Test
@@ -332,7 +488,7 @@ class ProductControllerTest {
                     BigDecimal.valueOf(1199.99), 15, "electronics"
             );
 
-            given(productService.updateProduct(eq(productId), any(UpdateProductRequest.class)))
+            given(productService.updateProduct(eq(productId), any(UpdateProductRequest.class), any()))
                     .willThrow(new ProductNotFoundException(productId));
 
             // When & Then
@@ -503,6 +659,33 @@ class ProductControllerTest {
                     .andExpect(jsonPath("$.content[0].name").value("iPhone 15"));
         }
 
+        @Test
+        @DisplayName("Should return results with facet counts")
+        void shouldReturnResultsWithFacetCounts() throws Exception {
+            // Given
+            Page<ProductResponse> page = new PageImpl<>(List.of(createProductResponse()), PageRequest.of(0, 20), 1);
+            ProductFacetsResponse facets = new ProductFacetsResponse(
+                    List.of(new ProductFacetsResponse.ValueCount("electronics", 1)),
+                    List.of(new ProductFacetsResponse.PriceBucket(null, BigDecimal.TEN, 0),
+                            new ProductFacetsResponse.PriceBucket(BigDecimal.TEN, null, 1)),
+                    List.of(new ProductFacetsResponse.ValueCount("true", 0), new ProductFacetsResponse.ValueCount("false", 1)),
+                    List.of());
+
+            given(productService.searchProductsWithFacets(
+                    eq(null), eq("electronics"), eq(null), eq(null),
+                    eq(null), eq(null), eq(null), eq(null), eq(null),
+                    any(Pageable.class)
+            )).willReturn(new FacetedProductSearchResponse(page, facets));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/products/search/faceted").param("category", "electronics"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.results.content[0].name").value("iPhone 15"))
+                    .andExpect(jsonPath("$.facets.categories[0].value").value("electronics"))
+                    .andExpect(jsonPath("$.facets.priceBuckets[1].from").value(10))
+                    .andExpect(jsonPath("$.facets.lowStock[1].count").value(1));
+        }
+
     }
 
     @Nested
@@ -804,6 +987,8 @@ class ProductControllerTest {
                 productId,
                 "TEST-SKU",
                 "Test Product",
+                UUID.randomUUID(),
+                "MAIN",
                 type,
                 quantity,
                 type == MovementType.IN ? 20 : 30,
@@ -3,11 +3,16 @@ package com.inventory.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inventory.dto.request.CreateStockMovementRequest;
 import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.StockMovementTicketResponse;
+import com.inventory.enums.IngestionStatus;
 import com.inventory.enums.MovementReason;
 import com.inventory.enums.MovementType;
 import com.inventory.exception.GlobalExceptionHandler;
+import com.inventory.exception.IngestionQueueFullException;
 import com.inventory.exception.InsufficientStockException;
 import com.inventory.exception.ProductNotFoundException;
+import com.inventory.ingestion.StockMovementIngestor;
+import com.inventory.ingestion.StockMovementTicket;
 import com.inventory.service.StockMovementService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,15 +28,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -43,6 +54,9 @@ class StockMovementControllerTest {
     @Mock
     private StockMovementService stockMovementService;
 
+    @Mock
+    private StockMovementIngestor stockMovementIngestor;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -50,7 +64,7 @@ class StockMovementControllerTest {
     void setUp() {
         this.objectMapper = new ObjectMapper();
         this.mockMvc = MockMvcBuilders
-                .standaloneSetup(new StockMovementController(stockMovementService))
+                .standaloneSetup(new StockMovementController(stockMovementService, stockMovementIngestor))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
@@ -625,12 +639,105 @@ class StockMovementControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Asynchronous ingestion")
+    class AsynchronousIngestionTests {
+
+        @Test
+        @DisplayName("Should queue movement and return 202 with ticket when async response is preferred")
+        void shouldQueueMovementWhenAsyncResponseIsPreferred() throws Exception {
+            // Given
+            CreateStockMovementRequest request = new CreateStockMovementRequest(
+                    UUID.randomUUID(), MovementType.IN, 10, MovementReason.PURCHASE, null, null);
+            UUID ticketId = UUID.randomUUID();
+            StockMovementTicket ticket = mock(StockMovementTicket.class);
+            given(ticket.getId()).willReturn(ticketId);
+            given(ticket.toResponse()).willReturn(ticketResponse(ticketId, IngestionStatus.QUEUED, null));
+            given(stockMovementIngestor.isEnabled()).willReturn(true);
+            given(stockMovementIngestor.submit(any(CreateStockMovementRequest.class))).willReturn(ticket);
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/stock-movements")
+                            .header("Prefer", "respond-async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("Location", "/api/v1/stock-movements/tickets/" + ticketId))
+                    .andExpect(header().string("Preference-Applied", "respond-async"))
+                    .andExpect(jsonPath("$.ticketId").value(ticketId.toString()))
+                    .andExpect(jsonPath("$.status").value("QUEUED"));
+
+            then(stockMovementService).should(never()).createStockMovement(any(CreateStockMovementRequest.class));
+        }
+
+        @Test
+        @DisplayName("Should return 503 with Retry-After when the ingestion lane is full")
+        void shouldReturn503WhenIngestionLaneIsFull() throws Exception {
+            // Given
+            CreateStockMovementRequest request = new CreateStockMovementRequest(
+                    UUID.randomUUID(), MovementType.OUT, 1, MovementReason.SALE, null, null);
+            given(stockMovementIngestor.isEnabled()).willReturn(true);
+            given(stockMovementIngestor.submit(any(CreateStockMovementRequest.class)))
+                    .willThrow(new IngestionQueueFullException(2));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/stock-movements")
+                            .header("Prefer", "respond-async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"))
+                    .andExpect(jsonPath("$.error").value("Ingestion Queue Full"));
+        }
+
+        @Test
+        @DisplayName("Should return ticket outcome once the movement has been applied")
+        void shouldReturnTicketOutcome() throws Exception {
+            // Given
+            UUID ticketId = UUID.randomUUID();
+            StockMovementTicketResponse completed = ticketResponse(ticketId, IngestionStatus.COMPLETED, createStockMovementResponse());
+            StockMovementTicket ticket = mock(StockMovementTicket.class);
+            given(ticket.outcome()).willReturn(CompletableFuture.completedFuture(completed));
+            given(ticket.toResponse()).willReturn(completed);
+            given(stockMovementIngestor.find(ticketId)).willReturn(Optional.of(ticket));
+
+            // When & Then
+            MvcResult result = mockMvc.perform(get("/api/v1/stock-movements/tickets/{ticketId}", ticketId).param("wait", "5"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("COMPLETED"))
+                    .andExpect(jsonPath("$.movement.productSku").value("IPHONE15"));
+        }
+
+        @Test
+        @DisplayName("Should return 404 when ticket is unknown or expired")
+        void shouldReturn404WhenTicketIsUnknown() throws Exception {
+            // Given
+            UUID ticketId = UUID.randomUUID();
+            given(stockMovementIngestor.find(ticketId)).willReturn(Optional.empty());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/stock-movements/tickets/{ticketId}", ticketId))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("Ticket Not Found"));
+        }
+    }
+
+    private StockMovementTicketResponse ticketResponse(UUID ticketId, IngestionStatus status, StockMovementResponse movement) {
+        return new StockMovementTicketResponse(ticketId, status, UUID.randomUUID(), LocalDateTime.now(),
+                status == IngestionStatus.QUEUED ? null : LocalDateTime.now(), movement, null, null);
+    }
+
     private StockMovementResponse createStockMovementResponse() {
         return new StockMovementResponse(
                 UUID.randomUUID(),
                 UUID.randomUUID(),
                 "IPHONE15",
                 "iPhone 15",
+                UUID.randomUUID(),
+                "MAIN",
                 MovementType.IN,
                 5,
                 10,
@@ -651,7 +758,7 @@ class StockMovementControllerTest {
 
         return new StockMovementResponse(
                 base.id(), base.productId(), base.productSku(), base.productName(),
-                movementType, base.quantity(), previousStock, newStock, reason,
+                base.locationId(), base.locationCode(), movementType, base.quantity(), previousStock, newStock, reason,
                 base.reference(), base.notes(), base.createdBy(), base.createdAt()
         );
     }
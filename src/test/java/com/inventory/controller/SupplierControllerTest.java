@@ -1,16 +1,21 @@
 package com.inventory.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.assignment.SupplierProductAssigner;
 import com.inventory.dto.request.CreateSupplierRequest;
+import com.inventory.dto.request.ProductFilterRequest;
+import com.inventory.dto.request.SupplierProductAssignmentRequest;
 import com.inventory.dto.request.UpdateSupplierRequest;
 import com.inventory.dto.response.ProductResponse;
 import com.inventory.dto.response.SupplierResponse;
 import com.inventory.entity.Address;
+import com.inventory.enums.AssignmentAction;
 import com.inventory.enums.SupplierStatus;
 import com.inventory.enums.SupplierType;
 import com.inventory.exception.DuplicateBusinessIdException;
 import com.inventory.exception.GlobalExceptionHandler;
 import com.inventory.exception.SupplierNotFoundException;
+import com.inventory.service.ReplenishmentService;
 import com.inventory.service.SupplierService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +36,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasSize;
@@ -46,6 +52,12 @@ class SupplierControllerTest {
     @Mock
     private SupplierService supplierService;
 
+    @Mock
+    private ReplenishmentService replenishmentService;
+
+    @Mock
+    private SupplierProductAssigner supplierProductAssigner;
+
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
@@ -53,7 +65,7 @@ class SupplierControllerTest {
     void setUp() {
         this.objectMapper = new ObjectMapper();
         this.mockMvc = MockMvcBuilders
-                .standaloneSetup(new SupplierController(supplierService))
+                .standaloneSetup(new SupplierController(supplierService, replenishmentService, supplierProductAssigner))
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
@@ -1069,7 +1081,7 @@ class SupplierControllerTest {
             UpdateSupplierRequest request = createCompleteUpdateSupplierRequest();
             SupplierResponse response = createCompleteSupplierResponse();
 
-            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class))).willReturn(response);
+            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any())).willReturn(response);
 
             // When & Then
             mockMvc.perform(put("/api/v1/suppliers/{id}", supplierId)
@@ -1095,7 +1107,7 @@ class SupplierControllerTest {
                     .andExpect(jsonPath("$.rating").value(4.5))
                     .andExpect(jsonPath("$.active").value(true));
 
-            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class));
+            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any());
         }
 
         @Test
@@ -1114,7 +1126,7 @@ class SupplierControllerTest {
                     true, LocalDateTime.now(), LocalDateTime.now()
             );
 
-            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class))).willReturn(response);
+            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any())).willReturn(response);
 
             // When & Then
             mockMvc.perform(put("/api/v1/suppliers/{id}", supplierId)
@@ -1129,7 +1141,7 @@ class SupplierControllerTest {
                     .andExpect(jsonPath("$.phone").value("+1-555-1234"))
                     .andExpect(jsonPath("$.active").value(true));
 
-            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class));
+            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any());
         }
 
         @Test
@@ -1293,7 +1305,7 @@ class SupplierControllerTest {
             UUID nonExistentId = UUID.randomUUID();
             UpdateSupplierRequest request = createCompleteUpdateSupplierRequest();
 
-            given(supplierService.updateSupplier(eq(nonExistentId), any(UpdateSupplierRequest.class)))
+            given(supplierService.updateSupplier(eq(nonExistentId), any(UpdateSupplierRequest.class), any()))
                     .willThrow(new SupplierNotFoundException(nonExistentId));
 
             // When & Then
@@ -1307,7 +1319,7 @@ class SupplierControllerTest {
                     .andExpect(jsonPath("$.message").value("Supplier not found with id: " + nonExistentId))
                     .andExpect(jsonPath("$.timestamp").exists());
 
-            then(supplierService).should().updateSupplier(eq(nonExistentId), any(UpdateSupplierRequest.class));
+            then(supplierService).should().updateSupplier(eq(nonExistentId), any(UpdateSupplierRequest.class), any());
         }
 
         @Test
@@ -1317,7 +1329,7 @@ class SupplierControllerTest {
             UUID supplierId = UUID.randomUUID();
             UpdateSupplierRequest request = createCompleteUpdateSupplierRequest();
 
-            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class)))
+            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any()))
                     .willThrow(new DuplicateBusinessIdException("BUS123456"));
 
             // When & Then
@@ -1330,7 +1342,7 @@ class SupplierControllerTest {
                     .andExpect(jsonPath("$.error").value("Duplicate Business ID"))
                     .andExpect(jsonPath("$.message").value("Supplier with Business ID 'BUS123456' already exists"));
 
-            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class));
+            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any());
         }
 
         @Test
@@ -1369,7 +1381,7 @@ class SupplierControllerTest {
                     true, LocalDateTime.now(), LocalDateTime.now()
             );
 
-            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class))).willReturn(response);
+            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any())).willReturn(response);
 
             // When & Then
             mockMvc.perform(put("/api/v1/suppliers/{id}", supplierId)
@@ -1383,7 +1395,7 @@ class SupplierControllerTest {
                     .andExpect(jsonPath("$.address.postalCode").value("12345"))
                     .andExpect(jsonPath("$.address.country").value("USA"));
 
-            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class));
+            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any());
         }
 
         @Test
@@ -1394,7 +1406,7 @@ class SupplierControllerTest {
             UpdateSupplierRequest request = createCompleteUpdateSupplierRequest();
             SupplierResponse response = createCompleteSupplierResponse();
 
-            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class))).willReturn(response);
+            given(supplierService.updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any())).willReturn(response);
 
             // When & Then
             mockMvc.perform(put("/api/v1/suppliers/{id}", supplierId)
@@ -1419,7 +1431,7 @@ class SupplierControllerTest {
                     .andExpect(jsonPath("$.createdAt").exists())
                     .andExpect(jsonPath("$.updatedAt").exists());
 
-            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class));
+            then(supplierService).should().updateSupplier(eq(supplierId), any(UpdateSupplierRequest.class), any());
         }
 
         private UpdateSupplierRequest createCompleteUpdateSupplierRequest() {
@@ -1858,6 +1870,44 @@ class SupplierControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/suppliers/{id}/products/assignments")
+    class AssignProductsTests {
+
+        @Test
+        @DisplayName("Should return 400 Bad Request when both product IDs and a filter are given")
+        void shouldReturn400WhenBothProductIdsAndFilterGiven() throws Exception {
+            // Given
+            SupplierProductAssignmentRequest request = new SupplierProductAssignmentRequest(AssignmentAction.ADD,
+                    List.of(UUID.randomUUID()),
+                    new ProductFilterRequest(null, "Electronics", null, null, null, null, null, null, null));
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/suppliers/{id}/products/assignments", UUID.randomUUID())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.error").value("Validation Failed"))
+                    .andExpect(jsonPath("$.fieldErrors.singleTarget").exists());
+
+            then(supplierProductAssigner).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Should return 404 Not Found for an unknown assignment")
+        void shouldReturn404ForUnknownAssignment() throws Exception {
+            // Given
+            UUID supplierId = UUID.randomUUID();
+            UUID assignmentId = UUID.randomUUID();
+            given(supplierProductAssigner.find(supplierId, assignmentId)).willReturn(Optional.empty());
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/suppliers/{id}/products/assignments/{assignmentId}", supplierId, assignmentId))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.error").value("Assignment Not Found"));
+        }
+    }
+
     private SupplierResponse createSupplierResponse() {
         return createSupplierResponse("ABC Electronics Ltd");
     }
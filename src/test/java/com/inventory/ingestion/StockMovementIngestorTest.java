@@ -0,0 +1,189 @@
+package com.inventory.ingestion;
+
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.StockMovementTicketResponse;
+import com.inventory.enums.IngestionStatus;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.exception.IngestionQueueFullException;
+import com.inventory.exception.InsufficientStockException;
+import com.inventory.exception.ProductNotFoundException;
+import com.inventory.service.StockMovementService;
+import com.inventory.service.StockMovementService.MovementOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockMovementIngestor Tests")
+class StockMovementIngestorTest {
+
+    @Mock
+    private StockMovementService stockMovementService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID productId = UUID.randomUUID();
+    private StockMovementIngestor ingestor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ingestor != null) {
+            ingestor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should apply movements queued behind a busy lane as one batch per product, in order")
+    void shouldApplyQueuedMovementsAsOneBatchPerProduct() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<List<CreateStockMovementRequest>> batches = Collections.synchronizedList(new ArrayList<>());
+        given(stockMovementService.createStockMovements(eq(productId), anyList())).willAnswer(invocation -> {
+            List<CreateStockMovementRequest> requests = invocation.getArgument(1);
+            batches.add(requests);
+            release.await(5, TimeUnit.SECONDS);
+            return requests.stream().map(request -> new MovementOutcome(response(request), null)).toList();
+        });
+        ingestor = ingestor(1, 10);
+
+        StockMovementTicket first = ingestor.submit(request(1));
+        awaitBatches(batches, 1);
+        StockMovementTicket second = ingestor.submit(request(2));
+        StockMovementTicket third = ingestor.submit(request(3));
+        release.countDown();
+
+        StockMovementTicketResponse outcome = third.outcome().get(5, TimeUnit.SECONDS);
+        assertThat(outcome.status()).isEqualTo(IngestionStatus.COMPLETED);
+        assertThat(outcome.movement().quantity()).isEqualTo(3);
+        assertThat(first.outcome().get(5, TimeUnit.SECONDS).status()).isEqualTo(IngestionStatus.COMPLETED);
+        assertThat(second.toResponse().completedAt()).isNotNull();
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(1)).extracting(CreateStockMovementRequest::quantity).containsExactly(2, 3);
+        assertThat(ingestor.find(first.getId())).contains(first);
+        assertThat(meterRegistry.get("inventory.ingestion.tickets").tag("outcome", "completed").counter().count())
+                .isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should fail only the tickets whose movements were rejected")
+    void shouldFailOnlyRejectedTickets() throws Exception {
+        given(stockMovementService.createStockMovements(eq(productId), anyList())).willAnswer(invocation -> {
+            List<CreateStockMovementRequest> requests = invocation.getArgument(1);
+            return requests.stream().map(request -> request.quantity() > 5
+                    ? new MovementOutcome(null, new InsufficientStockException("SKU-1", 5, request.quantity()))
+                    : new MovementOutcome(response(request), null)).toList();
+        });
+        ingestor = ingestor(2, 10);
+
+        StockMovementTicketResponse rejected = ingestor.submit(request(9)).outcome().get(5, TimeUnit.SECONDS);
+        StockMovementTicketResponse applied = ingestor.submit(request(2)).outcome().get(5, TimeUnit.SECONDS);
+
+        assertThat(rejected.status()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(rejected.error()).isEqualTo("Insufficient Stock");
+        assertThat(applied.status()).isEqualTo(IngestionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should fail every ticket of a batch for a missing product")
+    void shouldFailBatchForMissingProduct() throws Exception {
+        given(stockMovementService.createStockMovements(eq(productId), anyList()))
+                .willThrow(new ProductNotFoundException(productId));
+        ingestor = ingestor(1, 10);
+
+        StockMovementTicketResponse outcome = ingestor.submit(request(1)).outcome().get(5, TimeUnit.SECONDS);
+
+        assertThat(outcome.status()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(outcome.error()).isEqualTo("Product Not Found");
+    }
+
+    @Test
+    @DisplayName("Should fail a batch whose transaction rolled back without applying it again")
+    void shouldFailRolledBackBatchWithoutRetrying() throws Exception {
+        given(stockMovementService.createStockMovements(eq(productId), anyList()))
+                .willThrow(new IllegalStateException("connection reset"));
+        ingestor = ingestor(1, 10);
+
+        StockMovementTicketResponse outcome = ingestor.submit(request(4)).outcome().get(5, TimeUnit.SECONDS);
+
+        assertThat(outcome.status()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(outcome.error()).isEqualTo("Ingestion Failed");
+        then(stockMovementService).should(times(1)).createStockMovements(eq(productId), anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject submissions when the lane queue is full")
+    void shouldRejectSubmissionsWhenLaneQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(stockMovementService.createStockMovements(eq(productId), anyList())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            List<CreateStockMovementRequest> requests = invocation.getArgument(1);
+            return requests.stream().map(request -> new MovementOutcome(response(request), null)).toList();
+        });
+        ingestor = ingestor(1, 1);
+
+        ingestor.submit(request(1));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        StockMovementTicket queued = ingestor.submit(request(2));
+
+        assertThatThrownBy(() -> ingestor.submit(request(3))).isInstanceOf(IngestionQueueFullException.class);
+        assertThat(meterRegistry.get("inventory.ingestion.queue.depth").tag("lane", "0").gauge().value()).isEqualTo(1);
+        release.countDown();
+        assertThat(queued.outcome().get(5, TimeUnit.SECONDS).status()).isEqualTo(IngestionStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should refuse submissions when disabled")
+    void shouldRefuseSubmissionsWhenDisabled() {
+        ingestor = new StockMovementIngestor(stockMovementService, meterRegistry, false, 4, 10, 10, Duration.ofMinutes(1));
+
+        assertThat(ingestor.isEnabled()).isFalse();
+        assertThatThrownBy(() -> ingestor.submit(request(1))).isInstanceOf(IllegalStateException.class);
+        then(stockMovementService).should(times(0)).createStockMovements(any(), anyList());
+    }
+
+    private StockMovementIngestor ingestor(int lanes, int queueCapacity) {
+        return new StockMovementIngestor(stockMovementService, meterRegistry, true, lanes, queueCapacity, 100,
+                Duration.ofMinutes(1));
+    }
+
+    private CreateStockMovementRequest request(int quantity) {
+        return new CreateStockMovementRequest(productId, MovementType.OUT, quantity, MovementReason.SALE, null, null);
+    }
+
+    private static StockMovementResponse response(CreateStockMovementRequest request) {
+        return new StockMovementResponse(UUID.randomUUID(), request.productId(), "SKU-1", "Product", null, "MAIN",
+                request.movementType(), request.quantity(), 10, 10 - request.quantity(), request.reason(), null, null, "system", LocalDateTime.now());
+    }
+
+    private static void awaitBatches(List<?> batches, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (batches.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(batches).hasSize(count);
+    }
+}
@@ -0,0 +1,152 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.archive.ArchivalJob;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.StockMovementTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArchivalIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ArchivalJob archivalJob;
+
+    private final String skuPrefix = "ARCHIVE-" + System.currentTimeMillis();
+    private UUID supplierId;
+    private UUID productId;
+    private UUID conflictingProductId;
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier supplier = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Archival Test Supplier"));
+        supplierId = supplier.getId();
+
+        productId = createSoldOutAndDeletedProduct(skuPrefix + "-1");
+        conflictingProductId = createSoldOutAndDeletedProduct(skuPrefix + "-2");
+        // Deleted long ago; products deleted by other tests stay in the hot tables
+        jdbcTemplate.update("UPDATE products SET deleted_at = ? WHERE id IN (?, ?)",
+                LocalDateTime.now().minusDays(120), productId, conflictingProductId);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should move old soft-deleted products and their movements to the archive tables")
+    void shouldArchiveOldSoftDeletedProducts() {
+        ArchivalJob.ArchivalReport report = archivalJob.run();
+
+        assertThat(report.products()).isGreaterThanOrEqualTo(2);
+        assertThat(report.movements()).isGreaterThanOrEqualTo(4);
+        assertThat(count("products", productId)).isZero();
+        assertThat(count("stock_movements", productId)).isZero();
+        assertThat(count("product_suppliers", productId)).isZero();
+        assertThat(count("product_stocks", productId)).isZero();
+        assertThat(count("archived_products", productId)).isEqualTo(1);
+        assertThat(count("archived_product_suppliers", productId)).isEqualTo(1);
+        assertThat(count("archived_stock_movements", productId)).isEqualTo(2);
+        assertThat(restTemplate.getForEntity("/api/v1/products/{id}", Map.class, productId).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should restore an archived product with its suppliers, movements and rollups")
+    void shouldRestoreArchivedProduct() {
+        ResponseEntity<ProductResponse> restored = restTemplate.postForEntity("/api/v1/products/{id}/restore", null,
+                ProductResponse.class, productId);
+
+        assertThat(restored.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(restored.getBody().sku()).isEqualTo(skuPrefix + "-1");
+        assertThat(restored.getBody().stockQuantity()).isZero();
+        assertThat(restored.getBody().suppliers()).extracting(SupplierResponse::id).containsExactly(supplierId);
+        assertThat(count("archived_products", productId)).isZero();
+        assertThat(count("archived_stock_movements", productId)).isZero();
+
+        JsonNode movements = restTemplate.getForObject("/api/v1/products/{id}/stock-movements", JsonNode.class, productId);
+        assertThat(movements.path("content")).hasSize(2);
+        JsonNode series = restTemplate.getForObject("/api/v1/products/{id}/stock-movements/rollups?from={from}",
+                JsonNode.class, productId, LocalDateTime.now().minusDays(1).toLocalDate());
+        assertThat(series.path("points")).hasSize(2);
+        JsonNode stock = restTemplate.getForObject("/api/v1/products/{id}/stock", JsonNode.class, productId);
+        assertThat(stock).singleElement().satisfies(row -> assertThat(row.path("quantity").asInt()).isZero());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should return 404 when restoring a product that is not archived")
+    void shouldReturnNotFoundForProductNotArchived() {
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/v1/products/{id}/restore", null, Map.class,
+                productId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should return 409 when an active product took the archived product's SKU")
+    void shouldReturnConflictWhenSkuWasReused() {
+        ResponseEntity<ProductResponse> reused = restTemplate.postForEntity("/api/v1/products",
+                ProductTestFactory.customProductRequest("Archival Reused SKU", skuPrefix + "-2", supplierId),
+                ProductResponse.class);
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/v1/products/{id}/restore", null, Map.class,
+                conflictingProductId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(count("archived_products", conflictingProductId)).isEqualTo(1);
+    }
+
+    private UUID createSoldOutAndDeletedProduct(String sku) {
+        ResponseEntity<ProductResponse> product = restTemplate.postForEntity("/api/v1/products",
+                ProductTestFactory.customProductRequest("Archival Product " + sku, sku, supplierId), ProductResponse.class);
+        assertThat(product.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        UUID id = product.getBody().id();
+
+        ResponseEntity<StockMovementResponse> sale = restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validOutMovementRequest(id, 10), StockMovementResponse.class);
+        assertThat(sale.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ResponseEntity<Void> deleted = restTemplate.exchange("/api/v1/products/{id}", HttpMethod.DELETE, null,
+                Void.class, id);
+        assertThat(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        return id;
+    }
+
+    private long count(String table, UUID productId) {
+        String column = table.equals("products") || table.equals("archived_products") ? "id" : "product_id";
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class,
+                productId);
+    }
+}
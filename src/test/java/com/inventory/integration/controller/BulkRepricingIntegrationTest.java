@@ -0,0 +1,147 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.dto.request.BulkPriceUpdateRequest;
+import com.inventory.dto.request.ProductFilterRequest;
+import com.inventory.dto.request.SkuPriceRequest;
+import com.inventory.dto.response.BulkPriceUpdateResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"inventory.repricing.chunk-size=2", "inventory.cache.product-json.enabled=true",
+                "inventory.cache.product-search.enabled=true"})
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BulkRepricingIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    private final String skuPrefix = "REPRICE-" + System.currentTimeMillis();
+    private final List<UUID> productIds = new ArrayList<>();
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier supplier = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Repricing Test Supplier"));
+
+        for (int i = 1; i <= 3; i++) {
+            ResponseEntity<ProductResponse> product = restTemplate.postForEntity("/api/v1/products",
+                    ProductTestFactory.customProductRequest("Repricing Product " + i, skuPrefix + "-" + i,
+                            supplier.getId()), ProductResponse.class);
+            assertThat(product.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            productIds.add(product.getBody().id());
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should set prices by SKU in chunks, report unknown SKUs and refresh cached products and searches")
+    void shouldSetPricesBySku() {
+        ResponseEntity<ProductResponse> before = restTemplate.getForEntity("/api/v1/products/{id}",
+                ProductResponse.class, productIds.get(0));
+        assertThat(searchBySku().path("content").get(0).path("price").decimalValue()).isEqualByComparingTo("29.99");
+
+        List<SkuPriceRequest> prices = List.of(
+                new SkuPriceRequest(skuPrefix + "-1", new BigDecimal("1.00")),
+                new SkuPriceRequest(skuPrefix + "-404", new BigDecimal("5.00")),
+                new SkuPriceRequest(skuPrefix + "-2", new BigDecimal("23456.78")),
+                new SkuPriceRequest(skuPrefix + "-1", new BigDecimal("12345.67")));
+        ResponseEntity<BulkPriceUpdateResponse> response = restTemplate.postForEntity("/api/v1/products/prices",
+                new BulkPriceUpdateRequest(prices, null, null), BulkPriceUpdateResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().requestedProducts()).isEqualTo(3);
+        assertThat(response.getBody().updatedProducts()).isEqualTo(2);
+        assertThat(response.getBody().unknownSkus()).containsExactly(skuPrefix + "-404");
+
+        ResponseEntity<ProductResponse> after = restTemplate.getForEntity("/api/v1/products/{id}",
+                ProductResponse.class, productIds.get(0));
+        assertThat(after.getBody().price()).isEqualByComparingTo("12345.67");
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+        assertThat(price(productIds.get(2))).isEqualByComparingTo("29.99");
+        assertThat(searchBySku().path("content").get(0).path("price").decimalValue()).isEqualByComparingTo("12345.67");
+
+        // Price-only filters are answered by the in-memory filter index
+        JsonNode indexed = restTemplate.getForObject("/api/v1/products/search?minPrice=12345.67&maxPrice=12345.67",
+                JsonNode.class);
+        assertThat(indexed.path("totalElements").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should change prices of products matching a filter by a percentage")
+    void shouldChangePricesByPercentage() {
+        ProductFilterRequest filter = new ProductFilterRequest(null, null, skuPrefix, null, null, null, null, null, null);
+
+        ResponseEntity<BulkPriceUpdateResponse> response = restTemplate.postForEntity("/api/v1/products/prices",
+                new BulkPriceUpdateRequest(null, filter, new BigDecimal("10")), BulkPriceUpdateResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().requestedProducts()).isEqualTo(3);
+        assertThat(response.getBody().updatedProducts()).isEqualTo(3);
+        assertThat(response.getBody().skippedProducts()).isZero();
+        assertThat(price(productIds.get(0))).isEqualByComparingTo("13580.24");
+        assertThat(price(productIds.get(1))).isEqualByComparingTo("25802.46");
+        assertThat(price(productIds.get(2))).isEqualByComparingTo("32.99");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should skip products whose price would round to zero")
+    void shouldSkipPricesRoundingToZero() {
+        restTemplate.postForEntity("/api/v1/products/prices", new BulkPriceUpdateRequest(
+                List.of(new SkuPriceRequest(skuPrefix + "-3", new BigDecimal("0.01"))), null, null), Map.class);
+        ProductFilterRequest filter = new ProductFilterRequest(null, null, skuPrefix, null, null, null, null, null, null);
+
+        ResponseEntity<BulkPriceUpdateResponse> response = restTemplate.postForEntity("/api/v1/products/prices",
+                new BulkPriceUpdateRequest(null, filter, new BigDecimal("-90")), BulkPriceUpdateResponse.class);
+
+        assertThat(response.getBody().updatedProducts()).isEqualTo(2);
+        assertThat(response.getBody().skippedProducts()).isEqualTo(1);
+        assertThat(price(productIds.get(2))).isEqualByComparingTo("0.01");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should return 400 when both prices and a filter are given")
+    void shouldRejectAmbiguousRequest() {
+        ProductFilterRequest filter = new ProductFilterRequest(null, null, skuPrefix, null, null, null, null, null, null);
+
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/v1/products/prices", new BulkPriceUpdateRequest(
+                List.of(new SkuPriceRequest(skuPrefix + "-1", BigDecimal.TEN)), filter, BigDecimal.TEN), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private BigDecimal price(UUID productId) {
+        return restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class, productId).price();
+    }
+
+    private JsonNode searchBySku() {
+        return restTemplate.getForObject("/api/v1/products/search?sku={sku}&sort=sku", JsonNode.class,
+                skuPrefix + "-1");
+    }
+}
@@ -0,0 +1,180 @@
+package com.inventory.integration.controller;
+
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.UpdateProductRequest;
+import com.inventory.dto.request.UpdateSupplierRequest;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.enums.SupplierStatus;
+import com.inventory.enums.SupplierType;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.StockMovementTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import com.inventory.service.ProductService;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "inventory.cache.product-json.enabled=true")
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalRequestIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    private UUID supplierId;
+    private ProductResponse product;
+    private String productTag;
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier supplier = supplierRepository.save(SupplierTestFactory.validSupplierEntity("ETag Test Supplier"));
+        supplierId = supplier.getId();
+
+        CreateProductRequest request = ProductTestFactory.customProductRequest(
+                "ETag Test Product", "ETAG-" + System.currentTimeMillis(), supplierId);
+        product = restTemplate.postForEntity("/api/v1/products", request, ProductResponse.class).getBody();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should return ETag and answer matching If-None-Match with 304")
+    void shouldReturnETagAndAnswerMatchingIfNoneMatchWith304() {
+        ResponseEntity<ProductResponse> first = restTemplate.getForEntity(
+                "/api/v1/products/{id}", ProductResponse.class, product.id());
+        productTag = first.getHeaders().getETag();
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(productTag).isNotBlank();
+
+        ResponseEntity<String> byId = get("/api/v1/products/{id}", productTag, product.id());
+        ResponseEntity<String> bySku = get("/api/v1/products/sku/{sku}", productTag, product.sku());
+
+        assertThat(restTemplate.getForEntity("/api/v1/products/{id}", ProductResponse.class, product.id()).getBody())
+                .isEqualTo(first.getBody());
+        assertThat(byId.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(byId.getBody()).isNull();
+        assertThat(bySku.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should change product ETag after stock movement")
+    void shouldChangeProductETagAfterStockMovement() {
+        restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validInMovementRequest(product.id()), String.class);
+
+        ResponseEntity<String> response = get("/api/v1/products/{id}", productTag, product.id());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(productTag);
+        assertThat(response.getBody()).contains("\"stockQuantity\":20");
+        productTag = response.getHeaders().getETag();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should change product ETag after linked supplier update")
+    void shouldChangeProductETagAfterLinkedSupplierUpdate() {
+        ResponseEntity<SupplierResponse> supplier = restTemplate.getForEntity(
+                "/api/v1/suppliers/{id}", SupplierResponse.class, supplierId);
+        String supplierTag = supplier.getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfMatch(supplierTag);
+        ResponseEntity<SupplierResponse> updated = restTemplate.exchange("/api/v1/suppliers/{id}", HttpMethod.PUT,
+                new HttpEntity<>(supplierUpdate("ETag Test Supplier Renamed"), headers), SupplierResponse.class, supplierId);
+
+        assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(updated.getHeaders().getETag()).isNotEqualTo(supplierTag);
+        assertThat(get("/api/v1/suppliers/{id}", supplierTag, supplierId).getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> response = get("/api/v1/products/{id}", productTag, product.id());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("ETag Test Supplier Renamed");
+        productTag = response.getHeaders().getETag();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should reject product update with stale If-Match")
+    void shouldRejectProductUpdateWithStaleIfMatch() {
+        UpdateProductRequest request = new UpdateProductRequest(
+                "ETag Test Product Renamed", "Updated", product.sku(), BigDecimal.valueOf(31.99), 5, "Test");
+
+        HttpHeaders current = new HttpHeaders();
+        current.setIfMatch(productTag);
+        ResponseEntity<ProductResponse> accepted = restTemplate.exchange("/api/v1/products/{id}", HttpMethod.PUT,
+                new HttpEntity<>(request, current), ProductResponse.class, product.id());
+
+        HttpHeaders stale = new HttpHeaders();
+        stale.setIfMatch(productTag);
+        ResponseEntity<String> rejected = restTemplate.exchange("/api/v1/products/{id}", HttpMethod.PUT,
+                new HttpEntity<>(request, stale), String.class, product.id());
+
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(accepted.getHeaders().getETag()).isNotEqualTo(productTag);
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should fail the slower of two concurrent product updates instead of overwriting the first")
+    void shouldFailSlowerConcurrentProductUpdate() {
+        UpdateProductRequest first = new UpdateProductRequest(
+                "ETag Test Product First", "Updated", product.sku(), BigDecimal.valueOf(32.99), 5, "Test");
+        UpdateProductRequest second = new UpdateProductRequest(
+                "ETag Test Product Second", "Updated", product.sku(), BigDecimal.valueOf(33.99), 5, "Test");
+
+        // The second update has read the product and passed its precondition when the first one commits
+        assertThatThrownBy(() -> productService.updateProduct(product.id(), second, tag -> {
+            ResponseEntity<ProductResponse> committed = CompletableFuture.supplyAsync(() -> restTemplate.exchange(
+                    "/api/v1/products/{id}", HttpMethod.PUT, new HttpEntity<>(first), ProductResponse.class,
+                    product.id())).join();
+            assertThat(committed.getStatusCode()).isEqualTo(HttpStatus.OK);
+            return true;
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        ProductResponse current = restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class,
+                product.id());
+        assertThat(current.name()).isEqualTo("ETag Test Product First");
+        assertThat(current.price()).isEqualByComparingTo("32.99");
+    }
+
+    private ResponseEntity<String> get(String url, String ifNoneMatch, Object uriVariable) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(ifNoneMatch);
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class, uriVariable);
+    }
+
+    private UpdateSupplierRequest supplierUpdate(String name) {
+        return new UpdateSupplierRequest(name, null, SupplierStatus.ACTIVE, "etag@supplier.com", "+1-555-0100",
+                null, null, null, 5, SupplierType.DOMESTIC, null, new BigDecimal("4.0"));
+    }
+}
@@ -0,0 +1,124 @@
+package com.inventory.integration.controller;
+
+import com.inventory.dto.response.DemandVelocityResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.StockMovementTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DemandVelocityIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    private UUID supplierId;
+    private UUID lowStockId;
+    private UUID restockedId;
+    private UUID soldOutId;
+    private UUID unsoldId;
+
+    @BeforeAll
+    void setupTestData() {
+        supplierId = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Velocity Test Supplier")).getId();
+
+        lowStockId = createProduct("Velocity Low Stock");
+        sell(lowStockId, 2);
+
+        restockedId = createProduct("Velocity Restocked");
+        sell(restockedId, 2);
+        restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validInMovementRequest(restockedId), StockMovementResponse.class);
+
+        soldOutId = createProduct("Velocity Sold Out");
+        sell(soldOutId, 10);
+
+        unsoldId = createProduct("Velocity Unsold");
+    }
+
+    @Test
+    @DisplayName("Should report velocity and days of cover of a product with sales")
+    void shouldReportVelocityOfProductWithSales() {
+        ResponseEntity<DemandVelocityResponse> response = restTemplate.getForEntity(
+                "/api/v1/products/{id}/velocity", DemandVelocityResponse.class, lowStockId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        DemandVelocityResponse velocity = response.getBody();
+        assertThat(velocity.stockQuantity()).isEqualTo(8);
+        // A single sale within the first day counts as one day's demand
+        assertThat(velocity.dailyVelocity()).isCloseTo(2, within(0.1));
+        assertThat(velocity.daysOfCover()).isCloseTo(4, within(0.2));
+        assertThat(velocity.lastSaleAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should report no velocity for a product without sales")
+    void shouldReportNoVelocityWithoutSales() {
+        DemandVelocityResponse velocity = restTemplate.getForObject(
+                "/api/v1/products/{id}/velocity", DemandVelocityResponse.class, unsoldId);
+
+        assertThat(velocity.dailyVelocity()).isZero();
+        assertThat(velocity.daysOfCover()).isNull();
+        assertThat(velocity.lastSaleAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should list products with sales by days of cover, fewest first")
+    void shouldListLowestCoverFirst() {
+        ResponseEntity<DemandVelocityResponse[]> response = restTemplate.getForEntity(
+                "/api/v1/products/velocity/lowest-cover?limit=500", DemandVelocityResponse[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<UUID> ours = Arrays.stream(response.getBody())
+                .map(DemandVelocityResponse::productId)
+                .filter(List.of(lowStockId, restockedId, soldOutId, unsoldId)::contains)
+                .toList();
+        assertThat(ours).containsExactly(soldOutId, lowStockId, restockedId);
+        assertThat(response.getBody()).isSortedAccordingTo((a, b) -> Double.compare(a.daysOfCover(), b.daysOfCover()));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for an unknown product")
+    void shouldReturnNotFoundForUnknownProduct() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/v1/products/{id}/velocity", String.class, UUID.randomUUID());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private UUID createProduct(String name) {
+        ResponseEntity<ProductResponse> response = restTemplate.postForEntity("/api/v1/products",
+                ProductTestFactory.customProductRequest(name, "VEL-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(), supplierId),
+                ProductResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody().id();
+    }
+
+    private void sell(UUID productId, int quantity) {
+        ResponseEntity<StockMovementResponse> response = restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validOutMovementRequest(productId, quantity), StockMovementResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+}
@@ -0,0 +1,116 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.UpdateProductSuppliersRequest;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class FacetedSearchIntegrationTest {
+
+    private final String suffix = String.valueOf(System.nanoTime());
+    private final String category = "Facets-" + suffix.substring(suffix.length() - 8);
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Supplier first;
+    private Supplier second;
+    private ProductResponse cheap;
+
+    @BeforeAll
+    void setupTestData() {
+        first = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Facet Supplier A"));
+        second = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Facet Supplier B"));
+        cheap = create("FACET-1", "5.00", 5, 5, List.of(first));
+        create("FACET-2", "30.00", 20, 5, List.of(first, second));
+        create("FACET-3", "30.00", 8, 5, List.of(second));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should count category, price, low stock and supplier facets from the filter index")
+    void shouldCountFacetsFromFilterIndex() throws Exception {
+        JsonNode body = get("/api/v1/products/search/faceted?size=2&category=" + category);
+        JsonNode facets = body.path("facets");
+
+        assertThat(body.path("results").path("totalElements").asLong()).isEqualTo(3);
+        assertThat(body.path("results").path("content")).hasSize(2);
+        assertThat(facets.path("categories").path(0).path("value").asText()).isEqualTo(category);
+        assertThat(facets.path("categories").path(0).path("count").asLong()).isEqualTo(3);
+        assertThat(facets.path("priceBuckets").path(0).path("count").asLong()).isEqualTo(1);
+        assertThat(facets.path("priceBuckets").path(2).path("from").decimalValue()).isEqualByComparingTo("25");
+        assertThat(facets.path("priceBuckets").path(2).path("count").asLong()).isEqualTo(2);
+        assertThat(facets.path("lowStock").path(0).path("count").asLong()).isEqualTo(1);
+        assertThat(facets.path("lowStock").path(1).path("count").asLong()).isEqualTo(2);
+        assertThat(facets.path("suppliers")).hasSize(2);
+        assertThat(facets.path("suppliers").path(0).path("count").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should compute the same facets with grouped queries when text filters are present")
+    void shouldComputeSameFacetsWithGroupedQueries() throws Exception {
+        JsonNode fromIndex = get("/api/v1/products/search/faceted?category=" + category).path("facets");
+        JsonNode fromQueries = get("/api/v1/products/search/faceted?sku=" + suffix + "&category=" + category).path("facets");
+
+        assertThat(fromQueries).isEqualTo(fromIndex);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reflect supplier reassignment in the supplier facet")
+    void shouldReflectSupplierReassignmentInSupplierFacet() throws Exception {
+        ResponseEntity<String> update = restTemplate.exchange("/api/v1/products/" + cheap.id() + "/suppliers",
+                HttpMethod.PUT, new HttpEntity<>(new UpdateProductSuppliersRequest(List.of(second.getId()))), String.class);
+        assertThat(update.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        JsonNode suppliers = get("/api/v1/products/search/faceted?category=" + category).path("facets").path("suppliers");
+
+        assertThat(suppliers.path(0).path("value").asText()).isEqualTo(second.getId().toString());
+        assertThat(suppliers.path(0).path("count").asLong()).isEqualTo(3);
+        assertThat(suppliers.path(1).path("count").asLong()).isEqualTo(1);
+    }
+
+    private ProductResponse create(String sku, String price, int stock, int minStock, List<Supplier> suppliers) {
+        ResponseEntity<ProductResponse> response = restTemplate.postForEntity("/api/v1/products",
+                new CreateProductRequest("Facet " + sku, "Facet test", sku + "-" + suffix, new BigDecimal(price),
+                        stock, minStock, category, suppliers.stream().map(Supplier::getId).toList()),
+                ProductResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+
+    private JsonNode get(String url) throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return objectMapper.readTree(response.getBody());
+    }
+}
@@ -0,0 +1,250 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.dto.request.CreateLocationRequest;
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.response.LocationResponse;
+import com.inventory.dto.response.LocationStockResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.location.LocationResolver;
+import com.inventory.location.StockAggregator;
+import com.inventory.repository.DemandVelocityRepository;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
+import com.inventory.repository.StockOutboxRepository;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LocationStockIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private LocationResolver locationResolver;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StockOutboxRepository stockOutboxRepository;
+
+    @Autowired
+    private DemandVelocityRepository demandVelocityRepository;
+
+    @Autowired
+    private StockAggregator stockAggregator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID productId;
+    private UUID northId;
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier supplier = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Location Test Supplier"));
+        ResponseEntity<ProductResponse> product = restTemplate.postForEntity("/api/v1/products",
+                ProductTestFactory.customProductRequest("Location Product", "LOC-" + System.currentTimeMillis(),
+                        supplier.getId()), ProductResponse.class);
+        assertThat(product.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        productId = product.getBody().id();
+
+        ResponseEntity<LocationResponse> north = restTemplate.postForEntity("/api/v1/locations",
+                new CreateLocationRequest("N-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(), "North"),
+                LocationResponse.class);
+        assertThat(north.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        northId = north.getBody().id();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should hold the initial stock at the default location")
+    void shouldHoldInitialStockAtDefaultLocation() {
+        LocationStockResponse[] stock = productStock();
+
+        assertThat(stock).singleElement().satisfies(row -> {
+            assertThat(row.locationCode()).isEqualTo("MAIN");
+            assertThat(row.quantity()).isEqualTo(10);
+        });
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should keep stock per location and the product's stock as their sum")
+    void shouldKeepStockPerLocation() {
+        ResponseEntity<StockMovementResponse> movement = move(MovementType.IN, 5, MovementReason.PURCHASE, northId);
+
+        assertThat(movement.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(movement.getBody().locationId()).isEqualTo(northId);
+        assertThat(movement.getBody().previousStock()).isZero();
+        assertThat(movement.getBody().newStock()).isEqualTo(5);
+        assertThat(Arrays.stream(productStock()).mapToInt(LocationStockResponse::quantity)).containsExactlyInAnyOrder(10, 5);
+        assertThat(restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class, productId).stockQuantity())
+                .isEqualTo(15);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should refuse to take more than a location holds")
+    void shouldRefuseMoreThanLocationHolds() {
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/v1/stock-movements",
+                new CreateStockMovementRequest(productId, MovementType.OUT, 6, MovementReason.SALE, null, null, northId),
+                Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(response.getBody().get("message").toString()).contains("Current stock: 5");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should list a location's stock and movements")
+    void shouldListLocationStockAndMovements() {
+        JsonNode stock = restTemplate.getForObject("/api/v1/locations/{id}/stock", JsonNode.class, northId);
+        JsonNode movements = restTemplate.getForObject("/api/v1/locations/{id}/stock-movements", JsonNode.class, northId);
+
+        assertThat(stock.path("totalElements").asLong()).isEqualTo(1);
+        assertThat(stock.path("content").path(0).path("productId").asText()).isEqualTo(productId.toString());
+        assertThat(stock.path("content").path(0).path("quantity").asInt()).isEqualTo(5);
+        assertThat(movements.path("totalElements").asLong()).isEqualTo(1);
+        assertThat(movements.path("content").path(0).path("locationId").asText()).isEqualTo(northId.toString());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should not wait for a movement of the same product at another location")
+    void shouldNotWaitForOtherLocation() throws Exception {
+        UUID mainId = transactionTemplate.execute(status -> locationResolver.defaultLocation().getId());
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> mainWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            productStockRepository.lockById(productId, mainId).orElseThrow();
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            ResponseEntity<StockMovementResponse> movement = CompletableFuture
+                    .supplyAsync(() -> move(MovementType.OUT, 1, MovementReason.SALE, northId))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(movement.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(movement.getBody().newStock()).isEqualTo(4);
+        } finally {
+            release.countDown();
+            mainWriter.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class, productId).stockQuantity())
+                .isEqualTo(14);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should record a movement while the product row is locked and apply it exactly once")
+    void shouldNotWaitForProductRow() throws Exception {
+        double logWeight = demandVelocityRepository.findById(productId).orElseThrow().getLogWeight();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> productWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            productRepository.lockIfAvailable(productId).orElseThrow();
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+
+            ResponseEntity<StockMovementResponse> movement = CompletableFuture
+                    .supplyAsync(() -> move(MovementType.OUT, 1, MovementReason.SALE, northId))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(movement.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(movement.getBody().newStock()).isEqualTo(3);
+        } finally {
+            release.countDown();
+            productWriter.get(5, TimeUnit.SECONDS);
+        }
+        // The refresh found the row held and left the sale in the outbox
+        assertThat(stockOutboxRepository.existsByProductId(productId)).isTrue();
+        assertThat(restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class, productId).stockQuantity())
+                .isEqualTo(14);
+
+        stockAggregator.refreshPending();
+        double applied = demandVelocityRepository.findById(productId).orElseThrow().getLogWeight();
+        stockAggregator.refreshPending();
+
+        assertThat(stockOutboxRepository.existsByProductId(productId)).isFalse();
+        assertThat(restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class, productId).stockQuantity())
+                .isEqualTo(13);
+        assertThat(applied).isGreaterThan(logWeight);
+        assertThat(demandVelocityRepository.findById(productId).orElseThrow().getLogWeight()).isEqualTo(applied);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should reject unknown locations and duplicate codes")
+    void shouldRejectUnknownLocationAndDuplicateCode() {
+        ResponseEntity<Map> unknown = restTemplate.postForEntity("/api/v1/stock-movements",
+                new CreateStockMovementRequest(productId, MovementType.IN, 1, MovementReason.PURCHASE, null, null,
+                        UUID.randomUUID()), Map.class);
+        ResponseEntity<Map> duplicate = restTemplate.postForEntity("/api/v1/locations",
+                new CreateLocationRequest("MAIN", "Another main"), Map.class);
+
+        assertThat(unknown.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(unknown.getBody()).containsEntry("error", "Location Not Found");
+        assertThat(duplicate.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    private ResponseEntity<StockMovementResponse> move(MovementType type, int quantity, MovementReason reason, UUID locationId) {
+        return restTemplate.postForEntity("/api/v1/stock-movements",
+                new CreateStockMovementRequest(productId, type, quantity, reason, null, null, locationId),
+                StockMovementResponse.class);
+    }
+
+    private LocationStockResponse[] productStock() {
+        ResponseEntity<LocationStockResponse[]> response = restTemplate.getForEntity("/api/v1/products/{id}/stock",
+                LocationStockResponse[].class, productId);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+}
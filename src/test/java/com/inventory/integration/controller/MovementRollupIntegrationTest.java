@@ -0,0 +1,131 @@
+package com.inventory.integration.controller;
+
+import com.inventory.dto.response.MovementSeriesResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.StockMovementTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.MovementRollupRepository;
+import com.inventory.repository.SupplierRepository;
+import com.inventory.rollup.MovementRollupBackfill;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MovementRollupIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private MovementRollupRepository movementRollupRepository;
+
+    @Autowired
+    private MovementRollupBackfill movementRollupBackfill;
+
+    private UUID productId;
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier supplier = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Rollup Test Supplier"));
+        ResponseEntity<ProductResponse> product = restTemplate.postForEntity("/api/v1/products",
+                ProductTestFactory.customProductRequest("Rollup Product", "ROLLUP-" + System.currentTimeMillis(),
+                        supplier.getId()), ProductResponse.class);
+        assertThat(product.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        productId = product.getBody().id();
+
+        restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validInMovementRequest(productId), StockMovementResponse.class);
+        restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validOutMovementRequest(productId, 2), StockMovementResponse.class);
+        restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validOutMovementRequest(productId, 3), StockMovementResponse.class);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should serve today's movements from the rollups as they are recorded")
+    void shouldServeDailySeries() {
+        MovementSeriesResponse series = series("DAY");
+
+        assertThat(series.points()).filteredOn(point -> point.movementType() == MovementType.OUT)
+                .singleElement()
+                .satisfies(point -> {
+                    assertThat(point.period()).isEqualTo(LocalDate.now());
+                    assertThat(point.reason()).isEqualTo(MovementReason.SALE);
+                    assertThat(point.movements()).isEqualTo(2);
+                    assertThat(point.quantity()).isEqualTo(5);
+                });
+        assertThat(series.points()).filteredOn(point -> point.reason() == MovementReason.INITIAL_STOCK)
+                .singleElement()
+                .satisfies(point -> assertThat(point.movements()).isEqualTo(1));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should widen a monthly series to whole months")
+    void shouldWidenMonthlySeries() {
+        MovementSeriesResponse series = restTemplate.getForObject(
+                "/api/v1/products/{id}/stock-movements/rollups?from={from}&granularity=MONTH",
+                MovementSeriesResponse.class, productId, LocalDate.now());
+
+        assertThat(series.from()).isEqualTo(LocalDate.now().withDayOfMonth(1));
+        assertThat(series.to()).isEqualTo(LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth()));
+        assertThat(series.points()).allSatisfy(point -> assertThat(point.period()).isEqualTo(series.from()));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should reject a range ending before it starts")
+    void shouldRejectInvertedRange() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(
+                "/api/v1/products/{id}/stock-movements/rollups?from={from}&to={to}", Map.class,
+                productId, LocalDate.now(), LocalDate.now().minusDays(1));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).containsEntry("error", "Invalid Date Range");
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should rebuild identical rollups from the movement history")
+    void shouldRebuildIdenticalRollups() {
+        MovementSeriesResponse recorded = series("DAY");
+        movementRollupRepository.deleteAll();
+        assertThat(series("DAY").points()).isEmpty();
+
+        MovementRollupBackfill.BackfillReport report = movementRollupBackfill.run();
+
+        assertThat(report.products()).isGreaterThanOrEqualTo(1);
+        assertThat(series("DAY")).isEqualTo(recorded);
+    }
+
+    private MovementSeriesResponse series(String granularity) {
+        ResponseEntity<MovementSeriesResponse> response = restTemplate.getForEntity(
+                "/api/v1/products/{id}/stock-movements/rollups?granularity={granularity}",
+                MovementSeriesResponse.class, productId, granularity);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+}
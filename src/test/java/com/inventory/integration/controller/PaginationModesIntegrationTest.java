@@ -0,0 +1,95 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PaginationModesIntegrationTest {
+
+    private static final String CATEGORY = "PagingModes";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier supplier = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Paging Supplier"));
+        String suffix = String.valueOf(System.currentTimeMillis());
+        for (String name : List.of("Paging C", "Paging A", "Paging B")) {
+            restTemplate.postForEntity("/api/v1/products", new CreateProductRequest(name, "Paging test",
+                    "PAGE-" + name.charAt(name.length() - 1) + "-" + suffix, BigDecimal.TEN, 10, 5, CATEGORY,
+                    List.of(supplier.getId())), String.class);
+        }
+    }
+
+    @Test
+    @DisplayName("Should return a slice without totals when count is NONE")
+    void shouldReturnSliceWithoutTotalsWhenCountIsNone() throws Exception {
+        JsonNode body = get("/api/v1/products/search?category=" + CATEGORY + "&size=2&sort=name,asc&count=NONE");
+
+        assertThat(body.has("totalElements")).isFalse();
+        assertThat(body.path("last").asBoolean()).isFalse();
+        assertThat(names(body)).containsExactly("Paging A", "Paging B");
+    }
+
+    @Test
+    @DisplayName("Should return exact totals when count is EXACT")
+    void shouldReturnExactTotalsWhenCountIsExact() throws Exception {
+        JsonNode body = get("/api/v1/products/search?category=" + CATEGORY + "&size=2&sort=name,asc&count=EXACT");
+
+        assertThat(body.path("totalElements").asLong()).isEqualTo(3);
+        assertThat(body.path("totalPages").asInt()).isEqualTo(2);
+        assertThat(names(body)).containsExactly("Paging A", "Paging B");
+    }
+
+    @Test
+    @DisplayName("Should fall back to an exact total when no planner estimate is available")
+    void shouldFallBackToExactTotalWhenNoPlannerEstimateIsAvailable() throws Exception {
+        JsonNode estimated = get("/api/v1/suppliers?size=1&count=ESTIMATED");
+        JsonNode standard = get("/api/v1/suppliers?size=1");
+
+        assertThat(estimated.path("totalElements").asLong()).isEqualTo(standard.path("totalElements").asLong());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown count mode")
+    void shouldRejectUnknownCountMode() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/v1/stock-movements?count=SOMETIMES", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private static List<String> names(JsonNode page) {
+        return page.path("content").findParents("sku").stream().map(product -> product.path("name").asText()).toList();
+    }
+
+    private JsonNode get(String url) throws Exception {
+        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return objectMapper.readTree(response.getBody());
+    }
+}
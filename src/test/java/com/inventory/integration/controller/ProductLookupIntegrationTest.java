@@ -0,0 +1,123 @@
+package com.inventory.integration.controller;
+
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.ProductLookupRequest;
+import com.inventory.dto.response.ProductLookupResponse;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.metrics.QueryMetricsRecorder;
+import com.inventory.metrics.QueryMetricsRecorder.ShapeSummary;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductLookupIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private QueryMetricsRecorder queryMetricsRecorder;
+
+    private final String skuPrefix = "LOOKUP-" + System.currentTimeMillis();
+    private UUID firstSupplierId;
+    private UUID secondSupplierId;
+    private ProductResponse first;
+    private ProductResponse second;
+    private ProductResponse deleted;
+
+    @BeforeAll
+    void setupTestData() {
+        firstSupplierId = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Lookup Supplier A")).getId();
+        Supplier other = SupplierTestFactory.validSupplierEntity("Lookup Supplier B");
+        other.setBusinessId("LOOKUP-B-" + skuPrefix);
+        other.setEmail("lookup-b" + System.currentTimeMillis() + "@supplier.com");
+        secondSupplierId = supplierRepository.save(other).getId();
+
+        first = createProduct("1", List.of(firstSupplierId, secondSupplierId));
+        second = createProduct("2", List.of(secondSupplierId));
+        deleted = createProduct("3", List.of(firstSupplierId));
+        restTemplate.delete("/api/v1/products/{id}", deleted.id());
+    }
+
+    @Test
+    @DisplayName("Should return products by id in request order with suppliers and not-found markers in one query")
+    void shouldLookUpProductsById() {
+        UUID unknown = UUID.randomUUID();
+        ProductLookupRequest request = new ProductLookupRequest(
+                List.of(second.id(), unknown, first.id(), deleted.id(), second.id()), null);
+
+        queryMetricsRecorder.reset();
+        ResponseEntity<ProductLookupResponse> response = restTemplate.postForEntity("/api/v1/products/lookup", request,
+                ProductLookupResponse.class);
+        List<ShapeSummary> statements = queryMetricsRecorder.topShapes(Integer.MAX_VALUE,
+                Comparator.comparing(ShapeSummary::shape));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ProductLookupResponse body = response.getBody();
+        assertThat(body.results()).extracting(ProductLookupResponse.Result::key).containsExactly(
+                second.id().toString(), unknown.toString(), first.id().toString(), deleted.id().toString(),
+                second.id().toString());
+        assertThat(body.results()).extracting(ProductLookupResponse.Result::found)
+                .containsExactly(true, false, true, false, true);
+        assertThat(body.results().get(1).product()).isNull();
+        assertThat(body.results().get(2).product().suppliers()).extracting(SupplierResponse::id)
+                .containsExactlyInAnyOrder(firstSupplierId, secondSupplierId);
+        assertThat(body.found()).isEqualTo(3);
+        assertThat(body.notFound()).isEqualTo(2);
+        assertThat(statements.stream().mapToLong(ShapeSummary::count).sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return products by SKU in request order")
+    void shouldLookUpProductsBySku() {
+        ProductLookupRequest request = new ProductLookupRequest(null,
+                List.of(first.sku(), skuPrefix + "-404", second.sku()));
+
+        ProductLookupResponse body = restTemplate.postForObject("/api/v1/products/lookup", request,
+                ProductLookupResponse.class);
+
+        assertThat(body.results()).extracting(result -> result.product() != null ? result.product().id() : null)
+                .containsExactly(first.id(), null, second.id());
+        assertThat(body.results().get(1).key()).isEqualTo(skuPrefix + "-404");
+        assertThat(body.notFound()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when both ids and SKUs are given")
+    void shouldRejectMixedLookup() {
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/v1/products/lookup",
+                new ProductLookupRequest(List.of(first.id()), List.of(first.sku())), Map.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ProductResponse createProduct(String suffix, List<UUID> suppliers) {
+        ResponseEntity<ProductResponse> response = restTemplate.postForEntity("/api/v1/products",
+                new CreateProductRequest("Lookup Product " + suffix, "Batch lookup test", skuPrefix + "-" + suffix,
+                        new BigDecimal("19.99"), 0, 0, "Test", suppliers), ProductResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+}
@@ -0,0 +1,118 @@
+package com.inventory.integration.controller;
+
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.UpdateProductSuppliersRequest;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.metrics.QueryMetricsRecorder;
+import com.inventory.metrics.QueryMetricsRecorder.ShapeSummary;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductSupplierLinkIntegrationTest {
+
+    private static final int SUPPLIERS = 100;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private QueryMetricsRecorder queryMetricsRecorder;
+
+    private final String runId = String.valueOf(System.currentTimeMillis());
+    private List<UUID> supplierIds;
+
+    @BeforeAll
+    void setupTestData() {
+        // One spare supplier beyond the hundred linked ones, to swap in
+        supplierIds = supplierRepository.saveAll(IntStream.rangeClosed(0, SUPPLIERS)
+                        .mapToObj(this::supplier)
+                        .toList())
+                .stream()
+                .map(Supplier::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Should write only the changed link when swapping one supplier of many")
+    void shouldWriteOnlyChangedLinks() {
+        UUID manyLinks = createProduct("MANY", supplierIds.subList(0, SUPPLIERS));
+        UUID fewLinks = createProduct("FEW", supplierIds.subList(0, 2));
+
+        List<UUID> manySwapped = new ArrayList<>(supplierIds.subList(1, SUPPLIERS + 1));
+        List<ShapeSummary> manyStatements = statementsFor(() -> updateSuppliers(manyLinks, manySwapped));
+        List<ShapeSummary> fewStatements = statementsFor(() -> updateSuppliers(fewLinks,
+                List.of(supplierIds.get(1), supplierIds.get(SUPPLIERS))));
+
+        assertThat(linkWrites(manyStatements, "delete")).isEqualTo(1);
+        assertThat(linkWrites(manyStatements, "insert")).isEqualTo(1);
+        assertThat(total(manyStatements)).isEqualTo(total(fewStatements));
+
+        ProductResponse product = restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class, manyLinks);
+        assertThat(product.suppliers()).extracting(SupplierResponse::id).containsExactlyInAnyOrderElementsOf(manySwapped);
+    }
+
+    private Supplier supplier(int i) {
+        Supplier supplier = SupplierTestFactory.validSupplierEntity("Link Supplier " + i);
+        supplier.setBusinessId("LINK-" + runId + "-" + i);
+        supplier.setEmail("link" + runId + "-" + i + "@supplier.com");
+        return supplier;
+    }
+
+    private UUID createProduct(String suffix, List<UUID> suppliers) {
+        ResponseEntity<ProductResponse> response = restTemplate.postForEntity("/api/v1/products",
+                new CreateProductRequest("Link Product " + suffix, "Supplier link test", "LINK-" + suffix + "-" + runId,
+                        new BigDecimal("9.99"), 10, 2, "Test", suppliers), ProductResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody().id();
+    }
+
+    private void updateSuppliers(UUID productId, List<UUID> suppliers) {
+        ResponseEntity<ProductResponse> response = restTemplate.exchange("/api/v1/products/{id}/suppliers",
+                HttpMethod.PUT, new HttpEntity<>(new UpdateProductSuppliersRequest(suppliers)), ProductResponse.class,
+                productId);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private List<ShapeSummary> statementsFor(Runnable request) {
+        queryMetricsRecorder.reset();
+        request.run();
+        return queryMetricsRecorder.topShapes(Integer.MAX_VALUE, Comparator.comparing(ShapeSummary::shape));
+    }
+
+    private static long linkWrites(List<ShapeSummary> statements, String operation) {
+        return statements.stream()
+                .filter(shape -> shape.operation().equals(operation) && shape.sql().contains("product_suppliers"))
+                .mapToLong(ShapeSummary::count)
+                .sum();
+    }
+
+    private static long total(List<ShapeSummary> statements) {
+        return statements.stream().mapToLong(ShapeSummary::count).sum();
+    }
+}
@@ -0,0 +1,51 @@
+package com.inventory.integration.controller;
+
+import com.inventory.metrics.QueryMetricsRecorder;
+import com.inventory.metrics.SlowQueriesEndpoint;
+import com.inventory.metrics.SlowQueriesEndpoint.SlowQueries;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class QueryMetricsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SlowQueriesEndpoint slowQueriesEndpoint;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should attribute search SQL to the repository method and expose its shape")
+    void shouldAttributeSearchSqlToRepositoryMethodAndExposeItsShape() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/v1/products/search?name=Metrics&page=0&size=5", String.class);
+
+        SlowQueries slowQueries = slowQueriesEndpoint.slowQueries(100, "count");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(slowQueries.shapes())
+                .anySatisfy(shape -> {
+                    assertThat(shape.operation()).isEqualTo("select");
+                    assertThat(shape.sql()).contains("products");
+                    assertThat(shape.repositoryMethods()).contains("ProductRepository.findBy");
+                });
+        assertThat(meterRegistry.get(QueryMetricsRecorder.METRIC_NAME)
+                .tag("repository", "ProductRepository.findBy").timers()).isNotEmpty();
+        assertThat(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "ProductRepository").tag("method", "findBy").timers()).isNotEmpty();
+    }
+}
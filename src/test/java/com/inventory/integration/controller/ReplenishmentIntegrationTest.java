@@ -0,0 +1,124 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.integration.fixtures.StockMovementTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.replenishment.ReplenishmentJob;
+import com.inventory.replenishment.ReplenishmentJob.JobReport;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplenishmentIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    @Autowired
+    private ReplenishmentJob replenishmentJob;
+
+    private UUID fastSupplierId;
+    private UUID reliableSupplierId;
+    private UUID sellingProductId;
+
+    @BeforeAll
+    void setupTestData() {
+        fastSupplierId = saveSupplier("Replenishment Fast Supplier", 2, "1.00");
+        reliableSupplierId = saveSupplier("Replenishment Reliable Supplier", 3, "5.00");
+
+        sellingProductId = createProduct("Replenishment Seller", List.of(fastSupplierId, reliableSupplierId));
+        restTemplate.postForEntity("/api/v1/stock-movements",
+                StockMovementTestFactory.validOutMovementRequest(sellingProductId, 6), StockMovementResponse.class);
+        createProduct("Replenishment Well Stocked", List.of(fastSupplierId));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should suggest reordering a selling product from its best supplier")
+    void shouldSuggestReorderFromBestSupplier() {
+        JobReport report = replenishmentJob.run(LocalDate.now());
+
+        assertThat(report.products()).isGreaterThanOrEqualTo(2);
+        assertThat(report.suggestions()).isGreaterThanOrEqualTo(1);
+
+        JsonNode reliable = suggestions(reliableSupplierId);
+        assertThat(reliable.path("content")).hasSize(1);
+        JsonNode suggestion = reliable.path("content").path(0);
+        assertThat(suggestion.path("productId").asText()).isEqualTo(sellingProductId.toString());
+        assertThat(suggestion.path("stockQuantity").asInt()).isEqualTo(4);
+        assertThat(suggestion.path("leadTimeDays").asInt()).isEqualTo(3);
+        assertThat(suggestion.path("reorderPoint").asInt()).isGreaterThan(5);
+        assertThat(suggestion.path("suggestedQuantity").asInt())
+                .isGreaterThan(suggestion.path("reorderPoint").asInt() - 4);
+
+        assertThat(suggestions(fastSupplierId).path("content")).isEmpty();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should replace the day's suggestions when run again")
+    void shouldReplaceSuggestionsWhenRunAgain() {
+        replenishmentJob.run(LocalDate.now());
+
+        assertThat(suggestions(reliableSupplierId).path("totalElements").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should return 404 for an unknown supplier")
+    void shouldReturnNotFoundForUnknownSupplier() {
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                "/api/v1/suppliers/{id}/replenishment-suggestions", String.class, UUID.randomUUID());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private JsonNode suggestions(UUID supplierId) {
+        ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                "/api/v1/suppliers/{id}/replenishment-suggestions?date={date}", JsonNode.class, supplierId, LocalDate.now());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private UUID saveSupplier(String name, int deliveryDays, String rating) {
+        Supplier supplier = SupplierTestFactory.validSupplierEntity(name);
+        supplier.setBusinessId("REPL-" + UUID.randomUUID().toString().substring(0, 8));
+        supplier.setEmail(UUID.randomUUID().toString().substring(0, 8) + "@replenishment.com");
+        supplier.setAverageDeliveryDays(deliveryDays);
+        supplier.setRating(new BigDecimal(rating));
+        return supplierRepository.save(supplier).getId();
+    }
+
+    private UUID createProduct(String name, List<UUID> supplierIds) {
+        ResponseEntity<ProductResponse> response = restTemplate.postForEntity("/api/v1/products",
+                new CreateProductRequest(name, "Test product for " + name,
+                        "REPL-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(),
+                        BigDecimal.valueOf(19.99), 10, 5, "Test", supplierIds),
+                ProductResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        return response.getBody().id();
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventory.integration.controller;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ServiceMetricsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time service methods and expose stock level gauges")
+    void shouldTimeServiceMethodsAndExposeStockLevelGauges() {
+        assertThat(restTemplate.getForEntity("/api/v1/suppliers?page=0&size=5", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        assertThat(meterRegistry.get("inventory.service")
+                .tag("class", "com.inventory.service.SupplierService")
+                .tag("method", "getAllSuppliers")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get("inventory.products.active").gauge().value()).isNotNegative();
+        assertThat(meterRegistry.get("inventory.products.low_stock").gauge().value()).isNotNegative();
+    }
+}
@@ -2,6 +2,8 @@ package com.inventory.integration.controller;
 
 import com.inventory.dto.request.CreateStockMovementRequest;
 import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.dto.response.StockMovementTicketResponse;
+import com.inventory.enums.IngestionStatus;
 import com.inventory.entity.Product;
 import com.inventory.entity.Supplier;
 import com.inventory.enums.MovementReason;
@@ -10,7 +12,9 @@ import com.inventory.integration.fixtures.ProductTestFactory;
 import com.inventory.integration.fixtures.RestResponsePage;
 import com.inventory.integration.fixtures.StockMovementTestFactory;
 import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.location.LocationBootstrap;
 import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
 import com.inventory.repository.StockMovementRepository;
 import com.inventory.repository.SupplierRepository;
 import org.junit.jupiter.api.*;
@@ -43,6 +47,12 @@ class StockMovementIntegrationTest {
     @Autowired
     private StockMovementRepository stockMovementRepository;
 
+    @Autowired
+    private ProductStockRepository productStockRepository;
+
+    @Autowired
+    private LocationBootstrap locationBootstrap;
+
     private UUID testProductId;
 
     @BeforeAll
@@ -345,14 +355,57 @@ class StockMovementIntegrationTest {
         assertThat(finalProduct.getStockQuantity()).isEqualTo(expectedFinalStock);
     }
 
+    @Test
+    @Order(12)
+    @DisplayName("Should queue movements asynchronously and report each ticket outcome")
+    void shouldQueueMovementsAsynchronouslyAndReportTicketOutcomes() {
+        // Given
+        Integer initialStock = productRepository.findById(testProductId).orElseThrow().getStockQuantity();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Prefer", "respond-async");
+
+        // When
+        ResponseEntity<StockMovementTicketResponse> in = restTemplate.postForEntity("/api/v1/stock-movements",
+                new HttpEntity<>(StockMovementTestFactory.adjustmentMovementRequest(testProductId, 5, MovementType.IN), headers),
+                StockMovementTicketResponse.class);
+        ResponseEntity<StockMovementTicketResponse> out = restTemplate.postForEntity("/api/v1/stock-movements",
+                new HttpEntity<>(StockMovementTestFactory.validOutMovementRequest(testProductId, 3), headers),
+                StockMovementTicketResponse.class);
+        ResponseEntity<StockMovementTicketResponse> excessive = restTemplate.postForEntity("/api/v1/stock-movements",
+                new HttpEntity<>(StockMovementTestFactory.insufficientStockMovementRequest(testProductId, 1000), headers),
+                StockMovementTicketResponse.class);
+
+        // Then
+        assertThat(in.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(in.getHeaders().getLocation()).isNotNull();
+        assertThat(awaitTicket(in.getHeaders().getLocation().getPath()).status()).isEqualTo(IngestionStatus.COMPLETED);
+        StockMovementTicketResponse outOutcome = awaitTicket(out.getHeaders().getLocation().getPath());
+        assertThat(outOutcome.status()).isEqualTo(IngestionStatus.COMPLETED);
+        assertThat(outOutcome.movement().newStock()).isEqualTo(initialStock + 2);
+        StockMovementTicketResponse excessiveOutcome = awaitTicket(excessive.getHeaders().getLocation().getPath());
+        assertThat(excessiveOutcome.status()).isEqualTo(IngestionStatus.FAILED);
+        assertThat(excessiveOutcome.error()).isEqualTo("Insufficient Stock");
+        assertThat(productRepository.findById(testProductId).orElseThrow().getStockQuantity()).isEqualTo(initialStock + 2);
+    }
+
+    private StockMovementTicketResponse awaitTicket(String location) {
+        ResponseEntity<StockMovementTicketResponse> response = restTemplate.getForEntity(
+                location + "?wait=10", StockMovementTicketResponse.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
     @AfterEach
     void cleanupAfterEachTest() {
         stockMovementRepository.deleteAll();
+        productStockRepository.deleteAll();
 
         Product product = productRepository.findById(testProductId).orElse(null);
         if (product != null) {
             product.setStockQuantity(10);
             productRepository.save(product);
         }
+        // Puts the product's stock back at the default location, as on startup
+        locationBootstrap.afterSingletonsInstantiated();
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.inventory.integration.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.dto.request.ProductFilterRequest;
+import com.inventory.dto.request.SupplierProductAssignmentRequest;
+import com.inventory.dto.response.ProductResponse;
+import com.inventory.dto.response.SupplierProductAssignmentResponse;
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Supplier;
+import com.inventory.enums.AssignmentAction;
+import com.inventory.enums.AssignmentStatus;
+import com.inventory.integration.fixtures.ProductTestFactory;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "inventory.supplier-assignments.chunk-size=2")
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SupplierProductAssignmentIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SupplierRepository supplierRepository;
+
+    private final String skuPrefix = "ASSIGN-" + System.currentTimeMillis();
+    private final List<UUID> productIds = new ArrayList<>();
+    private UUID originalSupplierId;
+    private UUID bulkSupplierId;
+
+    @BeforeAll
+    void setupTestData() {
+        Supplier original = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Assignment Original Supplier"));
+        Supplier bulk = supplierRepository.save(SupplierTestFactory.validSupplierEntity("Assignment Bulk Supplier"));
+        originalSupplierId = original.getId();
+        bulkSupplierId = bulk.getId();
+
+        for (int i = 1; i <= 3; i++) {
+            ResponseEntity<ProductResponse> product = restTemplate.postForEntity("/api/v1/products",
+                    ProductTestFactory.customProductRequest("Assignment Product " + i, skuPrefix + "-" + i,
+                            originalSupplierId), ProductResponse.class);
+            assertThat(product.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            productIds.add(product.getBody().id());
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should add a supplier to listed products in chunks and change their ETags")
+    void shouldAddSupplierToListedProducts() {
+        String tagBefore = restTemplate.getForEntity("/api/v1/products/{id}", ProductResponse.class, productIds.get(0))
+                .getHeaders().getETag();
+        List<UUID> targets = new ArrayList<>(productIds);
+        targets.add(UUID.randomUUID());
+
+        SupplierProductAssignmentResponse result = submitAndWait(bulkSupplierId,
+                new SupplierProductAssignmentRequest(AssignmentAction.ADD, targets, null));
+
+        assertThat(result.status()).isEqualTo(AssignmentStatus.COMPLETED);
+        assertThat(result.totalProducts()).isEqualTo(4);
+        assertThat(result.processedProducts()).isEqualTo(4);
+        assertThat(result.changedProducts()).isEqualTo(3);
+        assertThat(result.skippedProducts()).isZero();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(tagBefore);
+        ResponseEntity<ProductResponse> product = restTemplate.exchange("/api/v1/products/{id}", HttpMethod.GET,
+                new HttpEntity<>(headers), ProductResponse.class, productIds.get(0));
+        assertThat(product.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(product.getBody().suppliers()).extracting(SupplierResponse::id)
+                .containsExactlyInAnyOrder(originalSupplierId, bulkSupplierId);
+
+        JsonNode search = restTemplate.getForObject(
+                "/api/v1/products/search/faceted?sku={sku}", JsonNode.class, skuPrefix);
+        assertThat(search.path("facets").path("suppliers"))
+                .anySatisfy(facet -> {
+                    assertThat(facet.path("value").asText()).isEqualTo(bulkSupplierId.toString());
+                    assertThat(facet.path("count").asLong()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should leave products already linked to the supplier unchanged")
+    void shouldSkipExistingLinksOnAdd() {
+        SupplierProductAssignmentResponse result = submitAndWait(bulkSupplierId,
+                new SupplierProductAssignmentRequest(AssignmentAction.ADD, productIds, null));
+
+        assertThat(result.status()).isEqualTo(AssignmentStatus.COMPLETED);
+        assertThat(result.changedProducts()).isZero();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should remove a supplier from filtered products but keep each product's last supplier")
+    void shouldRemoveSupplierFromFilteredProducts() {
+        ProductFilterRequest filter = new ProductFilterRequest(null, null, skuPrefix, null, null, null, null, null, null);
+
+        SupplierProductAssignmentResponse removed = submitAndWait(originalSupplierId,
+                new SupplierProductAssignmentRequest(AssignmentAction.REMOVE, null, filter));
+        assertThat(removed.status()).isEqualTo(AssignmentStatus.COMPLETED);
+        assertThat(removed.totalProducts()).isEqualTo(3);
+        assertThat(removed.changedProducts()).isEqualTo(3);
+
+        SupplierProductAssignmentResponse kept = submitAndWait(bulkSupplierId,
+                new SupplierProductAssignmentRequest(AssignmentAction.REMOVE, null, filter));
+        assertThat(kept.status()).isEqualTo(AssignmentStatus.COMPLETED);
+        assertThat(kept.changedProducts()).isZero();
+        assertThat(kept.skippedProducts()).isEqualTo(3);
+
+        ProductResponse product = restTemplate.getForObject("/api/v1/products/{id}", ProductResponse.class,
+                productIds.get(2));
+        assertThat(product.suppliers()).extracting(SupplierResponse::id).containsExactly(bulkSupplierId);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should return 404 for an unknown supplier")
+    void shouldReturnNotFoundForUnknownSupplier() {
+        ResponseEntity<Map> response = restTemplate.postForEntity("/api/v1/suppliers/{id}/products/assignments",
+                new SupplierProductAssignmentRequest(AssignmentAction.ADD, productIds, null), Map.class, UUID.randomUUID());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private SupplierProductAssignmentResponse submitAndWait(UUID supplierId, SupplierProductAssignmentRequest request) {
+        ResponseEntity<SupplierProductAssignmentResponse> accepted = restTemplate.postForEntity(
+                "/api/v1/suppliers/{id}/products/assignments", request, SupplierProductAssignmentResponse.class, supplierId);
+        assertThat(accepted.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(accepted.getHeaders().getLocation()).isNotNull();
+
+        ResponseEntity<SupplierProductAssignmentResponse> result = restTemplate.getForEntity(
+                accepted.getHeaders().getLocation() + "?wait=10", SupplierProductAssignmentResponse.class);
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return result.getBody();
+    }
+}
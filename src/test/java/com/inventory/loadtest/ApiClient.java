@@ -0,0 +1,98 @@
+package com.inventory.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON over HTTP/1.1 against the API under test. Every request names a client in the rate
+ * limiter's client header, so load spreads over buckets the way many real callers would, as far
+ * as the server's {@code inventory.rate-limit.max-clients-per-address} allows, or freely when the
+ * server runs with {@code inventory.rate-limit.client-header-trusted}.
+ */
+class ApiClient {
+
+    static final String CLIENT_HEADER = "X-Client-Id";
+
+    private static final int MAX_RATE_LIMITED_RETRIES = 20;
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ApiClient(URI baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    HttpRequest request(String method, String path, Object body, String client) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header(CLIENT_HEADER, client);
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    CompletableFuture<HttpResponse<Void>> sendAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * Sends a setup request, waiting out 429 responses, and returns the response body; any other
+     * status outside 2xx fails with the body as message.
+     */
+    JsonNode exchange(String method, String path, Object body, String client) {
+        HttpRequest request = request(method, path, body, client);
+        try {
+            for (int attempt = 0; ; attempt++) {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 429 && attempt < MAX_RATE_LIMITED_RETRIES) {
+                    long seconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+                    TimeUnit.SECONDS.sleep(Math.max(seconds, 1));
+                    continue;
+                }
+                if (response.statusCode() / 100 != 2) {
+                    throw new IllegalStateException(method + " " + path + " returned " + response.statusCode() + ": "
+                            + response.body());
+                }
+                return response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(method + " " + path + " failed: " + e, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during " + method + " " + path, e);
+        }
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    private String json(Object body) {
+        try {
+            return body instanceof String string ? string : objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+}
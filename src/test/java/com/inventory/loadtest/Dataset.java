@@ -0,0 +1,148 @@
+package com.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.CreateSupplierRequest;
+import com.inventory.dto.request.ProductLookupRequest;
+import com.inventory.entity.Address;
+import com.inventory.enums.SupplierStatus;
+import com.inventory.enums.SupplierType;
+
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * The catalogue the scenarios run against: products with deterministic SKUs spread over a fixed set
+ * of categories and suppliers. Seeding goes through the public API and is idempotent; products and
+ * suppliers left by an earlier run are looked up and reused, only missing ones are created.
+ */
+final class Dataset {
+
+    static final String SKU_PREFIX = "LOADTEST-";
+    static final List<String> CATEGORIES = List.of("electronics", "office", "furniture", "tools", "garden",
+            "kitchen", "toys", "sports", "automotive", "health", "books", "apparel");
+
+    private static final int SUPPLIERS = 20;
+    private static final int LOOKUP_BATCH = 5000;
+    private static final int INITIAL_STOCK = 1000;
+    private static final String SUPPLIER_NAME = "Load Test Supplier";
+
+    private final List<UUID> supplierIds;
+    private final UUID[] productIds;
+
+    private Dataset(List<UUID> supplierIds, UUID[] productIds) {
+        this.supplierIds = supplierIds;
+        this.productIds = productIds;
+    }
+
+    static Dataset prepare(ApiClient api, DatasetSize size, int concurrency) {
+        long started = System.nanoTime();
+        List<UUID> suppliers = prepareSuppliers(api);
+        UUID[] products = new UUID[size.products()];
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            int created = 0;
+            for (int from = 0; from < products.length; from += LOOKUP_BATCH) {
+                created += prepareProducts(api, suppliers, products, from,
+                        Math.min(from + LOOKUP_BATCH, products.length), executor, concurrency);
+                if ((from / LOOKUP_BATCH) % 20 == 19) {
+                    System.out.printf("  %,d of %,d products ready%n", from + LOOKUP_BATCH, products.length);
+                }
+            }
+            System.out.printf("Dataset %s: %,d products (%,d created) and %d suppliers in %.1f s%n", size.label(),
+                    products.length, created, suppliers.size(), (System.nanoTime() - started) / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Dataset(List.copyOf(suppliers), products);
+    }
+
+    static String sku(int index) {
+        return SKU_PREFIX + String.format("%07d", index);
+    }
+
+    static String category(int index) {
+        return CATEGORIES.get(index % CATEGORIES.size());
+    }
+
+    int size() {
+        return productIds.length;
+    }
+
+    UUID productId(int index) {
+        return productIds[index];
+    }
+
+    List<UUID> supplierIds() {
+        return supplierIds;
+    }
+
+    private static List<UUID> prepareSuppliers(ApiClient api) {
+        JsonNode existing = api.exchange("GET", "/api/v1/suppliers/search?size=100&name="
+                + URLEncoder.encode(SUPPLIER_NAME, StandardCharsets.UTF_8), null, "load-test-setup");
+        Map<String, UUID> byName = new HashMap<>();
+        existing.path("content").forEach(supplier ->
+                byName.put(supplier.path("name").asText(), UUID.fromString(supplier.path("id").asText())));
+
+        List<UUID> ids = new ArrayList<>(SUPPLIERS);
+        for (int i = 0; i < SUPPLIERS; i++) {
+            String name = String.format("%s %02d", SUPPLIER_NAME, i);
+            UUID id = byName.get(name);
+            if (id == null) {
+                JsonNode created = api.exchange("POST", "/api/v1/suppliers", new CreateSupplierRequest(name,
+                        String.format("LOADTEST-SUP-%02d", i), SupplierStatus.ACTIVE,
+                        String.format("load-test-%02d@supplier.example", i), "+1-555-0100", "Load Test",
+                        new Address("1 Benchmark Way", "Testville", "TS", "00000", "USA"), "NET30", 1 + i % 14,
+                        i % 4 == 0 ? SupplierType.INTERNATIONAL : SupplierType.DOMESTIC, null,
+                        new BigDecimal("4.0")), "load-test-setup");
+                id = UUID.fromString(created.path("id").asText());
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static int prepareProducts(ApiClient api, List<UUID> suppliers, UUID[] products, int from, int to,
+                                       ExecutorService executor, int concurrency) {
+        List<String> skus = IntStream.range(from, to).mapToObj(Dataset::sku).toList();
+        JsonNode found = api.exchange("POST", "/api/v1/products/lookup", new ProductLookupRequest(null, skus),
+                "load-test-setup");
+
+        List<CompletableFuture<Void>> creations = new ArrayList<>();
+        JsonNode results = found.path("results");
+        for (int offset = 0; offset < skus.size(); offset++) {
+            int index = from + offset;
+            JsonNode result = results.get(offset);
+            if (result.path("found").asBoolean()) {
+                products[index] = UUID.fromString(result.path("product").path("id").asText());
+            } else {
+                creations.add(CompletableFuture.runAsync(() -> products[index] = UUID.fromString(api.exchange("POST",
+                        "/api/v1/products", product(index, suppliers), "load-test-seed-" + index % concurrency)
+                        .path("id").asText()), executor));
+            }
+        }
+        CompletableFuture.allOf(creations.toArray(CompletableFuture[]::new)).join();
+        return creations.size();
+    }
+
+    private static CreateProductRequest product(int index, List<UUID> suppliers) {
+        // Prices from 1.00 to 999.99, so every price band of the search scenario matches products
+        BigDecimal price = BigDecimal.valueOf(100 + (index * 7919L) % 99_900, 2);
+        List<UUID> supplierIds = index % 3 == 0
+                ? List.of(suppliers.get(index % suppliers.size()), suppliers.get((index + 7) % suppliers.size()))
+                : List.of(suppliers.get(index % suppliers.size()));
+        return new CreateProductRequest("Load Test Product " + index, "Seeded by the load test, " + category(index),
+                sku(index), price, INITIAL_STOCK, 10, category(index), supplierIds);
+    }
+}
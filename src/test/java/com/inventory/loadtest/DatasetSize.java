@@ -0,0 +1,37 @@
+package com.inventory.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Catalogue sizes the load test seeds before measuring. Products of a preset are shared with the
+ * larger ones, so seeding 1m on top of 100k only creates the difference.
+ */
+enum DatasetSize {
+
+    SMALL("10k", 10_000),
+    MEDIUM("100k", 100_000),
+    LARGE("1m", 1_000_000);
+
+    private final String label;
+    private final int products;
+
+    DatasetSize(String label, int products) {
+        this.label = label;
+        this.products = products;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int products() {
+        return products;
+    }
+
+    static DatasetSize of(String value) {
+        return Arrays.stream(values())
+                .filter(size -> size.label.equalsIgnoreCase(value) || size.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown dataset " + value + ", expected 10k, 100k or 1m"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.inventory.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes per endpoint for one phase of a run. Latencies are kept in microseconds,
+ * up to ten minutes with three significant digits; completion threads record without locking.
+ */
+final class LatencyRecorder {
+
+    static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile long maxSchedulerLagNanos;
+
+    EndpointStats endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new EndpointStats());
+    }
+
+    /** Called by the single scheduling thread with how late it dispatched a request. */
+    void schedulerLag(long nanos) {
+        if (nanos > maxSchedulerLagNanos) {
+            maxSchedulerLagNanos = nanos;
+        }
+    }
+
+    long maxSchedulerLagNanos() {
+        return maxSchedulerLagNanos;
+    }
+
+    Map<String, EndpointStats> endpoints() {
+        return new TreeMap<>(endpoints);
+    }
+
+    static final class EndpointStats {
+
+        private final Histogram latency = new ConcurrentHistogram(1, HIGHEST_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder rateLimited = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        /** Records a completed request; {@code status} is -1 when no response arrived. */
+        void record(long latencyNanos, int status) {
+            latency.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1), HIGHEST_MICROS));
+            if (status < 0) {
+                failures.increment();
+            } else if (status == 429) {
+                rateLimited.increment();
+            } else if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            } else {
+                ok.increment();
+            }
+        }
+
+        /** A request that was due but not sent because too many were still in flight. */
+        void drop() {
+            dropped.increment();
+        }
+
+        Histogram latency() {
+            return latency;
+        }
+
+        long ok() {
+            return ok.sum();
+        }
+
+        long clientErrors() {
+            return clientErrors.sum();
+        }
+
+        long rateLimited() {
+            return rateLimited.sum();
+        }
+
+        long serverErrors() {
+            return serverErrors.sum();
+        }
+
+        long failures() {
+            return failures.sum();
+        }
+
+        long dropped() {
+            return dropped.sum();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.inventory.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Options of a load test run, given as {@code --name=value} arguments. Empty values fall back to
+ * the defaults, so the load-test profile can pass every option through.
+ */
+record LoadTestConfig(
+        URI baseUrl,
+        DatasetSize dataset,
+        ScenarioMix mix,
+        double rate,
+        Arrivals arrivals,
+        Duration duration,
+        Duration warmup,
+        Duration timeout,
+        int clients,
+        int maxInFlight,
+        int seedConcurrency,
+        long randomSeed,
+        Path report,
+        Path baseline
+) {
+
+    private static final Set<String> OPTIONS = Set.of("base-url", "dataset", "mix", "rate", "arrivals", "duration",
+            "warmup", "timeout", "clients", "max-in-flight", "seed-concurrency", "random-seed", "report", "baseline");
+
+    enum Arrivals {
+        /** Exponentially distributed gaps, as independent users produce. */
+        POISSON,
+        /** Evenly spaced requests. */
+        UNIFORM
+    }
+
+    LoadTestConfig {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        if (clients < 1 || maxInFlight < 1 || seedConcurrency < 1) {
+            throw new IllegalArgumentException("clients, max-in-flight and seed-concurrency must be positive");
+        }
+    }
+
+    static LoadTestConfig parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            String name = arg.substring(2, separator);
+            if (!OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + ", expected one of " + OPTIONS);
+            }
+            String value = arg.substring(separator + 1).trim();
+            if (!value.isEmpty()) {
+                options.put(name, value);
+            }
+        }
+
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        return new LoadTestConfig(
+                URI.create(baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl),
+                DatasetSize.of(options.getOrDefault("dataset", "10k")),
+                ScenarioMix.parse(options.getOrDefault("mix", "production")),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Arrivals.valueOf(options.getOrDefault("arrivals", "poisson").toUpperCase()),
+                Duration.parse(options.getOrDefault("duration", "PT2M")),
+                Duration.parse(options.getOrDefault("warmup", "PT30S")),
+                Duration.parse(options.getOrDefault("timeout", "PT10S")),
+                Integer.parseInt(options.getOrDefault("clients", "200")),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "5000")),
+                Integer.parseInt(options.getOrDefault("seed-concurrency", "32")),
+                Long.parseLong(options.getOrDefault("random-seed", "42")),
+                Path.of(options.getOrDefault("report", "target/load-test/report.json")),
+                options.containsKey("baseline") ? Path.of(options.get("baseline")) : null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.inventory.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadTestConfigTest {
+
+    @Test
+    @DisplayName("Should fall back to defaults for empty values passed through by the profile")
+    void shouldUseDefaultsForEmptyValues() {
+        LoadTestConfig config = LoadTestConfig.parse("--base-url=", "--dataset=", "--mix=", "--rate=", "--baseline=");
+
+        assertThat(config.baseUrl()).isEqualTo(URI.create("http://localhost:8080"));
+        assertThat(config.dataset()).isEqualTo(DatasetSize.SMALL);
+        assertThat(config.mix().weights()).isEqualTo(Map.of(Scenario.LOOKUP, 70, Scenario.SEARCH, 15,
+                Scenario.MOVEMENT, 10, Scenario.SUPPLIER_EXPORT, 5));
+        assertThat(config.rate()).isEqualTo(200);
+        assertThat(config.arrivals()).isEqualTo(LoadTestConfig.Arrivals.POISSON);
+        assertThat(config.baseline()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse dataset presets, custom mixes and durations")
+    void shouldParseOptions() {
+        LoadTestConfig config = LoadTestConfig.parse("--base-url=http://inventory:9090/", "--dataset=1m",
+                "--mix=lookup=3,movement=1", "--rate=1500", "--arrivals=uniform", "--duration=PT10M");
+
+        assertThat(config.baseUrl()).isEqualTo(URI.create("http://inventory:9090"));
+        assertThat(config.dataset().products()).isEqualTo(1_000_000);
+        assertThat(config.mix().name()).isEqualTo("custom");
+        assertThat(config.mix().weights()).isEqualTo(Map.of(Scenario.LOOKUP, 3, Scenario.MOVEMENT, 1));
+        assertThat(config.arrivals()).isEqualTo(LoadTestConfig.Arrivals.UNIFORM);
+        assertThat(config.duration()).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should pick scenarios in proportion to their weights and never unweighted ones")
+    void shouldPickScenariosByWeight() {
+        ScenarioMix mix = ScenarioMix.parse("lookup=70,search=30");
+        Random random = new Random(1);
+
+        int lookups = 0;
+        for (int i = 0; i < 10_000; i++) {
+            Scenario scenario = mix.pick(random);
+            assertThat(scenario).isIn(Scenario.LOOKUP, Scenario.SEARCH);
+            lookups += scenario == Scenario.LOOKUP ? 1 : 0;
+        }
+
+        assertThat(lookups).isBetween(6_800, 7_200);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown options, scenarios and datasets")
+    void shouldRejectInvalidOptions() {
+        assertThatThrownBy(() -> LoadTestConfig.parse("--threads=4"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--threads");
+        assertThatThrownBy(() -> LoadTestConfig.parse("--mix=lookup=50,checkout=50"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("checkout");
+        assertThatThrownBy(() -> LoadTestConfig.parse("--dataset=5k"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5k");
+    }
+}
@@ -0,0 +1,165 @@
+package com.inventory.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inventory.loadtest.LatencyRecorder.EndpointStats;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a measured run, written as JSON so runs can be compared later. Latencies are in
+ * milliseconds; each endpoint also carries its full HdrHistogram, compressed and Base64 encoded,
+ * for analysis beyond the summary percentiles.
+ */
+record LoadTestReport(
+        String startedAt,
+        String baseUrl,
+        String dataset,
+        int products,
+        String mix,
+        double rate,
+        String arrivals,
+        double durationSeconds,
+        int clients,
+        double maxSchedulerLagMs,
+        Endpoint total,
+        Map<String, Endpoint> endpoints
+) {
+
+    record Endpoint(long requests, double throughput, long ok, long clientErrors, long rateLimited, long serverErrors,
+                    long failures, long dropped, Latency latencyMs, String histogram) {
+    }
+
+    record Latency(double p50, double p90, double p99, double p999, double max, double mean) {
+    }
+
+    static LoadTestReport of(LoadTestConfig config, Instant startedAt, Duration measured, LatencyRecorder recorder) {
+        double seconds = measured.toNanos() / 1e9;
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+        Histogram all = new Histogram(LatencyRecorder.HIGHEST_MICROS, 3);
+        long[] totals = new long[6];
+        recorder.endpoints().forEach((name, stats) -> {
+            endpoints.put(name, endpoint(stats.latency(), stats.ok(), stats.clientErrors(), stats.rateLimited(),
+                    stats.serverErrors(), stats.failures(), stats.dropped(), seconds));
+            all.add(stats.latency());
+            long[] counts = counts(stats);
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += counts[i];
+            }
+        });
+
+        return new LoadTestReport(startedAt.toString(), config.baseUrl().toString(), config.dataset().label(),
+                config.dataset().products(), config.mix().toString(), config.rate(), config.arrivals().name(), seconds,
+                config.clients(), recorder.maxSchedulerLagNanos() / 1e6,
+                endpoint(all, totals[0], totals[1], totals[2], totals[3], totals[4], totals[5], seconds), endpoints);
+    }
+
+    static LoadTestReport read(ObjectMapper objectMapper, Path path) throws IOException {
+        return objectMapper.readValue(path.toFile(), LoadTestReport.class);
+    }
+
+    void write(ObjectMapper objectMapper, Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), this);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nDataset %s (%,d products), mix %s, %.0f req/s %s arrivals for %.0f s, %d clients%n",
+                dataset, products, mix, rate, arrivals.toLowerCase(), durationSeconds, clients);
+        out.printf("%-34s %9s %9s %8s %8s %8s %8s %9s %7s %7s %7s %7s%n", "endpoint", "requests", "req/s", "p50",
+                "p90", "p99", "p99.9", "max", "4xx", "429", "5xx", "failed");
+        endpoints.forEach((name, endpoint) -> printRow(out, name, endpoint));
+        printRow(out, "total", total);
+        if (total.dropped() > 0) {
+            out.printf("%,d requests dropped at the in-flight limit; the server did not keep up with the offered load%n",
+                    total.dropped());
+        }
+        if (maxSchedulerLagMs > 100) {
+            out.printf("warning: the load generator fell up to %.0f ms behind schedule; latencies include that delay%n",
+                    maxSchedulerLagMs);
+        }
+    }
+
+    /** Prints latency changes per endpoint against an earlier run, flagging runs that are not like for like. */
+    void compare(LoadTestReport baseline, PrintStream out) {
+        out.printf("%nCompared with the run of %s%n", baseline.startedAt());
+        if (!Objects.equals(dataset, baseline.dataset()) || !Objects.equals(mix, baseline.mix())
+                || rate != baseline.rate() || !Objects.equals(arrivals, baseline.arrivals())) {
+            out.printf("warning: baseline ran dataset %s, mix %s, %.0f req/s %s arrivals%n", baseline.dataset(),
+                    baseline.mix(), baseline.rate(), baseline.arrivals().toLowerCase());
+        }
+        out.printf("%-34s %17s %17s %17s %9s%n", "endpoint", "p50", "p99", "p99.9", "errors");
+        endpoints.forEach((name, endpoint) -> {
+            Endpoint before = baseline.endpoints().get(name);
+            if (before != null) {
+                printComparison(out, name, endpoint, before);
+            }
+        });
+        printComparison(out, "total", total, baseline.total());
+    }
+
+    private static Endpoint endpoint(Histogram latency, long ok, long clientErrors, long rateLimited,
+                                     long serverErrors, long failures, long dropped, double seconds) {
+        long requests = latency.getTotalCount();
+        return new Endpoint(requests, requests / seconds, ok, clientErrors, rateLimited, serverErrors, failures,
+                dropped, new Latency(millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                millis(latency.getMaxValue()), latency.getMean() / 1000), encode(latency));
+    }
+
+    private static long[] counts(EndpointStats stats) {
+        return new long[]{stats.ok(), stats.clientErrors(), stats.rateLimited(), stats.serverErrors(),
+                stats.failures(), stats.dropped()};
+    }
+
+    private static double millis(long micros) {
+        return micros / (double) TimeUnit.MILLISECONDS.toMicros(1);
+    }
+
+    private static String encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length));
+    }
+
+    private static void printRow(PrintStream out, String name, Endpoint endpoint) {
+        Latency latency = endpoint.latencyMs();
+        out.printf("%-34s %,9d %9.1f %8.2f %8.2f %8.2f %8.2f %9.2f %,7d %,7d %,7d %,7d%n", name, endpoint.requests(),
+                endpoint.throughput(), latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max(),
+                endpoint.clientErrors(), endpoint.rateLimited(), endpoint.serverErrors(), endpoint.failures());
+    }
+
+    private static void printComparison(PrintStream out, String name, Endpoint now, Endpoint before) {
+        out.printf("%-34s %17s %17s %17s %+9d%n", name,
+                change(now.latencyMs().p50(), before.latencyMs().p50()),
+                change(now.latencyMs().p99(), before.latencyMs().p99()),
+                change(now.latencyMs().p999(), before.latencyMs().p999()),
+                errors(now) - errors(before));
+    }
+
+    private static String change(double now, double before) {
+        return before > 0
+                ? String.format("%.2f (%+.0f%%)", now, (now - before) / before * 100)
+                : String.format("%.2f", now);
+    }
+
+    private static long errors(Endpoint endpoint) {
+        return endpoint.clientErrors() + endpoint.rateLimited() + endpoint.serverErrors() + endpoint.failures()
+                + endpoint.dropped();
+    }
+}
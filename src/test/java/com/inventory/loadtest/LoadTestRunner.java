@@ -0,0 +1,56 @@
+package com.inventory.loadtest;
+
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * Scenario-driven HTTP load test against a running instance: seeds a dataset preset, warms up, then
+ * offers a traffic mix at a fixed open-model arrival rate and reports latency per endpoint.
+ * <p>
+ * Run with {@code mvn -Pload-test test-compile exec:exec -Dload.dataset=100k -Dload.rate=500}, or
+ * directly with these arguments:
+ * <ul>
+ *     <li>{@code --base-url} of the application, default {@code http://localhost:8080}</li>
+ *     <li>{@code --dataset} {@code 10k}, {@code 100k} or {@code 1m} products</li>
+ *     <li>{@code --mix} {@code production} (default), {@code read-only}, {@code checkout} or weights such as
+ *     {@code lookup=70,search=15,movement=10,supplier-export=5}</li>
+ *     <li>{@code --rate} offered requests per second, {@code --arrivals} {@code poisson} or {@code uniform}</li>
+ *     <li>{@code --duration} and {@code --warmup} as ISO-8601 durations, {@code --timeout} per request</li>
+ *     <li>{@code --clients} distinct rate limiter client ids, {@code --max-in-flight},
+ *     {@code --seed-concurrency}, {@code --random-seed}</li>
+ *     <li>{@code --report} JSON file to write, {@code --baseline} earlier report to compare with</li>
+ * </ul>
+ * The same random seed, rate and mix produce the same request sequence, so runs differ only in how
+ * the server responded.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ApiClient api = new ApiClient(config.baseUrl(), config.timeout());
+
+        System.out.printf("Preparing dataset %s at %s%n", config.dataset().label(), config.baseUrl());
+        Dataset dataset = Dataset.prepare(api, config.dataset(), config.seedConcurrency());
+        OpenLoadDriver driver = new OpenLoadDriver(api, dataset, config);
+
+        if (!config.warmup().isZero()) {
+            System.out.printf("Warming up for %s%n", config.warmup());
+            driver.run(config.warmup(), new Random(config.randomSeed() - 1));
+        }
+
+        System.out.printf("Offering %s at %.0f req/s for %s%n", config.mix(), config.rate(), config.duration());
+        Instant startedAt = Instant.now();
+        LatencyRecorder recorder = driver.run(config.duration(), new Random(config.randomSeed()));
+        LoadTestReport report = LoadTestReport.of(config, startedAt, config.duration(), recorder);
+
+        report.print(System.out);
+        report.write(api.objectMapper(), config.report());
+        System.out.printf("%nReport written to %s%n", config.report().toAbsolutePath());
+        if (config.baseline() != null) {
+            report.compare(LoadTestReport.read(api.objectMapper(), config.baseline()), System.out);
+        }
+    }
+}
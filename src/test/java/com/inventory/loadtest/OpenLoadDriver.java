@@ -0,0 +1,82 @@
+package com.inventory.loadtest;
+
+import com.inventory.loadtest.LatencyRecorder.EndpointStats;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests are started on a fixed arrival schedule whatever the server's response
+ * times, the way independent users keep arriving at a slow shop.
+ * <p>
+ * Each request's latency is measured from the moment it was due, not from when it was actually
+ * sent, so a stalled server or a lagging scheduler shows up in the percentiles instead of silently
+ * lowering the offered load (coordinated omission). Requests due while {@code max-in-flight} are
+ * outstanding are counted as dropped rather than queued.
+ */
+final class OpenLoadDriver {
+
+    private static final Duration DRAIN_GRACE = Duration.ofSeconds(5);
+
+    private final ApiClient api;
+    private final Dataset dataset;
+    private final LoadTestConfig config;
+
+    OpenLoadDriver(ApiClient api, Dataset dataset, LoadTestConfig config) {
+        this.api = api;
+        this.dataset = dataset;
+        this.config = config;
+    }
+
+    LatencyRecorder run(Duration duration, Random random) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        double due = start;
+        while (true) {
+            due += config.arrivals() == LoadTestConfig.Arrivals.POISSON
+                    ? -Math.log(1 - random.nextDouble()) * meanGapNanos
+                    : meanGapNanos;
+            long intended = (long) due;
+            if (intended - end >= 0) {
+                break;
+            }
+            waitUntil(intended);
+
+            Scenario.Call call = config.mix().pick(random).next(dataset, random);
+            EndpointStats stats = recorder.endpoint(call.endpoint());
+            if (!inFlight.tryAcquire()) {
+                stats.drop();
+                continue;
+            }
+            HttpRequest request = api.request(call.method(), call.path(), call.body(),
+                    "load-test-" + random.nextInt(config.clients()));
+            recorder.schedulerLag(System.nanoTime() - intended);
+            api.sendAsync(request).whenComplete((response, failure) -> {
+                stats.record(System.nanoTime() - intended, response != null ? response.statusCode() : -1);
+                inFlight.release();
+            });
+        }
+
+        // Requests still outstanding are timed out by the client, so waiting past that is pointless
+        if (!inFlight.tryAcquire(config.maxInFlight(), config.timeout().plus(DRAIN_GRACE).toNanos(),
+                TimeUnit.NANOSECONDS)) {
+            System.err.println("warning: requests still in flight after the run; their latencies are missing");
+        }
+        return recorder;
+    }
+
+    private static void waitUntil(long nanoTime) {
+        long remaining;
+        while ((remaining = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.inventory.loadtest;
+
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.request.ProductLookupRequest;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Kinds of traffic a mix is made of. Each picks one concrete request at a time; the endpoint label
+ * is the path template the request is reported under.
+ */
+enum Scenario {
+
+    /** Single products by id and by SKU, and the occasional batch lookup of a basket. */
+    LOOKUP("lookup") {
+        @Override
+        Call next(Dataset dataset, Random random) {
+            int product = random.nextInt(dataset.size());
+            int kind = random.nextInt(10);
+            if (kind < 6) {
+                return Call.get("GET /products/{id}", "/api/v1/products/" + dataset.productId(product));
+            }
+            if (kind < 9) {
+                return Call.get("GET /products/sku/{sku}", "/api/v1/products/sku/" + Dataset.sku(product));
+            }
+            List<UUID> basket = IntStream.range(0, 20)
+                    .mapToObj(i -> dataset.productId(random.nextInt(dataset.size())))
+                    .toList();
+            return new Call("POST /products/lookup", "POST", "/api/v1/products/lookup",
+                    new ProductLookupRequest(basket, null));
+        }
+    },
+
+    /** Filtered searches by category and price band, a fifth of them with facet counts. */
+    SEARCH("search") {
+        @Override
+        Call next(Dataset dataset, Random random) {
+            int low = random.nextInt(900);
+            String filter = random.nextBoolean()
+                    ? "category=" + Dataset.CATEGORIES.get(random.nextInt(Dataset.CATEGORIES.size()))
+                    : "minPrice=" + low + "&maxPrice=" + (low + 50);
+            String page = "&page=" + random.nextInt(5) + "&size=20&sort=name";
+            return random.nextInt(5) == 0
+                    ? Call.get("GET /products/search/faceted", "/api/v1/products/search/faceted?" + filter + page)
+                    : Call.get("GET /products/search", "/api/v1/products/search?" + filter + page);
+        }
+    },
+
+    /** Receipts and sales of a few units, balanced so seeded stock does not run out. */
+    MOVEMENT("movement") {
+        @Override
+        Call next(Dataset dataset, Random random) {
+            UUID product = dataset.productId(random.nextInt(dataset.size()));
+            boolean receipt = random.nextBoolean();
+            int quantity = 1 + random.nextInt(3);
+            return new Call("POST /stock-movements", "POST", "/api/v1/stock-movements", new CreateStockMovementRequest(
+                    product, receipt ? MovementType.IN : MovementType.OUT, quantity,
+                    receipt ? MovementReason.PURCHASE : MovementReason.SALE, "LOAD-TEST", null));
+        }
+    },
+
+    /** Supplier reads, and the paged listings exports are made of. */
+    SUPPLIER_EXPORT("supplier-export") {
+        @Override
+        Call next(Dataset dataset, Random random) {
+            UUID supplier = dataset.supplierIds().get(random.nextInt(dataset.supplierIds().size()));
+            return switch (random.nextInt(5)) {
+                case 0, 1 -> Call.get("GET /suppliers/{id}", "/api/v1/suppliers/" + supplier);
+                case 2 -> Call.get("GET /suppliers/{id}/products", "/api/v1/suppliers/" + supplier + "/products");
+                case 3 -> Call.get("GET /products (export page)", "/api/v1/products?size=100&page="
+                        + random.nextInt(Math.max(1, Math.min(100, dataset.size() / 100))));
+                default -> Call.get("GET /stock-movements (export page)", "/api/v1/stock-movements?size=100");
+            };
+        }
+    };
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    abstract Call next(Dataset dataset, Random random);
+
+    static Scenario of(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equalsIgnoreCase(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario " + key + ", expected lookup, search, movement or "
+                + "supplier-export");
+    }
+
+    record Call(String endpoint, String method, String path, Object body) {
+
+        static Call get(String endpoint, String path) {
+            return new Call(endpoint, "GET", path, null);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.inventory.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Relative weights of the scenarios, either a named preset or {@code lookup=70,search=15,...}.
+ * Scenarios left out get no traffic.
+ */
+record ScenarioMix(String name, Map<Scenario, Integer> weights) {
+
+    private static final Map<String, String> PRESETS = Map.of(
+            // Observed production traffic
+            "production", "lookup=70,search=15,movement=10,supplier-export=5",
+            "read-only", "lookup=80,search=15,supplier-export=5",
+            "checkout", "lookup=50,movement=50");
+
+    ScenarioMix {
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Scenario mix " + name + " has no traffic");
+        }
+        weights = Map.copyOf(weights);
+    }
+
+    static ScenarioMix parse(String value) {
+        String spec = PRESETS.getOrDefault(value, value);
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected a preset " + PRESETS.keySet() + " or scenario=weight pairs, "
+                        + "got " + value);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            weights.merge(Scenario.of(parts[0].trim()), weight, Integer::sum);
+        }
+        return new ScenarioMix(PRESETS.containsKey(value) ? value : "custom", weights);
+    }
+
+    Scenario pick(Random random) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int point = random.nextInt(total);
+        for (Scenario scenario : Scenario.values()) {
+            point -= weights.getOrDefault(scenario, 0);
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getKey().key() + "=" + entry.getValue())
+                .collect(Collectors.joining(",", name + " (", ")"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.inventory.metrics;
+
+import com.inventory.metrics.QueryMetricsRecorder.ShapeSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryMetricsRecorder Tests")
+class QueryMetricsRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryMetricsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new QueryMetricsRecorder(meterRegistry, 100, 2);
+    }
+
+    @Test
+    @DisplayName("Should normalize literals, whitespace and IN lists into one shape")
+    void shouldNormalizeLiteralsWhitespaceAndInListsIntoOneShape() {
+        SqlShape first = SqlShape.parse("select p1_0.id from products p1_0\n where p1_0.sku = 'A-1' and p1_0.id in (?, ?)");
+        SqlShape second = SqlShape.parse("select p1_0.id   from products p1_0 where p1_0.sku = 'B''2' and p1_0.id in (?,?,?,?)");
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first.sql()).isEqualTo("select p1_0.id from products p1_0 where p1_0.sku = ? and p1_0.id in (?...)");
+        assertThat(first.operation()).isEqualTo("select");
+        assertThat(SqlShape.parse("update products set stock_quantity = 5 where id = ?").sql())
+                .isEqualTo("update products set stock_quantity = ? where id = ?");
+    }
+
+    @Test
+    @DisplayName("Should count bind parameters outside quoted literals")
+    void shouldCountBindParametersOutsideQuotedLiterals() {
+        assertThat(SqlShape.countBindParameters("select * from products where name = '?' and id in (?, ?)")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should time statements per shape and repository method")
+    void shouldTimeStatementsPerShapeAndRepositoryMethod() {
+        recorder.record("select * from products where id = ?", "ProductRepository.findById", ms(2), 1, 1);
+        recorder.record("select * from products where id = ?", "ProductRepository.findById", ms(4), 0, 1);
+
+        Timer timer = meterRegistry.get(QueryMetricsRecorder.METRIC_NAME)
+                .tag("repository", "ProductRepository.findById")
+                .tag("operation", "select")
+                .timer();
+        List<ShapeSummary> shapes = recorder.topShapes(10, Comparator.comparingDouble(ShapeSummary::maxMs));
+
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(shapes).singleElement().satisfies(shape -> {
+            assertThat(shape.count()).isEqualTo(2);
+            assertThat(shape.maxMs()).isEqualTo(4.0);
+            assertThat(shape.meanRows()).isEqualTo(0.5);
+            assertThat(shape.repositoryMethods()).containsExactly("ProductRepository.findById");
+        });
+        assertThat(recorder.slowStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count statements above the slow threshold")
+    void shouldCountStatementsAboveSlowThreshold() {
+        recorder.record("select * from suppliers", RepositoryMethodTracker.NONE, ms(150), 30, 1);
+
+        assertThat(recorder.slowStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should fold shapes beyond the limit into the other shape")
+    void shouldFoldShapesBeyondLimitIntoOtherShape() {
+        recorder.record("select * from products", "ProductRepository.findAll", ms(1), 1, 1);
+        recorder.record("select * from suppliers", "SupplierRepository.findAll", ms(1), 1, 1);
+        recorder.record("select * from stock_movements", "StockMovementRepository.findAll", ms(1), 1, 1);
+
+        assertThat(recorder.topShapes(10, Comparator.comparingLong(ShapeSummary::count))).hasSize(2);
+        assertThat(meterRegistry.get(QueryMetricsRecorder.METRIC_NAME)
+                .tag("shape", QueryMetricsRecorder.OTHER_SHAPE).timer().count()).isEqualTo(1);
+    }
+
+    private static long ms(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
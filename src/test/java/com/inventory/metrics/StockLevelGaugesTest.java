@@ -0,0 +1,81 @@
+package com.inventory.metrics;
+
+import com.inventory.event.ProductChangedEvent;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductRepository.StockLevelCounts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLevelGauges Tests")
+class StockLevelGaugesTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should serve both gauges from one query until a product changes")
+    void shouldServeBothGaugesFromOneQueryUntilProductChanges() {
+        StockLevelGauges gauges = new StockLevelGauges(productRepository, meterRegistry, 0);
+        given(productRepository.countActiveAndLowStock()).willReturn(counts(12, 3), counts(13, 4));
+
+        assertThat(gauge("inventory.products.active")).isEqualTo(12);
+        assertThat(gauge("inventory.products.low_stock")).isEqualTo(3);
+        assertThat(gauge("inventory.products.active")).isEqualTo(12);
+
+        gauges.onProductChanged(new ProductChangedEvent(UUID.randomUUID()));
+
+        assertThat(gauge("inventory.products.low_stock")).isEqualTo(4);
+        then(productRepository).should(times(2)).countActiveAndLowStock();
+    }
+
+    @Test
+    @DisplayName("Should not recount within the refresh interval")
+    void shouldNotRecountWithinRefreshInterval() {
+        StockLevelGauges gauges = new StockLevelGauges(productRepository, meterRegistry, 60_000);
+        given(productRepository.countActiveAndLowStock()).willReturn(counts(5, 1));
+
+        assertThat(gauge("inventory.products.active")).isEqualTo(5);
+        gauges.onProductChanged(new ProductChangedEvent(UUID.randomUUID()));
+
+        assertThat(gauge("inventory.products.active")).isEqualTo(5);
+        then(productRepository).should(times(1)).countActiveAndLowStock();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static StockLevelCounts counts(long active, long lowStock) {
+        return new StockLevelCounts() {
+            @Override
+            public long getActive() {
+                return active;
+            }
+
+            @Override
+            public long getLowStock() {
+                return lowStock;
+            }
+        };
+    }
+}
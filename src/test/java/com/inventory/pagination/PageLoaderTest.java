@@ -0,0 +1,132 @@
+package com.inventory.pagination;
+
+import com.inventory.enums.CountMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PageLoader Tests")
+class PageLoaderTest {
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    private PageLoader pageLoader;
+
+    @BeforeEach
+    void setUp() {
+        pageLoader = new PageLoader(rowCountEstimator, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pageLoader.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should run exact count concurrently with the content query")
+    void shouldRunExactCountConcurrentlyWithContentQuery() {
+        Pageable pageable = PageRequest.of(0, 2);
+        CountDownLatch countStarted = new CountDownLatch(1);
+
+        Slice<String> result = pageLoader.load(pageable, CountMode.EXACT, page -> {
+            await(countStarted);
+            return new SliceImpl<>(List.of("a", "b"), page, true);
+        }, () -> {
+            countStarted.countDown();
+            return 42;
+        }, null);
+
+        assertThat(countStarted.getCount()).isZero();
+        assertThat(result).isInstanceOfSatisfying(Page.class, page -> assertThat(page.getTotalElements()).isEqualTo(42));
+    }
+
+    @Test
+    @DisplayName("Should derive total from the last page instead of the count")
+    void shouldDeriveTotalFromLastPageInsteadOfCount() {
+        Pageable pageable = PageRequest.of(3, 10);
+
+        Slice<String> result = pageLoader.load(pageable, CountMode.EXACT,
+                page -> new SliceImpl<>(List.of("a", "b", "c"), page, false), () -> 1000, null);
+
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(33);
+    }
+
+    @Test
+    @DisplayName("Should not count in NONE mode")
+    void shouldNotCountInNoneMode() {
+        Slice<String> result = pageLoader.load(PageRequest.of(0, 1), CountMode.NONE,
+                page -> new SliceImpl<>(List.of("a"), page, true),
+                () -> {
+                    throw new AssertionError("count must not run");
+                }, "products");
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should never report an estimate below the rows already seen")
+    void shouldNeverReportEstimateBelowRowsAlreadySeen() {
+        given(rowCountEstimator.estimateActiveRows("products")).willReturn(OptionalLong.of(3));
+        Function<Pageable, Slice<String>> content = page -> new SliceImpl<>(List.of("a", "b"), page, true);
+
+        Slice<String> result = pageLoader.load(PageRequest.of(5, 2), CountMode.ESTIMATED, content,
+                () -> {
+                    throw new AssertionError("count must not run");
+                }, "products");
+
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Should fall back to exact count when no estimate is available")
+    void shouldFallBackToExactCountWhenNoEstimateIsAvailable() {
+        given(rowCountEstimator.estimateActiveRows("products")).willReturn(OptionalLong.empty());
+
+        Slice<String> result = pageLoader.load(PageRequest.of(0, 1), CountMode.ESTIMATED,
+                page -> new SliceImpl<>(List.of("a"), page, true), () -> 7, "products");
+
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should only consult the estimator for unfiltered queries")
+    void shouldOnlyConsultEstimatorForUnfilteredQueries() {
+        Slice<String> result = pageLoader.load(PageRequest.of(0, 1), CountMode.ESTIMATED,
+                page -> new SliceImpl<>(List.of("a"), page, true), () -> 9, null);
+
+        assertThat(((Page<String>) result).getTotalElements()).isEqualTo(9);
+        then(rowCountEstimator).should(never()).estimateActiveRows(null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.inventory.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.enums.EndpointClass;
+import com.inventory.ratelimit.RateLimiter.Budget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = filter(false);
+    }
+
+    @Test
+    @DisplayName("Should classify endpoints by method and path pattern")
+    void shouldClassifyEndpointsByMethodAndPathPattern() {
+        EndpointClassifier classifier = new EndpointClassifier(Map.of(
+                EndpointClass.CRITICAL, List.of("POST /api/v1/stock-movements", "GET /api/v1/products/sku/**"),
+                EndpointClass.BULK, List.of("GET /api/v1/stock-movements", "/api/v1/products/*/stock-movements")));
+
+        assertThat(classifier.classify("POST", "/api/v1/stock-movements")).isEqualTo(EndpointClass.CRITICAL);
+        assertThat(classifier.classify("GET", "/api/v1/stock-movements")).isEqualTo(EndpointClass.BULK);
+        assertThat(classifier.classify("GET", "/api/v1/products/sku/ABC-1")).isEqualTo(EndpointClass.CRITICAL);
+        assertThat(classifier.classify("DELETE", "/api/v1/products/42/stock-movements")).isEqualTo(EndpointClass.BULK);
+        assertThat(classifier.classify("GET", "/api/v1/products/42")).isEqualTo(EndpointClass.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should report the remaining budget on admitted requests")
+    void shouldReportRemainingBudgetOnAdmittedRequests() throws Exception {
+        MockHttpServletResponse response = perform("POST", "/api/v1/stock-movements", "checkout");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("RateLimit-Limit")).isEqualTo("3");
+        assertThat(response.getHeader("RateLimit-Remaining")).isEqualTo("2");
+        assertThat(response.getHeader("RateLimit-Reset")).isEqualTo("1");
+        assertThat(response.getHeader("Retry-After")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse an exhausted bulk client with 429 while its checkout traffic still passes")
+    void shouldRefuseExhaustedBulkClientWhileCheckoutTrafficPasses() throws Exception {
+        perform("GET", "/api/v1/stock-movements", "bi-tool");
+
+        MockHttpServletResponse refused = perform("GET", "/api/v1/stock-movements", "bi-tool");
+        MockHttpServletResponse checkout = perform("GET", "/api/v1/products/sku/ABC-1", "bi-tool");
+        MockHttpServletResponse otherClient = perform("GET", "/api/v1/stock-movements", "warehouse");
+
+        assertThat(refused.getStatus()).isEqualTo(429);
+        assertThat(refused.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(refused.getHeader("RateLimit-Remaining")).isEqualTo("0");
+        assertThat(refused.getContentAsString()).contains("\"error\":\"Too Many Requests\"");
+        assertThat(checkout.getStatus()).isEqualTo(200);
+        assertThat(otherClient.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("inventory.ratelimit.rejections").tag("class", "bulk").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should identify clients without a client header by remote address")
+    void shouldIdentifyClientsWithoutHeaderByRemoteAddress() throws Exception {
+        perform("GET", "/api/v1/stock-movements", null);
+
+        assertThat(perform("GET", "/api/v1/stock-movements", null).getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/api/v1/stock-movements", "bi-tool").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should charge client ids beyond the per-address limit to the remote address")
+    void shouldChargeClientIdsBeyondPerAddressLimitToRemoteAddress() throws Exception {
+        perform("GET", "/api/v1/stock-movements", "first");
+        perform("GET", "/api/v1/stock-movements", "second");
+
+        assertThat(perform("GET", "/api/v1/stock-movements", "third").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/api/v1/stock-movements", "fourth").getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/api/v1/stock-movements", null).getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/api/v1/stock-movements", "other", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should keep an untrusted client id sent from another address out of the client's bucket")
+    void shouldScopeUntrustedClientIdToRemoteAddress() throws Exception {
+        perform("GET", "/api/v1/stock-movements", "checkout", "10.0.0.1");
+
+        assertThat(perform("GET", "/api/v1/stock-movements", "checkout", "10.0.0.2").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/api/v1/stock-movements", "checkout", "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should key trusted client ids by the header alone")
+    void shouldKeyTrustedClientIdsByHeaderAlone() throws Exception {
+        filter = filter(true);
+        perform("GET", "/api/v1/stock-movements", "checkout", "10.0.0.1");
+
+        assertThat(perform("GET", "/api/v1/stock-movements", "checkout", "10.0.0.2").getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/api/v1/stock-movements", "first").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/api/v1/stock-movements", "second").getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/api/v1/stock-movements", "third").getStatus()).isEqualTo(200);
+    }
+
+    private RateLimitFilter filter(boolean clientHeaderTrusted) {
+        RateLimiter rateLimiter = new RateLimiter(Map.of(
+                EndpointClass.CRITICAL, new Budget(1, 3),
+                EndpointClass.INTERACTIVE, new Budget(1, 2),
+                EndpointClass.BULK, new Budget(1, 1)), 100);
+        EndpointClassifier classifier = new EndpointClassifier(Map.of(
+                EndpointClass.CRITICAL, List.of("POST /api/v1/stock-movements", "GET /api/v1/products/sku/**"),
+                EndpointClass.BULK, List.of("GET /api/v1/stock-movements", "/api/v1/products/*/stock-movements")));
+        return new RateLimitFilter(rateLimiter, classifier, "X-Client-Id", clientHeaderTrusted, 2,
+                new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String client) throws Exception {
+        return perform(method, path, client, "127.0.0.1");
+    }
+
+    private MockHttpServletResponse perform(String method, String path, String client, String address)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setRemoteAddr(address);
+        if (client != null) {
+            request.addHeader("X-Client-Id", client);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
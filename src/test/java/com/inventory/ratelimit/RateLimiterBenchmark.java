@@ -0,0 +1,102 @@
+package com.inventory.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.enums.EndpointClass;
+import com.inventory.ratelimit.RateLimiter.Budget;
+import com.inventory.ratelimit.RateLimiter.Decision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of rate limiting: bucket admission alone, admission with every thread
+ * hammering the same bucket, endpoint classification, and the whole filter.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RateLimiterBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private RateLimiter rateLimiter;
+    private EndpointClassifier classifier;
+    private RateLimitFilter filter;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        // Budgets high enough that every request is admitted, so the admission path is what is measured
+        Budget unlimited = new Budget(1_000_000_000, 1_000_000_000);
+        rateLimiter = new RateLimiter(Map.of(EndpointClass.CRITICAL, unlimited,
+                EndpointClass.INTERACTIVE, unlimited, EndpointClass.BULK, unlimited), 100_000);
+        classifier = new EndpointClassifier(Map.of(
+                EndpointClass.CRITICAL, List.of("POST /api/v1/stock-movements", "GET /api/v1/products/sku/**"),
+                EndpointClass.BULK, List.of("GET /api/v1/stock-movements", "GET /api/v1/products/*/stock-movements",
+                        "GET /api/v1/products", "GET /api/v1/products/search/**", "GET /api/v1/suppliers",
+                        "GET /api/v1/suppliers/search")));
+        // Trusted ids, as behind a gateway: all requests come from one address
+        filter = new RateLimitFilter(rateLimiter, classifier, "X-Client-Id", true, 16, new ObjectMapper(),
+                new SimpleMeterRegistry());
+        clients = new String[1024];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = "client-" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        int next;
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/sku/ABC-123");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup
+        public void setUp() {
+            request.addHeader("X-Client-Id", "checkout-" + Thread.currentThread().getId());
+        }
+    }
+
+    @Benchmark
+    public Decision acquireAcrossClients(Caller caller) {
+        return rateLimiter.tryAcquire(clients[caller.next++ & (clients.length - 1)], EndpointClass.INTERACTIVE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Decision acquireContendedBucket() {
+        return rateLimiter.tryAcquire("client-0", EndpointClass.CRITICAL);
+    }
+
+    @Benchmark
+    public EndpointClass classify() {
+        return classifier.classify("GET", "/api/v1/products/3f2a9c1e-1b4d-4c5e-9f00-123456789abc/stock-movements");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filter(Caller caller) throws Exception {
+        filter.doFilter(caller.request, caller.response, NO_OP_CHAIN);
+        return caller.response;
+    }
+}
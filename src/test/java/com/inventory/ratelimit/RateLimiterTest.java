@@ -0,0 +1,108 @@
+package com.inventory.ratelimit;
+
+import com.inventory.enums.EndpointClass;
+import com.inventory.ratelimit.RateLimiter.Budget;
+import com.inventory.ratelimit.RateLimiter.Decision;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RateLimiter Tests")
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(-TimeUnit.HOURS.toNanos(1));
+    private final RateLimiter rateLimiter = new RateLimiter(Map.of(
+            EndpointClass.CRITICAL, new Budget(100, 10),
+            EndpointClass.INTERACTIVE, new Budget(10, 5),
+            EndpointClass.BULK, new Budget(1, 2)), 1000, clock::get);
+
+    @Test
+    @DisplayName("Should admit a full burst, then refuse with a retry hint")
+    void shouldAdmitFullBurstThenRefuseWithRetryHint() {
+        Decision first = rateLimiter.tryAcquire("bi-tool", EndpointClass.BULK);
+        Decision second = rateLimiter.tryAcquire("bi-tool", EndpointClass.BULK);
+        Decision refused = rateLimiter.tryAcquire("bi-tool", EndpointClass.BULK);
+
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.limit()).isEqualTo(2);
+        assertThat(first.remaining()).isEqualTo(1);
+        assertThat(first.resetSeconds()).isEqualTo(1);
+        assertThat(second.remaining()).isZero();
+        assertThat(refused.allowed()).isFalse();
+        assertThat(refused.retryAfterSeconds()).isEqualTo(1);
+        assertThat(refused.resetSeconds()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should refill tokens at the configured rate")
+    void shouldRefillTokensAtConfiguredRate() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("shop", EndpointClass.INTERACTIVE).allowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire("shop", EndpointClass.INTERACTIVE).allowed()).isFalse();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertThat(rateLimiter.tryAcquire("shop", EndpointClass.INTERACTIVE).remaining()).isEqualTo(1);
+        assertThat(rateLimiter.tryAcquire("shop", EndpointClass.INTERACTIVE).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("shop", EndpointClass.INTERACTIVE).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep budgets separate per client and per endpoint class")
+    void shouldKeepBudgetsSeparatePerClientAndClass() {
+        rateLimiter.tryAcquire("bi-tool", EndpointClass.BULK);
+        rateLimiter.tryAcquire("bi-tool", EndpointClass.BULK);
+
+        assertThat(rateLimiter.tryAcquire("bi-tool", EndpointClass.BULK).allowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire("bi-tool", EndpointClass.CRITICAL).allowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire("checkout", EndpointClass.BULK).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should admit exactly one burst under concurrent contention")
+    void shouldAdmitExactlyOneBurstUnderContention() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    int admitted = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (rateLimiter.tryAcquire("shared", EndpointClass.CRITICAL).allowed()) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                });
+            }
+            int admitted = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                admitted += result.get();
+            }
+
+            assertThat(admitted).isEqualTo(10);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject budgets that would admit nothing")
+    void shouldRejectBudgetsThatWouldAdmitNothing() {
+        assertThatThrownBy(() -> new RateLimiter(Map.of(EndpointClass.CRITICAL, new Budget(0, 10)), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
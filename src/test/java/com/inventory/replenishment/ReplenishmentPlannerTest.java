@@ -0,0 +1,137 @@
+package com.inventory.replenishment;
+
+import com.inventory.entity.ReplenishmentSuggestion;
+import com.inventory.repository.ReplenishmentSuggestionRepository.CandidateRow;
+import com.inventory.velocity.DemandVelocityTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplenishmentPlanner Tests")
+class ReplenishmentPlannerTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 3, 1);
+    private static final LocalDateTime NOW = RUN_DATE.atTime(2, 30);
+
+    @Mock
+    private DemandVelocityTracker demandVelocityTracker;
+
+    private ReplenishmentPlanner planner;
+    private final UUID productId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        planner = new ReplenishmentPlanner(demandVelocityTracker, 10, 7);
+    }
+
+    @Test
+    @DisplayName("Should order from the supplier with the shortest rating-adjusted lead time")
+    void shouldPickSupplierWithShortestAdjustedLeadTime() {
+        given(demandVelocityTracker.dailyVelocity(1.0, 2.0, NOW)).willReturn(2.0);
+        UUID reliable = UUID.randomUUID();
+        List<CandidateRow> offers = List.of(
+                offer(4, 5, UUID.randomUUID(), 3, "1.0"),    // 3 days at double: 6
+                offer(4, 5, reliable, 4, "5.0"),             // 4 days at face value: 4
+                offer(4, 5, UUID.randomUUID(), null, "5.0")); // default 10 days
+
+        ReplenishmentSuggestion suggestion = planner.plan(RUN_DATE, offers, NOW).orElseThrow();
+
+        assertThat(suggestion.getSupplierId()).isEqualTo(reliable);
+        assertThat(suggestion.getLeadTimeDays()).isEqualTo(4);
+        assertThat(suggestion.getReorderPoint()).isEqualTo(5 + 8);
+        assertThat(suggestion.getSuggestedQuantity()).isEqualTo(5 + 8 + 14 - 4);
+        assertThat(suggestion.getId().getProductId()).isEqualTo(productId);
+        assertThat(suggestion.getId().getRunDate()).isEqualTo(RUN_DATE);
+    }
+
+    @Test
+    @DisplayName("Should not suggest reordering a product above its reorder point")
+    void shouldNotSuggestAboveReorderPoint() {
+        given(demandVelocityTracker.dailyVelocity(1.0, 2.0, NOW)).willReturn(2.0);
+
+        Optional<ReplenishmentSuggestion> suggestion = planner.plan(RUN_DATE,
+                List.of(offer(20, 5, UUID.randomUUID(), 7, "4.0")), NOW);
+
+        assertThat(suggestion).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should top up to the minimum stock level a product without sales")
+    void shouldTopUpProductWithoutSalesToMinimum() {
+        CandidateRow offer = new Offer(productId, "SKU-1", 3, 5, null, null, UUID.randomUUID(), 7, null);
+
+        ReplenishmentSuggestion suggestion = planner.plan(RUN_DATE, List.of(offer), NOW).orElseThrow();
+
+        assertThat(suggestion.getDailyVelocity()).isZero();
+        assertThat(suggestion.getReorderPoint()).isEqualTo(5);
+        assertThat(suggestion.getSuggestedQuantity()).isEqualTo(2);
+    }
+
+    private CandidateRow offer(int stock, int minStock, UUID supplierId, Integer deliveryDays, String rating) {
+        return new Offer(productId, "SKU-1", stock, minStock, 1.0, 2.0, supplierId, deliveryDays, new BigDecimal(rating));
+    }
+
+    private record Offer(UUID productId, String sku, Integer stockQuantity, Integer minStockLevel, Double logWeight,
+                         Double trackedSince, UUID supplierId, Integer deliveryDays, BigDecimal rating)
+            implements CandidateRow {
+
+        @Override
+        public UUID getProductId() {
+            return productId;
+        }
+
+        @Override
+        public String getSku() {
+            return sku;
+        }
+
+        @Override
+        public Integer getStockQuantity() {
+            return stockQuantity;
+        }
+
+        @Override
+        public Integer getMinStockLevel() {
+            return minStockLevel;
+        }
+
+        @Override
+        public Double getLogWeight() {
+            return logWeight;
+        }
+
+        @Override
+        public Double getTrackedSince() {
+            return trackedSince;
+        }
+
+        @Override
+        public UUID getSupplierId() {
+            return supplierId;
+        }
+
+        @Override
+        public Integer getDeliveryDays() {
+            return deliveryDays;
+        }
+
+        @Override
+        public BigDecimal getRating() {
+            return rating;
+        }
+    }
+}
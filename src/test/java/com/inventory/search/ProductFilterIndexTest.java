@@ -0,0 +1,233 @@
+package com.inventory.search;
+
+import com.inventory.entity.Product;
+import com.inventory.entity.Supplier;
+import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductRepository.ProductFilterRow;
+import com.inventory.repository.ProductRepository.ProductSupplierLink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductFilterIndex Tests")
+class ProductFilterIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductFilterIndex index;
+
+    private final Row hammer = new Row(UUID.randomUUID(), new BigDecimal("19.99"), 50, 10, "tools");
+    private final Row drill = new Row(UUID.randomUUID(), new BigDecimal("89.50"), 4, 5, "tools");
+    private final Row lamp = new Row(UUID.randomUUID(), new BigDecimal("20.00"), 0, 0, "lighting");
+    private final UUID acme = UUID.randomUUID();
+    private final UUID globex = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        given(productRepository.streamActiveFilterRows()).willReturn(Stream.of(hammer, drill, lamp));
+        given(productRepository.streamActiveSupplierLinks()).willReturn(Stream.of(
+                new Link(hammer.id, acme), new Link(drill.id, acme), new Link(drill.id, globex)));
+        index = new ProductFilterIndex(productRepository, true, 2);
+        index.load();
+    }
+
+    @Test
+    @DisplayName("Should evaluate price bounds exactly in cents")
+    void shouldEvaluatePriceBoundsExactlyInCents() {
+        assertThat(index.match(criteria(null, "19.99", "20", null, null, false)).orElseThrow().ids())
+                .containsExactly(hammer.id, lamp.id);
+        assertThat(index.match(criteria(null, "19.991", "19.999", null, null, false)).orElseThrow().total())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should combine category, stock range and low stock filters")
+    void shouldCombineCategoryStockRangeAndLowStockFilters() {
+        assertThat(index.match(criteria("tools", null, null, null, null, true)).orElseThrow().ids())
+                .containsExactly(drill.id);
+        assertThat(index.match(criteria(null, null, null, 1, 50, false)).orElseThrow().ids())
+                .containsExactly(hammer.id, drill.id);
+        assertThat(index.match(criteria("Tools", null, null, null, null, false)).orElseThrow().total())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should report only the total when more rows match than are fetched by id")
+    void shouldReportOnlyTotalWhenMoreRowsMatchThanAreFetchedById() {
+        ProductFilterIndex.Matches matches = index.match(criteria(null, null, null, null, null, false)).orElseThrow();
+
+        assertThat(matches.total()).isEqualTo(3);
+        assertThat(matches.ids()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave text filters to the database")
+    void shouldLeaveTextFiltersToTheDatabase() {
+        ProductSearchCriteria byName = ProductSearchCriteria.of("drill", null, null, null, null, null, null, null, null);
+
+        assertThat(index.match(byName)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply stock changes, new products and deletions")
+    void shouldApplyStockChangesNewProductsAndDeletions() {
+        index.productWritten(product(hammer.id, "19.99", 3, 10, "tools"));
+        UUID saw = UUID.randomUUID();
+        index.productWritten(product(saw, "12.00", 1, 2, "tools"));
+        Product deletedDrill = product(drill.id, "89.50", 4, 5, "tools");
+        deletedDrill.softDelete();
+        index.productWritten(deletedDrill);
+        index.productRemoved(product(lamp.id, "20.00", 0, 0, "lighting"));
+
+        assertThat(index.match(criteria(null, null, null, null, null, true)).orElseThrow().ids())
+                .containsExactly(hammer.id, saw);
+        assertThat(index.match(criteria("lighting", null, null, null, null, false)).orElseThrow().total())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should count facets over the matching rows in the same scan")
+    void shouldCountFacetsOverMatchingRowsInSameScan() {
+        List<BigDecimal> edges = List.of(new BigDecimal("10"), new BigDecimal("20"), new BigDecimal("50"));
+
+        ProductFacetCounts all = index.match(criteria(null, null, null, null, null, false), edges).orElseThrow().facets();
+        ProductFacetCounts tools = index.match(criteria("tools", null, null, null, null, false), edges).orElseThrow().facets();
+
+        assertThat(all.categories()).isEqualTo(Map.of("tools", 2L, "lighting", 1L));
+        assertThat(all.priceBuckets()).containsExactly(0, 1, 1, 1);
+        assertThat(all.lowStock()).isEqualTo(2);
+        assertThat(all.notLowStock()).isEqualTo(1);
+        assertThat(all.suppliers()).isEqualTo(Map.of(acme, 2L, globex, 1L));
+        assertThat(tools.categories()).isEqualTo(Map.of("tools", 2L));
+        assertThat(tools.priceBuckets()).containsExactly(0, 1, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Should replace the supplier links of written products")
+    void shouldReplaceSupplierLinksOfWrittenProducts() {
+        Supplier supplier = new Supplier();
+        supplier.setId(globex);
+        Product relinkedHammer = product(hammer.id, "19.99", 40, 10, "tools");
+        relinkedHammer.setSuppliers(Set.of(supplier));
+        index.productWritten(relinkedHammer);
+        index.productWritten(product(drill.id, "89.50", 4, 5, "tools"));
+
+        assertThat(index.match(criteria(null, null, null, null, null, false), List.of()).orElseThrow().facets().suppliers())
+                .isEqualTo(Map.of(globex, 1L));
+    }
+
+    @Test
+    @DisplayName("Should ignore writes older than the indexed version")
+    void shouldIgnoreWritesOlderThanIndexedVersion() {
+        index.productWritten(product(hammer.id, 3, "19.99", 3, 10, "tools"));
+        index.productWritten(product(hammer.id, 2, "19.99", 50, 10, "tools"));
+        UUID saw = UUID.randomUUID();
+        index.productRemoved(product(saw, 2, "12.00", 1, 2, "tools"));
+        index.productWritten(product(saw, 1, "12.00", 1, 2, "tools"));
+
+        assertThat(index.match(criteria("tools", null, null, null, null, true)).orElseThrow().ids())
+                .containsExactly(hammer.id, drill.id);
+    }
+
+    @Test
+    @DisplayName("Should replay writes committed while a reload reads the database")
+    void shouldReplayWritesCommittedDuringReload() {
+        UUID saw = UUID.randomUUID();
+        given(productRepository.streamActiveFilterRows()).willAnswer(invocation -> {
+            index.productWritten(product(saw, "12.00", 1, 2, "tools"));
+            index.productRemoved(product(lamp.id, "20.00", 0, 0, "lighting"));
+            return Stream.of(hammer, drill, lamp);
+        });
+        given(productRepository.streamActiveSupplierLinks()).willReturn(Stream.of());
+
+        index.reload();
+
+        assertThat(index.match(criteria(null, null, null, null, null, true)).orElseThrow().ids())
+                .containsExactly(drill.id, saw);
+    }
+
+    private static ProductSearchCriteria criteria(String category, String minPrice, String maxPrice,
+                                                  Integer minStock, Integer maxStock, boolean lowStock) {
+        return ProductSearchCriteria.of(null, category, null, null,
+                minPrice != null ? new BigDecimal(minPrice) : null, maxPrice != null ? new BigDecimal(maxPrice) : null,
+                minStock, maxStock, lowStock);
+    }
+
+    private static Product product(UUID id, String price, int stock, int minStock, String category) {
+        return product(id, 1, price, stock, minStock, category);
+    }
+
+    private static Product product(UUID id, long version, String price, int stock, int minStock, String category) {
+        Product product = new Product();
+        product.setId(id);
+        ReflectionTestUtils.setField(product, "version", version);
+        product.setPrice(new BigDecimal(price));
+        product.setStockQuantity(stock);
+        product.setMinStockLevel(minStock);
+        product.setCategory(category);
+        return product;
+    }
+
+    private record Link(UUID productId, UUID supplierId) implements ProductSupplierLink {
+
+        @Override
+        public UUID getProductId() {
+            return productId;
+        }
+
+        @Override
+        public UUID getSupplierId() {
+            return supplierId;
+        }
+    }
+
+    private record Row(UUID id, BigDecimal price, Integer stockQuantity, Integer minStockLevel, String category)
+            implements ProductFilterRow {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Long getVersion() {
+            return 0L;
+        }
+
+        @Override
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        @Override
+        public Integer getStockQuantity() {
+            return stockQuantity;
+        }
+
+        @Override
+        public Integer getMinStockLevel() {
+            return minStockLevel;
+        }
+
+        @Override
+        public String getCategory() {
+            return category;
+        }
+    }
+}
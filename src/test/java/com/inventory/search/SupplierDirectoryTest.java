@@ -0,0 +1,185 @@
+package com.inventory.search;
+
+import com.inventory.dto.response.SupplierResponse;
+import com.inventory.entity.Address;
+import com.inventory.entity.Supplier;
+import com.inventory.enums.CountMode;
+import com.inventory.enums.SupplierStatus;
+import com.inventory.enums.SupplierType;
+import com.inventory.mapper.SupplierMapperImpl;
+import com.inventory.repository.SupplierRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SupplierDirectory Tests")
+class SupplierDirectoryTest {
+
+    @Mock
+    private SupplierRepository supplierRepository;
+
+    private SupplierDirectory directory;
+
+    private Supplier acme;
+    private Supplier globex;
+    private Supplier initech;
+
+    @BeforeEach
+    void setUp() {
+        acme = supplier("Acme Tools", "sales@acme.com", "Springfield", "usa", "4.80", 3, SupplierType.DOMESTIC);
+        globex = supplier("Globex Corporation", "info@globex.com", "Cypress Creek", "USA", "3.25", 14, SupplierType.INTERNATIONAL);
+        initech = supplier("Initech", "contact@initech.com", "Austin", "USA", null, 7, SupplierType.DOMESTIC);
+        given(supplierRepository.findAllByActiveTrue()).willReturn(List.of(acme, globex, initech));
+        directory = new SupplierDirectory(supplierRepository, new SupplierMapperImpl(), true);
+        directory.load();
+    }
+
+    @Test
+    @DisplayName("Should match case-insensitive substrings through the trigram index and by scan")
+    void shouldMatchCaseInsensitiveSubstrings() {
+        assertThat(names(search(SupplierSearchCriteria.of("CORP", null, null, null, null, null, null, null, null, null))))
+                .containsExactly("Globex Corporation");
+        assertThat(names(search(SupplierSearchCriteria.of("ni", null, null, null, null, null, null, null, null, null))))
+                .containsExactly("Initech");
+        assertThat(names(search(SupplierSearchCriteria.of(null, "@acme", "spring", "US", null, null, null, null, null, null))))
+                .isEmpty();
+        assertThat(names(search(SupplierSearchCriteria.of(null, "@acme", "spring", "USA", null, null, null, null, null, null))))
+                .containsExactly("Acme Tools");
+    }
+
+    @Test
+    @DisplayName("Should apply rating and delivery day ranges like the database")
+    void shouldApplyRatingAndDeliveryDayRanges() {
+        assertThat(names(search(SupplierSearchCriteria.of(null, null, null, null, null, null,
+                new BigDecimal("3.25"), null, null, 10)))).containsExactly("Acme Tools");
+        assertThat(names(search(SupplierSearchCriteria.of(null, null, null, null, null, null,
+                null, new BigDecimal("3.251"), null, null)))).containsExactly("Globex Corporation");
+        assertThat(names(search(SupplierSearchCriteria.of(null, null, null, null, SupplierStatus.ACTIVE,
+                SupplierType.DOMESTIC, null, null, 5, null)))).containsExactly("Initech");
+    }
+
+    @Test
+    @DisplayName("Should sort and page in memory")
+    void shouldSortAndPageInMemory() {
+        SupplierSearchCriteria all = SupplierSearchCriteria.of(null, null, null, null, null, null, null, null, null, null);
+
+        Page<SupplierResponse> first = directory.search(all, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "rating")))
+                .orElseThrow();
+        Slice<SupplierResponse> second = directory.search(all, PageRequest.of(1, 2, Sort.by("averageDeliveryDays")), CountMode.NONE)
+                .orElseThrow();
+
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(names(first)).containsExactly("Initech", "Acme Tools");
+        assertThat(second).isNotInstanceOf(Page.class);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(names(second)).containsExactly("Globex Corporation");
+    }
+
+    @Test
+    @DisplayName("Should select the top rows of large results without sorting all of them")
+    void shouldSelectTopRowsOfLargeResults() {
+        List<Supplier> suppliers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            suppliers.add(supplier("Bulk " + i, "bulk" + i + "@example.com", "Bulkville", "USA", null, i % 10, SupplierType.DOMESTIC));
+        }
+        given(supplierRepository.findAllByActiveTrue()).willReturn(suppliers);
+        directory.load();
+
+        Page<SupplierResponse> page = directory.search(
+                SupplierSearchCriteria.of("bulk", null, null, null, null, null, null, null, null, null),
+                PageRequest.of(1, 3, Sort.by(Sort.Direction.DESC, "averageDeliveryDays"))).orElseThrow();
+
+        assertThat(names(page)).containsExactly("Bulk 39", "Bulk 49", "Bulk 59");
+        assertThat(page.getTotalElements()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should publish writes and drop inactive suppliers")
+    void shouldPublishWritesAndDropInactiveSuppliers() {
+        acme.setName("Acme Hardware");
+        directory.supplierWritten(acme);
+        globex.softDelete();
+        directory.supplierWritten(globex);
+        Supplier hooli = supplier("Hooli", "hi@hooli.com", "Palo Alto", "USA", "4.00", 2, SupplierType.DOMESTIC);
+        directory.supplierWritten(hooli);
+        directory.supplierRemoved(initech);
+
+        SupplierSearchCriteria all = SupplierSearchCriteria.of(null, null, null, null, null, null, null, null, null, null);
+        assertThat(names(search(all))).containsExactly("Acme Hardware", "Hooli");
+        assertThat(names(search(SupplierSearchCriteria.of("tools", null, null, null, null, null, null, null, null, null))))
+                .isEmpty();
+        assertThat(directory.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should ignore writes older than the last applied version")
+    void shouldIgnoreWritesOlderThanLastAppliedVersion() {
+        ReflectionTestUtils.setField(acme, "version", 2L);
+        acme.setName("Acme Hardware");
+        directory.supplierWritten(acme);
+        ReflectionTestUtils.setField(acme, "version", 1L);
+        acme.setName("Acme Tools");
+        directory.supplierWritten(acme);
+        Supplier hooli = supplier("Hooli", "hi@hooli.com", "Palo Alto", "USA", "4.00", 2, SupplierType.DOMESTIC);
+        ReflectionTestUtils.setField(hooli, "version", 1L);
+        directory.supplierRemoved(hooli);
+        ReflectionTestUtils.setField(hooli, "version", 0L);
+        directory.supplierWritten(hooli);
+
+        SupplierSearchCriteria all = SupplierSearchCriteria.of(null, null, null, null, null, null, null, null, null, null);
+        assertThat(names(search(all))).containsExactly("Acme Hardware", "Globex Corporation", "Initech");
+    }
+
+    @Test
+    @DisplayName("Should leave searches it cannot answer exactly to the database")
+    void shouldLeaveSearchesItCannotAnswerExactlyToTheDatabase() {
+        SupplierSearchCriteria all = SupplierSearchCriteria.of(null, null, null, null, null, null, null, null, null, null);
+
+        assertThat(directory.search(all, PageRequest.of(0, 10, Sort.by("name")))).isEmpty();
+        assertThat(directory.search(SupplierSearchCriteria.of("a_c", null, null, null, null, null, null, null, null, null),
+                PageRequest.of(0, 10))).isEmpty();
+        assertThat(new SupplierDirectory(supplierRepository, new SupplierMapperImpl(), false).search(all, PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+
+    private Page<SupplierResponse> search(SupplierSearchCriteria criteria) {
+        Pageable pageable = PageRequest.of(0, 10);
+        return directory.search(criteria, pageable).orElseThrow();
+    }
+
+    private static List<String> names(Slice<SupplierResponse> slice) {
+        return slice.getContent().stream().map(SupplierResponse::name).toList();
+    }
+
+    private static Supplier supplier(String name, String email, String city, String country, String rating,
+                                     Integer deliveryDays, SupplierType type) {
+        Supplier supplier = new Supplier();
+        supplier.setId(UUID.randomUUID());
+        supplier.setName(name);
+        supplier.setEmail(email);
+        supplier.setPhone("+1-555-0100");
+        supplier.setAddress(new Address("1 Main St", city, null, null, country));
+        supplier.setAverageDeliveryDays(deliveryDays);
+        supplier.setSupplierType(type);
+        supplier.setRating(rating != null ? new BigDecimal(rating) : null);
+        return supplier;
+    }
+}
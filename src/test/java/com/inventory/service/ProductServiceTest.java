@@ -1,20 +1,35 @@
 package com.inventory.service;
 
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.inventory.cache.EntityTagIndex;
+import com.inventory.cache.ProductPayloadCache;
+import com.inventory.cache.ProductSearchCache;
 import com.inventory.dto.request.CreateProductRequest;
 import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.request.ProductLookupRequest;
 import com.inventory.dto.request.UpdateProductRequest;
+import com.inventory.dto.response.ProductLookupResponse;
 import com.inventory.dto.response.ProductResponse;
 import com.inventory.entity.Product;
 import com.inventory.entity.Supplier;
+import com.inventory.enums.CountMode;
 import com.inventory.enums.MovementReason;
 import com.inventory.enums.MovementType;
+import com.inventory.event.ProductChangedEvent;
 import com.inventory.exception.DuplicateSkuException;
 import com.inventory.exception.InvalidStockLevelException;
+import com.inventory.exception.PreconditionFailedException;
 import com.inventory.exception.ProductHasStockException;
 import com.inventory.exception.ProductNotFoundException;
 import com.inventory.exception.SupplierNotFoundException;
 import com.inventory.mapper.ProductMapper;
+import com.inventory.metrics.InventoryMetrics;
+import com.inventory.pagination.PageLoader;
+import com.inventory.pagination.RowCountEstimator;
 import com.inventory.repository.ProductRepository;
+import com.inventory.search.ProductFacetQueries;
+import com.inventory.search.ProductFilterIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,16 +38,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +62,7 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService Tests")
@@ -58,11 +80,31 @@ class ProductServiceTest {
     @Mock
     private SupplierService supplierService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RowCountEstimator rowCountEstimator;
+
+    @Mock
+    private ProductFacetQueries productFacetQueries;
+
+    private EntityTagIndex entityTagIndex;
+
+    private ProductSearchCache productSearchCache;
+
     private ProductService productService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        productService = new ProductService(productRepository, productMapper, stockMovementService, supplierService);
+        meterRegistry = new SimpleMeterRegistry();
+        entityTagIndex = new EntityTagIndex(1000);
+        productSearchCache = new ProductSearchCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+        productService = new ProductService(productRepository, productMapper, stockMovementService, supplierService,
+                entityTagIndex, new ProductPayloadCache(JsonMapper.builder().findAndAddModules().build(), true, false, 1 << 20),
+                productSearchCache, new ProductFilterIndex(productRepository, false, 1000), productFacetQueries, new PageLoader(rowCountEstimator, 1), new InventoryMetrics(meterRegistry), eventPublisher);
     }
 
     @Nested
@@ -98,6 +140,7 @@ class ProductServiceTest {
             then(supplierService).should().getSupplierEntityById(supplierId);
             then(productMapper).should().toEntity(request);
             then(productRepository).should().save(product);
+            then(stockMovementService).should().seedStock(product);
             then(stockMovementService).should().createStockMovement(any(CreateStockMovementRequest.class));
             then(productMapper).should().toResponse(product);
         }
@@ -121,6 +164,8 @@ class ProductServiceTest {
             then(productRepository).should().existsBySkuAndActiveTrue(request.sku());
             then(productMapper).should(never()).toEntity(any());
             then(productRepository).should(never()).save(any());
+            assertThat(meterRegistry.get("inventory.rejections").tag("reason", "duplicate_sku")
+                    .counter().count()).isEqualTo(1);
         }
 
         @Test
@@ -286,9 +331,9 @@ class ProductServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             Product product = createProduct();
             ProductResponse productResponse = createProductResponse();
-            Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
 
-            given(productRepository.findByActiveTrue(pageable)).willReturn(productPage);
+            given(productRepository.findSliceByActiveTrue(pageable)).willReturn(new SliceImpl<>(List.of(product), pageable, true));
+            given(productRepository.countByActiveTrue()).willReturn(11L);
             given(productMapper.toResponse(product)).willReturn(productResponse);
 
             // When
@@ -296,9 +341,50 @@ class ProductServiceTest {
 
             // Then
             assertThat(result.getContent()).containsExactly(productResponse);
-            assertThat(result.getTotalElements()).isEqualTo(1);
-            assertThat(result.getTotalPages()).isEqualTo(1);
-            then(productRepository).should().findByActiveTrue(pageable);
+            assertThat(result.getTotalElements()).isEqualTo(11);
+            assertThat(result.getTotalPages()).isEqualTo(2);
+            then(productRepository).should().findSliceByActiveTrue(pageable);
+        }
+
+        @Test
+        @DisplayName("Should return slice without counting when count mode is NONE")
+        void shouldReturnSliceWithoutCountingWhenCountModeIsNone() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 1);
+            Product product = createProduct();
+            ProductResponse productResponse = createProductResponse();
+
+            given(productRepository.findSliceByActiveTrue(pageable)).willReturn(new SliceImpl<>(List.of(product), pageable, true));
+            given(productMapper.toResponse(product)).willReturn(productResponse);
+
+            // When
+            Slice<ProductResponse> result = productService.getAllProducts(pageable, CountMode.NONE);
+
+            // Then
+            assertThat(result).isNotInstanceOf(Page.class);
+            assertThat(result.getContent()).containsExactly(productResponse);
+            assertThat(result.hasNext()).isTrue();
+            then(productRepository).should(never()).countByActiveTrue();
+        }
+
+        @Test
+        @DisplayName("Should use planner estimate when count mode is ESTIMATED")
+        void shouldUsePlannerEstimateWhenCountModeIsEstimated() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 1);
+            Product product = createProduct();
+
+            given(rowCountEstimator.estimateActiveRows("products")).willReturn(OptionalLong.of(5000));
+            given(productRepository.findSliceByActiveTrue(pageable)).willReturn(new SliceImpl<>(List.of(product), pageable, true));
+            given(productMapper.toResponse(product)).willReturn(createProductResponse());
+
+            // When
+            Slice<ProductResponse> result = productService.getAllProducts(pageable, CountMode.ESTIMATED);
+
+            // Then
+            assertThat(result).isInstanceOfSatisfying(Page.class,
+                    page -> assertThat(page.getTotalElements()).isEqualTo(5000));
+            then(productRepository).should(never()).countByActiveTrue();
         }
     }
 
@@ -399,6 +485,42 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("lookupProducts() Tests")
+    class LookupProductsTests {
+
+        @Test
+        @DisplayName("Should return one result per requested SKU in request order with not-found markers")
+        void shouldReturnResultsInRequestOrder() {
+            // Given
+            Product first = createProduct();
+            first.setSku("SKU-A");
+            Product second = createProduct();
+            second.setSku("SKU-B");
+            ProductResponse firstResponse = createProductResponse();
+            ProductResponse secondResponse = createProductResponse();
+            ProductLookupRequest request = new ProductLookupRequest(null, List.of("SKU-B", "MISSING", "SKU-A", "SKU-B"));
+
+            given(productRepository.findActiveWithSuppliersBySkus(List.of("SKU-B", "MISSING", "SKU-A")))
+                    .willReturn(List.of(first, second));
+            given(productMapper.toResponse(first)).willReturn(firstResponse);
+            given(productMapper.toResponse(second)).willReturn(secondResponse);
+
+            // When
+            ProductLookupResponse result = productService.lookupProducts(request);
+
+            // Then
+            assertThat(result.results()).extracting(ProductLookupResponse.Result::key)
+                    .containsExactly("SKU-B", "MISSING", "SKU-A", "SKU-B");
+            assertThat(result.results()).extracting(ProductLookupResponse.Result::product)
+                    .containsExactly(secondResponse, null, firstResponse, secondResponse);
+            assertThat(result.results().get(1).found()).isFalse();
+            assertThat(result.found()).isEqualTo(3);
+            assertThat(result.notFound()).isEqualTo(1);
+            then(productMapper).should().toResponse(second);
+        }
+    }
+
     @Nested
     @DisplayName("searchProducts() Tests")
     class SearchProductsTests {
@@ -410,9 +532,8 @@ class ProductServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             Product product = createProduct();
             ProductResponse productResponse = createProductResponse();
-            Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
 
-            given(productRepository.findAll(ArgumentMatchers.<Specification<Product>>any(), eq(pageable))).willReturn(productPage);
+            givenSearchFinds(pageable, product);
             given(productMapper.toResponse(product)).willReturn(productResponse);
 
             // When
@@ -424,7 +545,7 @@ class ProductServiceTest {
 
             // Then
             assertThat(result.getContent()).containsExactly(productResponse);
-            then(productRepository).should().findAll(ArgumentMatchers.<Specification<Product>>any(), eq(pageable));
+            then(productRepository).should().findBy(ArgumentMatchers.<Specification<Product>>any(), any());
         }
 
         @Test
@@ -434,9 +555,8 @@ class ProductServiceTest {
             Pageable pageable = PageRequest.of(0, 10);
             Product product = createProduct();
             ProductResponse productResponse = createProductResponse();
-            Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
 
-            given(productRepository.findAll(ArgumentMatchers.<Specification<Product>>any(), eq(pageable))).willReturn(productPage);
+            givenSearchFinds(pageable, product);
             given(productMapper.toResponse(product)).willReturn(productResponse);
 
             // When
@@ -447,7 +567,30 @@ class ProductServiceTest {
 
             // Then
             assertThat(result.getContent()).containsExactly(productResponse);
-            then(productRepository).should().findAll(ArgumentMatchers.<Specification<Product>>any(), eq(pageable));
+            then(productRepository).should().findBy(ArgumentMatchers.<Specification<Product>>any(), any());
+        }
+
+        @Test
+        @DisplayName("Should serve equivalent searches from cache until a product changes")
+        void shouldServeEquivalentSearchesFromCacheUntilProductChanges() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Product product = createProduct();
+
+            givenSearchFinds(pageable, product);
+            given(productMapper.toResponse(product)).willReturn(createProductResponse());
+
+            // When
+            productService.searchProducts("iPhone", "electronics", null, " ",
+                    new BigDecimal("500.00"), null, null, null, false, pageable);
+            productService.searchProducts("IPHONE", "electronics", "", null,
+                    BigDecimal.valueOf(500), null, null, null, null, pageable);
+            productSearchCache.onProductChanged(new ProductChangedEvent(product.getId()));
+            productService.searchProducts("iphone", "electronics", null, null,
+                    BigDecimal.valueOf(500), null, null, null, null, pageable);
+
+            // Then
+            then(productRepository).should(times(2)).findBy(ArgumentMatchers.<Specification<Product>>any(), any());
         }
     }
 
@@ -475,7 +618,7 @@ class ProductServiceTest {
             given(productMapper.toResponse(updatedProduct)).willReturn(expectedResponse);
 
             // When
-            ProductResponse result = productService.updateProduct(id, request);
+            ProductResponse result = productService.updateProduct(id, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -503,7 +646,7 @@ class ProductServiceTest {
             given(productMapper.toResponse(updatedProduct)).willReturn(expectedResponse);
 
             // When
-            ProductResponse result = productService.updateProduct(id, request);
+            ProductResponse result = productService.updateProduct(id, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -529,13 +672,35 @@ class ProductServiceTest {
             given(productRepository.existsBySkuAndActiveTrue(request.sku())).willReturn(true);
 
             // When & Then
-            assertThatThrownBy(() -> productService.updateProduct(id, request))
+            assertThatThrownBy(() -> productService.updateProduct(id, request, tag -> true))
                     .isInstanceOf(DuplicateSkuException.class);
 
             then(productRepository).should().findById(id);
             then(productRepository).should().existsBySkuAndActiveTrue(request.sku());
             then(productRepository).should(never()).save(any());
         }
+
+        @Test
+        @DisplayName("Should throw PreconditionFailedException when the precondition rejects the current ETag")
+        void shouldThrowPreconditionFailedExceptionWhenTagIsStale() {
+            // Given
+            UUID id = UUID.randomUUID();
+            UpdateProductRequest request = new UpdateProductRequest(
+                    "iPhone 15 Pro", "Updated iPhone", "IPHONE15",
+                    BigDecimal.valueOf(1199.99), 8, "electronics"
+            );
+            Product existingProduct = createProduct();
+            ReflectionTestUtils.setField(existingProduct, "version", 4L);
+
+            given(productRepository.findById(id)).willReturn(Optional.of(existingProduct));
+
+            // When & Then
+            assertThatThrownBy(() -> productService.updateProduct(id, request, "3.0"::equals))
+                    .isInstanceOf(PreconditionFailedException.class);
+
+            then(productMapper).should(never()).updateProductFromRequest(any(), any());
+            then(productRepository).should(never()).save(any());
+        }
     }
 
     @Nested
@@ -633,7 +798,7 @@ class ProductServiceTest {
             supplier2.setId(supplier2Id);
 
             Product updatedProduct = createProduct();
-            updatedProduct.setSuppliers(List.of(supplier1, supplier2));
+            updatedProduct.setSuppliers(Set.of(supplier1, supplier2));
             ProductResponse expectedResponse = createProductResponse();
 
             given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
@@ -654,6 +819,34 @@ class ProductServiceTest {
             then(productMapper).should().toResponse(updatedProduct);
         }
 
+        @Test
+        @DisplayName("Should update the product's supplier set in place")
+        void shouldUpdateSupplierSetInPlace() {
+            // Given
+            UUID productId = UUID.randomUUID();
+            Supplier kept = createSupplier();
+            kept.setId(UUID.randomUUID());
+            Supplier removed = createSupplier();
+            removed.setId(UUID.randomUUID());
+            Supplier added = createSupplier();
+            added.setId(UUID.randomUUID());
+
+            Product existingProduct = createProduct();
+            existingProduct.getSuppliers().addAll(List.of(kept, removed));
+            Set<Supplier> links = existingProduct.getSuppliers();
+
+            given(productRepository.findById(productId)).willReturn(Optional.of(existingProduct));
+            given(supplierService.getSupplierEntityById(kept.getId())).willReturn(kept);
+            given(supplierService.getSupplierEntityById(added.getId())).willReturn(added);
+            given(productRepository.save(existingProduct)).willReturn(existingProduct);
+
+            // When
+            productService.updateProductSuppliers(productId, List.of(kept.getId(), added.getId()));
+
+            // Then
+            assertThat(existingProduct.getSuppliers()).isSameAs(links).containsExactly(kept, added);
+        }
+
         @Test
         @DisplayName("Should throw ProductNotFoundException when product not found")
         void shouldThrowProductNotFoundExceptionWhenProductNotFound() {
@@ -758,6 +951,77 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Entity tag Tests")
+    class EntityTagTests {
+
+        @Test
+        @DisplayName("Should index product tag from product and supplier versions when loaded")
+        void shouldIndexProductTagWhenLoaded() {
+            // Given
+            Product product = createProduct();
+            Supplier supplier = createSupplier();
+            ReflectionTestUtils.setField(product, "version", 3L);
+            ReflectionTestUtils.setField(supplier, "version", 2L);
+            product.setSuppliers(Set.of(supplier));
+
+            given(productRepository.findById(product.getId())).willReturn(Optional.of(product));
+            given(productMapper.toResponse(product)).willReturn(createProductResponse());
+
+            // When
+            productService.getProductById(product.getId());
+
+            // Then
+            assertThat(productService.findProductTag(product.getId())).contains("3.2");
+            assertThat(productService.findProductTagBySku(product.getSku())).contains("3.2");
+            assertThat(productService.findProductPayload(product.getId()))
+                    .hasValueSatisfying(payload -> assertThat(payload.tag()).isEqualTo("3.2"));
+        }
+
+        @Test
+        @DisplayName("Should resolve tag from index without querying the repository")
+        void shouldResolveTagFromIndexWithoutQueryingRepository() {
+            // Given
+            Product product = createProduct();
+            ReflectionTestUtils.setField(product, "version", 1L);
+            entityTagIndex.putProduct(entityTagIndex.stamp(), product);
+
+            // When
+            Optional<String> tag = productService.resolveProductTag(product.getId());
+
+            // Then
+            assertThat(tag).contains("1.0");
+            then(productRepository).should(never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Should publish ProductChangedEvent when product is updated")
+        void shouldPublishProductChangedEventWhenUpdated() {
+            // Given
+            UUID id = UUID.randomUUID();
+            UpdateProductRequest request = new UpdateProductRequest(
+                    "iPhone 15", "Latest iPhone", "IPHONE15",
+                    BigDecimal.valueOf(999.99), 5, "electronics"
+            );
+            Product product = createProduct();
+
+            given(productRepository.findById(id)).willReturn(Optional.of(product));
+            given(productRepository.save(product)).willReturn(product);
+
+            // When
+            productService.updateProduct(id, request, tag -> true);
+
+            // Then
+            then(eventPublisher).should().publishEvent(new ProductChangedEvent(id));
+        }
+    }
+
+    // Search content comes from a fluent slice query; a last page needs no count
+    private void givenSearchFinds(Pageable pageable, Product... products) {
+        given(productRepository.findBy(ArgumentMatchers.<Specification<Product>>any(), any()))
+                .willReturn(new SliceImpl<>(List.of(products), pageable, false));
+    }
+
     private Product createProduct() {
         return createProduct(10);
     }
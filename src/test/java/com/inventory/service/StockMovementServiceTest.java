@@ -1,40 +1,69 @@
 package com.inventory.service;
 
 import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.dto.response.MovementSeriesResponse;
 import com.inventory.dto.response.StockMovementResponse;
+import com.inventory.entity.Location;
+import com.inventory.entity.MovementRollup;
+import com.inventory.entity.MovementRollupId;
 import com.inventory.entity.Product;
+import com.inventory.entity.ProductStock;
+import com.inventory.entity.ProductStockId;
 import com.inventory.entity.StockMovement;
 import com.inventory.enums.MovementReason;
 import com.inventory.enums.MovementType;
+import com.inventory.enums.RollupGranularity;
 import com.inventory.exception.InsufficientStockException;
+import com.inventory.exception.InvalidDateRangeException;
+import com.inventory.exception.LocationNotFoundException;
 import com.inventory.exception.ProductNotFoundException;
+import com.inventory.location.LocationResolver;
+import com.inventory.location.StockAggregator;
 import com.inventory.mapper.StockMovementMapper;
+import com.inventory.metrics.InventoryMetrics;
+import com.inventory.pagination.PageLoader;
+import com.inventory.pagination.RowCountEstimator;
+import com.inventory.repository.MovementRollupRepository;
 import com.inventory.repository.ProductRepository;
+import com.inventory.repository.ProductStockRepository;
 import com.inventory.repository.StockMovementRepository;
+import com.inventory.rollup.MovementRollupRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("StockMovementService Tests")
@@ -49,11 +78,34 @@ class StockMovementServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private MovementRollupRecorder movementRollupRecorder;
+
+    @Mock
+    private MovementRollupRepository movementRollupRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    @Mock
+    private StockAggregator stockAggregator;
+
+    private final Location mainLocation = createLocation("MAIN");
+
+    private SimpleMeterRegistry meterRegistry;
+
     private StockMovementService stockMovementService;
 
     @BeforeEach
     void setUp() {
-        stockMovementService = new StockMovementService(stockMovementRepository, stockMovementMapper, productRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        stockMovementService = new StockMovementService(stockMovementRepository, stockMovementMapper, productRepository,
+                new PageLoader(mock(RowCountEstimator.class), 1), new InventoryMetrics(meterRegistry),
+                movementRollupRecorder, movementRollupRepository, productStockRepository, locationResolver, stockAggregator,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
     }
 
     @Nested
@@ -121,7 +173,7 @@ class StockMovementServiceTest {
             StockMovementResponse outResponse = createStockMovementResponse();
             outResponse = new StockMovementResponse(
                     outResponse.id(), outResponse.productId(), outResponse.productSku(),
-                    outResponse.productName(), MovementType.OUT, outResponse.quantity(),
+                    outResponse.productName(), outResponse.locationId(), outResponse.locationCode(), MovementType.OUT, outResponse.quantity(),
                     outResponse.previousStock(), outResponse.newStock(), MovementReason.SALE,
                     outResponse.reference(), outResponse.notes(), outResponse.createdBy(),
                     outResponse.createdAt()
@@ -231,7 +283,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -239,11 +291,17 @@ class StockMovementServiceTest {
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
-            assertThat(product.getStockQuantity()).isEqualTo(25);
+            assertThat(stock.getQuantity()).isEqualTo(25);
             then(productRepository).should().findById(productId);
-            then(productRepository).should().save(product);
+            then(stockAggregator).should().enqueue(productId, List.of(savedMovement));
+            then(stockAggregator).should().refresh(productId);
             then(stockMovementRepository).should().save(any(StockMovement.class));
             then(stockMovementMapper).should().toResponse(savedMovement);
+            then(movementRollupRecorder).should().record(List.of(savedMovement));
+            assertThat(meterRegistry.get("inventory.stock.movements").tag("type", "IN").tag("reason", "PURCHASE")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("inventory.stock.units").tag("type", "IN").tag("reason", "PURCHASE")
+                    .counter().count()).isEqualTo(10);
         }
 
         @Test
@@ -262,7 +320,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -270,9 +328,10 @@ class StockMovementServiceTest {
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
-            assertThat(product.getStockQuantity()).isEqualTo(15);
+            assertThat(stock.getQuantity()).isEqualTo(15);
             then(productRepository).should().findById(productId);
-            then(productRepository).should().save(product);
+            then(stockAggregator).should().enqueue(productId, List.of(savedMovement));
+            then(stockAggregator).should().refresh(productId);
             then(stockMovementRepository).should().save(any(StockMovement.class));
             then(stockMovementMapper).should().toResponse(savedMovement);
         }
@@ -293,7 +352,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -301,9 +360,10 @@ class StockMovementServiceTest {
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
-            assertThat(product.getStockQuantity()).isEqualTo(10);
+            assertThat(stock.getQuantity()).isEqualTo(10);
             then(productRepository).should().findById(productId);
-            then(productRepository).should().save(product);
+            then(stockAggregator).should().enqueue(productId, List.of(savedMovement));
+            then(stockAggregator).should().refresh(productId);
             then(stockMovementRepository).should().save(any(StockMovement.class));
         }
 
@@ -325,7 +385,7 @@ class StockMovementServiceTest {
 
             then(productRepository).should().findById(productId);
             then(stockMovementRepository).should(never()).save(any());
-            then(productRepository).should(never()).save(any());
+            then(stockAggregator).shouldHaveNoInteractions();
             then(stockMovementMapper).should(never()).toResponse(any());
         }
 
@@ -350,7 +410,7 @@ class StockMovementServiceTest {
 
             then(productRepository).should().findById(productId);
             then(stockMovementRepository).should(never()).save(any());
-            then(productRepository).should(never()).save(any());
+            then(stockAggregator).shouldHaveNoInteractions();
             then(stockMovementMapper).should(never()).toResponse(any());
         }
 
@@ -368,6 +428,7 @@ class StockMovementServiceTest {
             product.setSku("TEST-PRODUCT");
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            ProductStock stock = givenStock(product, mainLocation);
 
             // When & Then
             assertThatThrownBy(() -> stockMovementService.createStockMovement(request))
@@ -378,8 +439,13 @@ class StockMovementServiceTest {
 
             then(productRepository).should().findById(productId);
             then(stockMovementRepository).should(never()).save(any());
-            then(productRepository).should(never()).save(any());
+            then(stockAggregator).shouldHaveNoInteractions();
             then(stockMovementMapper).should(never()).toResponse(any());
+            assertThat(meterRegistry.get("inventory.rejections").tag("reason", "insufficient_stock")
+                    .counter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("inventory.stock.movements").tag("type", "OUT").tag("reason", "SALE")
+                    .counter().count()).isZero();
+            assertThat(stock.getQuantity()).isEqualTo(10);
         }
 
         @Test
@@ -396,6 +462,7 @@ class StockMovementServiceTest {
             product.setSku("ZERO-STOCK");
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            givenStock(product, mainLocation);
 
             // When & Then
             assertThatThrownBy(() -> stockMovementService.createStockMovement(request))
@@ -406,7 +473,7 @@ class StockMovementServiceTest {
 
             then(productRepository).should().findById(productId);
             then(stockMovementRepository).should(never()).save(any());
-            then(productRepository).should(never()).save(any());
+            then(stockAggregator).shouldHaveNoInteractions();
         }
 
         @Test
@@ -425,7 +492,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -433,9 +500,10 @@ class StockMovementServiceTest {
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
-            assertThat(product.getStockQuantity()).isEqualTo(0);
+            assertThat(stock.getQuantity()).isEqualTo(0);
             then(productRepository).should().findById(productId);
-            then(productRepository).should().save(product);
+            then(stockAggregator).should().enqueue(productId, List.of(savedMovement));
+            then(stockAggregator).should().refresh(productId);
             then(stockMovementRepository).should().save(any(StockMovement.class));
         }
 
@@ -456,7 +524,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -485,7 +553,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -493,7 +561,7 @@ class StockMovementServiceTest {
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
-            assertThat(product.getStockQuantity()).isEqualTo(15);
+            assertThat(stock.getQuantity()).isEqualTo(15);
             then(productRepository).should().findById(productId);
             then(stockMovementRepository).should().save(any(StockMovement.class));
         }
@@ -516,7 +584,7 @@ class StockMovementServiceTest {
 
             given(productRepository.findById(productId)).willReturn(Optional.of(product));
             given(stockMovementRepository.save(any(StockMovement.class))).willReturn(savedMovement);
-            given(productRepository.save(product)).willReturn(product);
+            ProductStock stock = givenStock(product, mainLocation);
             given(stockMovementMapper.toResponse(savedMovement)).willReturn(expectedResponse);
 
             // When
@@ -524,12 +592,194 @@ class StockMovementServiceTest {
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
-            assertThat(product.getStockQuantity()).isEqualTo(15);
+            assertThat(stock.getQuantity()).isEqualTo(15);
             then(productRepository).should().findById(productId);
             then(stockMovementRepository).should().save(any(StockMovement.class));
         }
     }
 
+    @Nested
+    @DisplayName("createStockMovements() Tests")
+    class CreateStockMovementsTests {
+
+        @Test
+        @DisplayName("Should apply a product's movements in order in one write and reject only those exceeding stock")
+        void shouldApplyMovementsInOrderAndRejectOnlyThoseExceedingStock() {
+            // Given
+            UUID productId = UUID.randomUUID();
+            Product product = createProductWithStock(10);
+            List<CreateStockMovementRequest> requests = List.of(
+                    new CreateStockMovementRequest(productId, MovementType.OUT, 8, MovementReason.SALE, null, null),
+                    new CreateStockMovementRequest(productId, MovementType.OUT, 5, MovementReason.SALE, null, null),
+                    new CreateStockMovementRequest(productId, MovementType.IN, 4, MovementReason.PURCHASE, null, null));
+            StockMovementResponse expectedResponse = createStockMovementResponse();
+
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            ProductStock stock = givenStock(product, mainLocation);
+            given(stockMovementRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+            given(stockMovementMapper.toResponse(any(StockMovement.class))).willReturn(expectedResponse);
+
+            // When
+            List<StockMovementService.MovementOutcome> outcomes = stockMovementService.createStockMovements(productId, requests);
+
+            // Then
+            assertThat(outcomes).hasSize(3);
+            assertThat(outcomes.get(0).movement()).isEqualTo(expectedResponse);
+            assertThat(outcomes.get(1).failure()).isInstanceOf(InsufficientStockException.class);
+            assertThat(outcomes.get(2).movement()).isEqualTo(expectedResponse);
+            assertThat(stock.getQuantity()).isEqualTo(6);
+            then(productStockRepository).should().lockById(productId, mainLocation.getId());
+            then(movementRollupRecorder).should().record(argThat(movements -> movements.size() == 2));
+            then(stockAggregator).should().enqueue(eq(productId), argThat(movements -> movements.size() == 2));
+            then(stockAggregator).should().refresh(productId);
+            assertThat(meterRegistry.get("inventory.stock.movements").tag("type", "OUT").tag("reason", "SALE")
+                    .counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not write anything when every movement is rejected")
+        void shouldNotWriteWhenEveryMovementIsRejected() {
+            // Given
+            UUID productId = UUID.randomUUID();
+            Product product = createProductWithStock(1);
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            givenStock(product, mainLocation);
+
+            // When
+            List<StockMovementService.MovementOutcome> outcomes = stockMovementService.createStockMovements(productId,
+                    List.of(new CreateStockMovementRequest(productId, MovementType.OUT, 2, MovementReason.SALE, null, null)));
+
+            // Then
+            assertThat(outcomes.get(0).failure()).isInstanceOf(InsufficientStockException.class);
+            then(stockMovementRepository).should(never()).saveAll(any());
+            then(movementRollupRecorder).should(never()).record(any());
+            then(stockAggregator).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("Should keep stock per location and lock each location's row once, in database order")
+        void shouldKeepStockPerLocation() {
+            // Given
+            UUID productId = UUID.randomUUID();
+            Product product = createProductWithStock(5);
+            Location north = createLocation("WH-NORTH");
+            Location south = createLocation("WH-SOUTH");
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            ProductStock northStock = givenStock(product, north);
+            ProductStock southStock = givenStock(product, south);
+            northStock.setQuantity(3);
+            southStock.setQuantity(2);
+            given(stockMovementRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+            List<CreateStockMovementRequest> requests = List.of(
+                    new CreateStockMovementRequest(productId, MovementType.OUT, 2, MovementReason.SALE, null, null, south.getId()),
+                    new CreateStockMovementRequest(productId, MovementType.OUT, 3, MovementReason.SALE, null, null, south.getId()),
+                    new CreateStockMovementRequest(productId, MovementType.OUT, 3, MovementReason.SALE, null, null, north.getId()));
+
+            // When
+            List<StockMovementService.MovementOutcome> outcomes = stockMovementService.createStockMovements(productId, requests);
+
+            // Then
+            assertThat(outcomes.get(0).failure()).isNull();
+            assertThat(outcomes.get(1).failure()).isInstanceOf(InsufficientStockException.class)
+                    .hasMessageContaining("Current stock: 0");
+            assertThat(outcomes.get(2).failure()).isNull();
+            assertThat(northStock.getQuantity()).isZero();
+            assertThat(southStock.getQuantity()).isZero();
+            InOrder locks = inOrder(productStockRepository);
+            List<UUID> lockOrder = Stream.of(north.getId(), south.getId()).sorted(Comparator.comparing(UUID::toString)).toList();
+            locks.verify(productStockRepository).lockById(productId, lockOrder.get(0));
+            locks.verify(productStockRepository).lockById(productId, lockOrder.get(1));
+            then(productStockRepository).should(times(2)).lockById(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reject only the movements naming an unknown location")
+        void shouldRejectMovementsAtUnknownLocation() {
+            // Given
+            UUID productId = UUID.randomUUID();
+            UUID unknown = UUID.randomUUID();
+            Product product = createProductWithStock(5);
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(locationResolver.resolve(unknown)).willThrow(new LocationNotFoundException(unknown));
+            givenStock(product, mainLocation);
+            given(stockMovementRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            List<StockMovementService.MovementOutcome> outcomes = stockMovementService.createStockMovements(productId, List.of(
+                    new CreateStockMovementRequest(productId, MovementType.IN, 1, MovementReason.PURCHASE, null, null, unknown),
+                    new CreateStockMovementRequest(productId, MovementType.IN, 1, MovementReason.PURCHASE, null, null)));
+
+            // Then
+            assertThat(outcomes.get(0).failure()).isInstanceOf(LocationNotFoundException.class);
+            assertThat(outcomes.get(1).failure()).isNull();
+            then(movementRollupRecorder).should().record(argThat(movements -> movements.size() == 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("getMovementSeries() Tests")
+    class GetMovementSeriesTests {
+
+        @Test
+        @DisplayName("Should sum daily rollups into whole weeks per movement type and reason")
+        void shouldSumDailyRollupsIntoWeeks() {
+            // Given
+            Product product = createProduct();
+            UUID productId = product.getId();
+            LocalDate monday = LocalDate.of(2026, 3, 2);
+            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(movementRollupRepository.findByIdProductIdAndIdDateBetween(productId, monday, monday.plusDays(13)))
+                    .willReturn(List.of(
+                            rollup(productId, monday.plusDays(1), MovementType.OUT, MovementReason.SALE, 2, 5),
+                            rollup(productId, monday.plusDays(4), MovementType.OUT, MovementReason.SALE, 1, 3),
+                            rollup(productId, monday.plusDays(4), MovementType.IN, MovementReason.PURCHASE, 1, 20),
+                            rollup(productId, monday.plusDays(8), MovementType.OUT, MovementReason.SALE, 4, 4)));
+
+            // When
+            MovementSeriesResponse series = stockMovementService.getMovementSeries(productId,
+                    monday.plusDays(2), monday.plusDays(9), RollupGranularity.WEEK);
+
+            // Then
+            assertThat(series.from()).isEqualTo(monday);
+            assertThat(series.to()).isEqualTo(monday.plusDays(13));
+            assertThat(series.points()).containsExactly(
+                    new MovementSeriesResponse.Point(monday, MovementType.IN, MovementReason.PURCHASE, 1, 20),
+                    new MovementSeriesResponse.Point(monday, MovementType.OUT, MovementReason.SALE, 3, 8),
+                    new MovementSeriesResponse.Point(monday.plusDays(7), MovementType.OUT, MovementReason.SALE, 4, 4));
+        }
+
+        @Test
+        @DisplayName("Should reject a range ending before it starts")
+        void shouldRejectInvertedRange() {
+            // Given
+            LocalDate today = LocalDate.now();
+
+            // When & Then
+            assertThatThrownBy(() -> stockMovementService.getMovementSeries(UUID.randomUUID(), today, today.minusDays(1),
+                    RollupGranularity.DAY)).isInstanceOf(InvalidDateRangeException.class);
+            then(movementRollupRepository).shouldHaveNoInteractions();
+        }
+
+        private MovementRollup rollup(UUID productId, LocalDate date, MovementType type, MovementReason reason,
+                                      long movements, long quantity) {
+            return new MovementRollup(new MovementRollupId(productId, UUID.randomUUID(), date, type, reason), movements, quantity);
+        }
+    }
+
+    private ProductStock givenStock(Product product, Location location) {
+        ProductStock stock = new ProductStock(new ProductStockId(product.getId(), location.getId()),
+                product.getStockQuantity() != null ? product.getStockQuantity() : 0, LocalDateTime.now());
+        given(locationResolver.resolve(location == mainLocation ? null : location.getId())).willReturn(location);
+        given(productStockRepository.lockById(any(UUID.class), eq(location.getId()))).willReturn(Optional.of(stock));
+        return stock;
+    }
+
+    private static Location createLocation(String code) {
+        Location location = new Location(code, code + " warehouse");
+        location.setId(UUID.randomUUID());
+        return location;
+    }
+
     private Product createProduct() {
         Product product = new Product();
         product.setId(UUID.randomUUID());
@@ -600,6 +850,8 @@ class StockMovementServiceTest {
                 UUID.randomUUID(),
                 "IPHONE15",
                 "iPhone 15",
+                mainLocation.getId(),
+                "MAIN",
                 MovementType.IN,
                 5,
                 10,
@@ -620,7 +872,7 @@ class StockMovementServiceTest {
         
         return new StockMovementResponse(
                 base.id(), base.productId(), base.productSku(), base.productName(),
-                movementType, base.quantity(), previousStock, newStock, reason,
+                base.locationId(), base.locationCode(), movementType, base.quantity(), previousStock, newStock, reason,
                 base.reference(), base.notes(), base.createdBy(), base.createdAt()
         );
     }
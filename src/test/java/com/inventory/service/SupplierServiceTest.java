@@ -1,5 +1,6 @@
 package com.inventory.service;
 
+import com.inventory.cache.EntityTagIndex;
 import com.inventory.dto.request.CreateSupplierRequest;
 import com.inventory.dto.request.UpdateSupplierRequest;
 import com.inventory.dto.response.ProductResponse;
@@ -9,11 +10,15 @@ import com.inventory.entity.Product;
 import com.inventory.entity.Supplier;
 import com.inventory.enums.SupplierStatus;
 import com.inventory.enums.SupplierType;
+import com.inventory.event.SupplierChangedEvent;
 import com.inventory.exception.DuplicateBusinessIdException;
 import com.inventory.exception.SupplierNotFoundException;
 import com.inventory.mapper.ProductMapper;
 import com.inventory.mapper.SupplierMapper;
+import com.inventory.pagination.PageLoader;
+import com.inventory.pagination.RowCountEstimator;
 import com.inventory.repository.SupplierRepository;
+import com.inventory.search.SupplierDirectory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +27,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -40,6 +46,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,11 +62,19 @@ class SupplierServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EntityTagIndex entityTagIndex;
+
     private SupplierService supplierService;
 
     @BeforeEach
     void setUp() {
-        supplierService = new SupplierService(supplierRepository, supplierMapper, productMapper);
+        entityTagIndex = new EntityTagIndex(1000);
+        supplierService = new SupplierService(supplierRepository, supplierMapper, productMapper, entityTagIndex,
+                new PageLoader(mock(RowCountEstimator.class), 1), new SupplierDirectory(supplierRepository, supplierMapper, false),
+                eventPublisher);
     }
 
     @Nested
@@ -1065,7 +1080,7 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When
-            SupplierResponse result = supplierService.updateSupplier(supplierId, request);
+            SupplierResponse result = supplierService.updateSupplier(supplierId, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -1074,6 +1089,7 @@ class SupplierServiceTest {
             then(supplierMapper).should().updateEntity(request, existingSupplier);
             then(supplierRepository).should().save(existingSupplier);
             then(supplierMapper).should().toResponse(updatedSupplier);
+            then(eventPublisher).should().publishEvent(new SupplierChangedEvent(supplierId));
         }
 
         @Test
@@ -1097,7 +1113,7 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When
-            SupplierResponse result = supplierService.updateSupplier(supplierId, request);
+            SupplierResponse result = supplierService.updateSupplier(supplierId, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -1126,7 +1142,7 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When
-            SupplierResponse result = supplierService.updateSupplier(supplierId, request);
+            SupplierResponse result = supplierService.updateSupplier(supplierId, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -1155,7 +1171,7 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When
-            SupplierResponse result = supplierService.updateSupplier(supplierId, request);
+            SupplierResponse result = supplierService.updateSupplier(supplierId, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -1184,7 +1200,7 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When
-            SupplierResponse result = supplierService.updateSupplier(supplierId, request);
+            SupplierResponse result = supplierService.updateSupplier(supplierId, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -1205,7 +1221,7 @@ class SupplierServiceTest {
             given(supplierRepository.findById(nonExistentId)).willReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> supplierService.updateSupplier(nonExistentId, request))
+            assertThatThrownBy(() -> supplierService.updateSupplier(nonExistentId, request, tag -> true))
                     .isInstanceOf(SupplierNotFoundException.class)
                     .hasMessage("Supplier not found with id: " + nonExistentId);
 
@@ -1229,7 +1245,7 @@ class SupplierServiceTest {
             given(supplierRepository.findById(supplierId)).willReturn(Optional.of(inactiveSupplier));
 
             // When & Then
-            assertThatThrownBy(() -> supplierService.updateSupplier(supplierId, request))
+            assertThatThrownBy(() -> supplierService.updateSupplier(supplierId, request, tag -> true))
                     .isInstanceOf(SupplierNotFoundException.class)
                     .hasMessage("Supplier not found with id: " + supplierId);
 
@@ -1258,7 +1274,7 @@ class SupplierServiceTest {
             given(supplierRepository.existsByBusinessIdAndActiveTrue(newBusinessId)).willReturn(true);
 
             // When & Then
-            assertThatThrownBy(() -> supplierService.updateSupplier(supplierId, request))
+            assertThatThrownBy(() -> supplierService.updateSupplier(supplierId, request, tag -> true))
                     .isInstanceOf(DuplicateBusinessIdException.class)
                     .hasMessage("Supplier with Business ID 'NEW-BUS-ID' already exists");
 
@@ -1290,7 +1306,7 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When
-            SupplierResponse result = supplierService.updateSupplier(supplierId, request);
+            SupplierResponse result = supplierService.updateSupplier(supplierId, request, tag -> true);
 
             // Then
             assertThat(result).isEqualTo(expectedResponse);
@@ -1311,7 +1327,7 @@ class SupplierServiceTest {
             given(supplierRepository.findById(supplierId)).willReturn(Optional.empty());
 
             // When & Then
-            assertThatThrownBy(() -> supplierService.updateSupplier(supplierId, request))
+            assertThatThrownBy(() -> supplierService.updateSupplier(supplierId, request, tag -> true))
                     .isInstanceOf(SupplierNotFoundException.class)
                     .hasMessage("Supplier not found with id: 123e4567-e89b-12d3-a456-426614174000");
         }
@@ -1340,13 +1356,13 @@ class SupplierServiceTest {
             given(supplierMapper.toResponse(updatedSupplier)).willReturn(expectedResponse);
 
             // When - Valid business ID should check existence
-            supplierService.updateSupplier(supplierId, requestWithValidId);
+            supplierService.updateSupplier(supplierId, requestWithValidId, tag -> true);
             // When - Null business ID should not check existence
-            supplierService.updateSupplier(supplierId, requestWithNullId);
+            supplierService.updateSupplier(supplierId, requestWithNullId, tag -> true);
             // When - Empty business ID should not check existence
-            supplierService.updateSupplier(supplierId, requestWithEmptyId);
+            supplierService.updateSupplier(supplierId, requestWithEmptyId, tag -> true);
             // When - Whitespace business ID should not check existence
-            supplierService.updateSupplier(supplierId, requestWithWhitespaceId);
+            supplierService.updateSupplier(supplierId, requestWithWhitespaceId, tag -> true);
 
             // Then - Only valid business ID should trigger existence check
             then(supplierRepository).should().existsByBusinessIdAndActiveTrue("NEW-BUS-ID");
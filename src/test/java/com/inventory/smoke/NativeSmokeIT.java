@@ -0,0 +1,194 @@
+package com.inventory.smoke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.dto.request.CreateProductRequest;
+import com.inventory.dto.request.CreateStockMovementRequest;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.integration.fixtures.SupplierTestFactory;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * Smoke tests against the native executable ({@code -Dnative.binary=...}, set by the native
+ * profile) running on an in-memory H2 database. Writes a footprint report next to the binary.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class NativeSmokeIT {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Path binary;
+    private Process process;
+    private String baseUrl;
+    private long startupMillis;
+    private UUID productId;
+
+    @BeforeAll
+    void startBinary() throws Exception {
+        String property = System.getProperty("native.binary");
+        assumeThat(property).as("native.binary").isNotBlank();
+        binary = Path.of(property);
+        assumeThat(Files.isExecutable(binary)).as("%s is executable", binary).isTrue();
+
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        List<String> command = new ArrayList<>(List.of(binary.toString(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:smoke;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"));
+        long started = System.nanoTime();
+        process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(binary.resolveSibling("native-smoke.log").toFile())
+                .start();
+
+        long deadline = started + STARTUP_TIMEOUT.toNanos();
+        while (true) {
+            assertThat(process.isAlive()).as("application exited during startup, see native-smoke.log").isTrue();
+            assertThat(System.nanoTime()).as("application ready within %s", STARTUP_TIMEOUT).isLessThan(deadline);
+            try {
+                if (get("/actuator/health").statusCode() == 200) {
+                    break;
+                }
+            } catch (IOException notListeningYet) {
+                // Retry until the port is open
+            }
+            Thread.sleep(10);
+        }
+        startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+    }
+
+    @AfterAll
+    void stopBinaryAndReport() throws Exception {
+        if (process == null) {
+            return;
+        }
+        long rssKb = residentSetKb(process.pid());
+        process.destroy();
+        process.waitFor(10, TimeUnit.SECONDS);
+
+        String report = String.format("""
+                        # Native image footprint
+
+                        | Metric | Value |
+                        |---|---|
+                        | Binary size | %.1f MB |
+                        | Start to first healthy response | %d ms |
+                        | Resident memory after smoke tests | %.1f MB |
+                        """,
+                Files.size(binary) / 1024.0 / 1024.0, startupMillis, rssKb / 1024.0);
+        Files.writeString(binary.resolveSibling("native-footprint.md"), report);
+        System.out.print(report);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should create a supplier and a product linked to it")
+    void shouldCreateSupplierAndProduct() throws Exception {
+        HttpResponse<String> supplier = post("/api/v1/suppliers", SupplierTestFactory.validSupplierRequest());
+        assertThat(supplier.statusCode()).isEqualTo(201);
+        UUID supplierId = UUID.fromString(objectMapper.readTree(supplier.body()).path("id").asText());
+
+        HttpResponse<String> product = post("/api/v1/products", new CreateProductRequest("Smoke Product", "Native smoke test",
+                "SMOKE-1", new BigDecimal("19.90"), 10, 2, "Smoke", List.of(supplierId)));
+        assertThat(product.statusCode()).isEqualTo(201);
+        JsonNode body = objectMapper.readTree(product.body());
+        productId = UUID.fromString(body.path("id").asText());
+        assertThat(body.path("suppliers").path(0).path("address").path("city").asText()).isEqualTo("Test City");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should record a stock movement and reflect it in the product")
+    void shouldRecordStockMovement() throws Exception {
+        HttpResponse<String> movement = post("/api/v1/stock-movements",
+                new CreateStockMovementRequest(productId, MovementType.OUT, 3, MovementReason.SALE, null, null));
+        assertThat(movement.statusCode()).isEqualTo(201);
+
+        JsonNode product = objectMapper.readTree(get("/api/v1/products/" + productId).body());
+        assertThat(product.path("stockQuantity").asInt()).isEqualTo(7);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should search with specifications and count facets")
+    void shouldSearchAndCountFacets() throws Exception {
+        JsonNode search = objectMapper.readTree(get("/api/v1/products/search?sku=smoke&minPrice=10").body());
+        assertThat(search.path("content").path(0).path("id").asText()).isEqualTo(productId.toString());
+
+        JsonNode facets = objectMapper.readTree(get("/api/v1/products/search/faceted?category=Smoke").body());
+        assertThat(facets.path("facets").path("categories").path(0).path("count").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should serve the OpenAPI document and metrics")
+    void shouldServeApiDocsAndMetrics() throws Exception {
+        HttpResponse<String> apiDocs = get("/api-docs");
+        assertThat(apiDocs.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(apiDocs.body()).path("paths").has("/api/v1/products")).isTrue();
+
+        HttpResponse<String> prometheus = get("/actuator/prometheus");
+        assertThat(prometheus.statusCode()).isEqualTo(200);
+        assertThat(prometheus.body()).contains("inventory_stock_movements");
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, Object body) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long residentSetKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.replaceAll("\\D", ""))
+                .mapToLong(Long::parseLong)
+                .findFirst()
+                .orElse(0);
+    }
+}
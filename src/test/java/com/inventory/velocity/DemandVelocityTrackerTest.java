@@ -0,0 +1,127 @@
+package com.inventory.velocity;
+
+import com.inventory.entity.DemandVelocity;
+import com.inventory.entity.Product;
+import com.inventory.entity.StockMovement;
+import com.inventory.enums.MovementReason;
+import com.inventory.enums.MovementType;
+import com.inventory.repository.DemandVelocityRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DemandVelocityTracker Tests")
+class DemandVelocityTrackerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private DemandVelocityRepository demandVelocityRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private DemandVelocityTracker tracker;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new DemandVelocityTracker(demandVelocityRepository, entityManager, 14);
+        product = new Product();
+        product.setId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should start tracking a product on its first sale")
+    void shouldStartTrackingOnFirstSale() {
+        given(demandVelocityRepository.findById(product.getId())).willReturn(Optional.empty());
+
+        tracker.record(List.of(movement(MovementType.OUT, MovementReason.SALE, 10, START)));
+
+        ArgumentCaptor<DemandVelocity> persisted = ArgumentCaptor.forClass(DemandVelocity.class);
+        then(entityManager).should().persist(persisted.capture());
+        DemandVelocity velocity = persisted.getValue();
+        assertThat(velocity.getProductId()).isEqualTo(product.getId());
+        assertThat(velocity.getLastSaleAt()).isEqualTo(START);
+        assertThat(velocity(velocity, START.plusHours(12))).isCloseTo(10, within(0.5));
+    }
+
+    @Test
+    @DisplayName("Should converge to the daily quantity of a steady seller")
+    void shouldConvergeToSteadyRate() {
+        DemandVelocity velocity = sellDaily(5, 120);
+
+        assertThat(velocity(velocity, START.plusDays(119).plusHours(12))).isCloseTo(5, within(0.1));
+    }
+
+    @Test
+    @DisplayName("Should halve the velocity after a half-life without sales")
+    void shouldDecayWithoutSales() {
+        DemandVelocity velocity = sellDaily(8, 200);
+        LocalDateTime lastSale = START.plusDays(199);
+
+        double before = velocity(velocity, lastSale);
+        double after = velocity(velocity, lastSale.plusDays(14));
+
+        assertThat(after / before).isCloseTo(0.5, within(0.001));
+    }
+
+    @Test
+    @DisplayName("Should ignore movements other than sales")
+    void shouldIgnoreMovementsOtherThanSales() {
+        tracker.record(List.of(
+                movement(MovementType.IN, MovementReason.PURCHASE, 50, START),
+                movement(MovementType.OUT, MovementReason.ADJUSTMENT, 3, START)));
+
+        then(demandVelocityRepository).shouldHaveNoInteractions();
+        then(entityManager).shouldHaveNoInteractions();
+    }
+
+    private DemandVelocity sellDaily(int quantity, int days) {
+        given(demandVelocityRepository.findById(product.getId())).willReturn(Optional.empty());
+        tracker.record(List.of(movement(MovementType.OUT, MovementReason.SALE, quantity, START)));
+        ArgumentCaptor<DemandVelocity> persisted = ArgumentCaptor.forClass(DemandVelocity.class);
+        then(entityManager).should().persist(persisted.capture());
+        DemandVelocity velocity = persisted.getValue();
+
+        given(demandVelocityRepository.findById(product.getId())).willReturn(Optional.of(velocity));
+        for (int day = 1; day < days; day++) {
+            tracker.record(List.of(movement(MovementType.OUT, MovementReason.SALE, quantity, START.plusDays(day))));
+        }
+        then(entityManager).should().persist(any(DemandVelocity.class));
+        assertThat(velocity.getLastSaleAt()).isEqualTo(START.plusDays(days - 1));
+        return velocity;
+    }
+
+    private double velocity(DemandVelocity velocity, LocalDateTime at) {
+        return tracker.dailyVelocity(velocity.getLogWeight(), velocity.getTrackedSince(), at);
+    }
+
+    private StockMovement movement(MovementType type, MovementReason reason, int quantity, LocalDateTime createdAt) {
+        StockMovement movement = new StockMovement();
+        movement.setProduct(product);
+        movement.setMovementType(type);
+        movement.setReason(reason);
+        movement.setQuantity(quantity);
+        ReflectionTestUtils.setField(movement, "createdAt", createdAt);
+        return movement;
+    }
+}